@@ -0,0 +1,46 @@
+package com.iofairy.benchmark;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Run the benchmarks once for every thread count, so the contention on the shared caches is measurable. <br>
+ * 按不同的线程数分别运行基准测试，以衡量共享缓存在并发时的表现。<br>
+ * <b>Usage:</b>
+ * <pre>
+ * mvn -pl functional -am install
+ * mvn -pl functional-benchmarks package
+ * java -jar functional-benchmarks/target/benchmarks.jar [includeRegex] [threadCounts] [resultFile]
+ *
+ * java -jar functional-benchmarks/target/benchmarks.jar SIBenchmark 1,4,8 si.json
+ * </pre>
+ * {@code includeRegex} defaults to all benchmarks, {@code threadCounts} defaults to {@code 1,2,4,8},
+ * and the results are written to {@code resultFile} as JSON when it is specified.
+ * Use {@code org.openjdk.jmh.Main} as the main class for the standard JMH command line options.
+ *
+ * @since 0.5.0
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : "com\\.iofairy\\.benchmark\\..*";
+        String threadCounts = args.length > 1 ? args[1] : "1,2,4,8";
+        String resultFile = args.length > 2 ? args[2] : null;
+
+        for (String threadCount : threadCounts.split(",")) {
+            int threads = Integer.parseInt(threadCount.trim());
+            ChainedOptionsBuilder builder = new OptionsBuilder()
+                    .include(include)
+                    .threads(threads);
+            if (resultFile != null) {
+                builder.result(threads + "-threads-" + resultFile)
+                        .resultFormat(ResultFormatType.JSON);
+            }
+            new Runner(builder.build()).run();
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple5;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Benchmarks of the {@code matchNull()} chain against hand-written {@code if} checks. <br>
+ * {@code matchNull()} 匹配链与手写的 {@code if} 检查的对比。{@code success*} 方法的所有检查都通过，{@code broken*} 方法在第一步就终止，
+ * {@code *If} 方法是返回相同结果的手写代码。
+ * 消息只在检查失败时才计算，所以在通过的情况下，{@link #successMsgAction()} 不会为 {@code msgAction} 创建任何元组，
+ * 使用 GC profiler 运行时，它的 {@code gc.alloc.rate.norm} 应与 {@link #successMsg()} 相同：
+ * <pre>
+ * java -cp functional-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main NullMatcherBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class NullMatcherBenchmark {
+
+    public static class User {
+        public String name;
+        public Integer age;
+        public String email;
+
+        public User(String name, Integer age, String email) {
+            this.name = name;
+            this.age = age;
+            this.email = email;
+        }
+    }
+
+    public static class Order {
+        public String orderId;
+        public User buyer;
+
+        public Order(String orderId, User buyer) {
+            this.orderId = orderId;
+            this.buyer = buyer;
+        }
+    }
+
+    Order order;
+    Order brokenOrder;
+
+    @Setup
+    public void setup() {
+        order = new Order("order_123456", new User("zs", 20, "zs@example.com"));
+        brokenOrder = new Order("order_123456", null);
+    }
+
+    @Benchmark
+    public Tuple5<User, String, Integer, String, String> successMsg() {
+        return matchNull()
+                .whenV(order,   v -> v.buyer,   "order.buyer is null!")
+                .whenW(VALUE1,  v -> v.name,    "order.buyer.name is null!")
+                .whenW(VALUE1,  v -> v.age,     "order.buyer.age is null!")
+                .whenW(VALUE1,  v -> v.email,   "order.buyer.email is null!")
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Tuple5<User, String, Integer, String, String> successMsgAction() {
+        return matchNull()
+                .whenV(order,   v -> v.buyer,   "order.buyer is null!")
+                .whenW(VALUE1,  v -> v.name,    v -> "name of " + v._1 + " is null!")
+                .whenW(VALUE1,  v -> v.age,     v -> "age of " + v._2 + " is null!")
+                .whenW(VALUE1,  v -> v.email,   v -> "email of " + v._2 + " is null!")
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Tuple5<User, String, Integer, String, String> successIf() {
+        return checkByIf(order);
+    }
+
+    @Benchmark
+    public Tuple5<User, String, Integer, String, String> brokenFirst() {
+        return matchNull()
+                .whenV(brokenOrder, v -> v.buyer,   "order.buyer is null!")
+                .whenW(VALUE1,      v -> v.name,    v -> "name of " + v._1 + " is null!")
+                .whenW(VALUE1,      v -> v.age,     v -> "age of " + v._2 + " is null!")
+                .whenW(VALUE1,      v -> v.email,   v -> "email of " + v._2 + " is null!")
+                .orElse(null);
+    }
+
+    @Benchmark
+    public Tuple5<User, String, Integer, String, String> brokenFirstIf() {
+        return checkByIf(brokenOrder);
+    }
+
+    private static Tuple5<User, String, Integer, String, String> checkByIf(Order order) {
+        User buyer = order.buyer;
+        if (buyer == null) return Tuple.of(null, null, null, null, "order.buyer is null!");
+        if (buyer.name == null) return Tuple.of(buyer, null, null, null, "name of " + buyer + " is null!");
+        if (buyer.age == null) return Tuple.of(buyer, buyer.name, null, null, "age of " + buyer.name + " is null!");
+        if (buyer.email == null) return Tuple.of(buyer, buyer.name, buyer.age, null, "email of " + buyer.name + " is null!");
+        return Tuple.of(buyer, buyer.name, buyer.age, buyer.email, null);
+    }
+
+}
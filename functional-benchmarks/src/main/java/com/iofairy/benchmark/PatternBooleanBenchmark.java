@@ -0,0 +1,179 @@
+package com.iofairy.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Benchmarks of {@code match().when(condition, ...)} with 4, 8 and 16 arms against a hand-written {@code if/else} chain.
+ * The chains are selected by a {@code switch} on {@link #arms}, which costs the same for both variants. <br>
+ * 4、8、16 个分支的 {@code match().when(condition, ...)} 与手写的 {@code if/else} 链的对比，
+ * 值命中第一个、中间、最后一个分支或者不命中任何分支。通过 {@link #arms} 的 {@code switch} 选择对应的链，对两者的开销相同。
+ * 注意：{@code match()} 的所有条件在调用 {@code when} 之前就已经求值，而 {@code if/else} 在命中后不再计算后面的条件。
+ * 使用 GC profiler 运行以查看每次匹配创建的对象：
+ * <pre>
+ * java -cp functional-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main PatternBooleanBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternBooleanBenchmark {
+
+    @Param({"4", "8", "16"})
+    public int arms;
+
+    @Param({"FIRST", "MIDDLE", "LAST", "MISS"})
+    public String hit;
+
+    int score;
+
+    @Setup
+    public void setup() {
+        // 分支 i 匹配 [i * 10, i * 10 + 10)，不命中时为 arms * 10 + 5
+        score = PatternValueBenchmark.hitIndex(hit, arms) * 10 + 5;
+    }
+
+    @Benchmark
+    public String matchChain() {
+        switch (arms) {
+            case 4: return match4(score);
+            case 8: return match8(score);
+            default: return match16(score);
+        }
+    }
+
+    @Benchmark
+    public String ifElseChain() {
+        switch (arms) {
+            case 4: return ifElse4(score);
+            case 8: return ifElse8(score);
+            default: return ifElse16(score);
+        }
+    }
+
+    private static String match4(int s) {
+        return match()
+                .when(s < 10,   v -> "0")
+                .when(s < 20,   v -> "1")
+                .when(s < 30,   v -> "2")
+                .when(s < 40,   v -> "3")
+                .orElse(        v -> "other");
+    }
+
+    private static String match8(int s) {
+        return match()
+                .when(s < 10,   v -> "0")
+                .when(s < 20,   v -> "1")
+                .when(s < 30,   v -> "2")
+                .when(s < 40,   v -> "3")
+                .when(s < 50,   v -> "4")
+                .when(s < 60,   v -> "5")
+                .when(s < 70,   v -> "6")
+                .when(s < 80,   v -> "7")
+                .orElse(        v -> "other");
+    }
+
+    private static String match16(int s) {
+        return match()
+                .when(s < 10,   v -> "0")
+                .when(s < 20,   v -> "1")
+                .when(s < 30,   v -> "2")
+                .when(s < 40,   v -> "3")
+                .when(s < 50,   v -> "4")
+                .when(s < 60,   v -> "5")
+                .when(s < 70,   v -> "6")
+                .when(s < 80,   v -> "7")
+                .when(s < 90,   v -> "8")
+                .when(s < 100,  v -> "9")
+                .when(s < 110,  v -> "10")
+                .when(s < 120,  v -> "11")
+                .when(s < 130,  v -> "12")
+                .when(s < 140,  v -> "13")
+                .when(s < 150,  v -> "14")
+                .when(s < 160,  v -> "15")
+                .orElse(        v -> "other");
+    }
+
+    private static String ifElse4(int s) {
+        if (s < 10) {
+            return "0";
+        } else if (s < 20) {
+            return "1";
+        } else if (s < 30) {
+            return "2";
+        } else if (s < 40) {
+            return "3";
+        } else {
+            return "other";
+        }
+    }
+
+    private static String ifElse8(int s) {
+        if (s < 10) {
+            return "0";
+        } else if (s < 20) {
+            return "1";
+        } else if (s < 30) {
+            return "2";
+        } else if (s < 40) {
+            return "3";
+        } else if (s < 50) {
+            return "4";
+        } else if (s < 60) {
+            return "5";
+        } else if (s < 70) {
+            return "6";
+        } else if (s < 80) {
+            return "7";
+        } else {
+            return "other";
+        }
+    }
+
+    private static String ifElse16(int s) {
+        if (s < 10) {
+            return "0";
+        } else if (s < 20) {
+            return "1";
+        } else if (s < 30) {
+            return "2";
+        } else if (s < 40) {
+            return "3";
+        } else if (s < 50) {
+            return "4";
+        } else if (s < 60) {
+            return "5";
+        } else if (s < 70) {
+            return "6";
+        } else if (s < 80) {
+            return "7";
+        } else if (s < 90) {
+            return "8";
+        } else if (s < 100) {
+            return "9";
+        } else if (s < 110) {
+            return "10";
+        } else if (s < 120) {
+            return "11";
+        } else if (s < 130) {
+            return "12";
+        } else if (s < 140) {
+            return "13";
+        } else if (s < 150) {
+            return "14";
+        } else if (s < 160) {
+            return "15";
+        } else {
+            return "other";
+        }
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.pattern.PatternIn;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Benchmarks of {@code when(in(...), ...)} with 16 values: the inline form creates a new {@link PatternIn} on every match,
+ * the hoisted forms reuse one {@link PatternIn} built by {@code in(...)} (hash table built lazily) or {@link PatternIn#of}. <br>
+ * 16 个值的 {@code when(in(...), ...)} 基准测试：内联写法每次匹配都会创建新的 {@link PatternIn}；
+ * 提升为常量的写法复用同一个 {@link PatternIn}（通过 {@code in(...)} 创建时延迟创建哈希表，通过 {@link PatternIn#of} 创建时立即创建）。
+ * 使用 GC profiler 运行以查看每次匹配创建的对象：
+ * <pre>
+ * java -cp functional-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main PatternInBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternInBenchmark {
+    private static final Integer[] VALUES = {
+            0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 110, 120, 130, 140, 150};
+    private static final PatternIn<Integer> HOISTED_IN = in(VALUES);
+    private static final PatternIn<Integer> HOISTED_OF = PatternIn.of(Arrays.asList(VALUES));
+
+    @Param({"FIRST", "MIDDLE", "LAST", "MISS"})
+    public String hit;
+
+    Integer value;
+
+    @Setup
+    public void setup() {
+        value = PatternValueBenchmark.hitIndex(hit, VALUES.length) * 10;
+    }
+
+    @Benchmark
+    public String inline16() {
+        return match(value)
+                .when(in(0, 10, 20, 30, 40, 50, 60, 70, 80, 90, 100, 110, 120, 130, 140, 150), v -> "in")
+                .orElse(v -> "other");
+    }
+
+    @Benchmark
+    public String hoistedIn16() {
+        return match(value)
+                .when(HOISTED_IN, v -> "in")
+                .orElse(v -> "other");
+    }
+
+    @Benchmark
+    public String hoistedOf16() {
+        return match(value)
+                .when(HOISTED_OF, v -> "in")
+                .orElse(v -> "other");
+    }
+
+    @Benchmark
+    public String if16() {
+        int v = value;
+        return v >= 0 && v <= 150 && v % 10 == 0 ? "in" : "other";
+    }
+
+}
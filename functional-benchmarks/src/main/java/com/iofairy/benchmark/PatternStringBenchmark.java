@@ -0,0 +1,459 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.StringMatchTable;
+import com.iofairy.pattern.type.PatternString;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Benchmarks of {@code match(value, patternString).when(...)} with 4, 8 and 16 arms in every {@link PatternString} mode,
+ * against a hand-written {@code if} chain and a precompiled {@link StringMatchTable}.
+ * The chains are selected by a {@code switch} on {@link #arms}, which costs the same for the chain and the {@code if} variants. <br>
+ * 在每种 {@link PatternString} 模式下，4、8、16 个分支的 {@code match(value, patternString).when(...)}
+ * 与手写的 {@code if} 链及预编译的 {@link StringMatchTable} 的对比，值命中第一个、中间、最后一个分支或者不命中任何分支。
+ * 通过 {@link #arms} 的 {@code switch} 选择对应的链，对 {@code match} 及 {@code if} 的开销相同。
+ * 使用 GC profiler 运行以查看每次匹配创建的对象：
+ * <pre>
+ * java -cp functional-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main PatternStringBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternStringBenchmark {
+    static final String[] ARMS = {
+            "alpha", "bravo", "charlie", "delta", "echo", "foxtrot", "golf", "hotel",
+            "india", "juliett", "kilo", "lima", "mike", "november", "oscar", "papa"
+    };
+
+    @Param({"STRING", "IGNORECASE", "CONTAIN", "PREFIX", "SUFFIX", "ICCONTAIN", "ICPREFIX", "ICSUFFIX"})
+    public PatternString mode;
+
+    @Param({"4", "8", "16"})
+    public int arms;
+
+    @Param({"FIRST", "MIDDLE", "LAST", "MISS"})
+    public String hit;
+
+    String value;
+    StringMatchTable<String> table;
+
+    @Setup
+    public void setup() {
+        int index = PatternValueBenchmark.hitIndex(hit, arms);
+        String arm = index < arms ? ARMS[index] : "zulu";
+        switch (mode) {
+            case IGNORECASE:
+                value = arm.toUpperCase();
+                break;
+            case CONTAIN:
+                value = "the " + arm + " team";
+                break;
+            case PREFIX:
+                value = arm + " team";
+                break;
+            case SUFFIX:
+                value = "the " + arm;
+                break;
+            case ICCONTAIN:
+                value = "THE " + arm.toUpperCase() + " TEAM";
+                break;
+            case ICPREFIX:
+                value = arm.toUpperCase() + " TEAM";
+                break;
+            case ICSUFFIX:
+                value = "THE " + arm.toUpperCase();
+                break;
+            default:
+                value = arm;
+        }
+
+        StringMatchTable.Builder<String> builder = Pattern.stringTable(mode);
+        for (int i = 0; i < arms; i++) {
+            String result = String.valueOf(i);
+            builder.when(ARMS[i], v -> result);
+        }
+        table = builder.orElse(v -> "other").build();
+    }
+
+    @Benchmark
+    public String matchChain() {
+        switch (arms) {
+            case 4: return match4(value, mode);
+            case 8: return match8(value, mode);
+            default: return match16(value, mode);
+        }
+    }
+
+    /**
+     * 手写的 {@code if} 链，每种模式一个分支，{@link PatternString#STRING} 使用 {@code switch}
+     */
+    @Benchmark
+    public String ifChain() {
+        switch (arms) {
+            case 4: return ifChain4(value, mode);
+            case 8: return ifChain8(value, mode);
+            default: return ifChain16(value, mode);
+        }
+    }
+
+    @Benchmark
+    public String table() {
+        return table.apply(value);
+    }
+
+    private static String match4(String value, PatternString mode) {
+        return match(value, mode)
+                .when("alpha",        v -> "0")
+                .when("bravo",        v -> "1")
+                .when("charlie",      v -> "2")
+                .when("delta",        v -> "3")
+                .orElse(              v -> "other");
+    }
+
+    private static String match8(String value, PatternString mode) {
+        return match(value, mode)
+                .when("alpha",        v -> "0")
+                .when("bravo",        v -> "1")
+                .when("charlie",      v -> "2")
+                .when("delta",        v -> "3")
+                .when("echo",         v -> "4")
+                .when("foxtrot",      v -> "5")
+                .when("golf",         v -> "6")
+                .when("hotel",        v -> "7")
+                .orElse(              v -> "other");
+    }
+
+    private static String match16(String value, PatternString mode) {
+        return match(value, mode)
+                .when("alpha",        v -> "0")
+                .when("bravo",        v -> "1")
+                .when("charlie",      v -> "2")
+                .when("delta",        v -> "3")
+                .when("echo",         v -> "4")
+                .when("foxtrot",      v -> "5")
+                .when("golf",         v -> "6")
+                .when("hotel",        v -> "7")
+                .when("india",        v -> "8")
+                .when("juliett",      v -> "9")
+                .when("kilo",         v -> "10")
+                .when("lima",         v -> "11")
+                .when("mike",         v -> "12")
+                .when("november",     v -> "13")
+                .when("oscar",        v -> "14")
+                .when("papa",         v -> "15")
+                .orElse(              v -> "other");
+    }
+
+    private static String ifChain4(String v, PatternString mode) {
+        switch (mode) {
+            case STRING:
+                switch (v) {
+                    case "alpha": return "0";
+                    case "bravo": return "1";
+                    case "charlie": return "2";
+                    case "delta": return "3";
+                    default: return "other";
+                }
+            case IGNORECASE:
+                if (v.equalsIgnoreCase("alpha")) return "0";
+                if (v.equalsIgnoreCase("bravo")) return "1";
+                if (v.equalsIgnoreCase("charlie")) return "2";
+                if (v.equalsIgnoreCase("delta")) return "3";
+                return "other";
+            case CONTAIN:
+                if (v.contains("alpha")) return "0";
+                if (v.contains("bravo")) return "1";
+                if (v.contains("charlie")) return "2";
+                if (v.contains("delta")) return "3";
+                return "other";
+            case PREFIX:
+                if (v.startsWith("alpha")) return "0";
+                if (v.startsWith("bravo")) return "1";
+                if (v.startsWith("charlie")) return "2";
+                if (v.startsWith("delta")) return "3";
+                return "other";
+            case SUFFIX:
+                if (v.endsWith("alpha")) return "0";
+                if (v.endsWith("bravo")) return "1";
+                if (v.endsWith("charlie")) return "2";
+                if (v.endsWith("delta")) return "3";
+                return "other";
+            case ICCONTAIN: {
+                // 手写代码的常见写法：先转小写再比较
+                String lower = v.toLowerCase();
+                if (lower.contains("alpha")) return "0";
+                if (lower.contains("bravo")) return "1";
+                if (lower.contains("charlie")) return "2";
+                if (lower.contains("delta")) return "3";
+                return "other";
+            }
+            case ICPREFIX:
+                if (v.regionMatches(true, 0, "alpha", 0, 5)) return "0";
+                if (v.regionMatches(true, 0, "bravo", 0, 5)) return "1";
+                if (v.regionMatches(true, 0, "charlie", 0, 7)) return "2";
+                if (v.regionMatches(true, 0, "delta", 0, 5)) return "3";
+                return "other";
+            default:
+                if (v.regionMatches(true, v.length() - 5, "alpha", 0, 5)) return "0";
+                if (v.regionMatches(true, v.length() - 5, "bravo", 0, 5)) return "1";
+                if (v.regionMatches(true, v.length() - 7, "charlie", 0, 7)) return "2";
+                if (v.regionMatches(true, v.length() - 5, "delta", 0, 5)) return "3";
+                return "other";
+        }
+    }
+
+    private static String ifChain8(String v, PatternString mode) {
+        switch (mode) {
+            case STRING:
+                switch (v) {
+                    case "alpha": return "0";
+                    case "bravo": return "1";
+                    case "charlie": return "2";
+                    case "delta": return "3";
+                    case "echo": return "4";
+                    case "foxtrot": return "5";
+                    case "golf": return "6";
+                    case "hotel": return "7";
+                    default: return "other";
+                }
+            case IGNORECASE:
+                if (v.equalsIgnoreCase("alpha")) return "0";
+                if (v.equalsIgnoreCase("bravo")) return "1";
+                if (v.equalsIgnoreCase("charlie")) return "2";
+                if (v.equalsIgnoreCase("delta")) return "3";
+                if (v.equalsIgnoreCase("echo")) return "4";
+                if (v.equalsIgnoreCase("foxtrot")) return "5";
+                if (v.equalsIgnoreCase("golf")) return "6";
+                if (v.equalsIgnoreCase("hotel")) return "7";
+                return "other";
+            case CONTAIN:
+                if (v.contains("alpha")) return "0";
+                if (v.contains("bravo")) return "1";
+                if (v.contains("charlie")) return "2";
+                if (v.contains("delta")) return "3";
+                if (v.contains("echo")) return "4";
+                if (v.contains("foxtrot")) return "5";
+                if (v.contains("golf")) return "6";
+                if (v.contains("hotel")) return "7";
+                return "other";
+            case PREFIX:
+                if (v.startsWith("alpha")) return "0";
+                if (v.startsWith("bravo")) return "1";
+                if (v.startsWith("charlie")) return "2";
+                if (v.startsWith("delta")) return "3";
+                if (v.startsWith("echo")) return "4";
+                if (v.startsWith("foxtrot")) return "5";
+                if (v.startsWith("golf")) return "6";
+                if (v.startsWith("hotel")) return "7";
+                return "other";
+            case SUFFIX:
+                if (v.endsWith("alpha")) return "0";
+                if (v.endsWith("bravo")) return "1";
+                if (v.endsWith("charlie")) return "2";
+                if (v.endsWith("delta")) return "3";
+                if (v.endsWith("echo")) return "4";
+                if (v.endsWith("foxtrot")) return "5";
+                if (v.endsWith("golf")) return "6";
+                if (v.endsWith("hotel")) return "7";
+                return "other";
+            case ICCONTAIN: {
+                // 手写代码的常见写法：先转小写再比较
+                String lower = v.toLowerCase();
+                if (lower.contains("alpha")) return "0";
+                if (lower.contains("bravo")) return "1";
+                if (lower.contains("charlie")) return "2";
+                if (lower.contains("delta")) return "3";
+                if (lower.contains("echo")) return "4";
+                if (lower.contains("foxtrot")) return "5";
+                if (lower.contains("golf")) return "6";
+                if (lower.contains("hotel")) return "7";
+                return "other";
+            }
+            case ICPREFIX:
+                if (v.regionMatches(true, 0, "alpha", 0, 5)) return "0";
+                if (v.regionMatches(true, 0, "bravo", 0, 5)) return "1";
+                if (v.regionMatches(true, 0, "charlie", 0, 7)) return "2";
+                if (v.regionMatches(true, 0, "delta", 0, 5)) return "3";
+                if (v.regionMatches(true, 0, "echo", 0, 4)) return "4";
+                if (v.regionMatches(true, 0, "foxtrot", 0, 7)) return "5";
+                if (v.regionMatches(true, 0, "golf", 0, 4)) return "6";
+                if (v.regionMatches(true, 0, "hotel", 0, 5)) return "7";
+                return "other";
+            default:
+                if (v.regionMatches(true, v.length() - 5, "alpha", 0, 5)) return "0";
+                if (v.regionMatches(true, v.length() - 5, "bravo", 0, 5)) return "1";
+                if (v.regionMatches(true, v.length() - 7, "charlie", 0, 7)) return "2";
+                if (v.regionMatches(true, v.length() - 5, "delta", 0, 5)) return "3";
+                if (v.regionMatches(true, v.length() - 4, "echo", 0, 4)) return "4";
+                if (v.regionMatches(true, v.length() - 7, "foxtrot", 0, 7)) return "5";
+                if (v.regionMatches(true, v.length() - 4, "golf", 0, 4)) return "6";
+                if (v.regionMatches(true, v.length() - 5, "hotel", 0, 5)) return "7";
+                return "other";
+        }
+    }
+
+    private static String ifChain16(String v, PatternString mode) {
+        switch (mode) {
+            case STRING:
+                switch (v) {
+                    case "alpha": return "0";
+                    case "bravo": return "1";
+                    case "charlie": return "2";
+                    case "delta": return "3";
+                    case "echo": return "4";
+                    case "foxtrot": return "5";
+                    case "golf": return "6";
+                    case "hotel": return "7";
+                    case "india": return "8";
+                    case "juliett": return "9";
+                    case "kilo": return "10";
+                    case "lima": return "11";
+                    case "mike": return "12";
+                    case "november": return "13";
+                    case "oscar": return "14";
+                    case "papa": return "15";
+                    default: return "other";
+                }
+            case IGNORECASE:
+                if (v.equalsIgnoreCase("alpha")) return "0";
+                if (v.equalsIgnoreCase("bravo")) return "1";
+                if (v.equalsIgnoreCase("charlie")) return "2";
+                if (v.equalsIgnoreCase("delta")) return "3";
+                if (v.equalsIgnoreCase("echo")) return "4";
+                if (v.equalsIgnoreCase("foxtrot")) return "5";
+                if (v.equalsIgnoreCase("golf")) return "6";
+                if (v.equalsIgnoreCase("hotel")) return "7";
+                if (v.equalsIgnoreCase("india")) return "8";
+                if (v.equalsIgnoreCase("juliett")) return "9";
+                if (v.equalsIgnoreCase("kilo")) return "10";
+                if (v.equalsIgnoreCase("lima")) return "11";
+                if (v.equalsIgnoreCase("mike")) return "12";
+                if (v.equalsIgnoreCase("november")) return "13";
+                if (v.equalsIgnoreCase("oscar")) return "14";
+                if (v.equalsIgnoreCase("papa")) return "15";
+                return "other";
+            case CONTAIN:
+                if (v.contains("alpha")) return "0";
+                if (v.contains("bravo")) return "1";
+                if (v.contains("charlie")) return "2";
+                if (v.contains("delta")) return "3";
+                if (v.contains("echo")) return "4";
+                if (v.contains("foxtrot")) return "5";
+                if (v.contains("golf")) return "6";
+                if (v.contains("hotel")) return "7";
+                if (v.contains("india")) return "8";
+                if (v.contains("juliett")) return "9";
+                if (v.contains("kilo")) return "10";
+                if (v.contains("lima")) return "11";
+                if (v.contains("mike")) return "12";
+                if (v.contains("november")) return "13";
+                if (v.contains("oscar")) return "14";
+                if (v.contains("papa")) return "15";
+                return "other";
+            case PREFIX:
+                if (v.startsWith("alpha")) return "0";
+                if (v.startsWith("bravo")) return "1";
+                if (v.startsWith("charlie")) return "2";
+                if (v.startsWith("delta")) return "3";
+                if (v.startsWith("echo")) return "4";
+                if (v.startsWith("foxtrot")) return "5";
+                if (v.startsWith("golf")) return "6";
+                if (v.startsWith("hotel")) return "7";
+                if (v.startsWith("india")) return "8";
+                if (v.startsWith("juliett")) return "9";
+                if (v.startsWith("kilo")) return "10";
+                if (v.startsWith("lima")) return "11";
+                if (v.startsWith("mike")) return "12";
+                if (v.startsWith("november")) return "13";
+                if (v.startsWith("oscar")) return "14";
+                if (v.startsWith("papa")) return "15";
+                return "other";
+            case SUFFIX:
+                if (v.endsWith("alpha")) return "0";
+                if (v.endsWith("bravo")) return "1";
+                if (v.endsWith("charlie")) return "2";
+                if (v.endsWith("delta")) return "3";
+                if (v.endsWith("echo")) return "4";
+                if (v.endsWith("foxtrot")) return "5";
+                if (v.endsWith("golf")) return "6";
+                if (v.endsWith("hotel")) return "7";
+                if (v.endsWith("india")) return "8";
+                if (v.endsWith("juliett")) return "9";
+                if (v.endsWith("kilo")) return "10";
+                if (v.endsWith("lima")) return "11";
+                if (v.endsWith("mike")) return "12";
+                if (v.endsWith("november")) return "13";
+                if (v.endsWith("oscar")) return "14";
+                if (v.endsWith("papa")) return "15";
+                return "other";
+            case ICCONTAIN: {
+                // 手写代码的常见写法：先转小写再比较
+                String lower = v.toLowerCase();
+                if (lower.contains("alpha")) return "0";
+                if (lower.contains("bravo")) return "1";
+                if (lower.contains("charlie")) return "2";
+                if (lower.contains("delta")) return "3";
+                if (lower.contains("echo")) return "4";
+                if (lower.contains("foxtrot")) return "5";
+                if (lower.contains("golf")) return "6";
+                if (lower.contains("hotel")) return "7";
+                if (lower.contains("india")) return "8";
+                if (lower.contains("juliett")) return "9";
+                if (lower.contains("kilo")) return "10";
+                if (lower.contains("lima")) return "11";
+                if (lower.contains("mike")) return "12";
+                if (lower.contains("november")) return "13";
+                if (lower.contains("oscar")) return "14";
+                if (lower.contains("papa")) return "15";
+                return "other";
+            }
+            case ICPREFIX:
+                if (v.regionMatches(true, 0, "alpha", 0, 5)) return "0";
+                if (v.regionMatches(true, 0, "bravo", 0, 5)) return "1";
+                if (v.regionMatches(true, 0, "charlie", 0, 7)) return "2";
+                if (v.regionMatches(true, 0, "delta", 0, 5)) return "3";
+                if (v.regionMatches(true, 0, "echo", 0, 4)) return "4";
+                if (v.regionMatches(true, 0, "foxtrot", 0, 7)) return "5";
+                if (v.regionMatches(true, 0, "golf", 0, 4)) return "6";
+                if (v.regionMatches(true, 0, "hotel", 0, 5)) return "7";
+                if (v.regionMatches(true, 0, "india", 0, 5)) return "8";
+                if (v.regionMatches(true, 0, "juliett", 0, 7)) return "9";
+                if (v.regionMatches(true, 0, "kilo", 0, 4)) return "10";
+                if (v.regionMatches(true, 0, "lima", 0, 4)) return "11";
+                if (v.regionMatches(true, 0, "mike", 0, 4)) return "12";
+                if (v.regionMatches(true, 0, "november", 0, 8)) return "13";
+                if (v.regionMatches(true, 0, "oscar", 0, 5)) return "14";
+                if (v.regionMatches(true, 0, "papa", 0, 4)) return "15";
+                return "other";
+            default:
+                if (v.regionMatches(true, v.length() - 5, "alpha", 0, 5)) return "0";
+                if (v.regionMatches(true, v.length() - 5, "bravo", 0, 5)) return "1";
+                if (v.regionMatches(true, v.length() - 7, "charlie", 0, 7)) return "2";
+                if (v.regionMatches(true, v.length() - 5, "delta", 0, 5)) return "3";
+                if (v.regionMatches(true, v.length() - 4, "echo", 0, 4)) return "4";
+                if (v.regionMatches(true, v.length() - 7, "foxtrot", 0, 7)) return "5";
+                if (v.regionMatches(true, v.length() - 4, "golf", 0, 4)) return "6";
+                if (v.regionMatches(true, v.length() - 5, "hotel", 0, 5)) return "7";
+                if (v.regionMatches(true, v.length() - 5, "india", 0, 5)) return "8";
+                if (v.regionMatches(true, v.length() - 7, "juliett", 0, 7)) return "9";
+                if (v.regionMatches(true, v.length() - 4, "kilo", 0, 4)) return "10";
+                if (v.regionMatches(true, v.length() - 4, "lima", 0, 4)) return "11";
+                if (v.regionMatches(true, v.length() - 4, "mike", 0, 4)) return "12";
+                if (v.regionMatches(true, v.length() - 8, "november", 0, 8)) return "13";
+                if (v.regionMatches(true, v.length() - 5, "oscar", 0, 5)) return "14";
+                if (v.regionMatches(true, v.length() - 4, "papa", 0, 4)) return "15";
+                return "other";
+        }
+    }
+
+}
@@ -0,0 +1,368 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.pattern.Pattern;
+import com.iofairy.pattern.TypeMatchTable;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Benchmarks of {@code match(value, TYPE).when(...)} with 4, 8, 16 and 60 arms against a hand-written {@code instanceof} chain
+ * and a precompiled {@link TypeMatchTable}. The 60-arm case is the visitor over a large class hierarchy that the table is built for.
+ * The chains are selected by a {@code switch} on {@link #arms}, which costs the same for the chain and the {@code instanceof} variants. <br>
+ * 4、8、16、60 个分支的 {@code match(value, TYPE).when(...)} 与手写的 {@code instanceof} 链及预编译的 {@link TypeMatchTable} 的对比，
+ * 60 个分支对应匹配表所针对的场景（在大量类型上分派的访问者）。值命中第一个、中间、最后一个分支或者不命中任何分支。
+ * 通过 {@link #arms} 的 {@code switch} 选择对应的链，对 {@code match} 及 {@code instanceof} 的开销相同。
+ * 使用 GC profiler 运行以查看每次匹配创建的对象：
+ * <pre>
+ * java -cp functional-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main PatternTypeBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternTypeBenchmark {
+    /**
+     * 每个分支对应的值，下标超出分支数量的值不匹配任何分支
+     */
+    static final Object[] VALUES = {
+            new T00(), new T01(), new T02(), new T03(), new T04(), new T05(), new T06(), new T07(),
+            new T08(), new T09(), new T10(), new T11(), new T12(), new T13(), new T14(), new T15(),
+            new T16(), new T17(), new T18(), new T19(), new T20(), new T21(), new T22(), new T23(),
+            new T24(), new T25(), new T26(), new T27(), new T28(), new T29(), new T30(), new T31(),
+            new T32(), new T33(), new T34(), new T35(), new T36(), new T37(), new T38(), new T39(),
+            new T40(), new T41(), new T42(), new T43(), new T44(), new T45(), new T46(), new T47(),
+            new T48(), new T49(), new T50(), new T51(), new T52(), new T53(), new T54(), new T55(),
+            new T56(), new T57(), new T58(), new T59(), new Miss()
+    };
+
+    @Param({"4", "8", "16", "60"})
+    public int arms;
+
+    @Param({"FIRST", "MIDDLE", "LAST", "MISS"})
+    public String hit;
+
+    Object value;
+    TypeMatchTable<Object, String> table;
+
+    @Setup
+    public void setup() {
+        value = VALUES[PatternValueBenchmark.hitIndex(hit, arms)];
+        TypeMatchTable.Builder<Object, String> builder = Pattern.typeTable();
+        for (int i = 0; i < arms; i++) {
+            String result = String.valueOf(i);
+            builder.when(VALUES[i].getClass(), v -> result);
+        }
+        table = builder.orElse(v -> "other").build();
+    }
+
+    @Benchmark
+    public String matchChain() {
+        switch (arms) {
+            case 4: return match4(value);
+            case 8: return match8(value);
+            case 16: return match16(value);
+            default: return match60(value);
+        }
+    }
+
+    @Benchmark
+    public String instanceOfChain() {
+        switch (arms) {
+            case 4: return instanceOf4(value);
+            case 8: return instanceOf8(value);
+            case 16: return instanceOf16(value);
+            default: return instanceOf60(value);
+        }
+    }
+
+    @Benchmark
+    public String table() {
+        return table.apply(value);
+    }
+
+    private static String match4(Object value) {
+        return match(value, TYPE)
+                .when(T00.class,  v -> "0")
+                .when(T01.class,  v -> "1")
+                .when(T02.class,  v -> "2")
+                .when(T03.class,  v -> "3")
+                .orElse(          v -> "other");
+    }
+
+    private static String match8(Object value) {
+        return match(value, TYPE)
+                .when(T00.class,  v -> "0")
+                .when(T01.class,  v -> "1")
+                .when(T02.class,  v -> "2")
+                .when(T03.class,  v -> "3")
+                .when(T04.class,  v -> "4")
+                .when(T05.class,  v -> "5")
+                .when(T06.class,  v -> "6")
+                .when(T07.class,  v -> "7")
+                .orElse(          v -> "other");
+    }
+
+    private static String match16(Object value) {
+        return match(value, TYPE)
+                .when(T00.class,  v -> "0")
+                .when(T01.class,  v -> "1")
+                .when(T02.class,  v -> "2")
+                .when(T03.class,  v -> "3")
+                .when(T04.class,  v -> "4")
+                .when(T05.class,  v -> "5")
+                .when(T06.class,  v -> "6")
+                .when(T07.class,  v -> "7")
+                .when(T08.class,  v -> "8")
+                .when(T09.class,  v -> "9")
+                .when(T10.class,  v -> "10")
+                .when(T11.class,  v -> "11")
+                .when(T12.class,  v -> "12")
+                .when(T13.class,  v -> "13")
+                .when(T14.class,  v -> "14")
+                .when(T15.class,  v -> "15")
+                .orElse(          v -> "other");
+    }
+
+    private static String match60(Object value) {
+        return match(value, TYPE)
+                .when(T00.class,  v -> "0")
+                .when(T01.class,  v -> "1")
+                .when(T02.class,  v -> "2")
+                .when(T03.class,  v -> "3")
+                .when(T04.class,  v -> "4")
+                .when(T05.class,  v -> "5")
+                .when(T06.class,  v -> "6")
+                .when(T07.class,  v -> "7")
+                .when(T08.class,  v -> "8")
+                .when(T09.class,  v -> "9")
+                .when(T10.class,  v -> "10")
+                .when(T11.class,  v -> "11")
+                .when(T12.class,  v -> "12")
+                .when(T13.class,  v -> "13")
+                .when(T14.class,  v -> "14")
+                .when(T15.class,  v -> "15")
+                .when(T16.class,  v -> "16")
+                .when(T17.class,  v -> "17")
+                .when(T18.class,  v -> "18")
+                .when(T19.class,  v -> "19")
+                .when(T20.class,  v -> "20")
+                .when(T21.class,  v -> "21")
+                .when(T22.class,  v -> "22")
+                .when(T23.class,  v -> "23")
+                .when(T24.class,  v -> "24")
+                .when(T25.class,  v -> "25")
+                .when(T26.class,  v -> "26")
+                .when(T27.class,  v -> "27")
+                .when(T28.class,  v -> "28")
+                .when(T29.class,  v -> "29")
+                .when(T30.class,  v -> "30")
+                .when(T31.class,  v -> "31")
+                .when(T32.class,  v -> "32")
+                .when(T33.class,  v -> "33")
+                .when(T34.class,  v -> "34")
+                .when(T35.class,  v -> "35")
+                .when(T36.class,  v -> "36")
+                .when(T37.class,  v -> "37")
+                .when(T38.class,  v -> "38")
+                .when(T39.class,  v -> "39")
+                .when(T40.class,  v -> "40")
+                .when(T41.class,  v -> "41")
+                .when(T42.class,  v -> "42")
+                .when(T43.class,  v -> "43")
+                .when(T44.class,  v -> "44")
+                .when(T45.class,  v -> "45")
+                .when(T46.class,  v -> "46")
+                .when(T47.class,  v -> "47")
+                .when(T48.class,  v -> "48")
+                .when(T49.class,  v -> "49")
+                .when(T50.class,  v -> "50")
+                .when(T51.class,  v -> "51")
+                .when(T52.class,  v -> "52")
+                .when(T53.class,  v -> "53")
+                .when(T54.class,  v -> "54")
+                .when(T55.class,  v -> "55")
+                .when(T56.class,  v -> "56")
+                .when(T57.class,  v -> "57")
+                .when(T58.class,  v -> "58")
+                .when(T59.class,  v -> "59")
+                .orElse(          v -> "other");
+    }
+
+    private static String instanceOf4(Object v) {
+        if (v instanceof T00) return "0";
+        if (v instanceof T01) return "1";
+        if (v instanceof T02) return "2";
+        if (v instanceof T03) return "3";
+        return "other";
+    }
+
+    private static String instanceOf8(Object v) {
+        if (v instanceof T00) return "0";
+        if (v instanceof T01) return "1";
+        if (v instanceof T02) return "2";
+        if (v instanceof T03) return "3";
+        if (v instanceof T04) return "4";
+        if (v instanceof T05) return "5";
+        if (v instanceof T06) return "6";
+        if (v instanceof T07) return "7";
+        return "other";
+    }
+
+    private static String instanceOf16(Object v) {
+        if (v instanceof T00) return "0";
+        if (v instanceof T01) return "1";
+        if (v instanceof T02) return "2";
+        if (v instanceof T03) return "3";
+        if (v instanceof T04) return "4";
+        if (v instanceof T05) return "5";
+        if (v instanceof T06) return "6";
+        if (v instanceof T07) return "7";
+        if (v instanceof T08) return "8";
+        if (v instanceof T09) return "9";
+        if (v instanceof T10) return "10";
+        if (v instanceof T11) return "11";
+        if (v instanceof T12) return "12";
+        if (v instanceof T13) return "13";
+        if (v instanceof T14) return "14";
+        if (v instanceof T15) return "15";
+        return "other";
+    }
+
+    private static String instanceOf60(Object v) {
+        if (v instanceof T00) return "0";
+        if (v instanceof T01) return "1";
+        if (v instanceof T02) return "2";
+        if (v instanceof T03) return "3";
+        if (v instanceof T04) return "4";
+        if (v instanceof T05) return "5";
+        if (v instanceof T06) return "6";
+        if (v instanceof T07) return "7";
+        if (v instanceof T08) return "8";
+        if (v instanceof T09) return "9";
+        if (v instanceof T10) return "10";
+        if (v instanceof T11) return "11";
+        if (v instanceof T12) return "12";
+        if (v instanceof T13) return "13";
+        if (v instanceof T14) return "14";
+        if (v instanceof T15) return "15";
+        if (v instanceof T16) return "16";
+        if (v instanceof T17) return "17";
+        if (v instanceof T18) return "18";
+        if (v instanceof T19) return "19";
+        if (v instanceof T20) return "20";
+        if (v instanceof T21) return "21";
+        if (v instanceof T22) return "22";
+        if (v instanceof T23) return "23";
+        if (v instanceof T24) return "24";
+        if (v instanceof T25) return "25";
+        if (v instanceof T26) return "26";
+        if (v instanceof T27) return "27";
+        if (v instanceof T28) return "28";
+        if (v instanceof T29) return "29";
+        if (v instanceof T30) return "30";
+        if (v instanceof T31) return "31";
+        if (v instanceof T32) return "32";
+        if (v instanceof T33) return "33";
+        if (v instanceof T34) return "34";
+        if (v instanceof T35) return "35";
+        if (v instanceof T36) return "36";
+        if (v instanceof T37) return "37";
+        if (v instanceof T38) return "38";
+        if (v instanceof T39) return "39";
+        if (v instanceof T40) return "40";
+        if (v instanceof T41) return "41";
+        if (v instanceof T42) return "42";
+        if (v instanceof T43) return "43";
+        if (v instanceof T44) return "44";
+        if (v instanceof T45) return "45";
+        if (v instanceof T46) return "46";
+        if (v instanceof T47) return "47";
+        if (v instanceof T48) return "48";
+        if (v instanceof T49) return "49";
+        if (v instanceof T50) return "50";
+        if (v instanceof T51) return "51";
+        if (v instanceof T52) return "52";
+        if (v instanceof T53) return "53";
+        if (v instanceof T54) return "54";
+        if (v instanceof T55) return "55";
+        if (v instanceof T56) return "56";
+        if (v instanceof T57) return "57";
+        if (v instanceof T58) return "58";
+        if (v instanceof T59) return "59";
+        return "other";
+    }
+
+    /*
+     * 分支匹配的类型
+     */
+    static final class T00 { }
+    static final class T01 { }
+    static final class T02 { }
+    static final class T03 { }
+    static final class T04 { }
+    static final class T05 { }
+    static final class T06 { }
+    static final class T07 { }
+    static final class T08 { }
+    static final class T09 { }
+    static final class T10 { }
+    static final class T11 { }
+    static final class T12 { }
+    static final class T13 { }
+    static final class T14 { }
+    static final class T15 { }
+    static final class T16 { }
+    static final class T17 { }
+    static final class T18 { }
+    static final class T19 { }
+    static final class T20 { }
+    static final class T21 { }
+    static final class T22 { }
+    static final class T23 { }
+    static final class T24 { }
+    static final class T25 { }
+    static final class T26 { }
+    static final class T27 { }
+    static final class T28 { }
+    static final class T29 { }
+    static final class T30 { }
+    static final class T31 { }
+    static final class T32 { }
+    static final class T33 { }
+    static final class T34 { }
+    static final class T35 { }
+    static final class T36 { }
+    static final class T37 { }
+    static final class T38 { }
+    static final class T39 { }
+    static final class T40 { }
+    static final class T41 { }
+    static final class T42 { }
+    static final class T43 { }
+    static final class T44 { }
+    static final class T45 { }
+    static final class T46 { }
+    static final class T47 { }
+    static final class T48 { }
+    static final class T49 { }
+    static final class T50 { }
+    static final class T51 { }
+    static final class T52 { }
+    static final class T53 { }
+    static final class T54 { }
+    static final class T55 { }
+    static final class T56 { }
+    static final class T57 { }
+    static final class T58 { }
+    static final class T59 { }
+    static final class Miss { }
+
+}
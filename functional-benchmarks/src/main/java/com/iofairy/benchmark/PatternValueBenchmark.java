@@ -0,0 +1,149 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.pattern.MatchTable;
+import com.iofairy.pattern.Pattern;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.iofairy.pattern.Pattern.*;
+
+/**
+ * Benchmarks of {@code match(value).when(...)} against a hand-written {@code switch} and a precompiled {@link MatchTable},
+ * with 4 and 16 arms, the value hits the first, the middle, the last or no arm. <br>
+ * {@code match(value).when(...)} 与手写的 {@code switch} 及预编译的 {@link MatchTable} 的对比，分别测试 4 个和 16 个分支，
+ * 值命中第一个、中间、最后一个分支或者不命中任何分支。使用 GC profiler 运行以查看每次匹配创建的对象：
+ * <pre>
+ * java -cp functional-benchmarks/target/benchmarks.jar org.openjdk.jmh.Main PatternValueBenchmark -prof gc
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PatternValueBenchmark {
+
+    @Param({"FIRST", "MIDDLE", "LAST", "MISS"})
+    public String hit;
+
+    Integer value4;
+    Integer value16;
+    MatchTable<Integer, String> table16;
+
+    @Setup
+    public void setup() {
+        value4 = hitIndex(hit, 4);
+        value16 = hitIndex(hit, 16);
+        table16 = Pattern.<Integer, String>table()
+                .when(0,  v -> "0")
+                .when(1,  v -> "1")
+                .when(2,  v -> "2")
+                .when(3,  v -> "3")
+                .when(4,  v -> "4")
+                .when(5,  v -> "5")
+                .when(6,  v -> "6")
+                .when(7,  v -> "7")
+                .when(8,  v -> "8")
+                .when(9,  v -> "9")
+                .when(10, v -> "10")
+                .when(11, v -> "11")
+                .when(12, v -> "12")
+                .when(13, v -> "13")
+                .when(14, v -> "14")
+                .when(15, v -> "15")
+                .orElse(v -> "other")
+                .build();
+    }
+
+    /**
+     * 命中位置对应的分支下标，{@code MISS} 返回 {@code arms}（不在任何分支中）
+     */
+    static int hitIndex(String hit, int arms) {
+        switch (hit) {
+            case "FIRST":
+                return 0;
+            case "MIDDLE":
+                return arms / 2;
+            case "LAST":
+                return arms - 1;
+            default:
+                return arms;
+        }
+    }
+
+    @Benchmark
+    public String match4() {
+        return match(value4)
+                .when(0, v -> "0")
+                .when(1, v -> "1")
+                .when(2, v -> "2")
+                .when(3, v -> "3")
+                .orElse(v -> "other");
+    }
+
+    @Benchmark
+    public String switch4() {
+        switch (value4) {
+            case 0: return "0";
+            case 1: return "1";
+            case 2: return "2";
+            case 3: return "3";
+            default: return "other";
+        }
+    }
+
+    @Benchmark
+    public String match16() {
+        return match(value16)
+                .when(0,  v -> "0")
+                .when(1,  v -> "1")
+                .when(2,  v -> "2")
+                .when(3,  v -> "3")
+                .when(4,  v -> "4")
+                .when(5,  v -> "5")
+                .when(6,  v -> "6")
+                .when(7,  v -> "7")
+                .when(8,  v -> "8")
+                .when(9,  v -> "9")
+                .when(10, v -> "10")
+                .when(11, v -> "11")
+                .when(12, v -> "12")
+                .when(13, v -> "13")
+                .when(14, v -> "14")
+                .when(15, v -> "15")
+                .orElse(v -> "other");
+    }
+
+    @Benchmark
+    public String switch16() {
+        switch (value16) {
+            case 0: return "0";
+            case 1: return "1";
+            case 2: return "2";
+            case 3: return "3";
+            case 4: return "4";
+            case 5: return "5";
+            case 6: return "6";
+            case 7: return "7";
+            case 8: return "8";
+            case 9: return "9";
+            case 10: return "10";
+            case 11: return "11";
+            case 12: return "12";
+            case 13: return "13";
+            case 14: return "14";
+            case 15: return "15";
+            default: return "other";
+        }
+    }
+
+    @Benchmark
+    public String table16() {
+        return table16.apply(value16);
+    }
+
+}
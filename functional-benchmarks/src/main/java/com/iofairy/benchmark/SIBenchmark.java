@@ -0,0 +1,124 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.si.SI;
+import com.iofairy.tuple.Tuple;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of {@link SI#$(CharSequence)} and {@link SI#$(CharSequence, Object...)}. <br>
+ * 字符串插值的基准测试。{@code *Hot} 方法每次都使用同一个模板，模板的解析结果总是命中缓存；
+ * {@code *Miss} 方法循环使用 {@value #MISS_TEMPLATES} 个不同的模板，远大于缓存的容量，所以每次都需要重新解析模板。
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SIBenchmark {
+    /**
+     * 不同模板的数量，大于 TEMPLATE_CACHE 与 NESTED_TEMPLATE_CACHE 的容量
+     */
+    static final int MISS_TEMPLATES = 8192;
+
+    static final String FLAT_TEMPLATE = "ip: ${ip}---port: ${port}---db: ${db}---user: ${user}---otherInfo: ${other_info: none}";
+    static final String NESTED_TEMPLATE = "url: ${${dbType}.url}---user: ${${dbType}.user: root}---timeout: ${timeout: ${defaultTimeout}}";
+
+    /**
+     * 每个线程使用自己的 SI 及模板序号，只共享 SI 中的静态缓存，避免测到已解析值缓存上的竞争
+     */
+    @State(Scope.Thread)
+    public static class ThreadState {
+        SI flatSI;
+        SI nestedSI;
+        String[] flatTemplates;
+        String[] nestedTemplates;
+        int index;
+
+        @Setup
+        public void setup() {
+            flatSI = SI.of(Tuple.of("127.0.0.1", 3306, "testdb", "admin").alias("ip", "port", "db", "user"));
+            nestedSI = newNestedSI();
+
+            flatTemplates = new String[MISS_TEMPLATES];
+            nestedTemplates = new String[MISS_TEMPLATES];
+            for (int i = 0; i < MISS_TEMPLATES; i++) {
+                flatTemplates[i] = i + " " + FLAT_TEMPLATE;
+                nestedTemplates[i] = i + " " + NESTED_TEMPLATE;
+            }
+        }
+
+        String nextFlatTemplate() {
+            index = (index + 1) & (MISS_TEMPLATES - 1);
+            return flatTemplates[index];
+        }
+
+        String nextNestedTemplate() {
+            index = (index + 1) & (MISS_TEMPLATES - 1);
+            return nestedTemplates[index];
+        }
+    }
+
+    /**
+     * 所有线程共享同一个写时复制模式的 SI
+     */
+    @State(Scope.Benchmark)
+    public static class SharedState {
+        SI copyOnWriteSI;
+
+        @Setup
+        public void setup() {
+            copyOnWriteSI = newNestedSI().setEnableCopyOnWrite(true);
+        }
+    }
+
+    static SI newNestedSI() {
+        return SI.init("           dbType ->", "mysql",
+                       "        mysql.url ->", "jdbc:mysql://${host}:${port: 3306}/${db}",
+                       "       mysql.user ->", "${user}_rw",
+                       "             host ->", "localhost",
+                       "               db ->", "testdb",
+                       "             user ->", "admin",
+                       "   defaultTimeout ->", 30)
+                .setEnableNestedSI(true);
+    }
+
+    @Benchmark
+    public String flatHot(ThreadState state) {
+        return state.flatSI.$(FLAT_TEMPLATE);
+    }
+
+    @Benchmark
+    public String flatMiss(ThreadState state) {
+        return state.flatSI.$(state.nextFlatTemplate());
+    }
+
+    @Benchmark
+    public String nestedHot(ThreadState state) {
+        return state.nestedSI.$(NESTED_TEMPLATE);
+    }
+
+    @Benchmark
+    public String nestedMiss(ThreadState state) {
+        return state.nestedSI.$(state.nextNestedTemplate());
+    }
+
+    @Benchmark
+    public String nestedHotSharedCopyOnWrite(SharedState state) {
+        return state.copyOnWriteSI.$(NESTED_TEMPLATE);
+    }
+
+    @Benchmark
+    public String argsHot() {
+        return SI.$(FLAT_TEMPLATE, "127.0.0.1", 3306, "testdb", "admin");
+    }
+
+    @Benchmark
+    public String argsMiss(ThreadState state) {
+        return SI.$(state.nextFlatTemplate(), "127.0.0.1", 3306, "testdb", "admin");
+    }
+
+}
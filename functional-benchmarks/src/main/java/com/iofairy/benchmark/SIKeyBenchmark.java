@@ -0,0 +1,74 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.si.SI;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of key parsing in {@link SI#init(Object...)} and {@link SI#load(Object...)}. <br>
+ * 解析带后缀符的key（如 {@code "ip ->"}）的基准测试。{@code *Hot} 方法每次都使用相同的key，总是命中 KEY_CACHE；
+ * {@code *Miss} 方法循环使用 {@value #MISS_KEY_GROUPS} 组不同的key，远大于 KEY_CACHE 的容量。
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SIKeyBenchmark {
+    /**
+     * 每组有 4 个key，4 * 4096 个key远大于 KEY_CACHE 的容量
+     */
+    static final int MISS_KEY_GROUPS = 4096;
+
+    static final Object[] KVS = {"         ip ->", "127.0.0.1",
+                                 "       port >>", 3306,
+                                 "         db >>>", "testdb",
+                                 " other_info ->", "none"};
+
+    @State(Scope.Thread)
+    public static class KeyState {
+        Object[][] kvsGroups;
+        int index;
+
+        @Setup
+        public void setup() {
+            kvsGroups = new Object[MISS_KEY_GROUPS][];
+            for (int i = 0; i < MISS_KEY_GROUPS; i++) {
+                Object[] kvs = KVS.clone();
+                for (int j = 0; j < kvs.length; j += 2) {
+                    kvs[j] = i + "_" + kvs[j];
+                }
+                kvsGroups[i] = kvs;
+            }
+        }
+
+        Object[] nextKvs() {
+            index = (index + 1) & (MISS_KEY_GROUPS - 1);
+            return kvsGroups[index];
+        }
+    }
+
+    @Benchmark
+    public SI initHot() {
+        return SI.init(KVS);
+    }
+
+    @Benchmark
+    public SI initMiss(KeyState state) {
+        return SI.init(state.nextKvs());
+    }
+
+    @Benchmark
+    public SI loadHot() {
+        return SI.load(KVS);
+    }
+
+    @Benchmark
+    public SI loadMiss(KeyState state) {
+        return SI.load(state.nextKvs());
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.iofairy.benchmark;
+
+import com.iofairy.si.StringExtractor;
+import com.iofairy.si.StringToken;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks of template parsing, without any cache. <br>
+ * 模板解析的基准测试（不经过缓存）
+ *
+ * @since 0.5.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StringExtractorBenchmark {
+
+    @Param({"ip: ${ip}---port: ${port}---db: ${db}---user: ${user}---otherInfo: ${other_info: none}",
+            "no variables in this template, only a plain string of a moderate length"})
+    public String flatTemplate;
+
+    static final String NESTED_TEMPLATE = "url: ${${dbType}.url}---user: ${${dbType}.user: root}---timeout: ${timeout: ${defaultTimeout}}";
+
+    @Benchmark
+    public List<StringToken> split() {
+        return StringExtractor.split(flatTemplate);
+    }
+
+    @Benchmark
+    public List<StringToken> splitByRegex() {
+        return StringExtractor.splitByRegex(flatTemplate);
+    }
+
+    @Benchmark
+    public List<Object> nestedParse() {
+        return StringExtractor.nestedParse(NESTED_TEMPLATE);
+    }
+
+}
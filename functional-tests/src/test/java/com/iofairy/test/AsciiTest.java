@@ -16,6 +16,14 @@ public class AsciiTest {
         assertEquals(Ascii.NUL, '\0');
     }
 
+    @Test
+    public void testIsAscii() {
+        assertTrue(Ascii.isAscii(""));
+        assertTrue(Ascii.isAscii("abc_XYZ 0-9\u007F"));
+        assertFalse(Ascii.isAscii("abc\u0080"));
+        assertFalse(Ascii.isAscii(new StringBuilder("STRAßE")));
+    }
+
     @Test
     public void testToUpperLower() {
         String s1 = null;
@@ -58,4 +66,43 @@ public class AsciiTest {
         assertEquals(G.toString(Ascii.countCases(s3)), "[5, 8, 8]");
         assertEquals(G.toString(Ascii.countCases(s4)), "[5, 8, 10]");
     }
+
+    @Test
+    public void testIgnoreCase() {
+        assertTrue(Ascii.equalsIgnoreCase('a', 'A'));
+        assertTrue(Ascii.equalsIgnoreCase('Z', 'z'));
+        assertFalse(Ascii.equalsIgnoreCase('@', '`'));
+        assertFalse(Ascii.equalsIgnoreCase('[', '{'));
+        assertTrue(Ascii.equalsIgnoreCase('é', 'É'));
+        assertTrue(Ascii.equalsIgnoreCase('\u212A', 'k'));
+
+        assertTrue(Ascii.equalsIgnoreCase("abcDEF", "ABCdef"));
+        assertTrue(Ascii.equalsIgnoreCase((String) null, null));
+        assertFalse(Ascii.equalsIgnoreCase("abc", null));
+        assertFalse(Ascii.equalsIgnoreCase("abc", "abcd"));
+        assertTrue(Ascii.regionMatchesIgnoreCase("xxAbCxx", 2, "yABC", 1, 3));
+        assertFalse(Ascii.regionMatchesIgnoreCase("xxAbC", 3, "ABC", 0, 3));
+        assertFalse(Ascii.regionMatchesIgnoreCase("abc", -1, "abc", 0, 1));
+
+        assertTrue(Ascii.startsWithIgnoreCase("Hello World", "hELLO"));
+        assertTrue(Ascii.startsWithIgnoreCase("Hello", ""));
+        assertFalse(Ascii.startsWithIgnoreCase("He", "hello"));
+        assertTrue(Ascii.endsWithIgnoreCase("Hello World", "WORLD"));
+        assertFalse(Ascii.endsWithIgnoreCase("ld", "WORLD"));
+        assertEquals(6, Ascii.indexOfIgnoreCase("Hello World", "wOr"));
+        assertEquals(0, Ascii.indexOfIgnoreCase("Hello", ""));
+        assertEquals(-1, Ascii.indexOfIgnoreCase("Hello", "xyz"));
+        assertEquals(3, Ascii.indexOfIgnoreCase("aaaAAB", "aab"));
+        assertTrue(Ascii.containsIgnoreCase("中文ABC字符", "文abc字"));
+        assertFalse(Ascii.containsIgnoreCase("abc", "abcd"));
+
+        String[] sources = {"", "a", "Hello World", "ÀÉÎõü", "ß and SS", "İstanbul", "ǅǄǆ"};
+        String[] searches = {"", "A", "o W", "éî", "ss", "i̇", "ǆ", "world", "STANBUL"};
+        for (String source : sources) {
+            for (String search : searches) {
+                assertEquals(source.regionMatches(true, 0, search, 0, search.length()), Ascii.startsWithIgnoreCase(source, search));
+                assertEquals(source.length() == search.length() && source.equalsIgnoreCase(search), Ascii.equalsIgnoreCase(source, search));
+            }
+        }
+    }
 }
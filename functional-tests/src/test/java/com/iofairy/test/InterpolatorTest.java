@@ -1,18 +1,39 @@
 package com.iofairy.test;
 
+import com.iofairy.except.CircularReferencesException;
 import com.iofairy.except.UndefinedVariableException;
 import com.iofairy.except.UnexpectedParameterException;
+import com.iofairy.si.CacheStats;
+import com.iofairy.si.CompiledTemplate;
 import com.iofairy.si.SI;
+import com.iofairy.si.SIMetrics;
+import com.iofairy.si.SIMetricsListener;
 import com.iofairy.si.StringExtractor;
 import com.iofairy.si.StringToken;
+import com.iofairy.si.StripedLRUCache;
+import com.iofairy.si.TimeHistogram;
 import com.iofairy.tcf.Try;
 import com.iofairy.tuple.Tuple;
 import org.junit.jupiter.api.Test;
 
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.management.ManagementFactory;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -765,6 +786,442 @@ public class InterpolatorTest {
 
     }
 
+    @Test
+    public void testCompile() {
+        String tpl = "${NAME}--${age}--${nickName}--${nick\nName: Jack}--${}${ID}--${height: 180}";
+        CompiledTemplate template = SI.compile(tpl);
+        assertEquals(5, template.slotCount());
+        assertEquals("[NAME, age, nickName, ID, height]", template.getKeys().toString());
+
+        Tuple t1 = Tuple.of("zs", 123456).alias("NAME", "ID");
+        Tuple t2 = Tuple.of(20, "tom").alias("age", "nickName");
+        SI si = SI.of(t1, t2);
+        assertEquals(si.$(tpl), si.$(template));
+        assertEquals("zs--20--tom--${nick\nName: Jack}--$123456--180", si.$(template));
+
+        si.setEnableNestedSI(true);
+        assertEquals(si.$(tpl), si.$(template));
+
+        assertEquals(SI.$(tpl, "a", 1, null), template.$("a", 1, null));
+        assertEquals("a--1--null--${nick\nName: Jack}--$${ID}--180", template.$("a", 1, null));
+        assertEquals(SI.$(tpl, null), template.$((Object[]) null));
+        String longValue = String.join("", Collections.nCopies(100, "0123456789"));
+        assertEquals(longValue + "--1--null--${nick\nName: Jack}--$${ID}--180", template.$(longValue, 1, null));
+        assertEquals(longValue + "--20--tom--${nick\nName: Jack}--$123456--180", SI.of(t1, t2).add("NAME", longValue).$(template));
+
+        si.setEnableNestedSI(false).setEnableUndefinedVariableException(true);
+        try {
+            si.$(template);
+            fail();
+        } catch (UndefinedVariableException e) {
+            assertEquals("Cannot resolve variable `height` in \"" + tpl + "\". ", e.getMessage());
+        }
+
+        String nestedTpl = "${a.${b}: ${c}}--${}{d}";
+        CompiledTemplate nestedTemplate = SI.compile(nestedTpl);
+        SI nestedSI = SI.of("b", "1", "c", "cValue", "a.1", "a1Value").setEnableNestedSI(true);
+        assertEquals("a1Value--${d}", nestedSI.$(nestedTemplate));
+        nestedSI.del("a.1");
+        assertEquals("cValue--${d}", nestedSI.$(nestedTemplate));
+    }
+
+
+    @Test
+    public void testStripedLRUCache() {
+        StripedLRUCache<String, String> cache = new StripedLRUCache<>("test", 64);
+        for (int i = 0; i < 1000; i++) {
+            String key = "key" + i;
+            assertEquals(key.toUpperCase(), cache.get(key, String::toUpperCase));
+        }
+        assertNull(cache.get("not exist"));
+        assertTrue(cache.size() <= 64 + 16);
+
+        CacheStats stats = cache.stats();
+        assertEquals(0, stats.getHitCount());
+        assertEquals(1001, stats.getMissCount());
+        assertEquals(1000 - cache.size(), stats.getEvictionCount());
+
+        cache.put("a", "A");
+        assertEquals("A", cache.get("a", k -> "other"));
+        assertEquals(1, cache.stats().getHitCount());
+
+        cache.setMaxSize(16);
+        assertTrue(cache.size() <= 16);
+        assertEquals(1000 + 1 - cache.size(), cache.stats().getEvictionCount());
+
+        cache.resetStats();
+        cache.clear();
+        stats = cache.stats();
+        assertEquals(0, stats.getRequestCount());
+        assertEquals(0, stats.getSize());
+        assertEquals(16, stats.getMaxSize());
+        assertThrows(IllegalArgumentException.class, () -> cache.setMaxSize(0));
+
+        SI.$("${a}-${b}", 1, 2);
+        SI.$("${a}-${b}", 1, 2);
+        assertTrue(SI.templateCacheStats().getHitCount() > 0);
+        System.out.println(SI.templateCacheStats());
+    }
+
+    @Test
+    public void testRenderTo() throws IOException {
+        String tpl = "${NAME}--${age}--${nickName: 昵称}--${}${ID}--${emoji}";
+        SI si = SI.of("NAME", "zs", "age", 20, "ID", null, "emoji", "\uD83D\uDE00");
+        String expected = si.$(tpl);
+
+        assertEquals(expected, si.renderTo(tpl, new StringBuilder()).toString());
+        StringWriter writer = new StringWriter();
+        si.renderTo(tpl, writer);
+        assertEquals(expected, writer.toString());
+        assertEquals(expected, si.renderTo(SI.compile(tpl), new StringBuilder()).toString());
+        assertEquals("", si.renderTo((CharSequence) null, new StringBuilder()).toString());
+        assertNull(si.$((CharSequence) null));
+        assertEquals(0, si.renderTo(null, ByteBuffer.allocate(8), StandardCharsets.UTF_8).position());
+        assertEquals(" ", si.renderTo(" ", new StringBuilder()).toString());
+
+        ByteBuffer buffer = si.renderTo(tpl, ByteBuffer.allocate(128), StandardCharsets.UTF_8);
+        buffer.flip();
+        assertEquals(expected, StandardCharsets.UTF_8.decode(buffer).toString());
+
+        // high surrogate and low surrogate are in different segments
+        si.add("nickName", "\uD83D").add("emoji", "\uDE00");
+        buffer = si.renderTo("${nickName}${emoji}", ByteBuffer.allocate(16), StandardCharsets.UTF_8);
+        buffer.flip();
+        assertEquals("\uD83D\uDE00", StandardCharsets.UTF_8.decode(buffer).toString());
+
+        assertThrows(BufferOverflowException.class, () -> si.renderTo(tpl, ByteBuffer.allocate(8), StandardCharsets.UTF_8));
+
+        SI nestedSI = SI.of("b", "1", "a.1", "${c}", "c", "cValue").setEnableNestedSI(true);
+        String nestedTpl = "${a.${b}}--${d: ${c}}--${}{e}";
+        writer = new StringWriter();
+        nestedSI.renderTo(nestedTpl, writer);
+        assertEquals("cValue--cValue--${e}", writer.toString());
+        assertEquals(nestedSI.$(nestedTpl), writer.toString());
+        assertEquals(nestedSI.$(nestedTpl), nestedSI.renderTo(SI.compile(nestedTpl), new StringBuilder()).toString());
+    }
+
+    @Test
+    public void testRenderAll() {
+        String tpl = "${id},${name},${price: 0}";
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            Map<String, Object> row = new HashMap<>();
+            row.put("id", i);
+            row.put("name", "name" + i);
+            if (i % 2 == 0) row.put("price", i * 1.5);
+            rows.add(row);
+        }
+        rows.add(null);
+
+        List<String> results = SI.renderAll(tpl, rows);
+        assertEquals(rows.size(), results.size());
+        assertEquals("0,name0,0.0", results.get(0));
+        assertEquals("1,name1,0", results.get(1));
+        assertEquals("${id},${name},0", results.get(rows.size() - 1));
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(SI.of(rows.get(i)).$(tpl), results.get(i));
+        }
+        List<String> parallelResults = SI.compile(tpl).renderAll(rows, true);
+        assertEquals(results, parallelResults);
+        // 并行路径与串行路径一样返回可变的 ArrayList
+        parallelResults.add("extra");
+        parallelResults.remove(0);
+        assertEquals(rows.size(), parallelResults.size());
+        assertEquals("extra", parallelResults.get(rows.size() - 1));
+
+        List<Tuple> tuples = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            tuples.add(i % 3 == 0 ? Tuple.of(i, "name" + i) : Tuple.of("name" + i, i, i * 1.5).alias("name", "id", "price"));
+        }
+        tuples.add(null);
+        List<String> tupleResults = SI.renderAllTuples("${_1}|" + tpl, tuples);
+        assertEquals("0|${id},${name},0", tupleResults.get(0));
+        assertEquals("${_1}|1,name1,1.5", tupleResults.get(1));
+        assertEquals("${_1}|${id},${name},0", tupleResults.get(tuples.size() - 1));
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(SI.of(tuples.get(i)).$("${_1}|" + tpl), tupleResults.get(i));
+        }
+        List<String> parallelTupleResults = SI.compile("${_1}|" + tpl).renderAllTuples(tuples, true);
+        assertEquals(tupleResults, parallelTupleResults);
+        parallelTupleResults.add("extra");
+        parallelTupleResults.remove(0);
+        assertEquals(tuples.size(), parallelTupleResults.size());
+        assertEquals("extra", parallelTupleResults.get(tuples.size() - 1));
+    }
+
+    @Test
+    public void testResolvedValues() {
+        SI si = SI.of("db.url", "jdbc:${db.type}://${db.host}:${db.port: 3306}/${db.name}",
+                        "db.host", "${env}.example.com",
+                        "db.type", "mysql",
+                        "db.name", "${app}_db",
+                        "env", "dev",
+                        "app", "shop")
+                .setEnableNestedSI(true);
+        String tpl = "url: ${db.url}, host: ${db.host}";
+        assertEquals("url: jdbc:mysql://dev.example.com:3306/shop_db, host: dev.example.com", si.$(tpl));
+        assertEquals("url: jdbc:mysql://dev.example.com:3306/shop_db, host: dev.example.com", si.$(tpl));
+
+        si.add("env", "prod");
+        assertEquals("url: jdbc:mysql://prod.example.com:3306/shop_db, host: prod.example.com", si.$(tpl));
+        si.fill("db.port ->", 3307);
+        assertEquals("url: jdbc:mysql://prod.example.com:3307/shop_db, host: prod.example.com", si.$(tpl));
+        si.del("app");
+        assertEquals("url: jdbc:mysql://prod.example.com:3307/${app}_db, host: prod.example.com", si.$(tpl));
+        si.add(Tuple.of("erp").alias("app"));
+        assertEquals("url: jdbc:mysql://prod.example.com:3307/erp_db, host: prod.example.com", si.$(tpl));
+        si.add("db.host", "localhost");
+        assertEquals("url: jdbc:mysql://localhost:3307/erp_db, host: localhost", si.$(tpl));
+
+        si.setEnableUndefinedVariableException(true);
+        si.del("db.type");
+        assertThrows(UndefinedVariableException.class, () -> si.$(tpl));
+        si.setEnableUndefinedVariableException(false);
+        assertEquals("url: jdbc:${db.type}://localhost:3307/erp_db, host: localhost", si.$(tpl));
+
+        si.set("a", "${b}", "b", "${c}", "c", "c");
+        assertEquals("c", si.$("${a}"));
+        si.add("c", "${a}");
+        assertThrows(CircularReferencesException.class, () -> si.$("${a}"));
+        si.add("c", "cc");
+        assertEquals("cc", si.$("${a}"));
+
+        // 依赖的变量名是动态的：每次修改后，失效的变量的依赖关系被删除，解析结果始终正确
+        si.add("v", "${k.${i}}-${w}", "w", "${i}", "i", 0, "k.0", "x0");
+        for (int i = 1; i < 100; i++) {
+            assertEquals("x" + (i - 1) + "-" + (i - 1), si.$("${v}"));
+            si.add("i", i, "k." + i, "x" + i);
+        }
+        assertEquals("x99-99", si.$("${v}"));
+        si.del("k.99");
+        assertEquals("${k.99}-99", si.$("${v}"));
+
+        si.setEnableSIInValues(false);
+        assertEquals("${b}", si.$("${a}"));
+    }
+
+    @Test
+    public void testCopyOnWrite() throws Exception {
+        SI si = SI.of("a", "x${b}", "b", 0, "c", 0)
+                .setEnableNestedSI(true)
+                .setEnableCopyOnWrite(true);
+        assertTrue(si.isEnableCopyOnWrite());
+        assertEquals("x0-0", si.$("${a}-${c}"));
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        AtomicReference<String> inconsistent = new AtomicReference<>();
+        CountDownLatch done = new CountDownLatch(1);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(pool.submit(() -> {
+                    while (done.getCount() > 0 && inconsistent.get() == null) {
+                        // 写线程总是同时修改 b 和 c，读线程必须看到同一个快照中的 b 和 c
+                        String result = si.$("${a}-${c}");
+                        String[] parts = result.split("-");
+                        if (!parts[0].equals("x" + parts[1])) inconsistent.set(result);
+                    }
+                }));
+            }
+            for (int i = 1; i <= 2000; i++) {
+                if (i % 2 == 0) {
+                    si.add("b", i, "c", i);
+                } else {
+                    si.set("a", "x${b}", "b", i, "c", i);
+                }
+            }
+            done.countDown();
+            for (Future<?> reader : readers) {
+                reader.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertNull(inconsistent.get());
+        assertEquals("x2000-2000", si.$("${a}-${c}"));
+
+        Map<String, Object> snapshot = si.getValueMap();
+        si.del("c");
+        assertEquals(2000, snapshot.get("c"));
+        assertFalse(si.getValueMap().containsKey("c"));
+        assertEquals("x2000-${c}", si.$("${a}-${c}"));
+
+        si.setEnableCopyOnWrite(false);
+        assertFalse(si.isEnableCopyOnWrite());
+        si.add("b", 1);
+        assertEquals("x1-${c}", si.$("${a}-${c}"));
+    }
+
+    @Test
+    public void testConcurrentReads() throws Exception {
+        // 默认模式下多个线程同时插值：已解析值的缓存在读操作中写入，不能损坏或返回错误的值
+        SI si = SI.of("env", "prod", "host", "${env}.db", "url", "jdbc://${host}:${port}", "port", 3306)
+                .setEnableNestedSI(true)
+                .setEnableSIInValues(true);
+        for (int i = 0; i < 2000; i++) {
+            si.add("k" + i, "${url}/" + i);
+        }
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            for (int round = 0; round < 5; round++) {
+                // 写操作不能与插值并发执行，在两轮之间修改，使已解析的值失效
+                si.add("env", "env" + round);
+                String prefix = "jdbc://env" + round + ".db:3306/";
+                List<Future<String>> readers = new ArrayList<>();
+                for (int r = 0; r < 8; r++) {
+                    int seed = r;
+                    readers.add(pool.submit(() -> {
+                        for (int i = 0; i < 5000; i++) {
+                            int k = (i * 31 + seed * 7) % 2000;
+                            String result = si.$("${k" + k + "}");
+                            if (!result.equals(prefix + k)) return result;
+                        }
+                        return null;
+                    }));
+                }
+                for (Future<String> reader : readers) {
+                    assertNull(reader.get(30, TimeUnit.SECONDS));
+                }
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        si.add("port", 1);
+        assertEquals("jdbc://env4.db:1/7", si.$("${k7}"));
+    }
+
+    @Test
+    public void testTimeHistogram() {
+        // 直方图只由 SIMetrics 创建，未开启统计时不会记录
+        assertEquals(0, TimeHistogram.class.getConstructors().length);
+        assertFalse(SIMetrics.isEnabled());
+        SIMetrics.reset();
+        TimeHistogram histogram = SIMetrics.parseTimeHistogram();
+        assertEquals(0, histogram.percentileNanos(99));
+        for (int i = 1; i <= 100; i++) {
+            histogram.record(i);
+        }
+        histogram.record(-5);
+        assertEquals(101, histogram.getCount());
+        assertEquals(5050, histogram.getTotalNanos());
+        assertEquals(100, histogram.getMaxNanos());
+        assertEquals(0, histogram.percentileNanos(0));
+        assertEquals(63, histogram.percentileNanos(50));
+        assertEquals(100, histogram.percentileNanos(100));
+        long[] counts = histogram.getBucketCounts();
+        assertEquals(1, counts[0]);
+        assertEquals(1, counts[1]);
+        assertEquals(2, counts[2]);
+        assertEquals(37, counts[7]);
+        assertThrows(IllegalArgumentException.class, () -> histogram.percentileNanos(101));
+        histogram.reset();
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getMaxNanos());
+    }
+
+    @Test
+    public void testSIMetrics() throws Exception {
+        AtomicInteger parseCount = new AtomicInteger();
+        AtomicInteger renderCount = new AtomicInteger();
+        List<String> parseCaches = new ArrayList<>();
+        SIMetricsListener listener = new SIMetricsListener() {
+            @Override
+            public void onParse(String cacheName, String source, long elapsedNanos) {
+                parseCount.incrementAndGet();
+                parseCaches.add(cacheName);
+            }
+
+            @Override
+            public void onRender(String source, long elapsedNanos) {
+                renderCount.incrementAndGet();
+            }
+        };
+
+        SIMetrics.addListener(listener);
+        SIMetrics.setEnabled(true);
+        try {
+            SIMetrics.renderTimeHistogram().reset();
+            SIMetrics.parseTimeHistogram().reset();
+            SI si = SI.of("a", 1, "b", "${a}");
+            String tpl = "testSIMetrics: ${a}--${b}--" + System.nanoTime();
+            assertEquals(tpl.replace("${a}", "1").replace("${b}", "${a}"), si.$(tpl));
+            si.$(tpl);
+            SI.$(tpl, 1, 2);
+            si.setEnableNestedSI(true).$(tpl);
+            si.$(SI.compile(tpl));
+
+            assertEquals(2, parseCount.get());
+            assertEquals(Arrays.asList("TEMPLATE_CACHE", "NESTED_TEMPLATE_CACHE"), parseCaches);
+            assertEquals(5, renderCount.get());
+            assertEquals(2, SIMetrics.parseTimeHistogram().getCount());
+            assertEquals(5, SIMetrics.renderTimeHistogram().getCount());
+            assertEquals(3, SIMetrics.cacheStats().size());
+            assertEquals("KEY_CACHE", SIMetrics.cacheStats().get(2).getName());
+
+            SIMetrics.registerMBeans();
+            SIMetrics.registerMBeans();     // 重复注册会被跳过
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName cacheName = new ObjectName("com.iofairy.si:type=Cache,name=TEMPLATE_CACHE");
+            assertTrue(server.isRegistered(cacheName));
+            assertEquals(SI.templateCacheStats().getMaxSize(), server.getAttribute(cacheName, "MaxSize"));
+            assertEquals(5L, server.getAttribute(new ObjectName("com.iofairy.si:type=SIMetrics"), "RenderCount"));
+            SIMetrics.unregisterMBeans();
+            assertFalse(server.isRegistered(cacheName));
+        } finally {
+            SIMetrics.setEnabled(false);
+            assertTrue(SIMetrics.removeListener(listener));
+        }
+
+        SI.of("a", 1).$("${a}");
+        assertEquals(5, renderCount.get());
+        assertThrows(NullPointerException.class, () -> SIMetrics.addListener(null));
+    }
+
+    @Test
+    public void testSIMetricsFaultyListener() {
+        // 抛出异常的监听器不会导致插值失败，也不会影响其他监听器
+        SIMetricsListener faulty = new SIMetricsListener() {
+            @Override
+            public void onParse(String cacheName, String source, long elapsedNanos) {
+                throw new IllegalStateException("metrics backend is down");
+            }
+
+            @Override
+            public void onRender(String source, long elapsedNanos) {
+                throw new IllegalStateException("metrics backend is down");
+            }
+        };
+        AtomicInteger parseCount = new AtomicInteger();
+        AtomicInteger renderCount = new AtomicInteger();
+        SIMetricsListener counter = new SIMetricsListener() {
+            @Override
+            public void onParse(String cacheName, String source, long elapsedNanos) {
+                parseCount.incrementAndGet();
+            }
+
+            @Override
+            public void onRender(String source, long elapsedNanos) {
+                renderCount.incrementAndGet();
+            }
+        };
+
+        SIMetrics.addListener(faulty);
+        SIMetrics.addListener(counter);
+        try {
+            String tpl = "testSIMetricsFaultyListener: ${a}--" + System.nanoTime();
+            SI si = SI.of("a", 1);
+            assertEquals(tpl.replace("${a}", "1"), si.$(tpl));
+            assertEquals(tpl.replace("${a}", "2"), SI.$(tpl, 2));
+            assertEquals(tpl.replace("${a}", "1"), si.$(SI.compile(tpl)));
+            assertEquals(1, parseCount.get());
+            assertEquals(3, renderCount.get());
+        } finally {
+            assertTrue(SIMetrics.removeListener(faulty));
+            assertTrue(SIMetrics.removeListener(counter));
+        }
+    }
+
     @Test
     public void testInitForNestedParse() {
         String infoTemplate = "ip: ${ip}---port: ${port}---db: ${db}---otherInfo: ${other_info}";
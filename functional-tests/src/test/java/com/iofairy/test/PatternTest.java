@@ -1,12 +1,37 @@
 package com.iofairy.test;
 
 import com.iofairy.lambda.R1;
+import com.iofairy.pattern.IntMatchTable;
+import com.iofairy.pattern.MatchTable;
+import com.iofairy.pattern.Pattern;
 import com.iofairy.pattern.PatternIn;
+import com.iofairy.pattern.PatternInChars;
+import com.iofairy.pattern.PatternInInts;
+import com.iofairy.pattern.PatternInLongs;
+import com.iofairy.pattern.ReusablePattern;
+import com.iofairy.pattern.StringMatchTable;
+import com.iofairy.pattern.TypeMatchTable;
+import com.iofairy.pattern.mapping.IntMatcherMapping;
+import com.iofairy.pattern.mapping.StringMatcherMapping;
+import com.iofairy.pattern.mapping.ValueMatcherMapping;
+import com.iofairy.pattern.matcher.IntRMatcher;
+import com.iofairy.pattern.matcher.StringRMatcher;
+import com.iofairy.pattern.matcher.ValueRMatcher;
+import com.iofairy.pattern.type.PatternString;
 import com.iofairy.tuple.*;
 import com.iofairy.top.G;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static com.iofairy.pattern.Pattern.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -329,6 +354,51 @@ public class PatternTest {
         assertEquals("all null", matchRes5);
     }
 
+    @Test
+    public void testStringIgnoreCaseNonAscii() {
+        String str = "Temperature: 300\u212A, Ärger";
+        // 包含非 ASCII 字符时通过 toUpperCase() 比较：开尔文符号（\u212A）的大写形式是它本身，与 "300K" 不同
+        String matchRes1 = match(str, ICCONTAIN)
+                .when("300k",   v -> "kelvin")
+                .orElse(        v -> "no match");
+        assertEquals("no match", matchRes1);
+        String matchRes2 = match(str, ICSUFFIX)
+                .when("äRGER",  v -> "umlaut")
+                .orElse(        v -> "no match");
+        assertEquals("umlaut", matchRes2);
+        String matchRes3 = match(str, ICPREFIX)
+                .when("temperature: 301", v -> "301")
+                .when(in("TEMP", "temperature"), v -> "temp")
+                .orElse(        v -> "no match");
+        assertEquals("temp", matchRes3);
+
+        StringBuilder sb = new StringBuilder();
+        match(str, ICCONTAIN)
+                .with("ärger",  v -> { sb.append("ärger"); })
+                .orElse(        v -> { sb.append("no match"); });
+        assertEquals("ärger", sb.toString());
+
+        // 长度会变化的大小写映射："ß".toUpperCase() 为 "SS"
+        assertEquals("contain", match("STRASSE", ICCONTAIN)
+                .when("ß",      v -> "contain")
+                .orElse(        v -> "no match"));
+        assertEquals("prefix", match("straße", ICPREFIX)
+                .when("STRASS", v -> "prefix")
+                .orElse(        v -> "no match"));
+        StringBuilder suffix = new StringBuilder();
+        match("Maße", ICSUFFIX)
+                .when("SSE",    v -> { suffix.append("suffix"); })
+                .orElse(        v -> { suffix.append("no match"); });
+        assertEquals("suffix", suffix.toString());
+        // 匹配表逐个字符比较，"ß" 不能匹配 "SS"
+        StringMatchTable<String> table = Pattern.<String>stringTable(ICCONTAIN)
+                .when("ß",      v -> "contain")
+                .orElse(        v -> "no match")
+                .build();
+        assertEquals("no match", table.apply("STRASSE"));
+        assertEquals("contain", table.apply("STRAßE"));
+    }
+
     @Test
     public void testNone() {
         int i = 10;
@@ -547,4 +617,573 @@ public class PatternTest {
                .when("b", ciR1)
                .orElse(cdR1);
     }
+
+    @Test
+    public void testMatchTable() {
+        MatchTable<String, String> strTable = Pattern.<String, String>table()
+                .when("1",                      v -> v + v)
+                .when("2",                      v -> v + "a")
+                .when(in("3", "4", "5", "2"),   v -> v + " - abcd")     // "2" 已在前面的分支中，前面的分支生效
+                .when(in((String) null),        v -> "null")
+                .orElse(                        v -> "no match")
+                .build();
+        for (String s : new String[]{"1", "2", "3", "5", "7", null}) {
+            String expected = match(s)
+                    .when("1",                      v -> v + v)
+                    .when("2",                      v -> v + "a")
+                    .when(in("3", "4", "5", "2"),   v -> v + " - abcd")
+                    .when(in((String) null),        v -> "null")
+                    .orElse(                        v -> "no match");
+            assertEquals(expected, strTable.apply(s));
+        }
+        assertEquals(6, strTable.size());
+        assertTrue(strTable.matches("4"));
+        assertFalse(strTable.matches("7"));
+        assertTrue(strTable.toString().contains("HASH"));
+
+        MatchTable<Season, String> seasonTable = Pattern.<Season, String>table()
+                .when(Season.SPRING,                    v -> "warm")
+                .when(in(Season.SUMMER, Season.AUTUMN), v -> "hot")
+                .build();
+        assertEquals("warm", seasonTable.apply(Season.SPRING));
+        assertEquals("hot", seasonTable.apply(Season.AUTUMN));
+        assertNull(seasonTable.apply(Season.WINTER));
+        assertNull(seasonTable.apply(null));
+        assertTrue(seasonTable.toString().contains("DENSE_ENUM"));
+
+        MatchTable<Object, String> intTable = Pattern.<Object, String>table()
+                .when(-2,           v -> "-2")
+                .when(in(0, 1, 2),  v -> "small")
+                .when(100,          v -> "100")
+                .orElse(v -> "other")
+                .build();
+        assertEquals("-2", intTable.apply(-2));
+        assertEquals("small", intTable.apply(1));
+        assertEquals("100", intTable.apply(100));
+        assertEquals("other", intTable.apply(50));
+        assertEquals("other", intTable.apply(101));
+        assertEquals("other", intTable.apply(1L));
+        assertEquals("other", intTable.apply("1"));
+        assertTrue(intTable.toString().contains("DENSE_INT"));
+
+        MatchTable<Integer, String> sparseTable = Pattern.<Integer, String>table()
+                .when(in(1, 1_000_000), v -> "sparse")
+                .build();
+        assertEquals("sparse", sparseTable.apply(1_000_000));
+        assertNull(sparseTable.apply(2));
+        assertTrue(sparseTable.toString().contains("HASH"));
+
+        assertThrows(NullPointerException.class, () -> Pattern.<String, String>table().when("a", null));
+    }
+
+    @Test
+    public void testPatternInHash() {
+        List<String> codes = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            codes.add("C" + i);
+        }
+        codes.add(null);
+        PatternIn<String> large = PatternIn.of(codes);
+        for (String code : codes) {
+            assertTrue(large.contains(code));
+        }
+        assertFalse(large.contains("C300"));
+        assertFalse(large.contains(1));
+        assertFalse(PatternIn.of(Arrays.asList("a", "b")).contains(null));
+        assertThrows(UnsupportedOperationException.class, () -> large.getVs().add("x"));
+
+        // in(...) 先逐个比较，第 LAZY_HASH_LOOKUPS 次查找时才创建哈希表，前后结果一致
+        PatternIn<String> lazy = in(codes.toArray(new String[0]));
+        for (int round = 0; round < PatternIn.LAZY_HASH_LOOKUPS + 1; round++) {
+            assertTrue(lazy.contains(null));
+            assertTrue(lazy.contains("C" + (round * 37)));
+            assertFalse(lazy.contains("C-" + round));
+        }
+
+        PatternIn<String> small = in("a", "b", null);
+        assertTrue(small.contains(null));
+        assertTrue(small.contains("b"));
+        assertFalse(small.contains("c"));
+
+        assertEquals("C150 - large", match("C150").when("C1", v -> v).when(large, v -> v + " - large").orElse(v -> "no match"));
+        assertEquals("c150 - large", match("c150", IGNORECASE).when(large, v -> v + " - large").orElse(v -> "no match"));
+        assertEquals("no match", match("c150").when(large, v -> v + " - large").orElse(v -> "no match"));
+        assertEquals("null - large", match((String) null).when(large, v -> v + " - large").orElse(v -> "no match"));
+        assertEquals("C299 - large", match("C299", STRING).when(large, v -> v + " - large").orElse(v -> "no match"));
+    }
+
+    @Test
+    public void testPatternInPrimitives() {
+        int[] ints = new int[100];
+        long[] longs = new long[100];
+        for (int i = 0; i < 100; i++) {
+            ints[i] = i * 7 - 300;
+            longs[i] = (long) i << 33;
+        }
+        PatternInInts largeInts = inInts(ints);
+        PatternInLongs largeLongs = inLongs(longs);
+        for (int i = 0; i < 100; i++) {
+            assertTrue(largeInts.contains(ints[i]));
+            assertTrue(largeInts.contains((Object) ints[i]));
+            assertFalse(largeInts.contains(ints[i] + 1));
+            assertTrue(largeLongs.contains(longs[i]));
+            assertFalse(largeLongs.contains(longs[i] + 1));
+        }
+        assertEquals(largeInts.getVs().contains(0), largeInts.contains(0));
+        assertTrue(largeLongs.contains(0L));
+        assertFalse(largeLongs.contains((Object) 0));       // Integer is not a Long
+        assertFalse(largeInts.contains((Object) null));
+        assertEquals(100, largeInts.getVs().size());
+        assertEquals(-293, largeInts.getVs().get(1));
+
+        PatternInInts smallInts = inInts(1, 2, 3);
+        assertTrue(smallInts.contains(2));
+        assertFalse(smallInts.contains(0));
+
+        PatternInChars vowels = inChars('a', 'e', 'i', 'o', 'u', 'A', 'E', 'I', 'O', 'U', '\0');
+        assertTrue(vowels.contains('E'));
+        assertTrue(vowels.contains('\0'));
+        assertFalse(vowels.contains('b'));
+
+        assertEquals("small", match(2).when(smallInts, v -> "small").orElse(v -> "other"));
+        assertEquals("large", match(-300).when(smallInts, v -> "small").when(largeInts, v -> "large").orElse(v -> "other"));
+        assertEquals("other", match(5).when(smallInts, v -> "small").when(largeInts, v -> "large").orElse(v -> "other"));
+        assertEquals("vowel", match('o').when(vowels, v -> "vowel").orElse(v -> "other"));
+
+        assertThrows(NullPointerException.class, () -> inInts((int[]) null));
+        assertThrows(RuntimeException.class, () -> inLongs());
+    }
+
+    @Test
+    public void testStringMatchTable() {
+        StringMatchTable<String> levels = Pattern.<String>stringTable(ICCONTAIN)
+                .when("fatal",                  v -> "FATAL")
+                .when(in("error", "exception"), v -> "ERROR")
+                .when("warn",                   v -> "WARN")
+                .orElse(v -> "INFO")
+                .build();
+        assertEquals("ERROR", levels.apply("java.lang.NullPointerException at ..."));
+        assertEquals("WARN", levels.apply("[Warn] disk is almost full"));
+        assertEquals("FATAL", levels.apply("warn: FATAL error"));
+        assertEquals("INFO", levels.apply("started in 3s"));
+        assertEquals("INFO", levels.apply(null));
+        assertTrue(levels.matches("an ERROR"));
+        assertFalse(levels.matches("an err"));
+        assertEquals(3, levels.size());
+
+        List<String> logs = new ArrayList<>();
+        StringMatchTable<String> prefixes = Pattern.<String>stringTable(PREFIX)
+                .whenNext("/api",       v -> { logs.add("api"); return null; })
+                .when("/api/v1",        v -> "v1")
+                .whenNext("/api/v1/x",  v -> { logs.add("never"); return null; })
+                .when("/",              v -> "root")
+                .build();
+        assertEquals("v1", prefixes.apply("/api/v1/x/y"));
+        assertEquals("root", prefixes.apply("/api/v2"));
+        assertEquals("root", prefixes.apply("/static"));
+        assertNull(prefixes.apply("static"));
+        assertEquals(Arrays.asList("api", "api"), logs);
+    }
+
+    @Test
+    public void testStringMatchTableDifferential() {
+        assertStringMatchTableDifferential(new String[]{"a", "b", "A", "B", "ab", "ba", "aab", "bAb", "", null}, "aAbB", 20221018L);
+        // 非ASCII字符：ı 与 I 忽略大小写相等。开尔文符号与 ß 在匹配表与 match(value, ICCONTAIN) 中的结果不同，见 testStringIgnoreCaseNonAscii
+        assertStringMatchTableDifferential(new String[]{"é", "É", "ı", "I", "i", "k", "éK", "Éı", "", null}, "éÉıIikK", 20261018L);
+
+        // whenNext(in(...)) after a matched whenNext arm: every element is still checked, not only the first one
+        List<String> log = new ArrayList<>();
+        String res = match("xab", CONTAIN)
+                .whenNext("x",          v -> { log.add("x"); return "x"; })
+                .whenNext(in("c", "b"), v -> { log.add("in"); return "in"; })
+                .orElse(                v -> "else");
+        assertEquals("else", res);
+        assertEquals(Arrays.asList("x", "in"), log);
+        log.clear();
+        match("xab", CONTAIN)
+                .whenNext("x",          v -> { log.add("x"); })
+                .whenNext(in("c", "b"), v -> { log.add("in"); })
+                .orElse(                v -> { log.add("else"); });
+        assertEquals(Arrays.asList("x", "in", "else"), log);
+    }
+
+    private static void assertStringMatchTableDifferential(String[] alphabet, String chars, long seed) {
+        PatternString[] patternStrings = PatternString.values();
+        Random random = new Random(seed);
+        for (int round = 0; round < 2000; round++) {
+            PatternString ps = patternStrings[random.nextInt(patternStrings.length)];
+            int armCount = 1 + random.nextInt(6);
+            String[][] armPatterns = new String[armCount][];
+            boolean[] armNext = new boolean[armCount];
+            for (int i = 0; i < armCount; i++) {
+                armNext[i] = random.nextInt(3) == 0;
+                int n = 1 + random.nextInt(3);
+                armPatterns[i] = new String[n];
+                for (int j = 0; j < n; j++) {
+                    armPatterns[i][j] = alphabet[random.nextInt(alphabet.length)];
+                }
+            }
+
+            List<String> tableLog = new ArrayList<>();
+            StringMatchTable.Builder<String> builder = Pattern.stringTable(ps);
+            for (int i = 0; i < armCount; i++) {
+                String name = "arm" + i;
+                R1<String, String> action = v -> { tableLog.add(name); return name; };
+                if (armNext[i]) {
+                    if (armPatterns[i].length == 1) {
+                        builder.whenNext(armPatterns[i][0], action);
+                    } else {
+                        builder.whenNext(in(armPatterns[i]), action);
+                    }
+                } else if (armPatterns[i].length == 1) {
+                    builder.when(armPatterns[i][0], action);
+                } else {
+                    builder.when(in(armPatterns[i]), action);
+                }
+            }
+            StringMatchTable<String> table = builder.orElse(v -> "else").build();
+
+            for (int k = 0; k < 20; k++) {
+                String value = random.nextInt(10) == 0 ? null : randomString(random, chars, 6);
+                List<String> matchLog = new ArrayList<>();
+                StringRMatcher<String> matcher = null;
+                for (int i = 0; i < armCount; i++) {
+                    String name = "arm" + i;
+                    R1<String, String> action = v -> { matchLog.add(name); return name; };
+                    if (armNext[i] && armPatterns[i].length == 1) {
+                        matcher = matcher == null ? match(value, ps).whenNext(armPatterns[i][0], action) : matcher.whenNext(armPatterns[i][0], action);
+                    } else if (armNext[i]) {
+                        matcher = matcher == null ? match(value, ps).whenNext(in(armPatterns[i]), action) : matcher.whenNext(in(armPatterns[i]), action);
+                    } else if (armPatterns[i].length == 1) {
+                        matcher = matcher == null ? match(value, ps).when(armPatterns[i][0], action) : matcher.when(armPatterns[i][0], action);
+                    } else {
+                        matcher = matcher == null ? match(value, ps).when(in(armPatterns[i]), action) : matcher.when(in(armPatterns[i]), action);
+                    }
+                }
+                String expected = matcher.orElse(v -> "else");
+
+                tableLog.clear();
+                assertEquals(expected, table.apply(value), ps + " " + Arrays.deepToString(armPatterns) + " value: " + value);
+                assertEquals(matchLog, tableLog, ps + " " + Arrays.deepToString(armPatterns) + " value: " + value);
+            }
+        }
+    }
+
+    @Test
+    public void testTypeMatchTable() {
+        TypeMatchTable<Object, Integer> table = Pattern.<Object, Integer>typeTable()
+                .when(Integer.class,                v -> v + 10)
+                .when(Tuple2.class,                 v -> v.arity())
+                .whenInstance(CharSequence.class,   v -> v.length())
+                .whenInstance(Number.class,         v -> -1)
+                .when(null,                         v -> -2)
+                .orElse(                            v -> 40)
+                .build();
+
+        for (int i = 0; i < 3; i++) {
+            assertEquals(15, table.apply(5));
+            assertEquals(2, table.apply(Tuple.of("zs", 20)));
+            assertEquals(3, table.apply("abc"));
+            assertEquals(4, table.apply(new StringBuilder("abcd")));
+            assertEquals(-1, table.apply(5L));
+            assertEquals(-2, table.apply(null));
+            assertEquals(40, table.apply(Tuple.of(1)));
+            assertEquals(40, table.apply(new Object()));
+        }
+        assertTrue(table.matches(1.0));
+        assertFalse(table.matches(new Object()));
+        assertEquals(5, table.size());
+
+        // the same as `match(value, TYPE)` for exact class arms
+        Object[] values = {1, 2L, "a", Tuple.of("zs", 20), null, 3.0, new ArrayList<>()};
+        for (Object o : values) {
+            Integer expected = match(o, TYPE)
+                    .when(Integer.class,    v -> v + 10)
+                    .when(Tuple2.class,     v -> v.arity())
+                    .when(String.class,     v -> v.length())
+                    .when(null,             v -> -2)
+                    .orElse(                v -> 40);
+            Integer actual = Pattern.<Object, Integer>typeTable()
+                    .when(Integer.class,    v -> v + 10)
+                    .when(Tuple2.class,     v -> v.arity())
+                    .when(String.class,     v -> v.length())
+                    .when(null,             v -> -2)
+                    .orElse(                v -> 40)
+                    .build()
+                    .apply(o);
+            assertEquals(expected, actual);
+        }
+
+        // arms are checked in order, and the matched `whenNext` arms before the first matched `when` arm are executed
+        List<String> trace = new ArrayList<>();
+        TypeMatchTable<Object, String> ordered = Pattern.<Object, String>typeTable()
+                .whenInstanceNext(Comparable.class, v -> { trace.add("comparable"); return "comparable"; })
+                .whenNext(String.class,             v -> { trace.add("string"); return "string"; })
+                .whenInstance(CharSequence.class,   v -> "char sequence")
+                .whenInstanceNext(Object.class,     v -> { trace.add("object"); return "object"; })
+                .when(String.class,                 v -> "unreachable")
+                .build();
+        for (int i = 0; i < 2; i++) {
+            trace.clear();
+            assertEquals("char sequence", ordered.apply("abc"));
+            assertEquals(Arrays.asList("comparable", "string"), trace);
+            trace.clear();
+            assertNull(ordered.apply(1));
+            assertEquals(Arrays.asList("comparable", "object"), trace);
+            trace.clear();
+            assertNull(ordered.apply(null));
+            assertTrue(trace.isEmpty());
+        }
+
+        try {
+            Pattern.<Object, Integer>typeTable().whenInstance(null, v -> 1);
+            fail();
+        } catch (Exception e) {
+            assertSame(NullPointerException.class, e.getClass());
+        }
+    }
+
+    @Test
+    public void testPrimitiveMatchers() {
+        int opcode = 3;
+        String res1 = matchInt(opcode)
+                .when(1,                    op -> "ping")
+                .when(inInts(2, 3),         op -> "data " + op)
+                .orElse(                    op -> "unknown");
+        assertEquals("data 3", res1);
+        assertEquals("unknown", matchInt(-1).when(1, op -> "ping").when((PatternInInts) null, op -> "null").orElse(op -> "unknown"));
+        assertEquals("negative", matchInt(-1).when(1, op -> "ping").when(-1 < 0, op -> "negative").orElse(op -> "unknown"));
+
+        StringBuilder sb = new StringBuilder();
+        Void nullValue = matchInt(10)
+                .when(1,                    v -> { sb.append("1;"); })
+                .whenNext(10,               v -> { sb.append("next ").append(v).append(';'); })
+                .when(20,                   v -> { sb.append("20;"); })
+                .orElse(                    v -> { sb.append("orElse;"); });
+        assertNull(nullValue);
+        assertEquals("next 10;orElse;", sb.toString());
+
+        long id = 1L << 40;
+        assertEquals("big", matchLong(id).when(1L, v -> "one").when(inLongs(1L << 40, 1L << 41), v -> "big").orElse(v -> "other"));
+        assertEquals("other", matchLong(2L).when(1L, v -> "one").orElse(v -> "other"));
+
+        assertEquals("vowel", matchChar('o').when(inChars('a', 'e', 'i', 'o', 'u'), c -> "vowel").orElse(c -> "other"));
+        assertEquals("X", matchChar('x').when('x', c -> "" + Character.toUpperCase(c)).orElse(c -> "other"));
+        sb.setLength(0);
+        matchChar('b')
+                .whenNext('b',              c -> { sb.append(c); })
+                .when('b',                  c -> { sb.append(c).append(c); })
+                .orElse(                    c -> { sb.append("orElse"); });
+        assertEquals("bbb", sb.toString());
+    }
+
+    @Test
+    public void testIntMatchTable() {
+        IntMatchTable<String> dense = Pattern.<String>intTable()
+                .when(0x01,                 op -> "ping")
+                .when(inInts(0x02, 0x03),   op -> "data")
+                .whenRange(0x10, 0x1F,      op -> "control " + op)
+                .when(0x12,                 op -> "unreachable")
+                .orElse(                    op -> "unknown")
+                .build();
+        assertTrue(dense.isDense());
+        assertEquals(4, dense.size());
+        assertEquals("ping", dense.apply(1));
+        assertEquals("data", dense.apply(3));
+        assertEquals("control 18", dense.apply(0x12));
+        assertEquals("unknown", dense.apply(0));
+        assertEquals("unknown", dense.apply(0x20));
+        assertEquals("unknown", dense.apply(Integer.MIN_VALUE));
+        assertEquals("unknown", dense.apply(Integer.MAX_VALUE));
+        assertFalse(dense.matches(4));
+        assertTrue(dense.matches('\u001F'));
+
+        IntMatchTable<String> sparse = Pattern.<String>intTable()
+                .whenRange(Integer.MIN_VALUE, -1,   v -> "negative")
+                .when(inInts(0, 1_000_000),         v -> "special")
+                .whenRange(0, 100,                  v -> "small")
+                .whenRange(50, Integer.MAX_VALUE,   v -> "large")
+                .build();
+        assertFalse(sparse.isDense());
+        assertEquals("negative", sparse.apply(Integer.MIN_VALUE));
+        assertEquals("negative", sparse.apply(-1));
+        assertEquals("special", sparse.apply(0));
+        assertEquals("small", sparse.apply(1));
+        assertEquals("small", sparse.apply(100));
+        assertEquals("large", sparse.apply(101));
+        assertEquals("special", sparse.apply(1_000_000));
+        assertEquals("large", sparse.apply(Integer.MAX_VALUE));
+        assertNull(Pattern.<String>intTable().build().apply(1));
+        assertThrows(IllegalArgumentException.class, () -> Pattern.<String>intTable().whenRange(2, 1, v -> ""));
+
+        // the same as `match(value).when(...)`
+        Random random = new Random(20221018L);
+        for (int round = 0; round < 200; round++) {
+            int spread = round % 2 == 0 ? 64 : 100_000;
+            int[] keys = new int[1 + random.nextInt(20)];
+            for (int i = 0; i < keys.length; i++) {
+                keys[i] = random.nextInt(spread) - spread / 2;
+            }
+            IntMatchTable.Builder<Integer> builder = Pattern.intTable();
+            for (int i = 0; i < keys.length; i++) {
+                int arm = i;
+                builder.when(keys[i], v -> arm);
+            }
+            IntMatchTable<Integer> table = builder.orElse(v -> -1).build();
+            if (round % 2 == 0) assertTrue(table.isDense());
+            for (int i = 0; i < 100; i++) {
+                int value = random.nextBoolean() ? keys[random.nextInt(keys.length)] : random.nextInt(spread) - spread / 2;
+                int expected = -1;
+                for (int j = 0; j < keys.length; j++) {
+                    if (keys[j] == value) {
+                        expected = j;
+                        break;
+                    }
+                }
+                assertEquals(expected, table.apply(value));
+            }
+        }
+    }
+
+    @Test
+    public void testReusablePattern() {
+        ReusablePattern pattern = Pattern.reusable();
+
+        String[] inputs = {"1", "3", "9", null, "3"};
+        String[] expected = {"one", "few", "many", "null", "few"};
+        ValueRMatcher<String, String> first = null;
+        for (int i = 0; i < inputs.length; i++) {
+            ValueRMatcher<String, String> matcher = pattern.match(inputs[i])
+                    .when("1",              v -> "one")
+                    .when(in("2", "3"),     v -> "few")
+                    .when((String) null,    v -> "null");
+            if (first == null) first = matcher;
+            assertSame(first, matcher);
+            assertEquals(expected[i], matcher.orElse(v -> "many"));
+            // the same result as `Pattern.match`
+            assertEquals(expected[i], match(inputs[i]).when("1", v -> "one").when(in("2", "3"), v -> "few").when((String) null, v -> "null").orElse(v -> "many"));
+        }
+
+        // state of `whenNext` is reset as well
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2; i++) {
+            pattern.match("abcdef", PREFIX)
+                    .whenNext("abc",        v -> { sb.append("abc;"); })
+                    .when("xyz",            v -> { sb.append("xyz;"); })
+                    .orElse(                v -> { sb.append("orElse;"); });
+        }
+        assertEquals("abc;orElse;abc;orElse;", sb.toString());
+        assertEquals("ic", pattern.match("ABCdef", ICSUFFIX).when("DEF", v -> "ic").orElse(v -> "no match"));
+        assertEquals("no match", pattern.match("ABCdef", SUFFIX).when("DEF", v -> "ic").orElse(v -> "no match"));
+
+        assertEquals(2, pattern.match(Tuple.of("zs", 20), TYPE).when(Integer.class, v -> v + 10).when(Tuple2.class, v -> v.arity()).orElse(v -> 0));
+        assertEquals(0, pattern.match((Object) "zs", TYPE).when(Integer.class, v -> v + 10).when(Tuple2.class, v -> v.arity()).orElse(v -> 0));
+        assertEquals("b", pattern.match().when(1 > 2, v -> "a").when(2 > 1, v -> "b").orElse(v -> "c"));
+        assertEquals("c", pattern.match().when(1 > 2, v -> "a").orElse(v -> "c"));
+
+        IntRMatcher<String> intMatcher = pattern.matchInt(2).when(inInts(2, 3), v -> "few");
+        assertEquals("few", intMatcher.orElse(v -> "many"));
+        assertSame(intMatcher, pattern.matchInt(7).when(inInts(2, 3), v -> "few"));
+        assertEquals("many", intMatcher.orElse(v -> "many"));
+        assertEquals("big", pattern.matchLong(1L << 40).when(1L << 40, v -> "big").orElse(v -> "small"));
+        assertEquals("small", pattern.matchLong(1L).when(1L << 40, v -> "big").orElse(v -> "small"));
+        assertEquals("vowel", pattern.matchChar('e').when(inChars('a', 'e'), v -> "vowel").orElse(v -> "other"));
+        assertEquals("other", pattern.matchChar('z').when(inChars('a', 'e'), v -> "vowel").orElse(v -> "other"));
+
+        // instances of different threads are independent
+        ThreadLocal<ReusablePattern> local = ThreadLocal.withInitial(Pattern::reusable);
+        assertSame(local.get(), local.get());
+        assertNotSame(pattern, local.get());
+
+        // the mappings created by `Pattern` never reuse matchers, and the reuse mode is not a public API
+        ValueMatcherMapping<String> mapping = match("1");
+        assertNotSame(mapping.when("1", v -> "one"), mapping.when("1", v -> "one"));
+        for (Class<?> clazz : Arrays.asList(ValueMatcherMapping.class, StringMatcherMapping.class, IntMatcherMapping.class, ValueRMatcher.class, IntRMatcher.class, StringRMatcher.class)) {
+            assertTrue(Arrays.stream(clazz.getMethods()).noneMatch(m -> m.getName().equals("reset")), clazz.getName());
+        }
+    }
+
+    @Test
+    public void testMatchTableBulk() {
+        MatchTable<Integer, String> table = Pattern.<Integer, String>table()
+                .when(in(0, 2, 4, 6, 8),    v -> "even")
+                .when(in(1, 3, 5, 7, 9),    v -> "odd")
+                .build();
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            values.add(i % 11 == 10 ? null : i % 11);
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (Integer value : values) {
+            expected.add(table.apply(value));
+        }
+        assertEquals(expected, table.applyAll(values));
+        assertEquals(expected, table.applyAll(values, true));
+        assertEquals(expected, table.applyAll(new LinkedList<>(values), true));
+        assertEquals(expected, values.stream().map(table.asFunction()).collect(Collectors.toList()));
+
+        Map<String, List<Integer>> groups = table.groupBy(values, true);
+        assertEquals(Arrays.asList("even", "odd", null), new ArrayList<>(groups.keySet()));
+        assertEquals(table.groupBy(values), groups);
+        assertEquals(Arrays.asList(1, 3, 5, 7, 9), groups.get("odd").subList(0, 5));
+        assertEquals(values.stream().filter(Objects::isNull).count(), groups.get(null).size());
+        assertEquals(values.size(), groups.values().stream().mapToInt(List::size).sum());
+        // the collector keeps the `null` key and the encounter order, in parallel streams as well
+        assertEquals(groups, values.stream().collect(table.groupingCollector()));
+        Map<String, List<Integer>> parallelGroups = values.parallelStream().collect(table.groupingCollector());
+        assertEquals(groups, parallelGroups);
+        assertEquals(new ArrayList<>(groups.keySet()), new ArrayList<>(parallelGroups.keySet()));
+
+        StringMatchTable<String> levels = Pattern.<String>stringTable(ICCONTAIN)
+                .when("error",  v -> "E")
+                .when("warn",   v -> "W")
+                .orElse(        v -> "I")
+                .build();
+        List<String> lines = Arrays.asList("ERROR a", "b", "Warning c", "error d");
+        assertEquals(Arrays.asList("E", "I", "W", "E"), levels.applyAll(lines, true));
+        assertEquals(Arrays.asList("ERROR a", "error d"), levels.groupBy(lines).get("E"));
+        assertEquals(levels.groupBy(lines), lines.stream().collect(levels.groupingCollector()));
+
+        TypeMatchTable<Object, String> types = Pattern.<Object, String>typeTable()
+                .whenInstance(Number.class, v -> "number")
+                .orElse(                    v -> "other")
+                .build();
+        assertEquals(Arrays.asList(1, 2.0), types.groupBy(Arrays.asList(1, "a", 2.0)).get("number"));
+        assertEquals(Arrays.asList(1, 2.0), Stream.of(1, "a", 2.0).collect(types.groupingCollector()).get("number"));
+
+        IntMatchTable<String> ints = Pattern.<String>intTable()
+                .whenRange(0, 9,    v -> "digit")
+                .orElse(            v -> "other")
+                .build();
+        int[] intValues = new int[10_000];
+        for (int i = 0; i < intValues.length; i++) {
+            intValues[i] = i % 20;
+        }
+        List<String> intResults = ints.applyAll(intValues, true);
+        assertEquals(ints.applyAll(intValues), intResults);
+        assertEquals("digit", intResults.get(9));
+        assertEquals("other", intResults.get(10));
+        assertEquals(intResults, IntStream.of(intValues).mapToObj(ints.asFunction()).collect(Collectors.toList()));
+
+        // every path returns a new mutable ArrayList, whatever the size and the `parallel` flag
+        List<List<String>> allResults = Arrays.asList(table.applyAll(values), table.applyAll(values, true), table.applyAll(values.subList(0, 3), true),
+                table.applyAll(new LinkedList<>(values), true), levels.applyAll(lines), levels.applyAll(lines, true),
+                types.applyAll(Arrays.asList(1, "a")), types.applyAll(values, true), intResults, ints.applyAll(new int[]{1}, true));
+        for (List<String> results : allResults) {
+            assertEquals(ArrayList.class, results.getClass());
+            int size = results.size();
+            results.add("added");
+            assertEquals(size + 1, results.size());
+        }
+    }
+
+    private static String randomString(Random random, String chars, int maxLength) {
+        int length = random.nextInt(maxLength + 1);
+        StringBuilder sb = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            sb.append(chars.charAt(random.nextInt(chars.length())));
+        }
+        return sb.toString();
+    }
 }
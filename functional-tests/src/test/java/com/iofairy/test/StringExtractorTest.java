@@ -0,0 +1,132 @@
+package com.iofairy.test;
+
+import com.iofairy.si.NestedStringToken;
+import com.iofairy.si.StringExtractor;
+import com.iofairy.si.StringToken;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ * @version 1.0
+ */
+public class StringExtractorTest {
+
+    @Test
+    public void testSplitByScanner() {
+        String[] sources = {
+                "",
+                "abcd===1234===",
+                "${NAME}--${age}--${nickName}--${nick\nName: Jack}--${ID}--${height}",
+                "${NAME}--${ID: abcd}--${ID::abcd}--${nick\nName: Jack}--${ID::abcd}--${height: 180}",
+                "${ID: : }--${: empty}--${ID: }--${}--${}{a}--${:}",
+                "abc${}def${}${}${a${b}}${c\r}${d }${e\u0085}${f }${",
+                "${a.${}${b}: ${c}.${d}.${}name}--${e${f}}}",
+                "${${dbType}.${order}.dbName: ${${defaultDbType}.${defaultOrder}.dbName}}---}}}",
+                "$${a}}${:: }${ :}${a: b: c}${a:b}${a :b}${",
+        };
+        for (String source : sources) {
+            assertTokensEquals(source);
+        }
+    }
+
+    @Test
+    public void testSplitByScannerDifferential() {
+        char[] chars = {'$', '{', '}', ':', ' ', 'a', 'b', '\n', '\r', '\u0085', ' ', ' '};
+        Random random = new Random(20221018L);
+        for (int i = 0; i < 50000; i++) {
+            int length = random.nextInt(32);
+            StringBuilder sb = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                sb.append(chars[random.nextInt(chars.length)]);
+            }
+            assertTokensEquals(sb.toString());
+        }
+    }
+
+    @Test
+    public void testUseRegex() {
+        assertFalse(StringExtractor.isUseRegex());
+        try {
+            StringExtractor.setUseRegex(true);
+            assertTrue(StringExtractor.isUseRegex());
+            assertEquals(tokensToString(StringExtractor.splitByRegex("a${b: c}")), tokensToString(StringExtractor.split("a${b: c}")));
+        } finally {
+            StringExtractor.setUseRegex(false);
+        }
+    }
+
+    @Test
+    public void testNestedParse() {
+        assertEquals("\"a\", NST[b][], \"\", NST[c][d], \"$x\"", nestedTokensToString("a${b}${c: d}${}x"));
+        assertEquals("NST[a., ${b}, ][, ${c}], \"--\", NST[e, ${f}][], \"}\"", nestedTokensToString("${a.${b}: ${c}}--${e${f}}}"));
+        assertEquals("\"x${a\", NST[b][]", nestedTokensToString("x${a${b}"));
+        assertEquals("\"${\"", nestedTokensToString("${"));
+        assertEquals("", nestedTokensToString(""));
+
+        String source = "${a.${}${b}: ${c}.${d}.${}name}--${e${f}}}";
+        List<Object> tokens = StringExtractor.nestedParse(source);
+        NestedStringToken nst = (NestedStringToken) tokens.get(0);
+        assertEquals(0, nst.getStartIndex());
+        assertEquals(source.indexOf("}--"), nst.getEndIndex());
+        assertTrue(nst.isClosed());
+        assertNull(nst.getParentNode());
+        assertSame(nst, ((NestedStringToken) nst.getKeyList().get(1)).getParentNode());
+        // 兼容旧版本的 LinkedList 方法
+        assertDeprecatedAccessors(nst);
+
+        StringBuilder sb = new StringBuilder();
+        tokens.forEach(sb::append);
+        assertEquals("${a.$${b}: ${c}.${d}.$name}--${e${f}}}", sb.toString());
+    }
+
+    @SuppressWarnings("deprecation")
+    private static void assertDeprecatedAccessors(NestedStringToken nst) {
+        LinkedList<Object> key = nst.getKey();
+        assertEquals(nst.getKeyList(), key);
+        assertEquals(nst.getTokenList(), nst.getTokens());
+        assertEquals(nst.getDefaultValueList(), nst.getDefaultValue());
+        key.add("copy");
+        assertNotEquals(key, nst.getKeyList());
+
+        NestedStringToken parent = new NestedStringToken();
+        parent.addTokens(new LinkedList<>(Arrays.asList("a", nst)));
+        assertEquals(Arrays.asList("a", nst), parent.getTokenList());
+        assertSame(parent, nst.getParentNode());
+    }
+
+    private static String nestedTokensToString(String source) {
+        StringBuilder sb = new StringBuilder();
+        for (Object token : StringExtractor.nestedParse(source)) {
+            if (sb.length() > 0) sb.append(", ");
+            if (token instanceof NestedStringToken) {
+                NestedStringToken nst = (NestedStringToken) token;
+                sb.append("NST").append(nst.getKeyList()).append(nst.getDefaultValueList());
+            } else {
+                sb.append('"').append(token).append('"');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static void assertTokensEquals(String source) {
+        List<StringToken> expected = StringExtractor.splitByRegex(source);
+        List<StringToken> actual = StringExtractor.splitByScanner(source);
+        assertEquals(tokensToString(expected), tokensToString(actual), "source: " + source);
+    }
+
+    private static String tokensToString(List<StringToken> tokens) {
+        StringBuilder sb = new StringBuilder();
+        for (StringToken token : tokens) {
+            sb.append(token.getType()).append('|').append(token.getValue()).append('|').append(token.getOriginValue()).append('\n');
+        }
+        return sb.toString();
+    }
+
+}
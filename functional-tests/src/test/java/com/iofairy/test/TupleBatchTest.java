@@ -0,0 +1,185 @@
+package com.iofairy.test;
+
+import com.iofairy.tuple.Tuple;
+import com.iofairy.tuple.Tuple3;
+import com.iofairy.tuple.TupleBatch3;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author GG
+ */
+public class TupleBatchTest {
+
+    @Test
+    public void testAppendAndCursor() {
+        TupleBatch3<String, Long, Double> batch = TupleBatch3.of(String.class, long.class, double.class, 0);
+        for (int i = 0; i < 100; i++) {
+            batch.append("s" + i, (long) i, i / 2.0);
+        }
+        batch.append(new Tuple3<>(null, 100L, 50.0));
+        assertEquals(101, batch.size());
+        assertEquals("s3", batch.get(0, 3));
+        assertEquals(3L, batch.getLong(1, 3));
+        assertEquals(1.5, batch.getDouble(2, 3));
+        assertEquals(new Tuple3<>("s3", 3L, 1.5), batch.get(3));
+
+        TupleBatch3.Cursor<String, Long, Double> row = batch.cursor();
+        long sum = 0;
+        int count = 0;
+        while (row.next()) {
+            sum += row.getLong(1);
+            count++;
+        }
+        assertEquals(5050, sum);
+        assertEquals(101, count);
+        assertFalse(row.next());
+
+        row.moveTo(7);
+        assertEquals(3, row.arity());
+        assertEquals("s7", row._1());
+        assertEquals(7L, row._2());
+        assertEquals(new Tuple3<>("s7", 7L, 3.5), row);
+        assertEquals(new Tuple3<>("s7", 7L, 3.5).hashCode(), row.hashCode());
+        row.alias("name", "id", "half");
+        assertEquals(3.5, row.<Double>__("half"));
+        Tuple3<String, Long, Double> kept = row.toTuple();
+        assertEquals(Arrays.asList("name", "id", "half"), kept.getAliases());
+        row.moveTo(8);
+        assertEquals("s7", kept._1);
+        assertEquals("s8", row._1());
+        // 游标不缓存哈希值，哈希值随当前行变化
+        assertSame(row, row.cacheHash());
+        assertEquals(new Tuple3<>("s8", 8L, 4.0).hashCode(), row.hashCode());
+        row.moveTo(9);
+        assertEquals(new Tuple3<>("s9", 9L, 4.5).hashCode(), row.hashCode());
+        Set<Tuple> keys = new HashSet<>();
+        keys.add(row.toTuple());
+        row.moveTo(10);
+        assertTrue(keys.contains(new Tuple3<>("s9", 9L, 4.5).alias("name", "id", "half")));
+        assertThrows(IndexOutOfBoundsException.class, () -> row.moveTo(101));
+
+        // 基本类型的列不能存储null，失败时不会留下写了一半的行
+        NullPointerException e = assertThrows(NullPointerException.class, () -> batch.append("x", null, 1.0));
+        assertEquals("The 2th column is `long`, it can't hold `null`. 第2列是基本类型，不能存储null值！", e.getMessage());
+        assertEquals(101, batch.size());
+        assertThrows(NullPointerException.class, () -> batch.set(2, 0, null));
+
+        batch.setLong(1, 0, 42L);
+        batch.set(0, 0, "first");
+        assertEquals(new Tuple3<>("first", 42L, 0.0), batch.get(0));
+
+        // 值必须是列类型的实例，基本类型的列只接收对应的包装类型，不会转换数值类型
+        ClassCastException ce = assertThrows(ClassCastException.class, () -> batch.setLong(0, 0, 5L));
+        assertEquals("The 1th column is `java.lang.String`, it can't hold `java.lang.Long`. 第1列的类型是 java.lang.String，不能存储 java.lang.Long 类型的值！", ce.getMessage());
+        assertThrows(ClassCastException.class, () -> batch.setDouble(1, 0, 2.7));
+        assertThrows(ClassCastException.class, () -> batch.setInt(1, 0, 2));
+        assertThrows(ClassCastException.class, () -> batch.set(1, 0, 2.7));
+        assertThrows(ClassCastException.class, () -> batch.set(2, 0, 1));
+        assertThrows(ClassCastException.class, () -> batch.setLong(2, 0, 1L));
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        TupleBatch3<Object, Object, Object> raw = (TupleBatch3) batch;
+        assertThrows(ClassCastException.class, () -> raw.append("x", 1L, 1));
+        assertThrows(ClassCastException.class, () -> raw.append(1, 1L, 1.0));
+        assertEquals(101, batch.size());
+        assertEquals(new Tuple3<>("first", 42L, 0.0), batch.get(0));
+        batch.set(1, 0, 43L);
+        batch.setDouble(2, 0, 1.5);
+        assertEquals(new Tuple3<>("first", 43L, 1.5), batch.get(0));
+
+        TupleBatch3<Number, Integer, Boolean> boxed = TupleBatch3.of(Number.class, Integer.class, boolean.class);
+        boxed.append(1, 2, true);
+        boxed.setDouble(0, 0, 2.5);
+        boxed.setInt(1, 0, 3);
+        assertThrows(ClassCastException.class, () -> boxed.setLong(1, 0, 3L));
+        assertThrows(ClassCastException.class, () -> boxed.set(2, 0, 1));
+        assertThrows(NullPointerException.class, () -> boxed.set(2, 0, null));
+        boxed.set(1, 0, null);
+        assertEquals(new Tuple3<>(2.5, null, true), boxed.get(0));
+
+        // 读取同样不会转换数值类型：只能读取对应的基本类型或包装类型的列
+        ce = assertThrows(ClassCastException.class, () -> batch.getInt(1, 0));
+        assertEquals("The 2th column is `long`, it can't be read as `int`. 第2列的类型是 long，不能读取为 int 类型的值！", ce.getMessage());
+        assertThrows(ClassCastException.class, () -> batch.getInt(2, 0));
+        assertThrows(ClassCastException.class, () -> batch.getLong(2, 0));
+        assertThrows(ClassCastException.class, () -> batch.getDouble(1, 0));
+        assertThrows(ClassCastException.class, () -> batch.getLong(0, 0));
+        assertThrows(ClassCastException.class, () -> boxed.getInt(0, 0));
+        assertThrows(ClassCastException.class, () -> boxed.getDouble(0, 0));
+        assertThrows(ClassCastException.class, () -> boxed.getLong(1, 0));
+        assertThrows(NullPointerException.class, () -> boxed.getInt(1, 0));
+        boxed.setInt(1, 0, 4);
+        assertEquals(4, boxed.getInt(1, 0));
+        TupleBatch3.Cursor<Number, Integer, Boolean> boxedRow = boxed.cursor();
+        assertTrue(boxedRow.next());
+        assertEquals(4, boxedRow.getInt(1));
+        assertThrows(ClassCastException.class, () -> boxedRow.getDouble(0));
+        row.moveTo(1);
+        assertThrows(ClassCastException.class, () -> row.getInt(1));
+        assertThrows(ClassCastException.class, () -> row.getLong(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(3, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> batch.get(101));
+
+        batch.clear();
+        assertTrue(batch.isEmpty());
+        assertFalse(batch.cursor().next());
+    }
+
+    @Test
+    public void testSortAndFilter() {
+        TupleBatch3<String, Integer, Double> batch = TupleBatch3.of(String.class, int.class, double.class);
+        Random random = new Random(7);
+        List<Tuple3<String, Integer, Double>> expected = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Tuple3<String, Integer, Double> tuple = new Tuple3<>(i % 10 == 0 ? null : "k" + random.nextInt(20), random.nextInt(50), (double) i);
+            expected.add(tuple);
+            batch.append(tuple);
+        }
+
+        // 稳定排序：先按第3列，再按第1列，等价于按 (第1列, 第3列) 排序
+        batch.sortBy(1).sortBy(0);
+        Comparator<Tuple3<String, Integer, Double>> byKey = Comparator.comparing(t -> t._1, Comparator.nullsFirst(Comparator.<String>naturalOrder()));
+        expected.sort(byKey.thenComparing(t -> t._2));
+        assertEquals(expected, batch.toList());
+
+        batch.sortBy(2, true);
+        assertEquals(999.0, batch.getDouble(2, 0));
+        assertEquals(0.0, batch.getDouble(2, 999));
+
+        TupleBatch3<String, Integer, Double> even = batch.filter(r -> r.getInt(1) % 2 == 0);
+        List<Tuple3<String, Integer, Double>> evenList = new ArrayList<>();
+        batch.forEach(r -> {
+            if (r.getInt(1) % 2 == 0) evenList.add(r.toTuple());
+        });
+        assertEquals(evenList, even.toList());
+        even.append("new", 2, -1.0);
+        assertEquals(evenList.size() + 1, even.size());
+        assertEquals(1000, batch.size());
+
+        assertEquals(0, batch.filter(r -> false).size());
+    }
+
+    @Test
+    public void testFromList() {
+        List<Tuple3<Integer, Integer, String>> tuples = Arrays.asList(
+                new Tuple3<>(3, null, "c"),
+                new Tuple3<>(1, 10, "a"),
+                new Tuple3<>(2, 20, "b"));
+        // Integer.class 是对象列，可以存储null
+        TupleBatch3<Integer, Integer, String> batch = TupleBatch3.fromList(tuples, int.class, Integer.class, String.class);
+        assertEquals(tuples, batch.toList());
+        assertNull(batch.get(1, 0));
+
+        batch.sortBy(1, true);
+        assertEquals(Arrays.asList("b", "a", "c"), batch.toList().stream().map(t -> t._3).collect(java.util.stream.Collectors.toList()));
+
+        Tuple first = batch.cursor().moveTo(0);
+        assertEquals("(2, 20, \"b\")", first.toString());
+
+        assertThrows(NullPointerException.class, () -> TupleBatch3.fromList(Collections.singletonList(new Tuple3<>(null, 1, "x")), int.class, Integer.class, String.class));
+        assertThrows(NullPointerException.class, () -> TupleBatch3.fromList(null, int.class, Integer.class, String.class));
+    }
+}
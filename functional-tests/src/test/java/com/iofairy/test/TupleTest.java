@@ -5,7 +5,14 @@ import com.iofairy.except.NumberOfAliasesException;
 import com.iofairy.tuple.*;
 import org.junit.jupiter.api.Test;
 
-import java.io.Serializable;
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.time.LocalDateTime;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -247,4 +254,411 @@ public class TupleTest {
                 "3DObjectArr: [[['a', \"b\", null], null], [['1', 2, 1.205]], null, []], 3DObjectArr1: null)", tuple.toString());
         System.out.println("testTupleToString1: \n" + tuple);
     }
+
+    @Test
+    public void testSharedAliases() throws Exception {
+        String[] names = {"id", "name"};
+        Tuple2<Integer, String> t1 = Tuple.of(1, "a").alias(names);
+        Tuple2<Integer, String> t2 = Tuple.of(2, "b").alias("id", "name");
+        names[0] = "changed";
+
+        assertEquals(Arrays.asList("id", "name"), t1.getAliases());
+        assertSame(t1.getAliases(), t2.getAliases());
+        assertEquals(1, (Integer) t1.__("id"));
+        assertEquals("b", t2.__("name"));
+        assertFalse(t1.containsAlias("changed"));
+        assertThrows(UnsupportedOperationException.class, () -> t1.getAliases().add("other"));
+
+        Tuple2<Integer, String> t3 = Tuple.of(3, "c").alias(ID, NAME);
+        assertNotSame(t1.getAliases(), t3.getAliases());
+        assertSame(t3.getTupleAliases(), Tuple.of(4, "d").alias(ID, NAME).getTupleAliases());
+        assertEquals("tuple", t3.aliasType());
+        assertEquals("string", t1.aliasType());
+        assertTrue(t3.copy().aliasesEquals(t3));
+
+        Tuple2<Integer, String> t4 = Tuple.of(1, "a");
+        assertTrue(t4.getAliases().isEmpty());
+        assertTrue(t4.getTupleAliases().isEmpty());
+        assertEquals("null", t4.aliasType());
+        assertNotEquals(t1, t4);
+        t4.copyAliases(t1);
+        assertEquals(t1, t4);
+        t4.clearAlias();
+        assertEquals("(1, \"a\")", t4.toString());
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(t1);
+        }
+        Tuple2<Integer, String> t5;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            @SuppressWarnings("unchecked")
+            Tuple2<Integer, String> read = (Tuple2<Integer, String>) ois.readObject();
+            t5 = read;
+        }
+        assertEquals(t1, t5);
+        assertSame(t1.getAliases(), t5.getAliases());
+        assertEquals("a", t5.__("name"));
+    }
+
+    /**
+     * 0.5.0 之前的序列化格式：{@code [("zs", 20, 1.5) 别名 name/age/score, (1, "a") 别名 ID/NAME, (7L, "x")]}
+     */
+    private static final String LEGACY_SERIALIZED_TUPLES =
+            "rO0ABXNyABNqYXZhLnV0aWwuQXJyYXlMaXN0eIHSHZnHYZ0DAAFJAARzaXpleHAAAAADdwQAAAADc3IAGGNvbS5pb2ZhaXJ5LnR1cGxlLlR1cGxlMwAAAAJX" +
+            "+bgzAgADTAACXzF0ABJMamF2YS9sYW5nL09iamVjdDtMAAJfMnEAfgADTAACXzNxAH4AA3hyABtjb20uaW9mYWlyeS50dXBsZS5UdXBsZUJhc2UAAAACV/m0" +
+            "ogIAA0wACWFsaWFzTGlzdHQAEExqYXZhL3V0aWwvTGlzdDtMAAthbGlhc19pbmRleHQAD0xqYXZhL3V0aWwvTWFwO0wADnR1cGxlQWxpYXNMaXN0cQB+AAV4" +
+            "cHNxAH4AAAAAAAN3BAAAAAN0AARuYW1ldAADYWdldAAFc2NvcmV4c3IAEWphdmEudXRpbC5IYXNoTWFwBQfawcMWYNEDAAJGAApsb2FkRmFjdG9ySQAJdGhy" +
+            "ZXNob2xkeHA/QAAAAAAADHcIAAAAEAAAAANxAH4AC3NyABFqYXZhLmxhbmcuSW50ZWdlchLioKT3gYc4AgABSQAFdmFsdWV4cgAQamF2YS5sYW5nLk51bWJl" +
+            "coaslR0LlOCLAgAAeHAAAAACcQB+AAlzcQB+AA4AAAAAcQB+AApzcQB+AA4AAAABeHNxAH4AAAAAAAB3BAAAAAB4dAACenNzcQB+AA4AAAAUc3IAEGphdmEu" +
+            "bGFuZy5Eb3VibGWAs8JKKWv7BAIAAUQABXZhbHVleHEAfgAPP/gAAAAAAABzcgAYY29tLmlvZmFpcnkudHVwbGUuVHVwbGUyAAAAAlf5uDICAAJMAAJfMXEA" +
+            "fgADTAACXzJxAH4AA3hxAH4ABHNxAH4AAAAAAAJ3BAAAAAJ0AAJJRHQABE5BTUV4c3EAfgAMP0AAAAAAAAx3CAAAABAAAAACcQB+ABtxAH4AEXEAfgAccQB+" +
+            "ABJ4c3EAfgAAAAAAAncEAAAAAn5yAB1jb20uaW9mYWlyeS50ZXN0Lk15VHVwbGVBbGlhcwAAAAAAAAAAEgAAeHIADmphdmEubGFuZy5FbnVtAAAAAAAAAAAS" +
+            "AAB4cHQAAklEfnEAfgAfdAAETkFNRXhxAH4AEnQAAWFzcQB+ABhzcQB+AAAAAAAAdwQAAAAAeHNxAH4ADD9AAAAAAAAAdwgAAAAQAAAAAHhzcQB+AAAAAAAA" +
+            "dwQAAAAAeHNyAA5qYXZhLmxhbmcuTG9uZzuL5JDMjyPfAgABSgAFdmFsdWV4cQB+AA8AAAAAAAAAB3QAAXh4";
+
+    @Test
+    public void testLegacySerializedForm() throws Exception {
+        List<Tuple> tuples;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(Base64.getDecoder().decode(LEGACY_SERIALIZED_TUPLES)))) {
+            @SuppressWarnings("unchecked")
+            List<Tuple> read = (List<Tuple>) ois.readObject();
+            tuples = read;
+        }
+        Tuple3<String, Integer, Double> t1 = Tuple.of("zs", 20, 1.5).alias("name", "age", "score");
+        assertEquals(t1, tuples.get(0));
+        assertSame(t1.getAliases(), tuples.get(0).getAliases());
+        assertEquals(20, (Integer) tuples.get(0).__("age"));
+
+        Tuple2<Integer, String> t2 = Tuple.of(1, "a").alias(ID, NAME);
+        assertEquals(t2, tuples.get(1));
+        assertEquals("tuple", tuples.get(1).aliasType());
+        assertSame(t2.getTupleAliases(), tuples.get(1).getTupleAliases());
+
+        assertEquals(Tuple.of(7L, "x"), tuples.get(2));
+        assertEquals("null", tuples.get(2).aliasType());
+        // 旧格式读入后按新格式写出
+        assertEquals(tuples, serializeAndDeserialize((Serializable) tuples));
+    }
+
+    @Test
+    public void testPrimitiveTuples() {
+        IntTuple2 i2 = IntTuple2.of(1, 2);
+        assertEquals(2, i2.arity());
+        assertEquals(3, i2._1 + i2._2);
+        assertEquals(Integer.valueOf(2), i2.element(1));
+        assertEquals(IntTuple2.of(1, 2), i2);
+        assertEquals(IntTuple2.of(1, 2).hashCode(), i2.hashCode());
+        assertEquals(Arrays.asList(1, 2).hashCode(), i2.hashCode());
+        assertNotEquals(IntTuple2.of(2, 1), i2);
+        assertEquals(Tuple.of(1, 2), i2);
+        assertEquals(i2, Tuple.of(1, 2));
+        assertEquals("(1, 2)", i2.toString());
+
+        LongTuple2 l2 = LongTuple2.of(10L, 1000L).alias("count", "sum");
+        assertEquals(1000L, (Long) l2.__("sum"));
+        assertEquals("{count=10, sum=1000}", new TreeMap<>(l2.toMap()).toString());
+        assertNotEquals(LongTuple2.of(10L, 1000L), l2);
+        assertEquals(LongTuple2.of(10L, 1000L).alias("count", "sum"), l2);
+        LongTuple2 l2Copy = l2.copy();
+        assertEquals(l2, l2Copy);
+        assertEquals("string", l2Copy.aliasType());
+
+        DoubleTuple3 d3 = DoubleTuple3.of(Double.NaN, -0.0, 1.5);
+        assertEquals(DoubleTuple3.of(Double.NaN, -0.0, 1.5), d3);
+        assertNotEquals(DoubleTuple3.of(Double.NaN, 0.0, 1.5), d3);
+        assertEquals(Arrays.asList(Double.NaN, -0.0, 1.5).hashCode(), d3.hashCode());
+        assertEquals(Tuple.of(Double.NaN, -0.0, 1.5), d3);
+        assertThrows(IndexOutOfBoundsException.class, () -> d3.element(3));
+
+        ObjIntTuple2<String> oi2 = ObjIntTuple2.of("a", 3);
+        assertEquals(ObjIntTuple2.of("a", 3), oi2);
+        assertNotEquals(ObjIntTuple2.of(null, 3), oi2);
+        assertEquals(Arrays.asList("a", 3).hashCode(), oi2.hashCode());
+        assertEquals(Arrays.asList(null, 3).hashCode(), ObjIntTuple2.of(null, 3).hashCode());
+        assertEquals("a", oi2.element(0));
+    }
+
+    @Test
+    public void testTupleHashCode() {
+        Tuple3<String, Integer, Season> t3 = Tuple.of("a", 1, Season.SPRING);
+        assertEquals(Arrays.asList("a", 1, Season.SPRING).hashCode(), t3.hashCode());
+        assertEquals(Tuple.of("a", 1, Season.SPRING).hashCode(), t3.hashCode());
+        assertEquals(Tuple.of("a", 1, Season.SPRING), t3);
+        assertNotEquals(Tuple.of("a", 2, Season.SPRING), t3);
+        assertEquals(1, Tuple.of().hashCode());
+        assertEquals(Arrays.asList(null, null).hashCode(), Tuple.of(null, null).hashCode());
+        assertEquals(Tuple.of(1, 2, 3, 4, 5, 6, 7, 8, 9).hashCode(), Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9).hashCode());
+        assertEquals(Tuple.of(1, 2, 3, 4, 5, 6, 7, 8, 9), Tuple.of(1, 2, 3, 4, 5, 6, 7, 8, 9));
+
+        // 别名不参与哈希值计算，但参与 equals
+        assertEquals(t3.hashCode(), Tuple.of("a", 1, Season.SPRING).alias("x", "y", "z").hashCode());
+        assertNotEquals(Tuple.of("a", 1, Season.SPRING).alias("x", "y", "z"), t3);
+
+        EasyTuple2<Integer> e2 = EasyTuple.of(1, 2);
+        assertEquals(Tuple.of(1, 2), e2);
+        assertEquals(e2, Tuple.of(1, 2));
+        assertEquals(Tuple.of(1, 2).hashCode(), e2.hashCode());
+        assertEquals(IntTuple2.of(1, 2).hashCode(), e2.hashCode());
+
+        Map<Tuple2<String, Integer>, String> joinCache = new HashMap<>();
+        for (int i = 0; i < 100; i++) {
+            joinCache.put(Tuple.of("k" + i, i).cacheHash(), "v" + i);
+        }
+        assertEquals("v42", joinCache.get(Tuple.of("k42", 42)));
+        assertEquals("v42", joinCache.get(Tuple.of("k42", 42).cacheHash()));
+        assertNull(joinCache.get(Tuple.of("k42", 43)));
+
+        List<String> mutable = new ArrayList<>(Arrays.asList("a"));
+        Tuple1<List<String>> cached = Tuple.of(mutable).cacheHash();
+        Tuple1<List<String>> notCached = Tuple.of(mutable);
+        mutable.add("b");
+        assertNotEquals(cached.hashCode(), notCached.hashCode());
+        assertEquals(Tuple.of(Arrays.asList("a", "b")).hashCode(), notCached.hashCode());
+        assertNotEquals(Tuple.of(Arrays.asList("a")).cacheHash(), Tuple.of(Arrays.asList("b")).cacheHash());
+
+        // 缓存的哈希值为 0 时也是已缓存的
+        List<Integer> zeroHash = new ArrayList<>(Arrays.asList(-62));
+        Tuple1<List<Integer>> zero = Tuple.of(zeroHash).cacheHash();
+        assertEquals(0, zero.hashCode());
+        zeroHash.add(1);
+        assertEquals(0, zero.hashCode());
+        assertEquals(Tuple.of(-31).cacheHash(), Tuple.of(-31).cacheHash());
+        assertNotEquals(Tuple.of(-31).cacheHash(), Tuple.of(-30).cacheHash());
+    }
+
+    @Test
+    public void testTupleCodec() throws Exception {
+        TupleCodec codec = TupleCodec.defaultCodec();
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("k", new ArrayList<>(Arrays.asList(1, 2)));
+        map.put(null, new ArrayList<>(Arrays.asList(-1L, 'c', (byte) 2, (short) 3)));
+        Tuple9<Object, Object, Object, Object, Object, Object, Object, Object, Object> t9 = Tuple.of(
+                null, true, -300, Long.MIN_VALUE, 1.5f, 2.5, "中文 and ascii",
+                new BigDecimal("-12345678901234567890.001"), map);
+        assertEquals(t9, codec.fromBytes(codec.toBytes(t9)));
+
+        UUID uuid = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.of(2021, 5, 6, 7, 8, 9, 123456789);
+        Tuple8<Object, Object, Object, Object, Object, Object, Object, Object> t8 = Tuple.of(
+                uuid, new Date(-1000L), now.toLocalDate(), now.toLocalTime(), now, Instant.ofEpochSecond(-5, 7),
+                BigInteger.valueOf(Long.MAX_VALUE).pow(3), Season.SUMMER);
+        Tuple8<Object, Object, Object, Object, Object, Object, Object, Object> r8 = codec.fromBytes(codec.toBytes(t8));
+        assertEquals(t8, r8);
+        assertSame(Season.SUMMER, r8._8);
+        byte[] bytes = {1, 2, 3};
+        assertArrayEquals(bytes, codec.<Tuple1<byte[]>>fromBytes(codec.toBytes(Tuple.of(bytes)))._1);
+
+        // 别名、嵌套元组、EasyTuple、Tuple0
+        Tuple3<Integer, String, Object> aliased = Tuple.of(1, "Tom", (Object) EasyTuple.of("x", "y").alias("a", "b")).alias(ID, NAME, null);
+        Tuple3<Integer, String, Object> decoded = codec.fromBytes(codec.toBytes(aliased));
+        assertEquals(aliased, decoded);
+        assertEquals("tuple", decoded.aliasType());
+        assertEquals(Arrays.asList(ID, NAME, null), decoded.getTupleAliases());
+        assertTrue(decoded._3 instanceof EasyTuple2);
+        assertEquals("y", ((EasyTuple2<?>) decoded._3).__("b"));
+        assertSame(Tuple0.instance(), codec.fromBytes(codec.toBytes(Tuple.of())));
+        assertSame(EasyTuple0.instance(), codec.fromBytes(codec.toBytes(EasyTuple.of())));
+        assertEquals(EasyTuple.of(1, 2, 3).getClass(), codec.fromBytes(codec.toBytes(EasyTuple.of(1, 2, 3))).getClass());
+
+        // 紧凑格式：版本号 + 头部 + 别名类型 + 3个元素
+        assertEquals(1 + 1 + 1 + 2 + 2 + 2, codec.toBytes(Tuple.of(1, "a", true)).length);
+
+        // ByteBuffer：依次写入、读取多个元组，空间不足时位置不变
+        ByteBuffer buffer = ByteBuffer.allocate(64);
+        codec.encode(Tuple.of(1, "a"), buffer);
+        codec.encode(EasyTuple.of(2L, 3L).alias("x", "y"), buffer);
+        int position = buffer.position();
+        assertThrows(BufferOverflowException.class, () -> codec.encode(Tuple.of(new String(new char[100])), buffer));
+        assertEquals(position, buffer.position());
+        buffer.flip();
+        assertEquals(Tuple.of(1, "a"), codec.decode(buffer));
+        assertEquals(EasyTuple.of(2L, 3L).alias("x", "y"), codec.decode(buffer));
+        assertFalse(buffer.hasRemaining());
+        assertThrows(BufferUnderflowException.class, () -> codec.decode(ByteBuffer.wrap(new byte[]{1, 3, 0})));
+
+        // Java序列化使用紧凑格式，Tuple0 仍然是单例
+        Tuple3<Integer, String, Season> t3 = Tuple.of(1, "a", Season.SPRING).alias("id", "name", "season");
+        assertEquals(t3, serializeAndDeserialize(t3));
+        assertSame(Tuple0.instance(), serializeAndDeserialize(Tuple.of()));
+        assertSame(EasyTuple0.instance(), serializeAndDeserialize(EasyTuple.of()));
+        List<Object> tuples = new ArrayList<>();
+        tuples.add(IntTuple2.of(1, 2));
+        tuples.add(Tuple.of(Tuple.of(1), null));
+        assertEquals(tuples, serializeAndDeserialize((Serializable) tuples));
+
+        // 自定义元素编解码器，覆盖内置格式
+        TupleCodec.ElementCodec<StringBuilder> sbCodec = new TupleCodec.ElementCodec<StringBuilder>() {
+            @Override
+            public void write(StringBuilder value, DataOutput out) throws IOException {
+                out.writeUTF(value.toString());
+            }
+
+            @Override
+            public StringBuilder read(DataInput in) throws IOException {
+                return new StringBuilder(in.readUTF());
+            }
+        };
+        TupleCodec custom = TupleCodec.builder().register(7, StringBuilder.class, sbCodec).build();
+        Tuple1<StringBuilder> sb = custom.fromBytes(custom.toBytes(Tuple.of(new StringBuilder("sb"))));
+        assertEquals("sb", sb._1.toString());
+        assertThrows(UncheckedIOException.class, () -> codec.fromBytes(custom.toBytes(Tuple.of(new StringBuilder("sb")))));
+        assertThrows(IllegalArgumentException.class, () -> TupleCodec.builder().register(1, StringBuilder.class, sbCodec).register(1, StringBuilder.class, sbCodec));
+
+        assertThrows(UncheckedIOException.class, () -> codec.toBytes(Tuple.of(new Object())));
+        assertThrows(IllegalArgumentException.class, () -> codec.toBytes(IntTuple2.of(1, 2)));
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> codec.fromBytes(new byte[]{2, 0, 0}));
+        assertTrue(e.getCause() instanceof StreamCorruptedException);
+    }
+
+    @Test
+    public void testTupleCodecMalformedLength() {
+        // 篡改的长度前缀（2^31 - 1）：抛出异常而不是 OutOfMemoryError
+        TupleCodec codec = TupleCodec.defaultCodec();
+        byte[] hugeString = {1, 1, 0, 10, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> codec.fromBytes(hugeString));
+        assertTrue(e.getCause() instanceof EOFException);
+        assertThrows(BufferUnderflowException.class, () -> codec.decode(ByteBuffer.wrap(hugeString)));
+        byte[] hugeAlias = {1, 1, 1, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07};
+        e = assertThrows(UncheckedIOException.class, () -> codec.fromBytes(hugeAlias));
+        assertTrue(e.getCause() instanceof EOFException);
+
+        // 超过分块大小的数据仍然可以正常读取
+        byte[] large = new byte[100_000];
+        new Random(1).nextBytes(large);
+        assertArrayEquals(large, codec.<Tuple1<byte[]>>fromBytes(codec.toBytes(Tuple.of(large)))._1);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testTupleSerializationReferences() throws Exception {
+        // 共享引用：反序列化后仍然是同一个对象
+        ArrayList<String> shared = new ArrayList<>(Arrays.asList("a", "b"));
+        byte[] bytes = {1, 2};
+        List<Object> outer = new ArrayList<>();
+        outer.add(Tuple.of(shared, shared, bytes));
+        outer.add(shared);
+        outer.add(Tuple.of(bytes));
+        List<Object> result = serializeAndDeserialize((Serializable) outer);
+        Tuple3<List<String>, List<String>, byte[]> t3 = (Tuple3<List<String>, List<String>, byte[]>) result.get(0);
+        assertEquals(shared, t3._1);
+        assertSame(t3._1, t3._2);
+        assertSame(t3._1, result.get(1));
+        assertSame(t3._3, ((Tuple1<?>) result.get(2))._1);
+
+        // 循环引用：元组 -> 列表 -> 元组，映射包含自身
+        ArrayList<Object> list = new ArrayList<>();
+        HashMap<String, Object> map = new HashMap<>();
+        Tuple2<ArrayList<Object>, HashMap<String, Object>> cyclic = Tuple.of(list, map).alias("list", "map");
+        list.add(cyclic);
+        map.put("self", map);
+        Tuple2<ArrayList<Object>, HashMap<String, Object>> r2 = serializeAndDeserialize(cyclic);
+        assertSame(r2, r2._1.get(0));
+        assertSame(r2._2, r2._2.get("self"));
+        assertSame(r2._1, r2.__("list"));
+
+        // 直接写入对象流时，非内置值的元素由该流写入
+        TupleCodec codec = TupleCodec.defaultCodec();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            codec.encode(Tuple.of(list, list, 1), oos);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            Tuple3<List<Object>, List<Object>, Integer> decoded = codec.decode(ois);
+            assertSame(decoded._1, decoded._2);
+            assertSame(((Tuple2<?, ?>) decoded._1.get(0))._1, decoded._1);
+            assertEquals(1, decoded._3);
+        }
+        // 独立的字节格式不保留循环引用，抛出异常而不是栈溢出
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> codec.toBytes(Tuple.of(map)));
+        assertTrue(e.getCause() instanceof InvalidObjectException);
+
+        // 外层对象流的 ObjectInputFilter 同样作用于元组的元素
+        bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(Tuple.of("counter", new java.util.concurrent.atomic.AtomicInteger(1)));
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            ois.setObjectInputFilter(info -> info.serialClass() == java.util.concurrent.atomic.AtomicInteger.class
+                    ? ObjectInputFilter.Status.REJECTED : ObjectInputFilter.Status.UNDECIDED);
+            assertThrows(InvalidClassException.class, ois::readObject);
+        }
+    }
+
+    @Test
+    public void testTupleCodecSerializableFallback() throws Exception {
+        // 默认不启用Java序列化
+        TupleCodec codec = TupleCodec.defaultCodec();
+        UncheckedIOException e = assertThrows(UncheckedIOException.class, () -> codec.toBytes(Tuple.of(Arrays.asList(1, 2))));
+        assertTrue(e.getCause() instanceof NotSerializableException);
+
+        // 启用后只能读取过滤器允许的类
+        TupleCodec allowed = TupleCodec.builder()
+                .allowSerializable(new HashSet<>(Arrays.asList("java.util.Arrays$ArrayList", "java.lang.Integer", "java.lang.Number"))::contains)
+                .build();
+        Tuple2<List<Integer>, String> t2 = Tuple.of(Arrays.asList(1, 2), "a");
+        byte[] bytes = allowed.toBytes(t2);
+        assertEquals(t2, allowed.fromBytes(bytes));
+        e = assertThrows(UncheckedIOException.class, () -> codec.fromBytes(bytes));
+        assertTrue(e.getCause() instanceof StreamCorruptedException);
+        List<String> checked = new ArrayList<>();
+        TupleCodec other = TupleCodec.builder().allowSerializable(name -> checked.add(name) && name.startsWith("java.lang.")).build();
+        e = assertThrows(UncheckedIOException.class, () -> other.fromBytes(bytes));
+        assertTrue(e.getCause() instanceof InvalidClassException);
+        assertEquals(Collections.singletonList("java.util.Arrays$ArrayList"), checked);      // 在加载类之前拒绝
+
+        // 篡改的Java序列化数据：TAG_STRING 替换为 TAG_SERIALIZABLE + 序列化的 Date，不能绕过外层流的过滤器
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(Tuple.of("x"));
+        }
+        byte[] original = bos.toByteArray();
+        byte[] block = {0x77, 6, 1, 0x01, 0, 10, 1, 'x'};      // TC_BLOCKDATA、长度、版本号、头部、别名类型、TAG_STRING "x"
+        int at = indexOf(original, block);
+        assertTrue(at > 0);
+        bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(new Date(0));
+        }
+        byte[] date = bos.toByteArray();
+        ByteArrayOutputStream crafted = new ByteArrayOutputStream();
+        crafted.write(original, 0, at);
+        crafted.write(new byte[]{0x77, (byte) (5 + date.length), 1, 0x01, 0, 101, (byte) date.length});
+        crafted.write(date);
+        crafted.write(original, at + block.length, original.length - at - block.length);
+
+        List<Class<?>> seen = new ArrayList<>();
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(crafted.toByteArray()))) {
+            ois.setObjectInputFilter(info -> {
+                if (info.serialClass() == null) return ObjectInputFilter.Status.UNDECIDED;
+                seen.add(info.serialClass());
+                return info.serialClass().getName().startsWith("com.iofairy.tuple.")
+                        ? ObjectInputFilter.Status.ALLOWED : ObjectInputFilter.Status.REJECTED;
+            });
+            assertThrows(StreamCorruptedException.class, ois::readObject);
+        }
+        assertFalse(seen.contains(Date.class));
+    }
+
+    private static int indexOf(byte[] bytes, byte[] part) {
+        for (int i = 0; i + part.length <= bytes.length; i++) {
+            if (Arrays.equals(Arrays.copyOfRange(bytes, i, i + part.length), part)) return i;
+        }
+        return -1;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T serializeAndDeserialize(Serializable value) throws Exception {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(value);
+        }
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            return (T) ois.readObject();
+        }
+    }
+
+    enum Season {
+        SPRING, SUMMER
+    }
 }
@@ -227,6 +227,35 @@ public class PatternNullTest {
 
     }
 
+    @Test
+    public void testNullLazyMsg() {
+        Account account = new Account("12345", "abc", "aaaa");
+        Order order = new Order("order_123456", 10.5, new User("zs", 10, account));
+        int[] msgCount = {0};
+        int[] valueCount = {0};
+
+        Tuple4<User, String, Integer, String> values = matchNull()
+                .whenV(order,   v -> v.buyer,   "order.buyer is null!")
+                .whenW(VALUE1,  v -> v.name,    v -> { msgCount[0]++; return "name of " + v._1 + " is null!"; })
+                .whenW(VALUE1,  v -> v.age,     v -> v < 0, v -> { msgCount[0]++; return "age of " + v._1 + " < 0!"; })
+                .orElse(null);
+
+        assertNull(values._4);
+        assertEquals(10, values._3);
+        assertEquals(0, msgCount[0]);
+
+        Order brokenOrder = new Order("order_123456", 10.5, new User(null, 10, account));
+        values = matchNull()
+                .whenV(brokenOrder, v -> v.buyer,   "order.buyer is null!")
+                .whenW(VALUE1,      v -> v.name,    v -> { msgCount[0]++; return "name of " + v._1.age + " is null!"; })
+                .whenW(VALUE1,      v -> { valueCount[0]++; return v.age; }, v -> { msgCount[0]++; return "age is null!"; })
+                .orElse(null);
+
+        assertEquals("name of 10 is null!", values._4);
+        assertEquals(1, msgCount[0]);
+        assertEquals(0, valueCount[0]);
+    }
+
     private boolean throwIOException() throws IOException {
         throw new IOException();
     }
@@ -0,0 +1,75 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.internal;
+
+import java.util.stream.IntStream;
+
+/**
+ * Splits bulk work over {@code [0, size)} into chunks that run on {@link java.util.concurrent.ForkJoinPool#commonPool()}.
+ * <b>Internal use only</b>, this package is not exported by the module. <br>
+ * 将 {@code [0, size)} 上的批量任务切分为多个区间，在 {@link java.util.concurrent.ForkJoinPool#commonPool()} 中并行执行。
+ * <b>仅供内部使用</b>，该包不会被模块导出。
+ *
+ * @since 0.5.0
+ */
+public final class ParallelChunks {
+    /**
+     * 数据量达到该值时才并行执行
+     */
+    public final static int PARALLEL_THRESHOLD = 4096;
+
+    private ParallelChunks() {
+    }
+
+    /**
+     * Whether the work should be split into chunks. <br>
+     * 是否应该并行执行
+     *
+     * @param parallel parallel is requested or not
+     * @param size     size of the work
+     * @return {@code true} if {@code parallel} is {@code true} and {@code size} reaches {@link #PARALLEL_THRESHOLD}
+     */
+    public static boolean isParallel(boolean parallel, int size) {
+        return parallel && size >= PARALLEL_THRESHOLD;
+    }
+
+    /**
+     * Split {@code [0, size)} into chunks and run {@code chunkTask} on each chunk in parallel.
+     * A chunk has at least {@code PARALLEL_THRESHOLD / 4} elements, and there are about 4 chunks per processor. <br>
+     * 将 {@code [0, size)} 切分为多个区间并行执行 {@code chunkTask}，每个区间至少 {@code PARALLEL_THRESHOLD / 4} 个元素，
+     * 每个处理器约分到 4 个区间。每个区间所需的状态（如 {@link StringBuilder}）在 {@code chunkTask} 中创建即可。
+     *
+     * @param size      size of the work
+     * @param chunkTask task of a chunk
+     */
+    public static void run(int size, ChunkTask chunkTask) {
+        int chunkSize = Math.max(PARALLEL_THRESHOLD / 4, size / (Runtime.getRuntime().availableProcessors() * 4) + 1);
+        int chunks = (size + chunkSize - 1) / chunkSize;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * chunkSize;
+            chunkTask.run(from, Math.min(size, from + chunkSize));
+        });
+    }
+
+    /**
+     * Task of the chunk {@code [from, to)}. <br>
+     * 区间 {@code [from, to)} 的任务
+     */
+    @FunctionalInterface
+    public interface ChunkTask {
+        void run(int from, int to);
+    }
+}
@@ -0,0 +1,28 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.lambda;
+
+/**
+ * Represents an operation that accepts a {@code char} argument and returns no result,
+ * this is the {@code char} specialization of {@link java.util.function.Consumer}. <br>
+ * 表示一个接收 1个 {@code char} 参数 不返回任何结果的函数
+ *
+ * @since 0.5.0
+ */
+@FunctionalInterface
+public interface CharConsumer {
+    void accept(char value);
+}
@@ -0,0 +1,320 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+
+/**
+ * Precompiled {@code int} matching table. Build the arms once by {@link Pattern#intTable()}, and apply it repeatedly,
+ * the value is never boxed. When all keys fall in a range of at most {@value #MAX_DENSE_RANGE} values
+ * (e.g. opcodes, status codes, or {@code char} values which are widened to {@code int}), the table is a dense jump table
+ * indexed by {@code value - min}, otherwise it is a sorted list of ranges searched by binary search. <br>
+ * 预编译的 {@code int} 匹配表。通过 {@link Pattern#intTable()} 一次性构建所有分支，之后可重复使用，匹配过程中不会装箱。
+ * 所有key都在不超过 {@value #MAX_DENSE_RANGE} 个连续值的范围内时（如操作码、状态码，或者会自动转成 {@code int} 的 {@code char}），
+ * 使用以 {@code value - min} 为下标的数组跳转表，否则使用有序的区间列表，通过二分查找匹配。
+ * 与 {@code match(value).when(...)} 一致，按添加的顺序匹配，当同一个值出现在多个分支中时，先添加的分支生效。
+ * 如果 action 是线程安全的，则该匹配表是<b>不可变且线程安全</b>的。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final IntMatchTable&lt;Handler&gt; OPCODES = Pattern.&lt;Handler&gt;intTable()
+ *         .when(0x01,                 op -&gt; pingHandler)
+ *         .when(inInts(0x02, 0x03),   op -&gt; dataHandler)
+ *         .whenRange(0x10, 0x1F,      op -&gt; controlHandler)
+ *         .orElse(op -&gt; unknownHandler)
+ *         .build();
+ *
+ * Handler handler = OPCODES.apply(packet.opcode());
+ * </pre>
+ *
+ * @param <R> return type
+ * @since 0.5.0
+ */
+public final class IntMatchTable<R> {
+    /**
+     * 使用数组跳转表时，数组的最大长度
+     */
+    private final static int MAX_DENSE_RANGE = 1024;
+
+    private final IntFunction<? extends R>[] denseArms;
+    private final int min;
+    /**
+     * 非数组跳转表时，互不重叠且升序排列的区间 {@code [starts[i], ends[i]]} 及其对应的 action
+     */
+    private final int[] starts;
+    private final int[] ends;
+    private final IntFunction<? extends R>[] rangeArms;
+    private final IntFunction<? extends R> orElse;
+    private final int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private IntMatchTable(Builder<R> builder) {
+        List<Arm<R>> arms = builder.arms;
+        this.orElse = builder.orElse;
+        this.size = builder.size;
+
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Arm<R> arm : arms) {
+            min = Math.min(min, arm.from);
+            max = Math.max(max, arm.to);
+        }
+
+        if (arms.isEmpty() || max - min < MAX_DENSE_RANGE) {
+            this.min = arms.isEmpty() ? 0 : (int) min;
+            this.denseArms = new IntFunction[arms.isEmpty() ? 0 : (int) (max - min + 1)];
+            // 逆序填充，先添加的分支覆盖后添加的分支
+            for (int i = arms.size() - 1; i >= 0; i--) {
+                Arm<R> arm = arms.get(i);
+                Arrays.fill(denseArms, arm.from - this.min, arm.to - this.min + 1, arm.action);
+            }
+            this.starts = null;
+            this.ends = null;
+            this.rangeArms = null;
+            return;
+        }
+
+        // 所有区间的边界将整数轴切分为若干段，每段取第一个覆盖它的分支，再合并相邻的、分支相同的段
+        long[] bounds = new long[arms.size() * 2];
+        for (int i = 0; i < arms.size(); i++) {
+            bounds[i * 2] = arms.get(i).from;
+            bounds[i * 2 + 1] = (long) arms.get(i).to + 1;
+        }
+        Arrays.sort(bounds);
+        List<long[]> segments = new ArrayList<>();
+        List<IntFunction<? extends R>> actions = new ArrayList<>();
+        for (int i = 0; i < bounds.length - 1; i++) {
+            long start = bounds[i];
+            long end = bounds[i + 1] - 1;
+            if (start > end) continue;
+            IntFunction<? extends R> action = null;
+            for (Arm<R> arm : arms) {
+                if (arm.from <= start && end <= arm.to) {
+                    action = arm.action;
+                    break;
+                }
+            }
+            if (action == null) continue;
+            int last = segments.size() - 1;
+            if (last >= 0 && actions.get(last) == action && segments.get(last)[1] + 1 == start) {
+                segments.get(last)[1] = end;
+            } else {
+                segments.add(new long[]{start, end});
+                actions.add(action);
+            }
+        }
+        this.min = 0;
+        this.denseArms = null;
+        this.starts = new int[segments.size()];
+        this.ends = new int[segments.size()];
+        this.rangeArms = actions.toArray(new IntFunction[0]);
+        for (int i = 0; i < segments.size(); i++) {
+            starts[i] = (int) segments.get(i)[0];
+            ends[i] = (int) segments.get(i)[1];
+        }
+    }
+
+    /**
+     * Apply the action of the matched arm, or the {@code orElse} action if no arm is matched.
+     * Returns {@code null} if no arm is matched and no {@code orElse} action is set. <br>
+     * 执行匹配的分支的 action，没有匹配的分支时执行 {@code orElse} 的 action；如果未设置 {@code orElse}，则返回 {@code null}
+     *
+     * @param value value
+     * @return result of the action
+     */
+    public R apply(int value) {
+        IntFunction<? extends R> action = lookup(value);
+        if (action == null) action = orElse;
+        return action == null ? null : action.apply(value);
+    }
+
+    /**
+     * Whether any arm (exclude {@code orElse}) matches the value. <br>
+     * 是否有分支（不包括 {@code orElse}）匹配该值
+     *
+     * @param value value
+     * @return {@code true} if matched
+     */
+    public boolean matches(int value) {
+        return lookup(value) != null;
+    }
+
+    /**
+     * Number of arms in this table, exclude {@code orElse}. <br>
+     * 分支的数量（不包括 {@code orElse}）
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Apply this table to each value in order, see {@link #apply(int)}. <br>
+     * 按顺序对每个值执行 {@link #apply(int)}
+     *
+     * @param values values
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(int[] values) {
+        return MatchTables.applyAll(values, false, this::apply);
+    }
+
+    /**
+     * Apply this table to each value, and split the work across {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * when {@code parallel} is {@code true} and {@code values} is large. The actions must be thread-safe in parallel mode. <br>
+     * 对每个值执行 {@link #apply(int)}，当 {@code parallel} 为 {@code true} 且数据量较大时，
+     * 使用 {@link java.util.concurrent.ForkJoinPool#commonPool()} 并行执行（此时 action 必须是线程安全的）。
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(int[] values, boolean parallel) {
+        return MatchTables.applyAll(values, parallel, this::apply);
+    }
+
+    /**
+     * This table as an {@link IntFunction}, e.g. {@code intStream.mapToObj(table.asFunction())}. <br>
+     * 将匹配表转为 {@link IntFunction}，如 {@code intStream.mapToObj(table.asFunction())}
+     *
+     * @return function
+     */
+    public IntFunction<R> asFunction() {
+        return this::apply;
+    }
+
+    /**
+     * Whether this table is a dense jump table. <br>
+     * 是否为数组跳转表
+     *
+     * @return {@code true} if this table is a dense jump table
+     */
+    public boolean isDense() {
+        return denseArms != null;
+    }
+
+    private IntFunction<? extends R> lookup(int value) {
+        IntFunction<? extends R>[] denseArms = this.denseArms;
+        if (denseArms != null) {
+            // 无符号比较，同时排除小于 min 及大于 max 的值
+            int index = value - min;
+            return Integer.compareUnsigned(index, denseArms.length) < 0 ? denseArms[index] : null;
+        }
+
+        int low = 0;
+        int high = starts.length - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (value < starts[mid]) {
+                high = mid - 1;
+            } else if (value > ends[mid]) {
+                low = mid + 1;
+            } else {
+                return rangeArms[mid];
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return "IntMatchTable{" +
+                "dispatch=" + (isDense() ? "DENSE" : "RANGES") +
+                ", size=" + size +
+                '}';
+    }
+
+    private static final class Arm<R> {
+        final int from;
+        final int to;
+        final IntFunction<? extends R> action;
+
+        Arm(int from, int to, IntFunction<? extends R> action) {
+            this.from = from;
+            this.to = to;
+            this.action = action;
+        }
+    }
+
+    /**
+     * Builder of {@link IntMatchTable}. Arms are checked in the order they are added like {@code match(value).when(...)},
+     * so when a value appears in more than one arm, the first arm wins. <b>It's not thread-safe</b>. <br>
+     * {@link IntMatchTable} 的构建器。与 {@code match(value).when(...)} 一致，按添加的顺序匹配，
+     * 所以当同一个值出现在多个分支中时，先添加的分支生效<b>（非线程安全）</b>。
+     *
+     * @param <R> return type
+     * @since 0.5.0
+     */
+    public static final class Builder<R> {
+        private final List<Arm<R>> arms = new ArrayList<>();
+        private IntFunction<? extends R> orElse;
+        private int size;
+
+        Builder() {
+        }
+
+        public Builder<R> when(int matchValue, IntFunction<? extends R> action) {
+            Objects.requireNonNull(action);
+            arms.add(new Arm<>(matchValue, matchValue, action));
+            size++;
+            return this;
+        }
+
+        public Builder<R> when(PatternInInts matchValues, IntFunction<? extends R> action) {
+            Objects.requireNonNull(matchValues, "Parameter `matchValues` must be non-null!");
+            Objects.requireNonNull(action);
+            for (int v : matchValues.values()) {
+                arms.add(new Arm<>(v, v, action));
+            }
+            size++;
+            return this;
+        }
+
+        /**
+         * Match all values in the range {@code [from, to]} (both inclusive). <br>
+         * 匹配区间 {@code [from, to]}（包含两端）内的所有值
+         *
+         * @param from   the lowest value (inclusive)
+         * @param to     the highest value (inclusive)
+         * @param action action
+         * @return this builder
+         * @throws IllegalArgumentException if {@code from > to}
+         */
+        public Builder<R> whenRange(int from, int to, IntFunction<? extends R> action) {
+            Objects.requireNonNull(action);
+            if (from > to) throw new IllegalArgumentException("Parameter `from` must be less than or equal to `to`. ");
+            arms.add(new Arm<>(from, to, action));
+            size++;
+            return this;
+        }
+
+        public Builder<R> orElse(IntFunction<? extends R> action) {
+            Objects.requireNonNull(action);
+            this.orElse = action;
+            return this;
+        }
+
+        public IntMatchTable<R> build() {
+            return new IntMatchTable<>(this);
+        }
+    }
+}
@@ -0,0 +1,343 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.lambda.R1;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Precompiled value matching table. Build the arms once by {@link Pattern#table()}, and apply it repeatedly,
+ * each {@link #apply(Object)} is a single lookup without any allocation.
+ * Keys are compared by {@link Object#equals(Object)} like {@code match(value).when(...)}.
+ * Enum keys and small {@code int} keys are dispatched by a dense array, other keys by a hash table.
+ * <b>It's immutable and thread-safe</b> if the actions are thread-safe. <br>
+ * 预编译的值匹配表。通过 {@link Pattern#table()} 一次性构建所有分支，之后可重复使用，每次 {@link #apply(Object)} 只需查找一次，且不会创建对象。
+ * key的比较方式与 {@code match(value).when(...)} 一致（{@link Object#equals(Object)}）。
+ * 枚举及取值范围较小的 {@code int} 类型的key使用数组分派，其他类型的key使用哈希表分派。
+ * 如果 action 是线程安全的，则该匹配表是<b>不可变且线程安全</b>的。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final MatchTable&lt;String, Handler&gt; ROUTES = Pattern.&lt;String, Handler&gt;table()
+ *         .when("order.created",                    v -&gt; orderHandler)
+ *         .when(in("user.created", "user.updated"), v -&gt; userHandler)
+ *         .orElse(v -&gt; unknownHandler)
+ *         .build();
+ *
+ * Handler handler = ROUTES.apply(message.getType());
+ * </pre>
+ * <b>It is equivalent to the code below, but the arms are not compared one by one: </b>
+ * <pre>
+ * Handler handler = match(message.getType())
+ *         .when("order.created",                    v -&gt; orderHandler)
+ *         .when(in("user.created", "user.updated"), v -&gt; userHandler)
+ *         .orElse(v -&gt; unknownHandler);
+ * </pre>
+ *
+ * @param <V> value type
+ * @param <R> return type
+ * @since 0.5.0
+ */
+public final class MatchTable<V, R> {
+    /**
+     * 使用数组分派 {@code int} 类型的key时，数组的最大长度
+     */
+    private final static int MAX_DENSE_INT_RANGE = 256;
+
+    private final static int HASH = 0;
+    private final static int DENSE_ENUM = 1;
+    private final static int DENSE_INT = 2;
+
+    private final int dispatch;
+    private final Map<Object, R1<? super V, ? extends R>> hashArms;
+    private final R1<? super V, ? extends R>[] denseArms;
+    private final Class<?> enumClass;
+    private final int minInt;
+    private final R1<? super V, ? extends R> nullArm;
+    private final R1<? super V, ? extends R> orElse;
+    private final int size;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private MatchTable(Builder<V, R> builder) {
+        Map<Object, R1<? super V, ? extends R>> arms = builder.arms;
+        this.nullArm = builder.nullArm;
+        this.orElse = builder.orElse;
+        this.size = arms.size() + (nullArm == null ? 0 : 1);
+
+        Class<?> enumClass = commonEnumClass(arms.keySet());
+        if (enumClass != null) {
+            this.dispatch = DENSE_ENUM;
+            this.enumClass = enumClass;
+            this.minInt = 0;
+            this.hashArms = null;
+            this.denseArms = new R1[enumClass.getEnumConstants().length];
+            arms.forEach((k, action) -> denseArms[((Enum<?>) k).ordinal()] = action);
+            return;
+        }
+
+        long[] range = intRange(arms.keySet());
+        if (range != null && range[1] - range[0] < MAX_DENSE_INT_RANGE) {
+            this.dispatch = DENSE_INT;
+            this.enumClass = null;
+            this.minInt = (int) range[0];
+            this.hashArms = null;
+            this.denseArms = new R1[(int) (range[1] - range[0] + 1)];
+            arms.forEach((k, action) -> denseArms[(Integer) k - minInt] = action);
+            return;
+        }
+
+        this.dispatch = HASH;
+        this.enumClass = null;
+        this.minInt = 0;
+        this.hashArms = new HashMap<>(arms);
+        this.denseArms = null;
+    }
+
+    /**
+     * Apply the action of the matched arm, or the {@code orElse} action if no arm is matched.
+     * Returns {@code null} if no arm is matched and no {@code orElse} action is set. <br>
+     * 执行匹配的分支的 action，没有匹配的分支时执行 {@code orElse} 的 action；如果未设置 {@code orElse}，则返回 {@code null}
+     *
+     * @param value value
+     * @return result of the action
+     */
+    public R apply(V value) {
+        R1<? super V, ? extends R> action = lookup(value);
+        if (action == null) action = orElse;
+        return action == null ? null : action.$(value);
+    }
+
+    /**
+     * Whether any arm (exclude {@code orElse}) matches the value. <br>
+     * 是否有分支（不包括 {@code orElse}）匹配该值
+     *
+     * @param value value
+     * @return {@code true} if matched
+     */
+    public boolean matches(V value) {
+        return lookup(value) != null;
+    }
+
+    /**
+     * Number of distinct keys in this table. <br>
+     * 匹配表中不同的key的数量
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Apply this table to each value in order, see {@link #apply(Object)}. <br>
+     * 按顺序对每个值执行 {@link #apply(Object)}
+     *
+     * @param values values
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(Iterable<? extends V> values) {
+        return MatchTables.applyAll(values, this::apply);
+    }
+
+    /**
+     * Apply this table to each value, and split the work across {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * when {@code parallel} is {@code true} and {@code values} is large. The actions must be thread-safe in parallel mode. <br>
+     * 对每个值执行 {@link #apply(Object)}，当 {@code parallel} 为 {@code true} 且数据量较大时，
+     * 使用 {@link java.util.concurrent.ForkJoinPool#commonPool()} 并行执行（此时 action 必须是线程安全的）。
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(List<? extends V> values, boolean parallel) {
+        return MatchTables.applyAll(values, parallel, this::apply);
+    }
+
+    /**
+     * Group values by the result of this table (e.g. a category or a handler), a value that matches no arm
+     * and no {@code orElse} is grouped under the {@code null} key. Groups and the values in each group keep the order of {@code values}. <br>
+     * 按匹配结果（如类别、处理器）对值分组，没有匹配的分支且未设置 {@code orElse} 的值分到 {@code null} 组中。
+     * 分组及组内元素均保持 {@code values} 中的顺序。
+     *
+     * @param values values
+     * @return groups
+     * @throws NullPointerException if {@code values} is null
+     */
+    public Map<R, List<V>> groupBy(Collection<? extends V> values) {
+        return MatchTables.groupBy(values, false, this::apply);
+    }
+
+    /**
+     * Same as {@link #groupBy(Collection)}, but the table is applied in parallel when {@code parallel} is {@code true}
+     * and {@code values} is large, see {@link #applyAll(List, boolean)}. <br>
+     * 与 {@link #groupBy(Collection)} 相同，但 {@code parallel} 为 {@code true} 且数据量较大时并行匹配
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return groups
+     * @throws NullPointerException if {@code values} is null
+     */
+    public Map<R, List<V>> groupBy(Collection<? extends V> values, boolean parallel) {
+        return MatchTables.groupBy(values, parallel, this::apply);
+    }
+
+    /**
+     * A {@link Collector} that groups the stream elements like {@link #groupBy(Collection)}, e.g.
+     * {@code stream.collect(table.groupingCollector())}. Unlike {@link java.util.stream.Collectors#groupingBy}, the {@code null} key is allowed.
+     * Groups and the values in each group keep the encounter order. <br>
+     * 与 {@link #groupBy(Collection)} 相同方式分组的 {@link Collector}，如 {@code stream.collect(table.groupingCollector())}。
+     * 与 {@link java.util.stream.Collectors#groupingBy} 不同，允许 {@code null} 作为分组的key。分组及组内元素均保持遇到的顺序。
+     *
+     * @return grouping collector
+     * @since 0.5.0
+     */
+    public Collector<V, ?, Map<R, List<V>>> groupingCollector() {
+        return MatchTables.groupingCollector(this::apply);
+    }
+
+    /**
+     * This table as a {@link Function}, e.g. {@code stream.map(table.asFunction())}. <br>
+     * 将匹配表转为 {@link Function}，如 {@code stream.map(table.asFunction())}
+     *
+     * @return function
+     */
+    public Function<V, R> asFunction() {
+        return this::apply;
+    }
+
+    private R1<? super V, ? extends R> lookup(Object value) {
+        if (value == null) return nullArm;
+        switch (dispatch) {
+            case DENSE_ENUM:
+                if (value instanceof Enum && ((Enum<?>) value).getDeclaringClass() == enumClass) {
+                    return denseArms[((Enum<?>) value).ordinal()];
+                }
+                return null;
+            case DENSE_INT:
+                if (value instanceof Integer) {
+                    int index = (Integer) value - minInt;
+                    if (index >= 0 && index < denseArms.length) return denseArms[index];
+                }
+                return null;
+            default:
+                return hashArms.get(value);
+        }
+    }
+
+    /**
+     * 所有的key都是同一个枚举类型时，返回该枚举类型，否则返回 {@code null}
+     */
+    private static Class<?> commonEnumClass(Iterable<Object> keys) {
+        Class<?> enumClass = null;
+        for (Object key : keys) {
+            if (!(key instanceof Enum)) return null;
+            Class<?> c = ((Enum<?>) key).getDeclaringClass();
+            if (enumClass == null) {
+                enumClass = c;
+            } else if (enumClass != c) {
+                return null;
+            }
+        }
+        return enumClass;
+    }
+
+    /**
+     * 所有的key都是 {@link Integer} 时，返回最小值与最大值，否则返回 {@code null}
+     */
+    private static long[] intRange(Iterable<Object> keys) {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        for (Object key : keys) {
+            if (!(key instanceof Integer)) return null;
+            int i = (Integer) key;
+            min = Math.min(min, i);
+            max = Math.max(max, i);
+        }
+        return min > max ? null : new long[]{min, max};
+    }
+
+    @Override
+    public String toString() {
+        return "MatchTable{" +
+                "dispatch=" + (dispatch == DENSE_ENUM ? "DENSE_ENUM" : dispatch == DENSE_INT ? "DENSE_INT" : "HASH") +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * Builder of {@link MatchTable}. Arms are checked in the order they are added like {@code match(value).when(...)},
+     * so when a key appears in more than one arm, the first arm wins. <b>It's not thread-safe</b>. <br>
+     * {@link MatchTable} 的构建器。与 {@code match(value).when(...)} 一致，按添加的顺序匹配，
+     * 所以当同一个key出现在多个分支中时，先添加的分支生效<b>（非线程安全）</b>。
+     *
+     * @param <V> value type
+     * @param <R> return type
+     * @since 0.5.0
+     */
+    public static final class Builder<V, R> {
+        private final Map<Object, R1<? super V, ? extends R>> arms = new HashMap<>();
+        private R1<? super V, ? extends R> nullArm;
+        private R1<? super V, ? extends R> orElse;
+
+        Builder() {
+        }
+
+        public Builder<V, R> when(V matchValue, R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            addArm(matchValue, action);
+            return this;
+        }
+
+        public Builder<V, R> when(PatternIn<V> matchValues, R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            if (matchValues == null) {
+                addArm(null, action);
+            } else {
+                List<V> vs = matchValues.getVs();
+                for (V v : vs) {
+                    addArm(v, action);
+                }
+            }
+            return this;
+        }
+
+        public Builder<V, R> orElse(R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            this.orElse = action;
+            return this;
+        }
+
+        public MatchTable<V, R> build() {
+            return new MatchTable<>(this);
+        }
+
+        private void addArm(V matchValue, R1<? super V, ? extends R> action) {
+            if (matchValue == null) {
+                if (nullArm == null) nullArm = action;
+            } else {
+                arms.putIfAbsent(matchValue, action);
+            }
+        }
+    }
+}
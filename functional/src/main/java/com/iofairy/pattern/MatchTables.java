@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.internal.ParallelChunks;
+import com.iofairy.lambda.R1;
+
+import java.util.*;
+import java.util.function.IntFunction;
+import java.util.stream.Collector;
+
+/**
+ * 匹配表的批量执行工具，所有匹配表共用。{@code applyAll} 无论是否并行，总是返回新的、可修改的 {@link ArrayList}
+ *
+ * @since 0.5.0
+ */
+final class MatchTables {
+    private MatchTables() {
+    }
+
+    static <V, R> List<R> applyAll(Iterable<? extends V> values, R1<? super V, ? extends R> table) {
+        Objects.requireNonNull(values, "Parameter `values` must be non-null!");
+
+        List<R> results = values instanceof Collection ? new ArrayList<>(((Collection<?>) values).size()) : new ArrayList<>();
+        for (V value : values) {
+            results.add(table.$(value));
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <V, R> List<R> applyAll(List<? extends V> values, boolean parallel, R1<? super V, ? extends R> table) {
+        Objects.requireNonNull(values, "Parameter `values` must be non-null!");
+        if (!ParallelChunks.isParallel(parallel, values.size())) return applyAll(values, table);
+
+        // 非 RandomAccess 的 List（如 LinkedList）按下标访问很慢，先复制为数组
+        List<? extends V> list = values instanceof RandomAccess ? values : (List<? extends V>) Arrays.asList(values.toArray());
+        Object[] results = new Object[list.size()];
+        ParallelChunks.run(results.length, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                results[i] = table.$(list.get(i));
+            }
+        });
+        return toList(results);
+    }
+
+    static <R> List<R> applyAll(int[] values, boolean parallel, IntFunction<? extends R> table) {
+        Objects.requireNonNull(values, "Parameter `values` must be non-null!");
+
+        Object[] results = new Object[values.length];
+        if (!ParallelChunks.isParallel(parallel, values.length)) {
+            for (int i = 0; i < values.length; i++) {
+                results[i] = table.apply(values[i]);
+            }
+        } else {
+            ParallelChunks.run(results.length, (from, to) -> {
+                for (int i = from; i < to; i++) {
+                    results[i] = table.apply(values[i]);
+                }
+            });
+        }
+        return toList(results);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <R> List<R> toList(Object[] results) {
+        return new ArrayList<>((List<R>) Arrays.asList(results));
+    }
+
+    /**
+     * 按匹配结果分组，分组及组内元素均保持 {@code values} 中的顺序
+     */
+    static <V, R> Map<R, List<V>> groupBy(Collection<? extends V> values, boolean parallel, R1<? super V, ? extends R> table) {
+        Objects.requireNonNull(values, "Parameter `values` must be non-null!");
+
+        List<? extends V> list = values instanceof List ? (List<? extends V>) values : new ArrayList<>(values);
+        List<R> keys = applyAll(list, parallel, table);
+        Map<R, List<V>> groups = new LinkedHashMap<>();
+        int i = 0;
+        for (V value : list) {
+            groups.computeIfAbsent(keys.get(i++), k -> new ArrayList<>()).add(value);
+        }
+        return groups;
+    }
+
+    /**
+     * 按匹配结果分组的 {@link Collector}，与 {@link #groupBy} 一致：允许 {@code null} 作为分组的key，分组及组内元素保持遇到的顺序
+     */
+    static <V, R> Collector<V, ?, Map<R, List<V>>> groupingCollector(R1<? super V, ? extends R> table) {
+        return Collector.of(
+                LinkedHashMap::new,
+                (Map<R, List<V>> groups, V value) -> groups.computeIfAbsent(table.$(value), k -> new ArrayList<>()).add(value),
+                (left, right) -> {
+                    right.forEach((key, group) -> left.computeIfAbsent(key, k -> new ArrayList<>()).addAll(group));
+                    return left;
+                });
+    }
+}
@@ -204,6 +204,75 @@ public class Pattern {
         return new ClassValueMatcherMapping<>(clazz);
     }
 
+    /**
+     * Match an {@code int} value without boxing, {@code match(int)} boxes the value and every {@code when} value. <br>
+     * 匹配 {@code int} 值，匹配过程中不会装箱（{@code match(int)} 会对待匹配的值及每个 {@code when} 中的值装箱）。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * String res = matchInt(opcode)
+     *         .when(0x01,                 op -&gt; "ping")
+     *         .when(inInts(0x02, 0x03),   op -&gt; "data")
+     *         .orElse(                    op -&gt; "unknown");
+     * </pre>
+     *
+     * @param value value
+     * @return IntMatcherMapping
+     * @see #intTable()
+     * @since 0.5.0
+     */
+    public static IntMatcherMapping matchInt(int value) {
+        return new IntMatcherMapping(value);
+    }
+
+    /**
+     * Match a {@code long} value without boxing. <br>
+     * 匹配 {@code long} 值，匹配过程中不会装箱
+     *
+     * @param value value
+     * @return LongMatcherMapping
+     * @see #matchInt(int)
+     * @since 0.5.0
+     */
+    public static LongMatcherMapping matchLong(long value) {
+        return new LongMatcherMapping(value);
+    }
+
+    /**
+     * Match a {@code char} value without boxing. <br>
+     * 匹配 {@code char} 值，匹配过程中不会装箱
+     *
+     * @param value value
+     * @return CharMatcherMapping
+     * @see #matchInt(int)
+     * @since 0.5.0
+     */
+    public static CharMatcherMapping matchChar(char value) {
+        return new CharMatcherMapping(value);
+    }
+
+    /**
+     * Create a thread-confined {@link ReusablePattern}, it reuses the matchers across calls,
+     * so that a steady-state {@code match} allocates nothing beyond what the lambdas capture.
+     * <b>It's not thread-safe and not reentrant</b>, see {@link ReusablePattern}. <br>
+     * 创建线程封闭的 {@link ReusablePattern}，在多次调用间复用匹配器，稳定状态下的 {@code match} 除了 lambda 捕获的变量外不会创建任何对象。
+     * <b>非线程安全且不可重入</b>，见 {@link ReusablePattern}。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * private static final ThreadLocal&lt;ReusablePattern&gt; PATTERN = ThreadLocal.withInitial(Pattern::reusable);
+     *
+     * String res = PATTERN.get().match(s)
+     *         .when("1",              v -&gt; "one")
+     *         .when(in("2", "3"),     v -&gt; "few")
+     *         .orElse(                v -&gt; "many");
+     * </pre>
+     *
+     * @return ReusablePattern
+     * @since 0.5.0
+     */
+    public static ReusablePattern reusable() {
+        return new ReusablePattern();
+    }
+
     /**
      * The values in {@code .when(value)} are preprocessed by {@code preAction} and then {@code match}. <br>
      * 对 when 中的值进行预处理以后再进行模式匹配 <br>
@@ -305,6 +374,102 @@ public class Pattern {
         return new NullMatcherMapping<>(None.NONE);
     }
 
+    /**
+     * Build a precompiled {@link MatchTable} once, and apply it repeatedly. <br>
+     * 构建可重复使用的预编译匹配表 {@link MatchTable}，每次匹配只需查找一次，不会逐个比较分支。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * MatchTable&lt;Integer, String&gt; table = Pattern.&lt;Integer, String&gt;table()
+     *         .when(1,             v -&gt; "one")
+     *         .when(in(2, 3, 4),   v -&gt; "few")
+     *         .orElse(             v -&gt; "many")
+     *         .build();
+     *
+     * String res = table.apply(3);     // few
+     * </pre>
+     *
+     * @param <V> value type
+     * @param <R> return type
+     * @return MatchTable.Builder
+     * @since 0.5.0
+     */
+    public static <V, R> MatchTable.Builder<V, R> table() {
+        return new MatchTable.Builder<>();
+    }
+
+    /**
+     * Build a precompiled {@link StringMatchTable} once, and apply it repeatedly,
+     * all patterns are matched in a single pass over the input. <br>
+     * 构建可重复使用的预编译字符串匹配表 {@link StringMatchTable}，只需遍历一次待匹配的字符串即可匹配所有模式。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * StringMatchTable&lt;String&gt; table = Pattern.&lt;String&gt;stringTable(ICCONTAIN)
+     *         .when("error",  v -&gt; "ERROR")
+     *         .when("warn",   v -&gt; "WARN")
+     *         .orElse(        v -&gt; "INFO")
+     *         .build();
+     *
+     * String level = table.apply("2022-10-18 [Warn] disk is almost full");     // WARN
+     * </pre>
+     *
+     * @param patternString {@link PatternString}
+     * @param <R> return type
+     * @return StringMatchTable.Builder
+     * @since 0.5.0
+     */
+    public static <R> StringMatchTable.Builder<R> stringTable(PatternString patternString) {
+        return new StringMatchTable.Builder<>(patternString);
+    }
+
+    /**
+     * Build a precompiled {@link TypeMatchTable} once, and apply it repeatedly,
+     * the matched arms of each runtime class are resolved only once. <br>
+     * 构建可重复使用的预编译类型匹配表 {@link TypeMatchTable}，每个运行时类型只需解析一次匹配的分支。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * TypeMatchTable&lt;Object, Integer&gt; table = Pattern.&lt;Object, Integer&gt;typeTable()
+     *         .when(Integer.class,            v -&gt; v + 10)
+     *         .when(Tuple2.class,             v -&gt; v.arity())
+     *         .whenInstance(CharSequence.class, v -&gt; v.length())
+     *         .orElse(                        v -&gt; 40)
+     *         .build();
+     *
+     * Integer res = table.apply(Tuple.of("zs", 20));     // 2
+     * </pre>
+     *
+     * @param <V> value type
+     * @param <R> return type
+     * @return TypeMatchTable.Builder
+     * @since 0.5.0
+     */
+    public static <V, R> TypeMatchTable.Builder<V, R> typeTable() {
+        return new TypeMatchTable.Builder<>();
+    }
+
+    /**
+     * Build a precompiled {@link IntMatchTable} once, and apply it repeatedly without boxing,
+     * keys in a small range are dispatched by a dense jump table. <br>
+     * 构建可重复使用的预编译 {@code int} 匹配表 {@link IntMatchTable}，匹配过程中不会装箱，取值范围较小时使用数组跳转表。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * IntMatchTable&lt;String&gt; table = Pattern.&lt;String&gt;intTable()
+     *         .when(0x01,                 op -&gt; "ping")
+     *         .when(inInts(0x02, 0x03),   op -&gt; "data")
+     *         .whenRange(0x10, 0x1F,      op -&gt; "control")
+     *         .orElse(                    op -&gt; "unknown")
+     *         .build();
+     *
+     * String res = table.apply(0x12);     // control
+     * </pre>
+     *
+     * @param <R> return type
+     * @return IntMatchTable.Builder
+     * @since 0.5.0
+     */
+    public static <R> IntMatchTable.Builder<R> intTable() {
+        return new IntMatchTable.Builder<>();
+    }
+
     /*###################################################################################
      ************************************************************************************
      ------------------------------------------------------------------------------------
@@ -319,4 +484,16 @@ public class Pattern {
         return PatternIn.in(values);
     }
 
+    public static PatternInInts inInts(int... values) {
+        return PatternIn.inInts(values);
+    }
+
+    public static PatternInLongs inLongs(long... values) {
+        return PatternIn.inLongs(values);
+    }
+
+    public static PatternInChars inChars(char... values) {
+        return PatternIn.inChars(values);
+    }
+
 }
@@ -15,16 +15,49 @@
  */
 package com.iofairy.pattern;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 /**
- * PatternIn for matching multi-values in one time.
+ * PatternIn for matching multi-values in one time. <br>
+ * When there are more than {@value #HASH_THRESHOLD} values, {@link #contains(Object)} switches to an immutable open-addressing
+ * hash table instead of scanning the values one by one. The table is built by {@link #of(Collection)} at once, or by
+ * {@link #in(Object[])} lazily on the {@value #LAZY_HASH_LOOKUPS}th lookup, so the inline form {@code when(in(a, b, ...), ...)},
+ * which creates a new PatternIn on every call, never pays for a table. Hoist a large {@code PatternIn} into a
+ * {@code static final} field to reuse the table across calls. <br>
+ * 用于一次匹配多个值。当值的个数超过 {@value #HASH_THRESHOLD} 个时，{@link #contains(Object)} 改用不可变的开放寻址哈希表，
+ * 不再逐个比较。{@link #of(Collection)} 会立即创建哈希表；{@link #in(Object[])} 在第 {@value #LAZY_HASH_LOOKUPS} 次查找时才创建，
+ * 所以每次调用都会创建新对象的内联写法 {@code when(in(a, b, ...), ...)} 不会创建哈希表。
+ * 元素较多的 {@code PatternIn} 可以定义为 {@code static final} 字段，以便重复使用哈希表。
  * @since 0.0.1
  */
 public class PatternIn<V> {
+    /**
+     * 值的个数超过该阈值时，使用哈希表判断是否包含
+     */
+    public final static int HASH_THRESHOLD = 8;
+    /**
+     * 通过 {@link #in(Object[])} 创建时，第几次查找才创建哈希表
+     */
+    public final static int LAZY_HASH_LOOKUPS = 4;
 
     private List<V> vs;
+    /**
+     * 开放寻址法（线性探测）的哈希表，不包含 {@code null}；未创建或值的个数不超过 {@link #HASH_THRESHOLD} 时为 {@code null}。
+     * 完整创建后才通过 volatile 写发布，多个线程同时创建时，结果相同，后发布的覆盖先发布的
+     */
+    private volatile Object[] table;
+    /**
+     * 在发布 {@link #table} 之前写入，读到 {@link #table} 后可见
+     */
+    private boolean containsNull;
+    /**
+     * 查找次数，只用于决定何时创建哈希表，并发时计数不准确没有影响
+     */
+    private int lookups;
 
     /**
      * Match multi-values in one time. <br>
@@ -54,15 +87,132 @@ public class PatternIn<V> {
     public static <T> PatternIn<T> in(T... values) {
         PatternIn<T> patternIn = new PatternIn<>();
         if (values == null) {
-            patternIn.vs = Arrays.asList((T)null);
+            patternIn.init(Arrays.asList((T)null));
             return patternIn;
         }
         if (values.length == 0) throw new RuntimeException("The params's length must be greater than 0. 参数个数必须大于0");
-        patternIn.vs = Arrays.asList(values);
+        patternIn.init(Arrays.asList(values));
+        return patternIn;
+    }
+
+    /**
+     * Create a PatternIn from a collection, the values are copied, so the returned PatternIn is immutable
+     * and can be hoisted into a constant. <br>
+     * 通过集合创建PatternIn，集合中的值会被复制，所以返回的PatternIn是不可变的，可以定义为常量重复使用。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * private static final PatternIn&lt;String&gt; EURO_COUNTRIES = PatternIn.of(loadEuroCountryCodes());
+     *
+     * String currency = match(countryCode)
+     *         .when(EURO_COUNTRIES, v -&gt; "EUR")
+     *         .when("US",           v -&gt; "USD")
+     *         .orElse(v -&gt; null);
+     * </pre>
+     * @param values multi-values
+     * @param <T> values type
+     * @return PatternIn
+     * @since 0.5.0
+     */
+    public static <T> PatternIn<T> of(Collection<? extends T> values) {
+        if (values == null) return in((T) null);
+        if (values.isEmpty()) throw new RuntimeException("The params's length must be greater than 0. 参数个数必须大于0");
+        PatternIn<T> patternIn = new PatternIn<>();
+        patternIn.init(Collections.unmodifiableList(new ArrayList<>(values)));
+        if (patternIn.vs.size() > HASH_THRESHOLD) patternIn.buildTable();
         return patternIn;
     }
 
+    /**
+     * Match multi-{@code int} values in one time, the values are stored without boxing. <br>
+     * 一次匹配多个 {@code int} 值，值以基本类型存储，不会装箱
+     * @param values multi-values
+     * @return PatternInInts
+     * @since 0.5.0
+     */
+    public static PatternInInts inInts(int... values) {
+        return new PatternInInts(values);
+    }
+
+    /**
+     * Match multi-{@code long} values in one time, the values are stored without boxing. <br>
+     * 一次匹配多个 {@code long} 值，值以基本类型存储，不会装箱
+     * @param values multi-values
+     * @return PatternInLongs
+     * @since 0.5.0
+     */
+    public static PatternInLongs inLongs(long... values) {
+        return new PatternInLongs(values);
+    }
+
+    /**
+     * Match multi-{@code char} values in one time, the values are stored without boxing. <br>
+     * 一次匹配多个 {@code char} 值，值以基本类型存储，不会装箱
+     * @param values multi-values
+     * @return PatternInChars
+     * @since 0.5.0
+     */
+    public static PatternInChars inChars(char... values) {
+        return new PatternInChars(values);
+    }
+
+    private void init(List<V> vs) {
+        this.vs = vs;
+    }
+
+    private Object[] buildTable() {
+        Object[] table = new Object[tableSize(vs.size())];
+        int mask = table.length - 1;
+        for (V v : vs) {
+            if (v == null) {
+                containsNull = true;
+                continue;
+            }
+            int i = mix(v.hashCode()) & mask;
+            while (table[i] != null && !v.equals(table[i])) {
+                i = (i + 1) & mask;
+            }
+            table[i] = v;
+        }
+        this.table = table;
+        return table;
+    }
+
+    /**
+     * Whether the value is in this PatternIn, compared by {@link Object#equals(Object)}. <br>
+     * 判断值是否在该PatternIn中（使用 {@link Object#equals(Object)} 比较）
+     * @param value value
+     * @return {@code true} if the value is in this PatternIn
+     * @since 0.5.0
+     */
+    public boolean contains(Object value) {
+        Object[] table = this.table;
+        if (table == null) {
+            if (vs.size() <= HASH_THRESHOLD || ++lookups < LAZY_HASH_LOOKUPS) return vs.contains(value);
+            table = buildTable();
+        }
+        if (value == null) return containsNull;
+
+        int mask = table.length - 1;
+        for (int i = mix(value.hashCode()) & mask; ; i = (i + 1) & mask) {
+            Object e = table[i];
+            if (e == null) return false;
+            if (value.equals(e)) return true;
+        }
+    }
+
     public List<V> getVs() {
         return vs;
     }
+
+    /**
+     * 哈希表的容量：不小于元素个数2倍的2的幂，保证负载因子不超过0.5
+     */
+    static int tableSize(int size) {
+        return Integer.highestOneBit(Math.max(2, size) * 2 - 1) << 1;
+    }
+
+    static int mix(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
 }
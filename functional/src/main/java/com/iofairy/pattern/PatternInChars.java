@@ -0,0 +1,148 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * PatternIn for matching multi-{@code char} values, the values are stored without boxing,
+ * and {@link #contains(char)} checks a primitive value without boxing. <br>
+ * 用于一次匹配多个 {@code char} 值。值以基本类型存储，{@link #contains(char)} 也无需装箱。
+ * 值的个数超过 {@value PatternIn#HASH_THRESHOLD} 个时，使用开放寻址哈希表，否则逐个比较。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final PatternInChars VOWELS = PatternIn.inChars('a', 'e', 'i', 'o', 'u');
+ *
+ * if (VOWELS.contains(c)) { ... }
+ * String res = match(c).when(VOWELS, v -&gt; "matched").orElse(v -&gt; "no match");
+ * </pre>
+ * @since 0.5.0
+ */
+public final class PatternInChars extends PatternIn<Character> {
+    private final char[] values;
+    /**
+     * 开放寻址法（线性探测）的哈希表，{@code '\0'} 作为空槽位的标记，是否包含 {@code '\0'} 由 {@link #containsZero} 表示；
+     * 第 {@link PatternIn#LAZY_HASH_LOOKUPS} 次查找时才创建，未创建或值的个数不超过 {@link PatternIn#HASH_THRESHOLD} 时为 {@code null}
+     */
+    private volatile char[] table;
+    private boolean containsZero;
+    private int lookups;
+    private List<Character> boxedValues;
+
+    PatternInChars(char[] values) {
+        Objects.requireNonNull(values, "Parameter `values` must be non-null!");
+        if (values.length == 0) throw new RuntimeException("The params's length must be greater than 0. 参数个数必须大于0");
+        this.values = values.clone();
+    }
+
+    private char[] buildTable() {
+        boolean containsZero = false;
+        char[] table = new char[tableSize(values.length)];
+        int mask = table.length - 1;
+        for (char v : values) {
+            if (v == '\0') {
+                containsZero = true;
+                continue;
+            }
+            int i = hash(v) & mask;
+            while (table[i] != '\0' && table[i] != v) {
+                i = (i + 1) & mask;
+            }
+            table[i] = v;
+        }
+        this.containsZero = containsZero;
+        this.table = table;
+        return table;
+    }
+
+    /**
+     * Whether the primitive value is in this PatternIn. <br>
+     * 判断基本类型的值是否在该PatternIn中
+     * @param value value
+     * @return {@code true} if the value is in this PatternIn
+     */
+    public boolean contains(char value) {
+        char[] table = this.table;
+        if (table == null) {
+            if (values.length <= HASH_THRESHOLD || ++lookups < LAZY_HASH_LOOKUPS) {
+                for (char v : values) {
+                    if (v == value) return true;
+                }
+                return false;
+            }
+            table = buildTable();
+        }
+        if (value == '\0') return containsZero;
+
+        int mask = table.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            char e = table[i];
+            if (e == value) return true;
+            if (e == '\0') return false;
+        }
+    }
+
+    /**
+     * Whether the value is an {@link Character} and is in this PatternIn. <br>
+     * 判断值是否为 {@link Character} 且在该PatternIn中
+     * @param value value
+     * @return {@code true} if the value is in this PatternIn
+     */
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Character && contains(((Character) value).charValue());
+    }
+
+    /**
+     * The values as a boxed list, created lazily on first call. <br>
+     * 装箱后的值的列表，第一次调用时创建
+     * @return unmodifiable list of values
+     */
+    @Override
+    public List<Character> getVs() {
+        List<Character> boxedValues = this.boxedValues;
+        if (boxedValues == null) {
+            boxedValues = new BoxedList(values);
+            this.boxedValues = boxedValues;
+        }
+        return boxedValues;
+    }
+
+    private static int hash(char v) {
+        return mix(v);
+    }
+
+    private static final class BoxedList extends AbstractList<Character> implements RandomAccess {
+        private final char[] values;
+
+        BoxedList(char[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Character get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import java.util.AbstractList;
+import java.util.List;
+import java.util.Objects;
+import java.util.RandomAccess;
+
+/**
+ * PatternIn for matching multi-{@code int} values, the values are stored without boxing,
+ * and {@link #contains(int)} checks a primitive value without boxing. <br>
+ * 用于一次匹配多个 {@code int} 值。值以基本类型存储，{@link #contains(int)} 也无需装箱。
+ * 值的个数超过 {@value PatternIn#HASH_THRESHOLD} 个时，使用开放寻址哈希表，否则逐个比较。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final PatternInInts HTTP_ERRORS = PatternIn.inInts(400, 401, 403, 404, 500, 502, 503);
+ *
+ * if (HTTP_ERRORS.contains(statusCode)) { ... }
+ * String res = match(statusCode).when(HTTP_ERRORS, v -&gt; "matched").orElse(v -&gt; "no match");
+ * </pre>
+ * @since 0.5.0
+ */
+public final class PatternInInts extends PatternIn<Integer> {
+    private final int[] values;
+    /**
+     * 开放寻址法（线性探测）的哈希表，{@code 0} 作为空槽位的标记，是否包含 {@code 0} 由 {@link #containsZero} 表示；
+     * 第 {@link PatternIn#LAZY_HASH_LOOKUPS} 次查找时才创建，未创建或值的个数不超过 {@link PatternIn#HASH_THRESHOLD} 时为 {@code null}
+     */
+    private volatile int[] table;
+    private boolean containsZero;
+    private int lookups;
+    private List<Integer> boxedValues;
+
+    PatternInInts(int[] values) {
+        Objects.requireNonNull(values, "Parameter `values` must be non-null!");
+        if (values.length == 0) throw new RuntimeException("The params's length must be greater than 0. 参数个数必须大于0");
+        this.values = values.clone();
+    }
+
+    private int[] buildTable() {
+        boolean containsZero = false;
+        int[] table = new int[tableSize(values.length)];
+        int mask = table.length - 1;
+        for (int v : values) {
+            if (v == 0) {
+                containsZero = true;
+                continue;
+            }
+            int i = hash(v) & mask;
+            while (table[i] != 0 && table[i] != v) {
+                i = (i + 1) & mask;
+            }
+            table[i] = v;
+        }
+        this.containsZero = containsZero;
+        this.table = table;
+        return table;
+    }
+
+    /**
+     * Whether the primitive value is in this PatternIn. <br>
+     * 判断基本类型的值是否在该PatternIn中
+     * @param value value
+     * @return {@code true} if the value is in this PatternIn
+     */
+    public boolean contains(int value) {
+        int[] table = this.table;
+        if (table == null) {
+            if (values.length <= HASH_THRESHOLD || ++lookups < LAZY_HASH_LOOKUPS) {
+                for (int v : values) {
+                    if (v == value) return true;
+                }
+                return false;
+            }
+            table = buildTable();
+        }
+        if (value == 0) return containsZero;
+
+        int mask = table.length - 1;
+        for (int i = hash(value) & mask; ; i = (i + 1) & mask) {
+            int e = table[i];
+            if (e == value) return true;
+            if (e == 0) return false;
+        }
+    }
+
+    /**
+     * Whether the value is an {@link Integer} and is in this PatternIn. <br>
+     * 判断值是否为 {@link Integer} 且在该PatternIn中
+     * @param value value
+     * @return {@code true} if the value is in this PatternIn
+     */
+    @Override
+    public boolean contains(Object value) {
+        return value instanceof Integer && contains(((Integer) value).intValue());
+    }
+
+    /**
+     * The values as a boxed list, created lazily on first call. <br>
+     * 装箱后的值的列表，第一次调用时创建
+     * @return unmodifiable list of values
+     */
+    @Override
+    public List<Integer> getVs() {
+        List<Integer> boxedValues = this.boxedValues;
+        if (boxedValues == null) {
+            boxedValues = new BoxedList(values);
+            this.boxedValues = boxedValues;
+        }
+        return boxedValues;
+    }
+
+    /**
+     * 值的数组，不复制，调用方不能修改
+     */
+    int[] values() {
+        return values;
+    }
+
+    private static int hash(int v) {
+        return mix(v);
+    }
+
+    private static final class BoxedList extends AbstractList<Integer> implements RandomAccess {
+        private final int[] values;
+
+        BoxedList(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        public Integer get(int index) {
+            return values[index];
+        }
+
+        @Override
+        public int size() {
+            return values.length;
+        }
+    }
+}
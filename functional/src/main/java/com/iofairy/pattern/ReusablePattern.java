@@ -0,0 +1,505 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.base.None;
+import com.iofairy.pattern.mapping.*;
+import com.iofairy.pattern.matcher.*;
+import com.iofairy.pattern.type.PatternString;
+import com.iofairy.pattern.type.PatternType;
+
+import java.util.Objects;
+
+/**
+ * Thread-confined {@code match} entry that reuses its matcher mappings and matchers across calls,
+ * so a steady-state dispatch allocates nothing beyond what the lambdas capture.
+ * The fluent API is the same as {@link Pattern}: {@code reusable.match(value).when(...).orElse(...)}. <br>
+ * <b>Restrictions:</b>
+ * <ul>
+ *     <li><b>It's not thread-safe</b>, use one instance per thread, e.g. {@code ThreadLocal.withInitial(Pattern::reusable)};</li>
+ *     <li><b>It's not reentrant</b>, the matcher returned by a {@code match} is only valid until the next {@code match} of the same kind
+ *     on the same instance, so do not start another {@code match} of this instance inside the actions of a chain,
+ *     and do not keep a reference to the matcher.</li>
+ * </ul>
+ * 线程封闭的 {@code match} 入口，在多次调用间复用匹配器映射及匹配器，稳定状态下除了 lambda 捕获的变量外不会创建任何对象。
+ * 用法与 {@link Pattern} 相同：{@code reusable.match(value).when(...).orElse(...)}。<br>
+ * <b>限制：</b>
+ * <ul>
+ *     <li><b>非线程安全</b>，每个线程使用一个实例，如 {@code ThreadLocal.withInitial(Pattern::reusable)}；</li>
+ *     <li><b>不可重入</b>，{@code match} 返回的匹配器只在该实例下一次同类的 {@code match} 之前有效，
+ *     所以不要在匹配链的 action 中调用同一实例的 {@code match}，也不要保存匹配器的引用。</li>
+ * </ul>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final ThreadLocal&lt;ReusablePattern&gt; PATTERN = ThreadLocal.withInitial(Pattern::reusable);
+ *
+ * String res = PATTERN.get().matchInt(opcode)
+ *         .when(0x01,                 op -&gt; "ping")
+ *         .when(inInts(0x02, 0x03),   op -&gt; "data")
+ *         .orElse(                    op -&gt; "unknown");
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+public final class ReusablePattern {
+    private final ReusableValueMapping valueMapping = new ReusableValueMapping();
+    private final ReusableTypeMapping typeMapping = new ReusableTypeMapping();
+    private final ReusableBooleanMapping booleanMapping = new ReusableBooleanMapping();
+    private final ReusableStringMapping stringMapping = new ReusableStringMapping();
+    private final ReusableIntMapping intMapping = new ReusableIntMapping();
+    private final ReusableLongMapping longMapping = new ReusableLongMapping();
+    private final ReusableCharMapping charMapping = new ReusableCharMapping();
+
+    ReusablePattern() {
+    }
+
+    /**
+     * Reusable {@link Pattern#match(Object)}. <br>
+     * 可复用的 {@link Pattern#match(Object)}
+     *
+     * @param value value
+     * @param <V>   value type
+     * @return ValueMatcherMapping
+     */
+    @SuppressWarnings("unchecked")
+    public <V> ValueMatcherMapping<V> match(V value) {
+        return (ValueMatcherMapping<V>) valueMapping.reset(value);
+    }
+
+    /**
+     * Reusable {@link Pattern#match(String, PatternString)}. <br>
+     * 可复用的 {@link Pattern#match(String, PatternString)}
+     *
+     * @param value         value
+     * @param patternString {@link PatternString}
+     * @return StringMatcherMapping
+     */
+    public StringMatcherMapping match(String value, PatternString patternString) {
+        Objects.requireNonNull(patternString);
+        return stringMapping.reset(value, patternString);
+    }
+
+    /**
+     * Reusable {@link Pattern#match(Object, PatternType)}. <br>
+     * 可复用的 {@link Pattern#match(Object, PatternType)}
+     *
+     * @param value       value
+     * @param patternType {@link PatternType}
+     * @param <V>         value type
+     * @return TypeMatcherMapping
+     */
+    @SuppressWarnings("unchecked")
+    public <V> TypeMatcherMapping<V> match(V value, PatternType patternType) {
+        Objects.requireNonNull(patternType);
+        return (TypeMatcherMapping<V>) typeMapping.reset(value);
+    }
+
+    /**
+     * Reusable {@link Pattern#match()}. <br>
+     * 可复用的 {@link Pattern#match()}
+     *
+     * @return BooleanMatcherMapping
+     */
+    public BooleanMatcherMapping<None> match() {
+        return booleanMapping;
+    }
+
+    /**
+     * Reusable {@link Pattern#matchInt(int)}. <br>
+     * 可复用的 {@link Pattern#matchInt(int)}
+     *
+     * @param value value
+     * @return IntMatcherMapping
+     */
+    public IntMatcherMapping matchInt(int value) {
+        return intMapping.reset(value);
+    }
+
+    /**
+     * Reusable {@link Pattern#matchLong(long)}. <br>
+     * 可复用的 {@link Pattern#matchLong(long)}
+     *
+     * @param value value
+     * @return LongMatcherMapping
+     */
+    public LongMatcherMapping matchLong(long value) {
+        return longMapping.reset(value);
+    }
+
+    /**
+     * Reusable {@link Pattern#matchChar(char)}. <br>
+     * 可复用的 {@link Pattern#matchChar(char)}
+     *
+     * @param value value
+     * @return CharMatcherMapping
+     */
+    public CharMatcherMapping matchChar(char value) {
+        return charMapping.reset(value);
+    }
+
+    /*
+     * ######################################################
+     * 复用模式的映射及匹配器：映射重写 vMatcher()/rMatcher() 以重置并返回缓存的匹配器，
+     * 匹配器通过 bind 调用 protected 的 reset，映射继承的 value 字段不会被使用。
+     * 这些类不对外暴露，通过 Pattern 创建的映射及匹配器不受影响
+     * ######################################################
+     */
+    private static final class ReusableValueMapping extends ValueMatcherMapping<Object> {
+        private Object current;
+        private ReusableValueVMatcher vMatcher;
+        private ReusableValueRMatcher rMatcher;
+
+        ReusableValueMapping() {
+            super(null);
+        }
+
+        ReusableValueMapping reset(Object value) {
+            this.current = value;
+            return this;
+        }
+
+        @Override
+        protected ValueVMatcher<Object> vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableValueVMatcher();
+            vMatcher.bind(current);
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> ValueRMatcher<Object, R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableValueRMatcher();
+            rMatcher.bind(current);
+            return (ValueRMatcher<Object, R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableValueVMatcher extends ValueVMatcher<Object> {
+        ReusableValueVMatcher() {
+            super(null);
+        }
+
+        void bind(Object value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableValueRMatcher extends ValueRMatcher<Object, Object> {
+        ReusableValueRMatcher() {
+            super(null);
+        }
+
+        void bind(Object value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableTypeMapping extends TypeMatcherMapping<Object> {
+        private Object current;
+        private ReusableTypeVMatcher vMatcher;
+        private ReusableTypeRMatcher rMatcher;
+
+        ReusableTypeMapping() {
+            super(null);
+        }
+
+        ReusableTypeMapping reset(Object value) {
+            this.current = value;
+            return this;
+        }
+
+        @Override
+        protected TypeVMatcher<Object> vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableTypeVMatcher();
+            vMatcher.bind(current);
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> TypeRMatcher<Object, R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableTypeRMatcher();
+            rMatcher.bind(current);
+            return (TypeRMatcher<Object, R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableTypeVMatcher extends TypeVMatcher<Object> {
+        ReusableTypeVMatcher() {
+            super(null);
+        }
+
+        void bind(Object value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableTypeRMatcher extends TypeRMatcher<Object, Object> {
+        ReusableTypeRMatcher() {
+            super(null);
+        }
+
+        void bind(Object value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableBooleanMapping extends BooleanMatcherMapping<None> {
+        private ReusableBooleanVMatcher vMatcher;
+        private ReusableBooleanRMatcher rMatcher;
+
+        ReusableBooleanMapping() {
+            super(None.NONE);
+        }
+
+        @Override
+        protected BooleanVMatcher<None> vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableBooleanVMatcher();
+            vMatcher.bind();
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> BooleanRMatcher<None, R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableBooleanRMatcher();
+            rMatcher.bind();
+            return (BooleanRMatcher<None, R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableBooleanVMatcher extends BooleanVMatcher<None> {
+        ReusableBooleanVMatcher() {
+            super(None.NONE);
+        }
+
+        void bind() {
+            reset(None.NONE);
+        }
+    }
+
+    private static final class ReusableBooleanRMatcher extends BooleanRMatcher<None, Object> {
+        ReusableBooleanRMatcher() {
+            super(None.NONE);
+        }
+
+        void bind() {
+            reset(None.NONE);
+        }
+    }
+
+    private static final class ReusableStringMapping extends StringMatcherMapping {
+        private String current;
+        private PatternString patternString;
+        private ReusableStringVMatcher vMatcher;
+        private ReusableStringRMatcher rMatcher;
+
+        ReusableStringMapping() {
+            super(null);
+        }
+
+        ReusableStringMapping reset(String value, PatternString patternString) {
+            this.current = value;
+            this.patternString = patternString;
+            return this;
+        }
+
+        @Override
+        protected StringVMatcher vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableStringVMatcher();
+            vMatcher.bind(current, patternString);
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> StringRMatcher<R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableStringRMatcher();
+            rMatcher.bind(current, patternString);
+            return (StringRMatcher<R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableStringVMatcher extends StringVMatcher {
+        ReusableStringVMatcher() {
+            super(null, null);
+        }
+
+        void bind(String value, PatternString patternString) {
+            reset(value, patternString);
+        }
+    }
+
+    private static final class ReusableStringRMatcher extends StringRMatcher<Object> {
+        ReusableStringRMatcher() {
+            super(null, null);
+        }
+
+        void bind(String value, PatternString patternString) {
+            reset(value, patternString);
+        }
+    }
+
+    private static final class ReusableIntMapping extends IntMatcherMapping {
+        private int current;
+        private ReusableIntVMatcher vMatcher;
+        private ReusableIntRMatcher rMatcher;
+
+        ReusableIntMapping() {
+            super(0);
+        }
+
+        ReusableIntMapping reset(int value) {
+            this.current = value;
+            return this;
+        }
+
+        @Override
+        protected IntVMatcher vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableIntVMatcher();
+            vMatcher.bind(current);
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> IntRMatcher<R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableIntRMatcher();
+            rMatcher.bind(current);
+            return (IntRMatcher<R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableIntVMatcher extends IntVMatcher {
+        ReusableIntVMatcher() {
+            super(0);
+        }
+
+        void bind(int value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableIntRMatcher extends IntRMatcher<Object> {
+        ReusableIntRMatcher() {
+            super(0);
+        }
+
+        void bind(int value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableLongMapping extends LongMatcherMapping {
+        private long current;
+        private ReusableLongVMatcher vMatcher;
+        private ReusableLongRMatcher rMatcher;
+
+        ReusableLongMapping() {
+            super(0L);
+        }
+
+        ReusableLongMapping reset(long value) {
+            this.current = value;
+            return this;
+        }
+
+        @Override
+        protected LongVMatcher vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableLongVMatcher();
+            vMatcher.bind(current);
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> LongRMatcher<R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableLongRMatcher();
+            rMatcher.bind(current);
+            return (LongRMatcher<R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableLongVMatcher extends LongVMatcher {
+        ReusableLongVMatcher() {
+            super(0L);
+        }
+
+        void bind(long value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableLongRMatcher extends LongRMatcher<Object> {
+        ReusableLongRMatcher() {
+            super(0L);
+        }
+
+        void bind(long value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableCharMapping extends CharMatcherMapping {
+        private char current;
+        private ReusableCharVMatcher vMatcher;
+        private ReusableCharRMatcher rMatcher;
+
+        ReusableCharMapping() {
+            super('\0');
+        }
+
+        ReusableCharMapping reset(char value) {
+            this.current = value;
+            return this;
+        }
+
+        @Override
+        protected CharVMatcher vMatcher() {
+            if (vMatcher == null) vMatcher = new ReusableCharVMatcher();
+            vMatcher.bind(current);
+            return vMatcher;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        protected <R> CharRMatcher<R> rMatcher() {
+            if (rMatcher == null) rMatcher = new ReusableCharRMatcher();
+            rMatcher.bind(current);
+            return (CharRMatcher<R>) rMatcher;
+        }
+    }
+
+    private static final class ReusableCharVMatcher extends CharVMatcher {
+        ReusableCharVMatcher() {
+            super('\0');
+        }
+
+        void bind(char value) {
+            reset(value);
+        }
+    }
+
+    private static final class ReusableCharRMatcher extends CharRMatcher<Object> {
+        ReusableCharRMatcher() {
+            super('\0');
+        }
+
+        void bind(char value) {
+            reset(value);
+        }
+    }
+}
@@ -0,0 +1,521 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.lambda.R1;
+import com.iofairy.pattern.type.PatternString;
+import com.iofairy.string.Ascii;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Precompiled string matching table for many arms. Build the arms once by {@link Pattern#stringTable(PatternString)},
+ * and apply it repeatedly, all patterns are matched in a single pass over the input:
+ * <ul>
+ *     <li>{@link PatternString#CONTAIN}, {@link PatternString#ICCONTAIN}: Aho-Corasick automaton;</li>
+ *     <li>{@link PatternString#PREFIX}, {@link PatternString#ICPREFIX}: trie of the patterns;</li>
+ *     <li>{@link PatternString#SUFFIX}, {@link PatternString#ICSUFFIX}: trie of the reversed patterns;</li>
+ *     <li>{@link PatternString#STRING}, {@link PatternString#IGNORECASE}: trie of the patterns, only a full path matches.</li>
+ * </ul>
+ * The arms keep the semantics of {@code match(value, patternString).when(...).whenNext(...)}: the actions of the matched
+ * {@code whenNext} arms before the first matched {@code when} arm are executed in order, and the result is the result of
+ * the first matched {@code when} arm, or {@code orElse} if there is none.
+ * Ignore case patterns compare characters one by one by the same rule as {@link Ascii#equalsIgnoreCase(char, char)},
+ * while {@code match(value, ICCONTAIN)} compares {@link String#toUpperCase()} of strings with non-ASCII characters,
+ * so the results may differ for such strings, e.g. {@code "ß"} does not match {@code "SS"} in the table.
+ * <b>It's immutable and thread-safe</b> if the actions are thread-safe. <br>
+ * 预编译的字符串匹配表，适用于分支很多的字符串匹配。通过 {@link Pattern#stringTable(PatternString)} 一次性构建所有分支，之后可重复使用，
+ * 只需遍历一次待匹配的字符串即可匹配所有模式。分支的语义与 {@code match(value, patternString).when(...).whenNext(...)} 一致：
+ * 按顺序执行第一个匹配的 {@code when} 分支之前所有匹配的 {@code whenNext} 分支的 action，
+ * 返回第一个匹配的 {@code when} 分支的结果，没有匹配的 {@code when} 分支时返回 {@code orElse} 的结果。
+ * 忽略大小写时，逐个字符比较，规则与 {@link Ascii#equalsIgnoreCase(char, char)} 一致，
+ * 而 {@code match(value, ICCONTAIN)} 对包含非 ASCII 字符的字符串比较 {@link String#toUpperCase()}，
+ * 所以这类字符串的结果可能不同，如匹配表中 {@code "ß"} 不能匹配 {@code "SS"}。
+ * 如果 action 是线程安全的，则该匹配表是<b>不可变且线程安全</b>的。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final StringMatchTable&lt;String&gt; LEVELS = Pattern.&lt;String&gt;stringTable(ICCONTAIN)
+ *         .when("fatal",              v -&gt; "FATAL")
+ *         .when(in("error", "exception"), v -&gt; "ERROR")
+ *         .when("warn",               v -&gt; "WARN")
+ *         .orElse(v -&gt; "INFO")
+ *         .build();
+ *
+ * String level = LEVELS.apply(logLine);
+ * </pre>
+ *
+ * @param <R> return type
+ * @since 0.5.0
+ */
+public final class StringMatchTable<R> {
+    private final static char[] EMPTY_CHARS = new char[0];
+    private final static Node[] EMPTY_NODES = new Node[0];
+    private final static int[] EMPTY_INTS = new int[0];
+
+    private final PatternString patternString;
+    private final boolean ignoreCase;
+    private final Node root;
+    private final R1<? super String, ? extends R>[] actions;
+    private final boolean[] isNext;
+    private final boolean hasNext;
+    /**
+     * 匹配 {@code null} 值的分支（升序）
+     */
+    private final int[] nullArms;
+    private final R1<? super String, ? extends R> orElse;
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private StringMatchTable(Builder<R> builder) {
+        this.patternString = builder.patternString;
+        this.ignoreCase = builder.patternString == PatternString.IGNORECASE
+                || builder.patternString == PatternString.ICCONTAIN
+                || builder.patternString == PatternString.ICPREFIX
+                || builder.patternString == PatternString.ICSUFFIX;
+        int size = builder.actions.size();
+        this.actions = builder.actions.toArray(new R1[size]);
+        this.isNext = new boolean[size];
+        boolean hasNext = false;
+        for (int i = 0; i < size; i++) {
+            isNext[i] = builder.isNext.get(i);
+            hasNext |= isNext[i];
+        }
+        this.hasNext = hasNext;
+        this.nullArms = builder.nullArms.stream().mapToInt(Integer::intValue).toArray();
+        this.orElse = builder.orElse;
+
+        boolean reversed = patternString == PatternString.SUFFIX || patternString == PatternString.ICSUFFIX;
+        this.root = new Node();
+        for (int i = 0; i < builder.patterns.size(); i++) {
+            String pattern = builder.patterns.get(i);
+            Node node = root;
+            for (int j = 0; j < pattern.length(); j++) {
+                node = node.getOrAddChild(fold(pattern.charAt(reversed ? pattern.length() - 1 - j : j)));
+            }
+            node.addArm(builder.patternArms.get(i));
+        }
+        if (patternString == PatternString.CONTAIN || patternString == PatternString.ICCONTAIN) {
+            buildFailureLinks(root);
+        }
+    }
+
+    /**
+     * Apply the matched arms, see {@link StringMatchTable}.
+     * Returns {@code null} if no {@code when} arm is matched and no {@code orElse} action is set. <br>
+     * 执行匹配的分支，返回第一个匹配的 {@code when} 分支的结果；没有匹配的 {@code when} 分支且未设置 {@code orElse} 时，返回 {@code null}
+     *
+     * @param value value
+     * @return result of the action
+     */
+    public R apply(String value) {
+        if (!hasNext) {
+            int first = firstMatch(value);
+            if (first >= 0) return actions[first].$(value);
+        } else {
+            boolean[] matched = new boolean[actions.length];
+            collectMatches(value, matched);
+            for (int i = 0; i < matched.length; i++) {
+                if (!matched[i]) continue;
+                if (!isNext[i]) return actions[i].$(value);
+                actions[i].$(value);
+            }
+        }
+        return orElse == null ? null : orElse.$(value);
+    }
+
+    /**
+     * Whether any arm (exclude {@code orElse}) matches the value. <br>
+     * 是否有分支（不包括 {@code orElse}）匹配该值
+     *
+     * @param value value
+     * @return {@code true} if matched
+     */
+    public boolean matches(String value) {
+        return firstMatch(value) >= 0;
+    }
+
+    /**
+     * Number of arms in this table, exclude {@code orElse}. <br>
+     * 分支的数量（不包括 {@code orElse}）
+     *
+     * @return size
+     */
+    public int size() {
+        return actions.length;
+    }
+
+    /**
+     * Apply this table to each value in order, see {@link #apply(String)}. <br>
+     * 按顺序对每个值执行 {@link #apply(String)}
+     *
+     * @param values values
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(Iterable<? extends String> values) {
+        return MatchTables.applyAll(values, this::apply);
+    }
+
+    /**
+     * Apply this table to each value, and split the work across {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * when {@code parallel} is {@code true} and {@code values} is large. The actions must be thread-safe in parallel mode. <br>
+     * 对每个值执行 {@link #apply(String)}，当 {@code parallel} 为 {@code true} 且数据量较大时，
+     * 使用 {@link java.util.concurrent.ForkJoinPool#commonPool()} 并行执行（此时 action 必须是线程安全的）。
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(List<? extends String> values, boolean parallel) {
+        return MatchTables.applyAll(values, parallel, this::apply);
+    }
+
+    /**
+     * Group values by the result of this table (e.g. a category or a handler), a value that matches no arm
+     * and no {@code orElse} is grouped under the {@code null} key. Groups and the values in each group keep the order of {@code values}. <br>
+     * 按匹配结果（如类别、处理器）对值分组，没有匹配的分支且未设置 {@code orElse} 的值分到 {@code null} 组中。
+     * 分组及组内元素均保持 {@code values} 中的顺序。
+     *
+     * @param values values
+     * @return groups
+     * @throws NullPointerException if {@code values} is null
+     */
+    public Map<R, List<String>> groupBy(Collection<? extends String> values) {
+        return MatchTables.groupBy(values, false, this::apply);
+    }
+
+    /**
+     * Same as {@link #groupBy(Collection)}, but the table is applied in parallel when {@code parallel} is {@code true}
+     * and {@code values} is large, see {@link #applyAll(List, boolean)}. <br>
+     * 与 {@link #groupBy(Collection)} 相同，但 {@code parallel} 为 {@code true} 且数据量较大时并行匹配
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return groups
+     * @throws NullPointerException if {@code values} is null
+     */
+    public Map<R, List<String>> groupBy(Collection<? extends String> values, boolean parallel) {
+        return MatchTables.groupBy(values, parallel, this::apply);
+    }
+
+    /**
+     * A {@link Collector} that groups the stream elements like {@link #groupBy(Collection)}, e.g.
+     * {@code stream.collect(table.groupingCollector())}. Unlike {@link java.util.stream.Collectors#groupingBy}, the {@code null} key is allowed.
+     * Groups and the values in each group keep the encounter order. <br>
+     * 与 {@link #groupBy(Collection)} 相同方式分组的 {@link Collector}，如 {@code stream.collect(table.groupingCollector())}。
+     * 与 {@link java.util.stream.Collectors#groupingBy} 不同，允许 {@code null} 作为分组的key。分组及组内元素均保持遇到的顺序。
+     *
+     * @return grouping collector
+     * @since 0.5.0
+     */
+    public Collector<String, ?, Map<R, List<String>>> groupingCollector() {
+        return MatchTables.groupingCollector(this::apply);
+    }
+
+    /**
+     * This table as a {@link Function}, e.g. {@code stream.map(table.asFunction())}. <br>
+     * 将匹配表转为 {@link Function}，如 {@code stream.map(table.asFunction())}
+     *
+     * @return function
+     */
+    public Function<String, R> asFunction() {
+        return this::apply;
+    }
+
+    public PatternString getPatternString() {
+        return patternString;
+    }
+
+    /**
+     * 第一个匹配的分支（包括 {@code whenNext} 分支），没有则返回 {@code -1}
+     */
+    private int firstMatch(String value) {
+        if (value == null) return nullArms.length == 0 ? -1 : nullArms[0];
+
+        int best = root.minArm;
+        int length = value.length();
+        switch (patternString) {
+            case CONTAIN:
+            case ICCONTAIN:
+                Node node = root;
+                for (int i = 0; i < length && best > 0; i++) {
+                    node = next(node, fold(value.charAt(i)));
+                    if (node.minArm < best) best = node.minArm;
+                }
+                break;
+            case PREFIX:
+            case ICPREFIX:
+            case SUFFIX:
+            case ICSUFFIX:
+                boolean reversed = patternString == PatternString.SUFFIX || patternString == PatternString.ICSUFFIX;
+                node = root;
+                for (int i = 0; i < length; i++) {
+                    node = node.child(fold(value.charAt(reversed ? length - 1 - i : i)));
+                    if (node == null) break;
+                    if (node.arms.length > 0 && node.arms[0] < best) best = node.arms[0];
+                }
+                break;
+            default:
+                node = exactNode(value);
+                best = node == null || node.arms.length == 0 ? Integer.MAX_VALUE : node.arms[0];
+        }
+        return best == Integer.MAX_VALUE ? -1 : best;
+    }
+
+    /**
+     * 标记所有匹配的分支
+     */
+    private void collectMatches(String value, boolean[] matched) {
+        if (value == null) {
+            for (int arm : nullArms) {
+                matched[arm] = true;
+            }
+            return;
+        }
+
+        int length = value.length();
+        switch (patternString) {
+            case CONTAIN:
+            case ICCONTAIN:
+                mark(root, matched);
+                Node node = root;
+                for (int i = 0; i < length; i++) {
+                    node = next(node, fold(value.charAt(i)));
+                    for (Node out = node.arms.length > 0 ? node : node.output; out != null; out = out.output) {
+                        mark(out, matched);
+                    }
+                }
+                break;
+            case PREFIX:
+            case ICPREFIX:
+            case SUFFIX:
+            case ICSUFFIX:
+                mark(root, matched);
+                boolean reversed = patternString == PatternString.SUFFIX || patternString == PatternString.ICSUFFIX;
+                node = root;
+                for (int i = 0; i < length; i++) {
+                    node = node.child(fold(value.charAt(reversed ? length - 1 - i : i)));
+                    if (node == null) break;
+                    mark(node, matched);
+                }
+                break;
+            default:
+                node = exactNode(value);
+                if (node != null) mark(node, matched);
+        }
+    }
+
+    private Node exactNode(String value) {
+        Node node = root;
+        for (int i = 0; i < value.length() && node != null; i++) {
+            node = node.child(fold(value.charAt(i)));
+        }
+        return node;
+    }
+
+    private static void mark(Node node, boolean[] matched) {
+        for (int arm : node.arms) {
+            matched[arm] = true;
+        }
+    }
+
+    /**
+     * Aho-Corasick 自动机的状态转移
+     */
+    private Node next(Node node, char c) {
+        while (true) {
+            Node child = node.child(c);
+            if (child != null) return child;
+            if (node == root) return root;
+            node = node.fail;
+        }
+    }
+
+    /**
+     * 忽略大小写时将字符转换为统一的形式，与 {@link Ascii#equalsIgnoreCase(char, char)} 的规则一致：
+     * 两个字符忽略大小写相等，当且仅当转换后相等
+     */
+    private char fold(char c) {
+        if (!ignoreCase) return c;
+        return c < 128 ? Ascii.toLower(c) : Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    /**
+     * 按层次遍历构建失败链接（failure link）与输出链接（output link），并计算每个状态可匹配的最小分支
+     */
+    private static void buildFailureLinks(Node root) {
+        Queue<Node> queue = new ArrayDeque<>();
+        for (Node child : root.children) {
+            child.fail = root;
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            for (int i = 0; i < node.keys.length; i++) {
+                char c = node.keys[i];
+                Node child = node.children[i];
+                Node f = node.fail;
+                while (f.child(c) == null && f != root) {
+                    f = f.fail;
+                }
+                Node target = f.child(c);
+                child.fail = target == null || target == child ? root : target;
+                // 输出链接不包含根节点，根节点的分支（空字符串）在开始匹配时单独处理
+                child.output = child.fail != root && child.fail.arms.length > 0 ? child.fail : child.fail.output;
+                child.minArm = Math.min(child.minArm, child.fail == root ? Integer.MAX_VALUE : child.fail.minArm);
+                queue.add(child);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "StringMatchTable{" +
+                "patternString=" + patternString +
+                ", size=" + actions.length +
+                '}';
+    }
+
+    /**
+     * Trie node, also a state of the Aho-Corasick automaton
+     */
+    private static final class Node {
+        /**
+         * 子节点的字符（升序），与 {@link #children} 一一对应
+         */
+        char[] keys = EMPTY_CHARS;
+        Node[] children = EMPTY_NODES;
+        /**
+         * 在该节点结束的模式所属的分支（升序）
+         */
+        int[] arms = EMPTY_INTS;
+        /**
+         * 该节点及其失败链接上的所有节点中，最小的分支
+         */
+        int minArm = Integer.MAX_VALUE;
+        Node fail;
+        /**
+         * 失败链接上最近的有分支的节点（不包括根节点）
+         */
+        Node output;
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        Node getOrAddChild(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            if (i >= 0) return children[i];
+
+            int insertAt = -i - 1;
+            char[] newKeys = new char[keys.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(keys, 0, newKeys, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            System.arraycopy(keys, insertAt, newKeys, insertAt + 1, keys.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            Node child = new Node();
+            newKeys[insertAt] = c;
+            newChildren[insertAt] = child;
+            keys = newKeys;
+            children = newChildren;
+            return child;
+        }
+
+        void addArm(int arm) {
+            // 分支按添加顺序递增，只需判断是否与最后一个重复
+            if (arms.length > 0 && arms[arms.length - 1] == arm) return;
+            arms = Arrays.copyOf(arms, arms.length + 1);
+            arms[arms.length - 1] = arm;
+            minArm = Math.min(minArm, arm);
+        }
+    }
+
+    /**
+     * Builder of {@link StringMatchTable}. <b>It's not thread-safe</b>. <br>
+     * {@link StringMatchTable} 的构建器<b>（非线程安全）</b>
+     *
+     * @param <R> return type
+     * @since 0.5.0
+     */
+    public static final class Builder<R> {
+        private final PatternString patternString;
+        private final List<R1<? super String, ? extends R>> actions = new ArrayList<>();
+        private final List<Boolean> isNext = new ArrayList<>();
+        private final List<String> patterns = new ArrayList<>();
+        private final List<Integer> patternArms = new ArrayList<>();
+        private final List<Integer> nullArms = new ArrayList<>();
+        private R1<? super String, ? extends R> orElse;
+
+        Builder(PatternString patternString) {
+            this.patternString = Objects.requireNonNull(patternString);
+        }
+
+        public Builder<R> when(String matchValue, R1<? super String, ? extends R> action) {
+            return addArm(new String[]{matchValue}, action, false);
+        }
+
+        public Builder<R> whenNext(String matchValue, R1<? super String, ? extends R> action) {
+            return addArm(new String[]{matchValue}, action, true);
+        }
+
+        public Builder<R> when(PatternIn<String> matchValues, R1<? super String, ? extends R> action) {
+            return addArm(matchValues == null ? new String[]{null} : matchValues.getVs().toArray(new String[0]), action, false);
+        }
+
+        public Builder<R> whenNext(PatternIn<String> matchValues, R1<? super String, ? extends R> action) {
+            return addArm(matchValues == null ? new String[]{null} : matchValues.getVs().toArray(new String[0]), action, true);
+        }
+
+        public Builder<R> orElse(R1<? super String, ? extends R> action) {
+            Objects.requireNonNull(action);
+            this.orElse = action;
+            return this;
+        }
+
+        public StringMatchTable<R> build() {
+            return new StringMatchTable<>(this);
+        }
+
+        private Builder<R> addArm(String[] matchValues, R1<? super String, ? extends R> action, boolean next) {
+            Objects.requireNonNull(action);
+            int arm = actions.size();
+            actions.add(action);
+            isNext.add(next);
+            boolean matchNull = false;
+            for (String matchValue : matchValues) {
+                if (matchValue == null) {
+                    matchNull = true;
+                } else {
+                    patterns.add(matchValue);
+                    patternArms.add(arm);
+                }
+            }
+            if (matchNull) nullArms.add(arm);
+            return this;
+        }
+    }
+}
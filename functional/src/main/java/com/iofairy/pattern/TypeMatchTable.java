@@ -0,0 +1,336 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern;
+
+import com.iofairy.lambda.R1;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+/**
+ * Precompiled type matching table. Build the arms once by {@link Pattern#typeTable()}, and apply it repeatedly.
+ * The arms matched by a runtime class are resolved on the first value of that class and memoized in a {@link ClassValue},
+ * so the later {@link #apply(Object)} of the same class is a single lookup, no matter how many arms there are.
+ * <ul>
+ *     <li>{@code when(Class, action)} / {@code whenNext(Class, action)}: the runtime class of the value must be exactly
+ *     the class, the same as {@code match(value, TYPE).when(...)}, a {@code null} class only matches a {@code null} value;</li>
+ *     <li>{@code whenInstance(Class, action)} / {@code whenInstanceNext(Class, action)}: the value must be an instance of the class
+ *     (subclasses and implementations of an interface are matched too), like {@code instanceof}.</li>
+ * </ul>
+ * Arms are checked in the order they are added: the actions of the matched {@code whenNext} arms before the first matched
+ * {@code when} arm are executed in order, and the result is the result of the first matched {@code when} arm,
+ * or {@code orElse} if there is none. <b>It's immutable and thread-safe</b> if the actions are thread-safe. <br>
+ * The plan of the last matched class is checked before the {@link ClassValue}, so a run of values of the same class
+ * skips the lookup. The cost of a table does not grow with the number of arms while a {@code match(value, TYPE)} chain does,
+ * so the table pays off with many arms, or when it is shared by many call sites; for a few arms prefer the chain or {@code instanceof}. <br>
+ * 预编译的类型匹配表。通过 {@link Pattern#typeTable()} 一次性构建所有分支，之后可重复使用。
+ * 某个运行时类型第一次匹配时，会解析出该类型匹配的所有分支，并缓存在 {@link ClassValue} 中，
+ * 之后同一类型的值只需查找一次，与分支的数量无关。
+ * <ul>
+ *     <li>{@code when(Class, action)} / {@code whenNext(Class, action)}：值的运行时类型必须与该类型相同，
+ *     与 {@code match(value, TYPE).when(...)} 一致，{@code null} 只匹配 {@code null} 值；</li>
+ *     <li>{@code whenInstance(Class, action)} / {@code whenInstanceNext(Class, action)}：值是该类型的实例即可
+ *     （子类及接口的实现类都能匹配），与 {@code instanceof} 一致。</li>
+ * </ul>
+ * 按添加的顺序匹配：按顺序执行第一个匹配的 {@code when} 分支之前所有匹配的 {@code whenNext} 分支的 action，
+ * 返回第一个匹配的 {@code when} 分支的结果，没有匹配的 {@code when} 分支时返回 {@code orElse} 的结果。
+ * 如果 action 是线程安全的，则该匹配表是<b>不可变且线程安全</b>的。<br>
+ * 先检查上一次匹配的类型，再查找 {@link ClassValue}，所以连续匹配同一类型的值时不需要查找。匹配表的开销不随分支数量增长，
+ * 而 {@code match(value, TYPE)} 链的开销随分支数量增长，所以分支较多或多处共用同一个匹配表时使用匹配表更快；
+ * 分支较少时建议使用链或 {@code instanceof}。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * private static final TypeMatchTable&lt;Event, String&gt; VISITOR = Pattern.&lt;Event, String&gt;typeTable()
+ *         .when(OrderCreated.class,           e -&gt; onOrderCreated(e))
+ *         .whenInstance(UserEvent.class,      e -&gt; onUserEvent(e))
+ *         .whenInstance(Event.class,          e -&gt; "unknown event")
+ *         .orElse(e -&gt; "null event")
+ *         .build();
+ *
+ * String res = VISITOR.apply(event);
+ * </pre>
+ *
+ * @param <V> value type
+ * @param <R> return type
+ * @since 0.5.0
+ */
+public final class TypeMatchTable<V, R> {
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private final static R1<Object, ?>[] EMPTY_ACTIONS = new R1[0];
+
+    private final Arm[] arms;
+    private final R1<? super V, ?> orElse;
+    private final Plan nullPlan;
+    /**
+     * 最近一次查找的分支，同一类型连续匹配时不需要查找 {@link ClassValue}。
+     * 非 volatile：{@link Plan} 的字段都是 final 的，读到旧值只会多查找一次
+     */
+    private Plan lastPlan;
+    private final ClassValue<Plan> plans = new ClassValue<Plan>() {
+        @Override
+        protected Plan computeValue(Class<?> type) {
+            return resolve(type);
+        }
+    };
+
+    private TypeMatchTable(Builder<V, R> builder) {
+        this.arms = builder.arms.toArray(new Arm[0]);
+        this.orElse = builder.orElse;
+        this.nullPlan = resolve(null);
+        this.lastPlan = nullPlan;
+    }
+
+    /**
+     * Apply the matched arms, see {@link TypeMatchTable}.
+     * Returns {@code null} if no {@code when} arm is matched and no {@code orElse} action is set. <br>
+     * 执行匹配的分支，返回第一个匹配的 {@code when} 分支的结果；没有匹配的 {@code when} 分支且未设置 {@code orElse} 时，返回 {@code null}
+     *
+     * @param value value
+     * @return result of the action
+     */
+    @SuppressWarnings("unchecked")
+    public R apply(V value) {
+        Plan plan = value == null ? nullPlan : plan(value.getClass());
+        for (R1<Object, ?> next : plan.nexts) {
+            next.$(value);
+        }
+        if (plan.action != null) return (R) plan.action.$(value);
+        return orElse == null ? null : (R) orElse.$(value);
+    }
+
+    /**
+     * Whether any arm (exclude {@code orElse}) matches the value. <br>
+     * 是否有分支（不包括 {@code orElse}）匹配该值
+     *
+     * @param value value
+     * @return {@code true} if matched
+     */
+    public boolean matches(V value) {
+        Plan plan = value == null ? nullPlan : plan(value.getClass());
+        return plan.action != null || plan.nexts.length > 0;
+    }
+
+    /**
+     * Number of arms in this table, exclude {@code orElse}. <br>
+     * 分支的数量（不包括 {@code orElse}）
+     *
+     * @return size
+     */
+    public int size() {
+        return arms.length;
+    }
+
+    /**
+     * Apply this table to each value in order, see {@link #apply(Object)}. <br>
+     * 按顺序对每个值执行 {@link #apply(Object)}
+     *
+     * @param values values
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(Iterable<? extends V> values) {
+        return MatchTables.applyAll(values, this::apply);
+    }
+
+    /**
+     * Apply this table to each value, and split the work across {@link java.util.concurrent.ForkJoinPool#commonPool()}
+     * when {@code parallel} is {@code true} and {@code values} is large. The actions must be thread-safe in parallel mode. <br>
+     * 对每个值执行 {@link #apply(Object)}，当 {@code parallel} 为 {@code true} 且数据量较大时，
+     * 使用 {@link java.util.concurrent.ForkJoinPool#commonPool()} 并行执行（此时 action 必须是线程安全的）。
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return a new mutable {@link java.util.ArrayList} of the results, in the order of {@code values}
+     * @throws NullPointerException if {@code values} is null
+     */
+    public List<R> applyAll(List<? extends V> values, boolean parallel) {
+        return MatchTables.applyAll(values, parallel, this::apply);
+    }
+
+    /**
+     * Group values by the result of this table (e.g. a category or a handler), a value that matches no arm
+     * and no {@code orElse} is grouped under the {@code null} key. Groups and the values in each group keep the order of {@code values}. <br>
+     * 按匹配结果（如类别、处理器）对值分组，没有匹配的分支且未设置 {@code orElse} 的值分到 {@code null} 组中。
+     * 分组及组内元素均保持 {@code values} 中的顺序。
+     *
+     * @param values values
+     * @return groups
+     * @throws NullPointerException if {@code values} is null
+     */
+    public Map<R, List<V>> groupBy(Collection<? extends V> values) {
+        return MatchTables.groupBy(values, false, this::apply);
+    }
+
+    /**
+     * Same as {@link #groupBy(Collection)}, but the table is applied in parallel when {@code parallel} is {@code true}
+     * and {@code values} is large, see {@link #applyAll(List, boolean)}. <br>
+     * 与 {@link #groupBy(Collection)} 相同，但 {@code parallel} 为 {@code true} 且数据量较大时并行匹配
+     *
+     * @param values   values
+     * @param parallel apply in parallel or not
+     * @return groups
+     * @throws NullPointerException if {@code values} is null
+     */
+    public Map<R, List<V>> groupBy(Collection<? extends V> values, boolean parallel) {
+        return MatchTables.groupBy(values, parallel, this::apply);
+    }
+
+    /**
+     * A {@link Collector} that groups the stream elements like {@link #groupBy(Collection)}, e.g.
+     * {@code stream.collect(table.groupingCollector())}. Unlike {@link java.util.stream.Collectors#groupingBy}, the {@code null} key is allowed.
+     * Groups and the values in each group keep the encounter order. <br>
+     * 与 {@link #groupBy(Collection)} 相同方式分组的 {@link Collector}，如 {@code stream.collect(table.groupingCollector())}。
+     * 与 {@link java.util.stream.Collectors#groupingBy} 不同，允许 {@code null} 作为分组的key。分组及组内元素均保持遇到的顺序。
+     *
+     * @return grouping collector
+     * @since 0.5.0
+     */
+    public Collector<V, ?, Map<R, List<V>>> groupingCollector() {
+        return MatchTables.groupingCollector(this::apply);
+    }
+
+    /**
+     * This table as a {@link Function}, e.g. {@code stream.map(table.asFunction())}. <br>
+     * 将匹配表转为 {@link Function}，如 {@code stream.map(table.asFunction())}
+     *
+     * @return function
+     */
+    public Function<V, R> asFunction() {
+        return this::apply;
+    }
+
+    private Plan plan(Class<?> type) {
+        Plan plan = lastPlan;
+        if (plan.type != type) {
+            plan = plans.get(type);
+            lastPlan = plan;
+        }
+        return plan;
+    }
+
+    /**
+     * 按顺序解析 {@code type} 匹配的分支：第一个匹配的 {@code when} 分支，以及在它之前匹配的 {@code whenNext} 分支。
+     * {@code type} 为 {@code null} 表示匹配 {@code null} 值
+     */
+    private Plan resolve(Class<?> type) {
+        List<R1<Object, ?>> nexts = null;
+        for (Arm arm : arms) {
+            if (!arm.matches(type)) continue;
+            if (!arm.next) return new Plan(type, nexts, arm.action);
+            if (nexts == null) nexts = new ArrayList<>();
+            nexts.add(arm.action);
+        }
+        return new Plan(type, nexts, null);
+    }
+
+    @Override
+    public String toString() {
+        return "TypeMatchTable{" +
+                "size=" + arms.length +
+                '}';
+    }
+
+    /**
+     * 某个类型匹配的分支
+     */
+    private static final class Plan {
+        final Class<?> type;
+        final R1<Object, ?>[] nexts;
+        final R1<Object, ?> action;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Plan(Class<?> type, List<R1<Object, ?>> nexts, R1<Object, ?> action) {
+            this.type = type;
+            this.nexts = nexts == null ? EMPTY_ACTIONS : nexts.toArray(new R1[0]);
+            this.action = action;
+        }
+    }
+
+    private static final class Arm {
+        final Class<?> type;
+        final boolean instance;
+        final boolean next;
+        final R1<Object, ?> action;
+
+        Arm(Class<?> type, boolean instance, boolean next, R1<Object, ?> action) {
+            this.type = type;
+            this.instance = instance;
+            this.next = next;
+            this.action = action;
+        }
+
+        boolean matches(Class<?> valueType) {
+            if (type == null || valueType == null) return type == valueType;
+            return instance ? type.isAssignableFrom(valueType) : type == valueType;
+        }
+    }
+
+    /**
+     * Builder of {@link TypeMatchTable}. <b>It's not thread-safe</b>. <br>
+     * {@link TypeMatchTable} 的构建器<b>（非线程安全）</b>
+     *
+     * @param <V> value type
+     * @param <R> return type
+     * @since 0.5.0
+     */
+    public static final class Builder<V, R> {
+        private final List<Arm> arms = new ArrayList<>();
+        private R1<? super V, ?> orElse;
+
+        Builder() {
+        }
+
+        public <C> Builder<V, R> when(Class<C> type, R1<? super C, ? extends R> action) {
+            return addArm(type, false, false, action);
+        }
+
+        public <C> Builder<V, R> whenNext(Class<C> type, R1<? super C, ? extends R> action) {
+            return addArm(type, false, true, action);
+        }
+
+        public <C> Builder<V, R> whenInstance(Class<C> type, R1<? super C, ? extends R> action) {
+            Objects.requireNonNull(type, "Parameter `type` must be non-null!");
+            return addArm(type, true, false, action);
+        }
+
+        public <C> Builder<V, R> whenInstanceNext(Class<C> type, R1<? super C, ? extends R> action) {
+            Objects.requireNonNull(type, "Parameter `type` must be non-null!");
+            return addArm(type, true, true, action);
+        }
+
+        public Builder<V, R> orElse(R1<? super V, ? extends R> action) {
+            Objects.requireNonNull(action);
+            this.orElse = action;
+            return this;
+        }
+
+        public TypeMatchTable<V, R> build() {
+            return new TypeMatchTable<>(this);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <C> Builder<V, R> addArm(Class<C> type, boolean instance, boolean next, R1<? super C, ? extends R> action) {
+            Objects.requireNonNull(action);
+            arms.add(new Arm(type, instance, next, (R1<Object, ?>) action));
+            return this;
+        }
+    }
+}
@@ -28,23 +28,48 @@ public class BooleanMatcherMapping<V> extends PatternMatcherMapping<V> {
         super(value);
     }
 
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected BooleanVMatcher<V> vMatcher() {
+        return new BooleanVMatcher<>(value);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> BooleanRMatcher<V, R> rMatcher() {
+        return new BooleanRMatcher<>(value);
+    }
+
     public BooleanVMatcher<V> when(boolean matchValue, V1<? super V> action) {
-        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        BooleanVMatcher<V> booleanVMatcher = vMatcher();
         return booleanVMatcher.when(matchValue, action);
     }
 
     public BooleanVMatcher<V> whenNext(boolean matchValue, V1<? super V> action) {
-        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        BooleanVMatcher<V> booleanVMatcher = vMatcher();
         return booleanVMatcher.whenNext(matchValue, action);
     }
 
     public <R> BooleanRMatcher<V, R> when(boolean matchValue, R1<? super V, ? extends R> action) {
-        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        BooleanRMatcher<V, R> booleanRMatcher = rMatcher();
         return booleanRMatcher.when(matchValue, action);
     }
 
     public <R> BooleanRMatcher<V, R> whenNext(boolean matchValue, R1<? super V, ? extends R> action) {
-        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        BooleanRMatcher<V, R> booleanRMatcher = rMatcher();
         return booleanRMatcher.whenNext(matchValue, action);
     }
 
@@ -56,22 +81,22 @@ public class BooleanMatcherMapping<V> extends PatternMatcherMapping<V> {
      * ######################################################
      */
     public <E extends Throwable> BooleanVMatcher<V> with(boolean matchValue, VT1<? super V, E> action) throws E {
-        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        BooleanVMatcher<V> booleanVMatcher = vMatcher();
         return booleanVMatcher.with(matchValue, action);
     }
 
     public <E extends Throwable> BooleanVMatcher<V> withNext(boolean matchValue, VT1<? super V, E> action) throws E {
-        BooleanVMatcher<V> booleanVMatcher = new BooleanVMatcher<V>(value);
+        BooleanVMatcher<V> booleanVMatcher = vMatcher();
         return booleanVMatcher.withNext(matchValue, action);
     }
 
     public <R, E extends Throwable> BooleanRMatcher<V, R> with(boolean matchValue, RT1<? super V, ? extends R, E> action) throws E {
-        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        BooleanRMatcher<V, R> booleanRMatcher = rMatcher();
         return booleanRMatcher.with(matchValue, action);
     }
 
     public <R, E extends Throwable> BooleanRMatcher<V, R> withNext(boolean matchValue, RT1<? super V, ? extends R, E> action) throws E {
-        BooleanRMatcher<V, R> booleanRMatcher = new BooleanRMatcher<>(value);
+        BooleanRMatcher<V, R> booleanRMatcher = rMatcher();
         return booleanRMatcher.withNext(matchValue, action);
     }
 
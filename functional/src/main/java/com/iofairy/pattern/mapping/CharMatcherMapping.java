@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.mapping;
+
+import com.iofairy.lambda.CharConsumer;
+import com.iofairy.lambda.CharFunction;
+import com.iofairy.pattern.PatternInChars;
+import com.iofairy.pattern.matcher.CharRMatcher;
+import com.iofairy.pattern.matcher.CharVMatcher;
+
+/**
+ * Char Matcher Mapping, match a {@code char} value without boxing
+ *
+ * @since 0.5.0
+ */
+public class CharMatcherMapping implements MatcherMapping {
+    protected final char value;
+
+    public CharMatcherMapping(char value) {
+        this.value = value;
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected CharVMatcher vMatcher() {
+        return new CharVMatcher(value);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> CharRMatcher<R> rMatcher() {
+        return new CharRMatcher<>(value);
+    }
+
+    public CharVMatcher when(char matchValue, CharConsumer action) {
+        CharVMatcher charVMatcher = vMatcher();
+        return charVMatcher.when(matchValue, action);
+    }
+
+    public CharVMatcher whenNext(char matchValue, CharConsumer action) {
+        CharVMatcher charVMatcher = vMatcher();
+        return charVMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> CharRMatcher<R> when(char matchValue, CharFunction<? extends R> action) {
+        CharRMatcher<R> charRMatcher = rMatcher();
+        return charRMatcher.when(matchValue, action);
+    }
+
+    public <R> CharRMatcher<R> whenNext(char matchValue, CharFunction<? extends R> action) {
+        CharRMatcher<R> charRMatcher = rMatcher();
+        return charRMatcher.whenNext(matchValue, action);
+    }
+
+    public CharVMatcher when(PatternInChars matchValues, CharConsumer action) {
+        CharVMatcher charVMatcher = vMatcher();
+        return charVMatcher.when(matchValues, action);
+    }
+
+    public CharVMatcher whenNext(PatternInChars matchValues, CharConsumer action) {
+        CharVMatcher charVMatcher = vMatcher();
+        return charVMatcher.whenNext(matchValues, action);
+    }
+
+    public <R> CharRMatcher<R> when(PatternInChars matchValues, CharFunction<? extends R> action) {
+        CharRMatcher<R> charRMatcher = rMatcher();
+        return charRMatcher.when(matchValues, action);
+    }
+
+    public <R> CharRMatcher<R> whenNext(PatternInChars matchValues, CharFunction<? extends R> action) {
+        CharRMatcher<R> charRMatcher = rMatcher();
+        return charRMatcher.whenNext(matchValues, action);
+    }
+
+    public CharVMatcher when(boolean matchValue, CharConsumer action) {
+        CharVMatcher charVMatcher = vMatcher();
+        return charVMatcher.when(matchValue, action);
+    }
+
+    public CharVMatcher whenNext(boolean matchValue, CharConsumer action) {
+        CharVMatcher charVMatcher = vMatcher();
+        return charVMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> CharRMatcher<R> when(boolean matchValue, CharFunction<? extends R> action) {
+        CharRMatcher<R> charRMatcher = rMatcher();
+        return charRMatcher.when(matchValue, action);
+    }
+
+    public <R> CharRMatcher<R> whenNext(boolean matchValue, CharFunction<? extends R> action) {
+        CharRMatcher<R> charRMatcher = rMatcher();
+        return charRMatcher.whenNext(matchValue, action);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.mapping;
+
+import com.iofairy.pattern.PatternInInts;
+import com.iofairy.pattern.matcher.IntRMatcher;
+import com.iofairy.pattern.matcher.IntVMatcher;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * Int Matcher Mapping, match a {@code int} value without boxing
+ *
+ * @since 0.5.0
+ */
+public class IntMatcherMapping implements MatcherMapping {
+    protected final int value;
+
+    public IntMatcherMapping(int value) {
+        this.value = value;
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected IntVMatcher vMatcher() {
+        return new IntVMatcher(value);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> IntRMatcher<R> rMatcher() {
+        return new IntRMatcher<>(value);
+    }
+
+    public IntVMatcher when(int matchValue, IntConsumer action) {
+        IntVMatcher intVMatcher = vMatcher();
+        return intVMatcher.when(matchValue, action);
+    }
+
+    public IntVMatcher whenNext(int matchValue, IntConsumer action) {
+        IntVMatcher intVMatcher = vMatcher();
+        return intVMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> IntRMatcher<R> when(int matchValue, IntFunction<? extends R> action) {
+        IntRMatcher<R> intRMatcher = rMatcher();
+        return intRMatcher.when(matchValue, action);
+    }
+
+    public <R> IntRMatcher<R> whenNext(int matchValue, IntFunction<? extends R> action) {
+        IntRMatcher<R> intRMatcher = rMatcher();
+        return intRMatcher.whenNext(matchValue, action);
+    }
+
+    public IntVMatcher when(PatternInInts matchValues, IntConsumer action) {
+        IntVMatcher intVMatcher = vMatcher();
+        return intVMatcher.when(matchValues, action);
+    }
+
+    public IntVMatcher whenNext(PatternInInts matchValues, IntConsumer action) {
+        IntVMatcher intVMatcher = vMatcher();
+        return intVMatcher.whenNext(matchValues, action);
+    }
+
+    public <R> IntRMatcher<R> when(PatternInInts matchValues, IntFunction<? extends R> action) {
+        IntRMatcher<R> intRMatcher = rMatcher();
+        return intRMatcher.when(matchValues, action);
+    }
+
+    public <R> IntRMatcher<R> whenNext(PatternInInts matchValues, IntFunction<? extends R> action) {
+        IntRMatcher<R> intRMatcher = rMatcher();
+        return intRMatcher.whenNext(matchValues, action);
+    }
+
+    public IntVMatcher when(boolean matchValue, IntConsumer action) {
+        IntVMatcher intVMatcher = vMatcher();
+        return intVMatcher.when(matchValue, action);
+    }
+
+    public IntVMatcher whenNext(boolean matchValue, IntConsumer action) {
+        IntVMatcher intVMatcher = vMatcher();
+        return intVMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> IntRMatcher<R> when(boolean matchValue, IntFunction<? extends R> action) {
+        IntRMatcher<R> intRMatcher = rMatcher();
+        return intRMatcher.when(matchValue, action);
+    }
+
+    public <R> IntRMatcher<R> whenNext(boolean matchValue, IntFunction<? extends R> action) {
+        IntRMatcher<R> intRMatcher = rMatcher();
+        return intRMatcher.whenNext(matchValue, action);
+    }
+
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.mapping;
+
+import com.iofairy.pattern.PatternInLongs;
+import com.iofairy.pattern.matcher.LongRMatcher;
+import com.iofairy.pattern.matcher.LongVMatcher;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+
+/**
+ * Long Matcher Mapping, match a {@code long} value without boxing
+ *
+ * @since 0.5.0
+ */
+public class LongMatcherMapping implements MatcherMapping {
+    protected final long value;
+
+    public LongMatcherMapping(long value) {
+        this.value = value;
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected LongVMatcher vMatcher() {
+        return new LongVMatcher(value);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> LongRMatcher<R> rMatcher() {
+        return new LongRMatcher<>(value);
+    }
+
+    public LongVMatcher when(long matchValue, LongConsumer action) {
+        LongVMatcher longVMatcher = vMatcher();
+        return longVMatcher.when(matchValue, action);
+    }
+
+    public LongVMatcher whenNext(long matchValue, LongConsumer action) {
+        LongVMatcher longVMatcher = vMatcher();
+        return longVMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> LongRMatcher<R> when(long matchValue, LongFunction<? extends R> action) {
+        LongRMatcher<R> longRMatcher = rMatcher();
+        return longRMatcher.when(matchValue, action);
+    }
+
+    public <R> LongRMatcher<R> whenNext(long matchValue, LongFunction<? extends R> action) {
+        LongRMatcher<R> longRMatcher = rMatcher();
+        return longRMatcher.whenNext(matchValue, action);
+    }
+
+    public LongVMatcher when(PatternInLongs matchValues, LongConsumer action) {
+        LongVMatcher longVMatcher = vMatcher();
+        return longVMatcher.when(matchValues, action);
+    }
+
+    public LongVMatcher whenNext(PatternInLongs matchValues, LongConsumer action) {
+        LongVMatcher longVMatcher = vMatcher();
+        return longVMatcher.whenNext(matchValues, action);
+    }
+
+    public <R> LongRMatcher<R> when(PatternInLongs matchValues, LongFunction<? extends R> action) {
+        LongRMatcher<R> longRMatcher = rMatcher();
+        return longRMatcher.when(matchValues, action);
+    }
+
+    public <R> LongRMatcher<R> whenNext(PatternInLongs matchValues, LongFunction<? extends R> action) {
+        LongRMatcher<R> longRMatcher = rMatcher();
+        return longRMatcher.whenNext(matchValues, action);
+    }
+
+    public LongVMatcher when(boolean matchValue, LongConsumer action) {
+        LongVMatcher longVMatcher = vMatcher();
+        return longVMatcher.when(matchValue, action);
+    }
+
+    public LongVMatcher whenNext(boolean matchValue, LongConsumer action) {
+        LongVMatcher longVMatcher = vMatcher();
+        return longVMatcher.whenNext(matchValue, action);
+    }
+
+    public <R> LongRMatcher<R> when(boolean matchValue, LongFunction<? extends R> action) {
+        LongRMatcher<R> longRMatcher = rMatcher();
+        return longRMatcher.when(matchValue, action);
+    }
+
+    public <R> LongRMatcher<R> whenNext(boolean matchValue, LongFunction<? extends R> action) {
+        LongRMatcher<R> longRMatcher = rMatcher();
+        return longRMatcher.whenNext(matchValue, action);
+    }
+
+}
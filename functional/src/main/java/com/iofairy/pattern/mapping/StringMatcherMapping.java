@@ -38,63 +38,88 @@ public class StringMatcherMapping extends PatternMatcherMapping<String> {
         super(value);
     }
 
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected StringVMatcher vMatcher() {
+        return new StringVMatcher(value, patternString);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> StringRMatcher<R> rMatcher() {
+        return new StringRMatcher<>(value, patternString);
+    }
+
     public StringVMatcher when(String matchValue, V1<? super String> action) {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.when(matchValue, action);
     }
 
     public StringVMatcher whenNext(String matchValue, V1<? super String> action) {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.whenNext(matchValue, action);
     }
 
     public <R> StringRMatcher<R> when(String matchValue, R1<? super String, ? extends R> action) {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.when(matchValue, action);
     }
 
     public <R> StringRMatcher<R> whenNext(String matchValue, R1<? super String, ? extends R> action) {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.whenNext(matchValue, action);
     }
 
     public StringVMatcher when(PatternIn<String> matchValues, V1<? super String> action) {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.when(matchValues, action);
     }
 
     public StringVMatcher whenNext(PatternIn<String> matchValues, V1<? super String> action) {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.whenNext(matchValues, action);
     }
 
     public <R> StringRMatcher<R> when(PatternIn<String> matchValues, R1<? super String, ? extends R> action) {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.when(matchValues, action);
     }
 
     public <R> StringRMatcher<R> whenNext(PatternIn<String> matchValues, R1<? super String, ? extends R> action) {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.whenNext(matchValues, action);
     }
 
     public StringVMatcher when(boolean matchValue, V1<? super String> action) {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.when(matchValue, action);
     }
 
     public StringVMatcher whenNext(boolean matchValue, V1<? super String> action) {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.whenNext(matchValue, action);
     }
 
     public <R> StringRMatcher<R> when(boolean matchValue, R1<? super String, ? extends R> action) {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.when(matchValue, action);
     }
 
     public <R> StringRMatcher<R> whenNext(boolean matchValue, R1<? super String, ? extends R> action) {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.whenNext(matchValue, action);
     }
 
@@ -106,62 +131,62 @@ public class StringMatcherMapping extends PatternMatcherMapping<String> {
      * ######################################################
      */
     public <E extends Throwable> StringVMatcher with(String matchValue, VT1<? super String, E> action) throws E {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.with(matchValue, action);
     }
 
     public <E extends Throwable> StringVMatcher withNext(String matchValue, VT1<? super String, E> action) throws E {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.withNext(matchValue, action);
     }
 
     public <R, E extends Throwable> StringRMatcher<R> with(String matchValue, RT1<? super String, ? extends R, E> action) throws E {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.with(matchValue, action);
     }
 
     public <R, E extends Throwable> StringRMatcher<R> withNext(String matchValue, RT1<? super String, ? extends R, E> action) throws E {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.withNext(matchValue, action);
     }
 
     public <E extends Throwable> StringVMatcher with(PatternIn<String> matchValues, VT1<? super String, E> action) throws E {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.with(matchValues, action);
     }
 
     public <E extends Throwable> StringVMatcher withNext(PatternIn<String> matchValues, VT1<? super String, E> action) throws E {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.withNext(matchValues, action);
     }
 
     public <R, E extends Throwable> StringRMatcher<R> with(PatternIn<String> matchValues, RT1<? super String, ? extends R, E> action) throws E {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.with(matchValues, action);
     }
 
     public <R, E extends Throwable> StringRMatcher<R> withNext(PatternIn<String> matchValues, RT1<? super String, ? extends R, E> action) throws E {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.withNext(matchValues, action);
     }
 
     public <E extends Throwable> StringVMatcher with(boolean matchValue, VT1<? super String, E> action) throws E {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.with(matchValue, action);
     }
 
     public <E extends Throwable> StringVMatcher withNext(boolean matchValue, VT1<? super String, E> action) throws E {
-        StringVMatcher stringVMatcher = new StringVMatcher(value, patternString);
+        StringVMatcher stringVMatcher = vMatcher();
         return stringVMatcher.withNext(matchValue, action);
     }
 
     public <R, E extends Throwable> StringRMatcher<R> with(boolean matchValue, RT1<? super String, ? extends R, E> action) throws E {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.with(matchValue, action);
     }
 
     public <R, E extends Throwable> StringRMatcher<R> withNext(boolean matchValue, RT1<? super String, ? extends R, E> action) throws E {
-        StringRMatcher<R> stringRMatcher = new StringRMatcher<>(value, patternString);
+        StringRMatcher<R> stringRMatcher = rMatcher();
         return stringRMatcher.withNext(matchValue, action);
     }
     
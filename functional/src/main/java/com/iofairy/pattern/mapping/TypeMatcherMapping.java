@@ -29,23 +29,48 @@ public class TypeMatcherMapping<V> extends PatternMatcherMapping<V> {
         super(value);
     }
 
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected TypeVMatcher<V> vMatcher() {
+        return new TypeVMatcher<>(value);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> TypeRMatcher<V, R> rMatcher() {
+        return new TypeRMatcher<>(value);
+    }
+
     public <C> TypeVMatcher<V> when(Class<C> matchValue, V1<? super C> action) {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = vMatcher();
         return typeVMatcher.when(matchValue, action);
     }
 
     public <C> TypeVMatcher<V> whenNext(Class<C> matchValue, V1<? super C> action) {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = vMatcher();
         return typeVMatcher.whenNext(matchValue, action);
     }
 
     public <C, R> TypeRMatcher<V, R> when(Class<C> matchValue, R1<? super C, ? extends R> action) {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = rMatcher();
         return typeRMatcher.when(matchValue, action);
     }
 
     public <C, R> TypeRMatcher<V, R> whenNext(Class<C> matchValue, R1<? super C, ? extends R> action) {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = rMatcher();
         return typeRMatcher.whenNext(matchValue, action);
     }
 
@@ -57,22 +82,22 @@ public class TypeMatcherMapping<V> extends PatternMatcherMapping<V> {
      * ######################################################
      */
     public <C, E extends Throwable> TypeVMatcher<V> with(Class<C> matchValue, VT1<? super C, E> action) throws E {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = vMatcher();
         return typeVMatcher.with(matchValue, action);
     }
 
     public <C, E extends Throwable> TypeVMatcher<V> withNext(Class<C> matchValue, VT1<? super C, E> action) throws E {
-        TypeVMatcher<V> typeVMatcher = new TypeVMatcher<>(value);
+        TypeVMatcher<V> typeVMatcher = vMatcher();
         return typeVMatcher.withNext(matchValue, action);
     }
 
     public <C, R, E extends Throwable> TypeRMatcher<V, R> with(Class<C> matchValue, RT1<? super C, ? extends R, E> action) throws E {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = rMatcher();
         return typeRMatcher.with(matchValue, action);
     }
 
     public <C, R, E extends Throwable> TypeRMatcher<V, R> withNext(Class<C> matchValue, RT1<? super C, ? extends R, E> action) throws E {
-        TypeRMatcher<V, R> typeRMatcher = new TypeRMatcher<>(value);
+        TypeRMatcher<V, R> typeRMatcher = rMatcher();
         return typeRMatcher.withNext(matchValue, action);
     }
 
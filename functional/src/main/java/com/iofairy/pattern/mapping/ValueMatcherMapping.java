@@ -29,63 +29,88 @@ public class ValueMatcherMapping<V> extends PatternMatcherMapping<V> {
         super(value);
     }
 
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected ValueVMatcher<V> vMatcher() {
+        return new ValueVMatcher<>(value);
+    }
+
+    /**
+     * Create the matcher that the {@code when} and {@code with} methods of this mapping delegate to.
+     * Subclasses may override it to reuse a matcher, see {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 创建该映射的 {@code when} 及 {@code with} 等方法所使用的匹配器，子类可重写该方法以复用匹配器，见 {@link com.iofairy.pattern.ReusablePattern}
+     *
+     * @param <R> return type
+     * @return matcher
+     * @since 0.5.0
+     */
+    protected <R> ValueRMatcher<V, R> rMatcher() {
+        return new ValueRMatcher<>(value);
+    }
+
     public ValueVMatcher<V> when(V matchValue, V1<? super V> action) {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.when(matchValue, action);
     }
 
     public ValueVMatcher<V> whenNext(V matchValue, V1<? super V> action) {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.whenNext(matchValue, action);
     }
 
     public <R> ValueRMatcher<V, R> when(V matchValue, R1<? super V, ? extends R> action) {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.when(matchValue, action);
     }
 
     public <R> ValueRMatcher<V, R> whenNext(V matchValue, R1<? super V, ? extends R> action) {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.whenNext(matchValue, action);
     }
 
     public ValueVMatcher<V> when(PatternIn<V> matchValues, V1<? super V> action) {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.when(matchValues, action);
     }
 
     public ValueVMatcher<V> whenNext(PatternIn<V> matchValues, V1<? super V> action) {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.whenNext(matchValues, action);
     }
 
     public <R> ValueRMatcher<V, R> when(PatternIn<V> matchValues, R1<? super V, ? extends R> action) {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.when(matchValues, action);
     }
 
     public <R> ValueRMatcher<V, R> whenNext(PatternIn<V> matchValues, R1<? super V, ? extends R> action) {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.whenNext(matchValues, action);
     }
 
     public ValueVMatcher<V> when(boolean matchValue, V1<? super V> action) {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.when(matchValue, action);
     }
 
     public ValueVMatcher<V> whenNext(boolean matchValue, V1<? super V> action) {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.whenNext(matchValue, action);
     }
 
     public <R> ValueRMatcher<V, R> when(boolean matchValue, R1<? super V, ? extends R> action) {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.when(matchValue, action);
     }
 
     public <R> ValueRMatcher<V, R> whenNext(boolean matchValue, R1<? super V, ? extends R> action) {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.whenNext(matchValue, action);
     }
 
@@ -97,62 +122,62 @@ public class ValueMatcherMapping<V> extends PatternMatcherMapping<V> {
      * ######################################################
      */
     public <E extends Throwable> ValueVMatcher<V> with(V matchValue, VT1<? super V, E> action) throws E {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.with(matchValue, action);
     }
 
     public <E extends Throwable> ValueVMatcher<V> withNext(V matchValue, VT1<? super V, E> action) throws E {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.withNext(matchValue, action);
     }
 
     public <R, E extends Throwable> ValueRMatcher<V, R> with(V matchValue, RT1<? super V, ? extends R, E> action) throws E {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.with(matchValue, action);
     }
 
     public <R, E extends Throwable> ValueRMatcher<V, R> withNext(V matchValue, RT1<? super V, ? extends R, E> action) throws E {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.withNext(matchValue, action);
     }
 
     public <E extends Throwable> ValueVMatcher<V> with(PatternIn<V> matchValues, VT1<? super V, E> action) throws E {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.with(matchValues, action);
     }
 
     public <E extends Throwable> ValueVMatcher<V> withNext(PatternIn<V> matchValues, VT1<? super V, E> action) throws E {
-        ValueVMatcher<V>valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V>valueVMatcher = vMatcher();
         return valueVMatcher.withNext(matchValues, action);
     }
 
     public <R, E extends Throwable> ValueRMatcher<V, R> with(PatternIn<V> matchValues, RT1<? super V, ? extends R, E> action) throws E {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.with(matchValues, action);
     }
 
     public <R, E extends Throwable> ValueRMatcher<V, R> withNext(PatternIn<V> matchValues, RT1<? super V, ? extends R, E> action) throws E {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.withNext(matchValues, action);
     }
 
     public <E extends Throwable> ValueVMatcher<V> with(boolean matchValue, VT1<? super V, E> action) throws E {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.with(matchValue, action);
     }
 
     public <E extends Throwable> ValueVMatcher<V> withNext(boolean matchValue, VT1<? super V, E> action) throws E {
-        ValueVMatcher<V> valueVMatcher = new ValueVMatcher<>(value);
+        ValueVMatcher<V> valueVMatcher = vMatcher();
         return valueVMatcher.withNext(matchValue, action);
     }
 
     public <R, E extends Throwable> ValueRMatcher<V, R> with(boolean matchValue, RT1<? super V, ? extends R, E> action) throws E {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.with(matchValue, action);
     }
 
     public <R, E extends Throwable> ValueRMatcher<V, R> withNext(boolean matchValue, RT1<? super V, ? extends R, E> action) throws E {
-        ValueRMatcher<V, R> valueRMatcher = new ValueRMatcher<>(value);
+        ValueRMatcher<V, R> valueRMatcher = rMatcher();
         return valueRMatcher.withNext(matchValue, action);
     }
 
@@ -39,6 +39,19 @@ public class BooleanRMatcher<V, R> implements PatternMatcher {
         this(value, false);
     }
 
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(V value) {
+        this.value = value;
+        this.isMatch = false;
+        this.returnValue = null;
+    }
+
     public BooleanRMatcher<V, R> when(boolean value, R1<? super V, ? extends R> action) {
         Objects.requireNonNull(action);
         if (!isMatch && value) {
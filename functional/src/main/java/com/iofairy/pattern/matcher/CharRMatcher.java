@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.matcher;
+
+import com.iofairy.lambda.CharFunction;
+import com.iofairy.pattern.PatternInChars;
+
+import java.util.Objects;
+
+/**
+ * Char Matcher with return value, the {@code char} value is matched without boxing. <br>
+ * 带返回值的 {@code char} 类型匹配器，匹配过程中不会装箱
+ *
+ * @since 0.5.0
+ */
+public class CharRMatcher<R> implements PatternMatcher {
+
+    protected R returnValue;
+    protected char value;
+    protected boolean isMatch;
+
+    public CharRMatcher(char value, boolean isMatch) {
+        this.value = value;
+        this.isMatch = isMatch;
+    }
+
+    public CharRMatcher(char value) {
+        this(value, false);
+    }
+
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(char value) {
+        this.value = value;
+        this.isMatch = false;
+        this.returnValue = null;
+    }
+
+    public CharRMatcher<R> when(char value, CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            isMatch = true;
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public CharRMatcher<R> whenNext(char value, CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public CharRMatcher<R> when(PatternInChars values, CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            isMatch = true;
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public CharRMatcher<R> whenNext(PatternInChars values, CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public CharRMatcher<R> when(boolean value, CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            isMatch = true;
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public CharRMatcher<R> whenNext(boolean value, CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public R orElse(CharFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch) {
+            returnValue = action.apply(this.value);
+        }
+        return returnValue;
+    }
+}
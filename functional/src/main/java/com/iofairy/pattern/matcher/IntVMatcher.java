@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.matcher;
+
+import com.iofairy.pattern.PatternInInts;
+import java.util.function.IntConsumer;
+
+import java.util.Objects;
+
+/**
+ * Int Matcher with void, the {@code int} value is matched without boxing. <br>
+ * 无返回值的 {@code int} 类型匹配器，匹配过程中不会装箱
+ *
+ * @since 0.5.0
+ */
+public class IntVMatcher implements PatternMatcher {
+
+    protected Void returnValue;
+    protected int value;
+    protected boolean isMatch;
+
+    public IntVMatcher(int value, boolean isMatch) {
+        this.value = value;
+        this.isMatch = isMatch;
+    }
+
+    public IntVMatcher(int value) {
+        this(value, false);
+    }
+
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(int value) {
+        this.value = value;
+        this.isMatch = false;
+    }
+
+    public IntVMatcher when(int value, IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            isMatch = true;
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public IntVMatcher whenNext(int value, IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public IntVMatcher when(PatternInInts values, IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            isMatch = true;
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public IntVMatcher whenNext(PatternInInts values, IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public IntVMatcher when(boolean value, IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            isMatch = true;
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public IntVMatcher whenNext(boolean value, IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public Void orElse(IntConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch) {
+            action.accept(this.value);
+        }
+        return returnValue;
+    }
+}
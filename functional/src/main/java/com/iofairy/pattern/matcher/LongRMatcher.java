@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.matcher;
+
+import com.iofairy.pattern.PatternInLongs;
+import java.util.function.LongFunction;
+
+import java.util.Objects;
+
+/**
+ * Long Matcher with return value, the {@code long} value is matched without boxing. <br>
+ * 带返回值的 {@code long} 类型匹配器，匹配过程中不会装箱
+ *
+ * @since 0.5.0
+ */
+public class LongRMatcher<R> implements PatternMatcher {
+
+    protected R returnValue;
+    protected long value;
+    protected boolean isMatch;
+
+    public LongRMatcher(long value, boolean isMatch) {
+        this.value = value;
+        this.isMatch = isMatch;
+    }
+
+    public LongRMatcher(long value) {
+        this(value, false);
+    }
+
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(long value) {
+        this.value = value;
+        this.isMatch = false;
+        this.returnValue = null;
+    }
+
+    public LongRMatcher<R> when(long value, LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            isMatch = true;
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public LongRMatcher<R> whenNext(long value, LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public LongRMatcher<R> when(PatternInLongs values, LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            isMatch = true;
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public LongRMatcher<R> whenNext(PatternInLongs values, LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public LongRMatcher<R> when(boolean value, LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            isMatch = true;
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public LongRMatcher<R> whenNext(boolean value, LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            returnValue = action.apply(this.value);
+        }
+        return this;
+    }
+
+    public R orElse(LongFunction<? extends R> action) {
+        Objects.requireNonNull(action);
+        if (!isMatch) {
+            returnValue = action.apply(this.value);
+        }
+        return returnValue;
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.pattern.matcher;
+
+import com.iofairy.pattern.PatternInLongs;
+import java.util.function.LongConsumer;
+
+import java.util.Objects;
+
+/**
+ * Long Matcher with void, the {@code long} value is matched without boxing. <br>
+ * 无返回值的 {@code long} 类型匹配器，匹配过程中不会装箱
+ *
+ * @since 0.5.0
+ */
+public class LongVMatcher implements PatternMatcher {
+
+    protected Void returnValue;
+    protected long value;
+    protected boolean isMatch;
+
+    public LongVMatcher(long value, boolean isMatch) {
+        this.value = value;
+        this.isMatch = isMatch;
+    }
+
+    public LongVMatcher(long value) {
+        this(value, false);
+    }
+
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(long value) {
+        this.value = value;
+        this.isMatch = false;
+    }
+
+    public LongVMatcher when(long value, LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            isMatch = true;
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public LongVMatcher whenNext(long value, LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && this.value == value) {
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public LongVMatcher when(PatternInLongs values, LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            isMatch = true;
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public LongVMatcher whenNext(PatternInLongs values, LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && values != null && values.contains(this.value)) {
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public LongVMatcher when(boolean value, LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            isMatch = true;
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public LongVMatcher whenNext(boolean value, LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch && value) {
+            action.accept(this.value);
+        }
+        return this;
+    }
+
+    public Void orElse(LongConsumer action) {
+        Objects.requireNonNull(action);
+        if (!isMatch) {
+            action.accept(this.value);
+        }
+        return returnValue;
+    }
+}
@@ -43,14 +43,13 @@ public class Null2Matcher<T1, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1));
             if (matchValue == null) {
-                return new Null3Matcher<>(true, value1, null, msg);
+                return new Null3Matcher<>(true, value1, null, msgAction.$(Tuple.of(value1)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1)) : null;
             return new Null3Matcher<>(doBreak, value1, newValue, localMsg);
         }
         return new Null3Matcher<>(true, value1, null, this.msg);
@@ -84,10 +83,9 @@ public class Null2Matcher<T1, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1)) : null;
             return new Null3Matcher<>(doBreak, value1, newValue, localMsg);
         }
         return new Null3Matcher<>(true, value1, null, this.msg);
@@ -126,14 +124,13 @@ public class Null2Matcher<T1, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1));
             if (matchValue == null) {
-                return new Null3Matcher<>(true, value1, null, msg);
+                return new Null3Matcher<>(true, value1, null, msgAction.$(Tuple.of(value1)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1)) : null;
             return new Null3Matcher<>(doBreak, value1, newValue, localMsg);
         }
         return new Null3Matcher<>(true, value1, null, this.msg);
@@ -167,10 +164,9 @@ public class Null2Matcher<T1, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1)) : null;
             return new Null3Matcher<>(doBreak, value1, newValue, localMsg);
         }
         return new Null3Matcher<>(true, value1, null, this.msg);
@@ -46,14 +46,13 @@ public class Null3Matcher<T1, T2, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2));
             if (matchValue == null) {
-                return new Null4Matcher<>(true, value1, value2, null, msg);
+                return new Null4Matcher<>(true, value1, value2, null, msgAction.$(Tuple.of(value1, value2)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2)) : null;
             return new Null4Matcher<>(doBreak, value1, value2, newValue, localMsg);
         }
         return new Null4Matcher<>(true, value1, value2, null, this.msg);
@@ -87,10 +86,9 @@ public class Null3Matcher<T1, T2, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2)) : null;
             return new Null4Matcher<>(doBreak, value1, value2, newValue, localMsg);
         }
         return new Null4Matcher<>(true, value1, value2, null, this.msg);
@@ -121,10 +119,9 @@ public class Null3Matcher<T1, T2, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2)) : null;
             return new Null4Matcher<>(doBreak, value1, value2, newValue, localMsg);
         }
         return new Null4Matcher<>(true, value1, value2, null, this.msg);
@@ -163,14 +160,13 @@ public class Null3Matcher<T1, T2, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2));
             if (matchValue == null) {
-                return new Null4Matcher<>(true, value1, value2, null, msg);
+                return new Null4Matcher<>(true, value1, value2, null, msgAction.$(Tuple.of(value1, value2)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2)) : null;
             return new Null4Matcher<>(doBreak, value1, value2, newValue, localMsg);
         }
         return new Null4Matcher<>(true, value1, value2, null, this.msg);
@@ -204,10 +200,9 @@ public class Null3Matcher<T1, T2, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2)) : null;
             return new Null4Matcher<>(doBreak, value1, value2, newValue, localMsg);
         }
         return new Null4Matcher<>(true, value1, value2, null, this.msg);
@@ -238,10 +233,9 @@ public class Null3Matcher<T1, T2, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2)) : null;
             return new Null4Matcher<>(doBreak, value1, value2, newValue, localMsg);
         }
         return new Null4Matcher<>(true, value1, value2, null, this.msg);
@@ -47,14 +47,13 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             if (matchValue == null) {
-                return new Null5Matcher<>(true, value1, value2, value3, null, msg);
+                return new Null5Matcher<>(true, value1, value2, value3, null, msgAction.$(Tuple.of(value1, value2, value3)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -88,10 +87,9 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -122,10 +120,9 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -156,10 +153,9 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -197,14 +193,13 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             if (matchValue == null) {
-                return new Null5Matcher<>(true, value1, value2, value3, null, msg);
+                return new Null5Matcher<>(true, value1, value2, value3, null, msgAction.$(Tuple.of(value1, value2, value3)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -238,10 +233,9 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -272,10 +266,9 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
@@ -306,10 +299,9 @@ public class Null4Matcher<T1, T2, T3, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3)) : null;
             return new Null5Matcher<>(doBreak, value1, value2, value3, newValue, localMsg);
         }
         return new Null5Matcher<>(true, value1, value2, value3, null, this.msg);
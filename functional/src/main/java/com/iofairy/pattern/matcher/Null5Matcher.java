@@ -49,14 +49,13 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             if (matchValue == null) {
-                return new Null6Matcher<>(true, value1, value2, value3, value4, null, msg);
+                return new Null6Matcher<>(true, value1, value2, value3, value4, null, msgAction.$(Tuple.of(value1, value2, value3, value4)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -90,10 +89,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -124,10 +122,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -158,10 +155,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -192,10 +188,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -233,14 +228,13 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             if (matchValue == null) {
-                return new Null6Matcher<>(true, value1, value2, value3, value4, null, msg);
+                return new Null6Matcher<>(true, value1, value2, value3, value4, null, msgAction.$(Tuple.of(value1, value2, value3, value4)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -274,10 +268,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -308,10 +301,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -342,10 +334,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
@@ -376,10 +367,9 @@ public class Null5Matcher<T1, T2, T3, T4, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4)) : null;
             return new Null6Matcher<>(doBreak, value1, value2, value3, value4, newValue, localMsg);
         }
         return new Null6Matcher<>(true, value1, value2, value3, value4, null, this.msg);
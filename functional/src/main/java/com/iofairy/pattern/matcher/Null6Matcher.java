@@ -51,14 +51,13 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             if (matchValue == null) {
-                return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, msg);
+                return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, msgAction.$(Tuple.of(value1, value2, value3, value4, value5)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -92,10 +91,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -126,10 +124,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -160,10 +157,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -194,10 +190,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -228,10 +223,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value5);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -269,14 +263,13 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             if (matchValue == null) {
-                return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, msg);
+                return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, msgAction.$(Tuple.of(value1, value2, value3, value4, value5)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -310,10 +303,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -344,10 +336,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -378,10 +369,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -412,10 +402,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -446,10 +435,9 @@ public class Null6Matcher<T1, T2, T3, T4, T5, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5));
             NV newValue = computeValue.$(value5);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5)) : null;
             return new Null7Matcher<>(doBreak, value1, value2, value3, value4, value5, newValue, localMsg);
         }
         return new Null7Matcher<>(true, value1, value2, value3, value4, value5, null, this.msg);
@@ -53,14 +53,13 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             if (matchValue == null) {
-                return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, msg);
+                return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -94,10 +93,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -128,10 +126,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -162,10 +159,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -196,10 +192,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -230,10 +225,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value5);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -264,10 +258,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value6);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -305,14 +298,13 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             if (matchValue == null) {
-                return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, msg);
+                return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -346,10 +338,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -380,10 +371,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -414,10 +404,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -448,10 +437,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -482,10 +470,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value5);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -516,10 +503,9 @@ public class Null7Matcher<T1, T2, T3, T4, T5, T6, R> implements NullMatcher {
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6));
             NV newValue = computeValue.$(value6);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6)) : null;
             return new Null8Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, newValue, localMsg);
         }
         return new Null8Matcher<>(true, value1, value2, value3, value4, value5, value6, null, this.msg);
@@ -54,14 +54,13 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             if (matchValue == null) {
-                return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, msg);
+                return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -95,10 +94,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -129,10 +127,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -163,10 +160,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -197,10 +193,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -231,10 +226,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value5);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -265,10 +259,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value6);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -299,10 +292,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value7);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -340,14 +332,13 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(computeValue);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             if (matchValue == null) {
-                return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, msg);
+                return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)));
             }
 
             NV newValue = computeValue.$(matchValue);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -381,10 +372,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value1);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -415,10 +405,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value2);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -449,10 +438,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value3);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -483,10 +471,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value4);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -517,10 +504,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value5);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -551,10 +537,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value6);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
@@ -585,10 +570,9 @@ public class Null8Matcher<T1, T2, T3, T4, T5, T6, T7, R> implements NullMatcher
         Objects.requireNonNull(patternNull);
         Objects.requireNonNull(msgAction);
         if (!isMatch) {
-            R msg = msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7));
             NV newValue = computeValue.$(value7);
             boolean doBreak = newValue == null || (action != null && action.$(newValue));
-            R localMsg = doBreak ? msg : null;
+            R localMsg = doBreak ? msgAction.$(Tuple.of(value1, value2, value3, value4, value5, value6, value7)) : null;
             return new Null9Matcher<>(doBreak, value1, value2, value3, value4, value5, value6, value7, newValue, localMsg);
         }
         return new Null9Matcher<>(true, value1, value2, value3, value4, value5, value6, value7, null, this.msg);
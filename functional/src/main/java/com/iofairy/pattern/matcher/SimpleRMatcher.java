@@ -35,6 +35,19 @@ public abstract class SimpleRMatcher<V, P, L, R> extends SimpleMatcher<V, P, L,
         this(value, false);
     }
 
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(V value) {
+        this.value = value;
+        this.isMatch = false;
+        this.returnValue = null;
+    }
+
     public abstract SimpleRMatcher<V, P, L, R> when(P value, R1<? super L, ? extends R> action);
 
     public abstract SimpleRMatcher<V, P, L, R> whenNext(P value, R1<? super L, ? extends R> action);
@@ -35,6 +35,18 @@ public abstract class SimpleVMatcher<V, P, L> extends SimpleMatcher<V, P, L, Voi
         this(value, false);
     }
 
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(V value) {
+        this.value = value;
+        this.isMatch = false;
+    }
+
     public abstract SimpleVMatcher<V, P, L> when(P value, V1<? super L> action);
 
     public abstract SimpleVMatcher<V, P, L> whenNext(P value, V1<? super L> action);
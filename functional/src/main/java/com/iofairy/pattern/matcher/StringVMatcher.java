@@ -19,6 +19,7 @@ import com.iofairy.lambda.V1;
 import com.iofairy.lambda.VT1;
 import com.iofairy.pattern.PatternIn;
 import com.iofairy.pattern.type.*;
+import com.iofairy.string.Ascii;
 import java.util.List;
 import java.util.Objects;
 
@@ -31,23 +32,11 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
 
     private PatternString patternString;
 
-    private String ucValue;     // Upper Case Value
-    private boolean ignoreCase = false;
     private boolean isMatchForNext = false;
 
     public StringVMatcher(String value, PatternString patternString) {
         this(value);
         this.patternString = patternString;
-
-        ucValue = value;
-        if (value != null){
-            if (patternString == PatternString.ICCONTAIN
-                    || patternString == PatternString.ICPREFIX
-                    || patternString == PatternString.ICSUFFIX){
-                ucValue = value.toUpperCase();
-                ignoreCase = true;
-            }
-        }
     }
 
     public StringVMatcher(String value, boolean isMatch) {
@@ -58,6 +47,26 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         this(value, false);
     }
 
+    @Override
+    protected void reset(String value) {
+        super.reset(value);
+        this.isMatchForNext = false;
+    }
+
+    /**
+     * Reset this matcher to match another value by another {@link PatternString},
+     * so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以使用另一个 {@link PatternString} 匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value         value
+     * @param patternString {@link PatternString}
+     * @since 0.5.0
+     */
+    protected void reset(String value, PatternString patternString) {
+        reset(value);
+        this.patternString = patternString;
+    }
+
     @Override
     public StringVMatcher when(String value, V1<? super String> action) {
         Objects.requireNonNull(action);
@@ -70,41 +79,9 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
                 return this;
             }
 
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
+            if (matchString(value)) {
+                isMatch = true;
+                action.$(this.value);
             }
         }
 
@@ -122,41 +99,9 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
                 return this;
             }
 
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
+            if (matchString(value)) {
+                isMatchForNext = true;
+                action.$(this.value);
             }
         }
 
@@ -175,41 +120,9 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
                 return this;
             }
 
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatch = true;
-                        action.$(this.value);
-                    }
+            if (matchString(value)) {
+                isMatch = true;
+                action.$(this.value);
             }
         }
 
@@ -227,41 +140,9 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
                 return this;
             }
 
-            String ucValue = ignoreCase ? value.toUpperCase() : value;
-
-            switch (patternString) {
-                case IGNORECASE:
-                    if (ucValue.equalsIgnoreCase(this.ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case CONTAIN:
-                case ICCONTAIN:
-                    if (this.ucValue.contains(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case PREFIX:
-                case ICPREFIX:
-                    if (this.ucValue.startsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                case SUFFIX:
-                case ICSUFFIX:
-                    if (this.ucValue.endsWith(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
-                    break;
-                default:
-                    if (this.ucValue.equals(ucValue)) {
-                        isMatchForNext = true;
-                        action.$(this.value);
-                    }
+            if (matchString(value)) {
+                isMatchForNext = true;
+                action.$(this.value);
             }
         }
 
@@ -311,7 +192,7 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     isMatch = true;
                     action.$(this.value);
                 }
@@ -319,6 +200,10 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
             }
 
             if (values != null) {
+                if (patternString == PatternString.STRING) {     // 精确匹配时，直接通过 contains 判断，无需逐个比较
+                    if (values.contains(this.value)) when(this.value, action);
+                    return this;
+                }
                 List<String> vs = values.getVs();
                 for (String v : vs) {
                     if (v != null) {
@@ -336,13 +221,18 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     action.$(this.value);
                 }
                 return this;
             }else {
                 if (values != null) {
+                    if (patternString == PatternString.STRING) {     // 精确匹配时，直接通过 contains 判断，无需逐个比较
+                        if (values.contains(this.value)) whenNext(this.value, action);
+                        return this;
+                    }
                     List<String> vs = values.getVs();
+                    isMatchForNext = false;     // 只在当前分支匹配时停止，不受之前匹配的 whenNext 分支影响
                     for (String v : vs) {
                         if (v != null) {
                             whenNext(v, action);
@@ -360,7 +250,7 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     isMatch = true;
                     action.$(this.value);
                 }
@@ -368,6 +258,10 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
             }
 
             if (values != null) {
+                if (patternString == PatternString.STRING) {     // 精确匹配时，直接通过 contains 判断，无需逐个比较
+                    if (values.contains(this.value)) with(this.value, action);
+                    return this;
+                }
                 List<String> vs = values.getVs();
                 for (String v : vs) {
                     if (v != null) {
@@ -385,13 +279,18 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     action.$(this.value);
                 }
                 return this;
             }else {
                 if (values != null) {
+                    if (patternString == PatternString.STRING) {     // 精确匹配时，直接通过 contains 判断，无需逐个比较
+                        if (values.contains(this.value)) withNext(this.value, action);
+                        return this;
+                    }
                     List<String> vs = values.getVs();
+                    isMatchForNext = false;     // 只在当前分支匹配时停止，不受之前匹配的 whenNext 分支影响
                     for (String v : vs) {
                         if (v != null) {
                             withNext(v, action);
@@ -404,6 +303,45 @@ public class StringVMatcher extends SimpleVInMatcher<String, String, String> {
         return this;
     }
 
+    /**
+     * 判断待匹配的值是否与模式匹配。值与模式都是 ASCII 字符串时，忽略大小写的比较通过 {@link Ascii} 逐个字符进行，不会创建新的字符串；
+     * 否则与之前的版本一致，比较两者的 {@link String#toUpperCase()}，以保留长度会变化的大小写映射（如 {@code "ß"} 与 {@code "SS"}）
+     *
+     * @param pattern 模式，非 {@code null}
+     * @return 是否匹配
+     * @since 0.5.0
+     */
+    private boolean matchString(String pattern) {
+        switch (patternString) {
+            case IGNORECASE:
+                return pattern.equalsIgnoreCase(this.value);
+            case CONTAIN:
+                return this.value.contains(pattern);
+            case ICCONTAIN:
+                return isAscii(pattern)
+                        ? Ascii.containsIgnoreCase(this.value, pattern)
+                        : this.value.toUpperCase().contains(pattern.toUpperCase());
+            case PREFIX:
+                return this.value.startsWith(pattern);
+            case ICPREFIX:
+                return isAscii(pattern)
+                        ? Ascii.startsWithIgnoreCase(this.value, pattern)
+                        : this.value.toUpperCase().startsWith(pattern.toUpperCase());
+            case SUFFIX:
+                return this.value.endsWith(pattern);
+            case ICSUFFIX:
+                return isAscii(pattern)
+                        ? Ascii.endsWithIgnoreCase(this.value, pattern)
+                        : this.value.toUpperCase().endsWith(pattern.toUpperCase());
+            default:
+                return this.value.equals(pattern);
+        }
+    }
+
+    private boolean isAscii(String pattern) {
+        return Ascii.isAscii(pattern) && Ascii.isAscii(this.value);
+    }
+
     @Override
     public Void orElse(V1<? super String> action) {
         Objects.requireNonNull(action);
@@ -21,7 +21,9 @@ import com.iofairy.lambda.VT1;
 import java.util.Objects;
 
 /**
- * Type Matcher with void
+ * Type Matcher with void. <br>
+ * The arms are checked one by one on each match, for a hot path with many arms,
+ * build a {@link com.iofairy.pattern.TypeMatchTable} once by {@link com.iofairy.pattern.Pattern#typeTable()} instead.
  *
  * @since 0.0.1
  */
@@ -40,6 +42,18 @@ public class TypeVMatcher<V> implements PatternMatcher {
         this(value, false);
     }
 
+    /**
+     * Reset this matcher to match another value, so that it can be reused by {@link com.iofairy.pattern.ReusablePattern}. <br>
+     * 重置匹配器以匹配另一个值，用于 {@link com.iofairy.pattern.ReusablePattern} 复用匹配器
+     *
+     * @param value value
+     * @since 0.5.0
+     */
+    protected void reset(V value) {
+        this.value = value;
+        this.isMatch = false;
+    }
+
     public <C> TypeVMatcher<V> when(Class<C> value, V1<? super C> action) {
         Objects.requireNonNull(action);
         if (!isMatch) {
@@ -117,12 +117,12 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     isMatch = true;
                     returnValue = action.$(this.value);
                 }
             }else {
-                if (values != null && values.getVs().contains(this.value)) {
+                if (values != null && values.contains(this.value)) {
                     isMatch = true;
                     returnValue = action.$(this.value);
                 }
@@ -136,10 +136,10 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value))
+                if (values == null || values.contains(this.value))
                     returnValue = action.$(this.value);
             }else {
-                if (values != null && values.getVs().contains(this.value))
+                if (values != null && values.contains(this.value))
                     returnValue = action.$(this.value);
             }
         }
@@ -151,12 +151,12 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     isMatch = true;
                     returnValue = action.$(this.value);
                 }
             }else {
-                if (values != null && values.getVs().contains(this.value)) {
+                if (values != null && values.contains(this.value)) {
                     isMatch = true;
                     returnValue = action.$(this.value);
                 }
@@ -170,10 +170,10 @@ public class ValueRMatcher<V, R> extends SimpleRInMatcher<V, V, V, R> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value))
+                if (values == null || values.contains(this.value))
                     returnValue = action.$(this.value);
             }else {
-                if (values != null && values.getVs().contains(this.value))
+                if (values != null && values.contains(this.value))
                     returnValue = action.$(this.value);
             }
         }
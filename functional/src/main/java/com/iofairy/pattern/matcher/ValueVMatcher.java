@@ -116,12 +116,12 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     isMatch = true;
                     action.$(this.value);
                 }
             }else {
-                if (values != null && values.getVs().contains(this.value)) {
+                if (values != null && values.contains(this.value)) {
                     isMatch = true;
                     action.$(this.value);
                 }
@@ -135,9 +135,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) action.$(this.value);
+                if (values == null || values.contains(this.value)) action.$(this.value);
             }else {
-                if (values != null && values.getVs().contains(this.value)) action.$(this.value);
+                if (values != null && values.contains(this.value)) action.$(this.value);
             }
         }
         return this;
@@ -148,12 +148,12 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) {
+                if (values == null || values.contains(this.value)) {
                     isMatch = true;
                     action.$(this.value);
                 }
             }else {
-                if (values != null && values.getVs().contains(this.value)) {
+                if (values != null && values.contains(this.value)) {
                     isMatch = true;
                     action.$(this.value);
                 }
@@ -167,9 +167,9 @@ public class ValueVMatcher<V> extends SimpleVInMatcher<V, V, V> {
         Objects.requireNonNull(action);
         if (!isMatch) {
             if (this.value == null) {
-                if (values == null || values.getVs().contains(this.value)) action.$(this.value);
+                if (values == null || values.contains(this.value)) action.$(this.value);
             }else {
-                if (values != null && values.getVs().contains(this.value)) action.$(this.value);
+                if (values != null && values.contains(this.value)) action.$(this.value);
             }
         }
         return this;
@@ -46,18 +46,21 @@ public enum PatternString implements PatternTypes {
      */
     SUFFIX,
     /**
-     * ignore case for contain<br>
-     * 忽略大小写的包含匹配
+     * ignore case for contain, strings with non-ASCII characters are compared by {@link String#toUpperCase()},
+     * so {@code "ß"} matches {@code "SS"}<br>
+     * 忽略大小写的包含匹配，包含非 ASCII 字符时通过 {@link String#toUpperCase()} 比较，所以 {@code "ß"} 能匹配 {@code "SS"}
      */
     ICCONTAIN,
     /**
-     * ignore case for prefix<br>
-     * 忽略大小写的前缀匹配
+     * ignore case for prefix, strings with non-ASCII characters are compared by {@link String#toUpperCase()},
+     * so {@code "ß"} matches {@code "SS"}<br>
+     * 忽略大小写的前缀匹配，包含非 ASCII 字符时通过 {@link String#toUpperCase()} 比较，所以 {@code "ß"} 能匹配 {@code "SS"}
      */
     ICPREFIX,
     /**
-     * ignore case for suffix<br>
-     * 忽略大小写的后缀匹配
+     * ignore case for suffix, strings with non-ASCII characters are compared by {@link String#toUpperCase()},
+     * so {@code "ß"} matches {@code "SS"}<br>
+     * 忽略大小写的后缀匹配，包含非 ASCII 字符时通过 {@link String#toUpperCase()} 比较，所以 {@code "ß"} 能匹配 {@code "SS"}
      */
     ICSUFFIX
 }
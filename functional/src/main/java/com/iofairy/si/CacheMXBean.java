@@ -0,0 +1,43 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+/**
+ * Management interface of a cache of {@link SI}, see {@link SIMetrics#registerMBeans()}. <br>
+ * {@link SI} 缓存的JMX管理接口
+ *
+ * @since 0.5.0
+ */
+public interface CacheMXBean {
+
+    String getName();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    long getEvictionCount();
+
+    double getHitRate();
+
+    int getSize();
+
+    int getMaxSize();
+
+    void setMaxSize(int maxSize);
+
+    void resetStats();
+}
@@ -0,0 +1,421 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+import com.iofairy.except.UndefinedVariableException;
+import com.iofairy.internal.ParallelChunks;
+import com.iofairy.tuple.Tuple;
+
+import java.io.IOException;
+import java.util.*;
+
+/**
+ * Precompiled string template. <b>It's immutable and thread-safe</b>, create it by {@link SI#compile(String)}
+ * once and reuse it. <br>
+ * 预编译的字符串模板<b>（不可变对象，线程安全）</b>。通过 {@link SI#compile(String)} 创建一次后可重复使用，
+ * 渲染时不再查找模板缓存，也不再遍历 {@link StringToken} 列表。
+ * <p>
+ * The flat form (parsed by {@link StringExtractor#split(String)}) is used when
+ * {@link SI#isEnableSIInVariables()} is {@code false}, otherwise the nested form
+ * (parsed by {@link StringExtractor#nestedParse(String)}) is used. <br>
+ * 当 {@link SI#isEnableSIInVariables()} 为 {@code false} 时使用扁平结构（{@link StringExtractor#split(String)}），
+ * 否则使用嵌套结构（{@link StringExtractor#nestedParse(String)}）。
+ *
+ * @since 0.5.0
+ */
+public final class CompiledTemplate {
+    /**
+     * 渲染时每个变量槽位预估的长度
+     */
+    private final static int SLOT_LENGTH_ESTIMATE = 16;
+
+    /**
+     * 原始模板
+     */
+    final String template;
+    /**
+     * 字面量片段，{@code literals[i]} 位于变量槽位 {@code i} 之前，{@code literals[keys.length]} 为末尾的字面量
+     */
+    final String[] literals;
+    /**
+     * 变量槽位的变量名
+     */
+    final String[] keys;
+    /**
+     * 变量不存在时，变量槽位输出的值（默认值或原始的 <code>${key}</code> 字符串）
+     */
+    final String[] originValues;
+    /**
+     * 所有字面量片段的总长度
+     */
+    final int literalLength;
+    /**
+     * 嵌套结构的tokens
+     */
+    final List<Object> nestedTokens;
+
+    private CompiledTemplate(String template, List<StringToken> tokens, List<Object> nestedTokens) {
+        int slotCount = 0;
+        for (StringToken token : tokens) {
+            if (token.type == StringType.VARIABLE) slotCount++;
+        }
+
+        String[] literals = new String[slotCount + 1];
+        String[] keys = new String[slotCount];
+        String[] originValues = new String[slotCount];
+
+        int slot = 0;
+        int literalLength = 0;
+        StringBuilder literal = new StringBuilder();
+        for (StringToken token : tokens) {
+            if (token.type == StringType.STRING) {
+                literal.append(token.value);        // 合并连续的字面量，如：abc${}def 会被拆分为 abc$ 与 def
+            } else {
+                literals[slot] = literal.toString();
+                literalLength += literals[slot].length();
+                keys[slot] = token.value;
+                originValues[slot] = token.originValue;
+                literal.setLength(0);
+                slot++;
+            }
+        }
+        literals[slot] = literal.toString();
+        literalLength += literals[slot].length();
+
+        this.template = template;
+        this.literals = literals;
+        this.keys = keys;
+        this.originValues = originValues;
+        this.literalLength = literalLength;
+        this.nestedTokens = Collections.unmodifiableList(nestedTokens);
+    }
+
+    /**
+     * Compile a template. <br>
+     * 编译模板
+     *
+     * @param template template
+     * @return CompiledTemplate
+     * @throws NullPointerException if {@code template} is null
+     */
+    static CompiledTemplate compile(String template) {
+        if (template == null) throw new NullPointerException("Parameter `template` must be non-null!");
+        return new CompiledTemplate(template, StringExtractor.split(template), StringExtractor.nestedParse(template));
+    }
+
+    /**
+     * Render the flat form by value map. <br>
+     * 使用 valueMap 渲染扁平结构的模板
+     *
+     * @param valueMap                         value map
+     * @param enableUndefinedVariableException whether throw exception when the variable is undefined
+     * @return string that has been processed
+     */
+    String render(Map<String, Object> valueMap, boolean enableUndefinedVariableException) {
+        String[] values = new String[keys.length];
+        int length = literalLength;
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = resolve(valueMap, i, enableUndefinedVariableException);
+            length += values[i].length();
+        }
+        return concat(values, length);
+    }
+
+    /**
+     * Render the flat form by value map, and write the result to {@code out}. <br>
+     * 使用 valueMap 渲染扁平结构的模板，并将结果写入 {@code out}
+     *
+     * @param valueMap                         value map
+     * @param enableUndefinedVariableException whether throw exception when the variable is undefined
+     * @param out                              the sink
+     * @throws IOException if an I/O error occurs in {@code out}
+     * @since 0.5.0
+     */
+    void renderTo(Map<String, Object> valueMap, boolean enableUndefinedVariableException, Appendable out) throws IOException {
+        out.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            out.append(resolve(valueMap, i, enableUndefinedVariableException)).append(literals[i + 1]);
+        }
+    }
+
+    private String resolve(Map<String, Object> valueMap, int slot, boolean enableUndefinedVariableException) {
+        String key = keys[slot];
+        Object value = valueMap.get(key);
+        if (value == null && !valueMap.containsKey(key)) {
+            if (enableUndefinedVariableException) {
+                throw new UndefinedVariableException("Cannot resolve variable `" + key + "` in \"" + template + "\". ");
+            }
+            return originValues[slot];
+        }
+        return String.valueOf(value);
+    }
+
+    /**
+     * 使用已解析的变量值拼接结果，{@code length} 为结果的准确长度，只分配一次
+     */
+    private String concat(String[] values, int length) {
+        StringBuilder sb = new StringBuilder(length);
+        sb.append(literals[0]);
+        for (int i = 0; i < values.length; i++) {
+            sb.append(values[i]).append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Interpolating for this template by arguments in order, the same as {@link SI#$(CharSequence, Object...)}. <br>
+     * 按顺序使用参数进行插值，与 {@link SI#$(CharSequence, Object...)} 相同
+     *
+     * @param arguments arguments
+     * @return string that has been processed
+     */
+    public String $(Object... arguments) {
+        int argLength = arguments == null ? 0 : arguments.length;
+
+        String[] values = new String[keys.length];
+        int length = literalLength;
+        for (int i = 0; i < keys.length; i++) {
+            values[i] = i < argLength ? String.valueOf(arguments[i]) : originValues[i];
+            length += values[i].length();
+        }
+        return concat(values, length);
+    }
+
+    /**
+     * Render this template against each value map in {@code rows}, the flat form is used and undefined variables are kept as is. <br>
+     * 使用 {@code rows} 中的每个 Map 渲染模板（扁平结构，未定义的变量保持原样输出）。
+     * 模板只解析一次，所有行共用同一个 {@link StringBuilder}。
+     *
+     * @param rows value maps, {@code null} element is treated as an empty map
+     * @return rendered strings (a mutable {@link ArrayList}), in the order of {@code rows}
+     * @throws NullPointerException if {@code rows} is null
+     * @since 0.5.0
+     */
+    public List<String> renderAll(Iterable<? extends Map<String, ?>> rows) {
+        if (rows == null) throw new NullPointerException("Parameter `rows` must be non-null!");
+
+        List<String> results = rows instanceof Collection ? new ArrayList<>(((Collection<?>) rows).size()) : new ArrayList<>();
+        StringBuilder sb = new StringBuilder(estimatedLength());
+        for (Map<String, ?> row : rows) {
+            results.add(renderRow(sb, row));
+        }
+        return results;
+    }
+
+    /**
+     * Render this template against each value map in {@code rows}, and split the work across
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()} when {@code parallel} is {@code true} and {@code rows} is large. <br>
+     * 使用 {@code rows} 中的每个 Map 渲染模板，当 {@code parallel} 为 {@code true} 且数据量较大时，
+     * 使用 {@link java.util.concurrent.ForkJoinPool#commonPool()} 并行渲染。
+     *
+     * @param rows     value maps, {@code null} element is treated as an empty map
+     * @param parallel render in parallel or not
+     * @return rendered strings (a mutable {@link ArrayList}), in the order of {@code rows}
+     * @throws NullPointerException if {@code rows} is null
+     * @see #renderAll(Iterable)
+     * @since 0.5.0
+     */
+    public List<String> renderAll(List<? extends Map<String, ?>> rows, boolean parallel) {
+        if (rows == null) throw new NullPointerException("Parameter `rows` must be non-null!");
+        if (!ParallelChunks.isParallel(parallel, rows.size())) return renderAll(rows);
+
+        String[] results = new String[rows.size()];
+        ParallelChunks.run(results.length, (from, to) -> {
+            StringBuilder sb = new StringBuilder(estimatedLength());
+            for (int i = from; i < to; i++) {
+                results[i] = renderRow(sb, rows.get(i));
+            }
+        });
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    /**
+     * Render this template against each tuple in {@code rows}, variables are bound to elements by aliases,
+     * or by {@code _1}, {@code _2} ... if the tuple has no aliases. The flat form is used and undefined variables are kept as is. <br>
+     * 使用 {@code rows} 中的每个元组渲染模板（扁平结构，未定义的变量保持原样输出）。变量按别名绑定到元组的元素，
+     * 元组未设置别名时，按 {@code _1}、{@code _2} …… 绑定。
+     * 变量槽位与元素序号的绑定关系只在别名变化时计算，不会为每个元组创建 Map。
+     *
+     * @param rows tuples, {@code null} element is treated as an empty tuple
+     * @return rendered strings (a mutable {@link ArrayList}), in the order of {@code rows}
+     * @throws NullPointerException if {@code rows} is null
+     * @since 0.5.0
+     */
+    public List<String> renderAllTuples(Iterable<? extends Tuple> rows) {
+        if (rows == null) throw new NullPointerException("Parameter `rows` must be non-null!");
+
+        List<String> results = rows instanceof Collection ? new ArrayList<>(((Collection<?>) rows).size()) : new ArrayList<>();
+        TupleBinder binder = new TupleBinder();
+        StringBuilder sb = new StringBuilder(estimatedLength());
+        for (Tuple row : rows) {
+            results.add(renderRow(sb, row, binder));
+        }
+        return results;
+    }
+
+    /**
+     * Render this template against each tuple in {@code rows}, and split the work across
+     * {@link java.util.concurrent.ForkJoinPool#commonPool()} when {@code parallel} is {@code true} and {@code rows} is large. <br>
+     * 使用 {@code rows} 中的每个元组渲染模板，当 {@code parallel} 为 {@code true} 且数据量较大时，
+     * 使用 {@link java.util.concurrent.ForkJoinPool#commonPool()} 并行渲染。
+     *
+     * @param rows     tuples, {@code null} element is treated as an empty tuple
+     * @param parallel render in parallel or not
+     * @return rendered strings (a mutable {@link ArrayList}), in the order of {@code rows}
+     * @throws NullPointerException if {@code rows} is null
+     * @see #renderAllTuples(Iterable)
+     * @since 0.5.0
+     */
+    public List<String> renderAllTuples(List<? extends Tuple> rows, boolean parallel) {
+        if (rows == null) throw new NullPointerException("Parameter `rows` must be non-null!");
+        if (!ParallelChunks.isParallel(parallel, rows.size())) return renderAllTuples(rows);
+
+        String[] results = new String[rows.size()];
+        ParallelChunks.run(results.length, (from, to) -> {
+            StringBuilder sb = new StringBuilder(estimatedLength());
+            TupleBinder binder = new TupleBinder();
+            for (int i = from; i < to; i++) {
+                results[i] = renderRow(sb, rows.get(i), binder);
+            }
+        });
+        return new ArrayList<>(Arrays.asList(results));
+    }
+
+    private String renderRow(StringBuilder sb, Map<String, ?> row) {
+        sb.setLength(0);
+        sb.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            Object value;
+            if (row == null) {
+                value = originValues[i];
+            } else {
+                value = row.get(keys[i]);
+                if (value == null && !row.containsKey(keys[i])) value = originValues[i];
+            }
+            sb.append(value).append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    private String renderRow(StringBuilder sb, Tuple row, TupleBinder binder) {
+        int[] binding = binder.bind(row);
+        sb.setLength(0);
+        sb.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            int index = binding[i];
+            if (index == -1) {
+                sb.append(originValues[i]);
+            } else {
+                sb.append((Object) row.element(index));
+            }
+            sb.append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 变量槽位与元组元素序号的绑定关系，别名与上一个元组相同时直接复用，<b>非线程安全</b>
+     */
+    private final class TupleBinder {
+        private List<String> aliases;
+        private int arity = -1;
+        private int[] binding;
+
+        int[] bind(Tuple tuple) {
+            if (tuple == null) {
+                if (arity != 0 || aliases == null || !aliases.isEmpty()) {
+                    aliases = Collections.emptyList();
+                    arity = 0;
+                    binding = bindByNames(Collections.emptyList(), 0);
+                }
+                return binding;
+            }
+
+            List<String> tupleAliases = tuple.getAliases();
+            if (tuple.arity() != arity || !tupleAliases.equals(aliases)) {
+                aliases = new ArrayList<>(tupleAliases);
+                arity = tuple.arity();
+                binding = bindByNames(aliases, arity);
+            }
+            return binding;
+        }
+
+        private int[] bindByNames(List<String> aliases, int arity) {
+            int[] binding = new int[keys.length];
+            for (int i = 0; i < keys.length; i++) {
+                binding[i] = -1;
+                for (int j = 0; j < arity; j++) {
+                    String name = aliases.isEmpty() ? "_" + (j + 1) : aliases.get(j);
+                    if (keys[i].equals(name)) {
+                        binding[i] = j;
+                        break;
+                    }
+                }
+            }
+            return binding;
+        }
+    }
+
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * The number of variable slots in flat form. <br>
+     * 扁平结构中变量槽位的个数
+     *
+     * @return slot count
+     */
+    public int slotCount() {
+        return keys.length;
+    }
+
+    /**
+     * Variable names of all slots in flat form, in order. <br>
+     * 扁平结构中所有变量槽位的变量名（按顺序）
+     *
+     * @return variable names
+     */
+    public List<String> getKeys() {
+        return Collections.unmodifiableList(Arrays.asList(keys));
+    }
+
+    /**
+     * Estimated length of the output before the values are known: the exact length of all literals plus a heuristic
+     * {@value #SLOT_LENGTH_ESTIMATE} chars for each slot. It only sizes the buffers that are reused across rows
+     * or filled by the nested form, {@link #$(Object...)} and single-map rendering size their buffer exactly
+     * from the resolved values. <br>
+     * 变量值未知时输出结果的预估长度：字面量的准确长度 + 每个变量槽位 {@value #SLOT_LENGTH_ESTIMATE} 个字符的经验值。
+     * 只用于多行复用的缓冲区及嵌套结构的渲染，{@link #$(Object...)} 及单个 Map 的渲染会先解析变量值，按准确长度分配缓冲区。
+     *
+     * @return estimated length
+     */
+    public int estimatedLength() {
+        return literalLength + keys.length * SLOT_LENGTH_ESTIMATE;
+    }
+
+    public List<Object> getNestedTokens() {
+        return nestedTokens;
+    }
+
+    @Override
+    public String toString() {
+        return "CompiledTemplate{" +
+                "template='" + template + '\'' +
+                ", slotCount=" + keys.length +
+                '}';
+    }
+}
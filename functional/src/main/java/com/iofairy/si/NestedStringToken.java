@@ -15,6 +15,7 @@
  */
 package com.iofairy.si;
 
+import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -34,15 +35,15 @@ public class NestedStringToken {
     /**
      * <code>${}</code> 中的字符串
      */
-    final LinkedList<Object> tokens = new LinkedList<>();
+    final List<Object> tokens;
     /**
      * 变量名 variable name
      */
-    transient final LinkedList<Object> key = new LinkedList<>();
+    transient final List<Object> key;
     /**
      * 默认值
      */
-    transient final LinkedList<Object> defaultValue = new LinkedList<>();
+    transient final List<Object> defaultValue;
     /**
      * 在原始字符串中的开始位置
      */
@@ -57,10 +58,31 @@ public class NestedStringToken {
     boolean isClosed;
 
     public NestedStringToken() {
+        this(0);
     }
 
     public NestedStringToken(int startIndex) {
+        this(startIndex, 0, new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), false);
+    }
+
+    /**
+     * 使用已经解析好的tokens创建 NestedStringToken
+     *
+     * @param startIndex   在原始字符串中的开始位置
+     * @param endIndex     在原始字符串中的结束位置
+     * @param tokens       <code>${}</code> 中的tokens
+     * @param key          变量名
+     * @param defaultValue 默认值
+     * @param isClosed     是否 <code>${}</code> 封闭
+     * @since 0.5.0
+     */
+    NestedStringToken(int startIndex, int endIndex, List<Object> tokens, List<Object> key, List<Object> defaultValue, boolean isClosed) {
         this.startIndex = startIndex;
+        this.endIndex = endIndex;
+        this.tokens = tokens;
+        this.key = key;
+        this.defaultValue = defaultValue;
+        this.isClosed = isClosed;
     }
 
     public NestedStringToken getParentNode() {
@@ -71,15 +93,66 @@ public class NestedStringToken {
         this.parentNode = parentNode;
     }
 
+    /**
+     * 返回tokens的副本，修改副本不会影响当前token
+     *
+     * @return tokens的副本
+     * @deprecated tokens不再使用 {@link LinkedList} 存储，请使用 {@link #getTokenList()}
+     */
+    @Deprecated
     public LinkedList<Object> getTokens() {
-        return tokens;
+        return new LinkedList<>(tokens);
     }
 
+    /**
+     * 返回变量名的副本，修改副本不会影响当前token
+     *
+     * @return 变量名的副本
+     * @deprecated 变量名不再使用 {@link LinkedList} 存储，请使用 {@link #getKeyList()}
+     */
+    @Deprecated
     public LinkedList<Object> getKey() {
-        return key;
+        return new LinkedList<>(key);
     }
 
+    /**
+     * 返回默认值的副本，修改副本不会影响当前token
+     *
+     * @return 默认值的副本
+     * @deprecated 默认值不再使用 {@link LinkedList} 存储，请使用 {@link #getDefaultValueList()}
+     */
+    @Deprecated
     public LinkedList<Object> getDefaultValue() {
+        return new LinkedList<>(defaultValue);
+    }
+
+    /**
+     * <code>${}</code> 中的tokens
+     *
+     * @return tokens
+     * @since 0.5.0
+     */
+    public List<Object> getTokenList() {
+        return tokens;
+    }
+
+    /**
+     * 变量名
+     *
+     * @return 变量名
+     * @since 0.5.0
+     */
+    public List<Object> getKeyList() {
+        return key;
+    }
+
+    /**
+     * 默认值
+     *
+     * @return 默认值
+     * @since 0.5.0
+     */
+    public List<Object> getDefaultValueList() {
         return defaultValue;
     }
 
@@ -130,8 +203,20 @@ public class NestedStringToken {
      * 批量添加token
      *
      * @param tokens tokens
+     * @deprecated 请使用 {@link #addTokens(List)}
      */
+    @Deprecated
     public void addTokens(LinkedList<Object> tokens) {
+        addTokens((List<Object>) tokens);
+    }
+
+    /**
+     * 批量添加token
+     *
+     * @param tokens tokens
+     * @since 0.5.0
+     */
+    public void addTokens(List<Object> tokens) {
         for (Object token : tokens) {
             if (token instanceof NestedStringToken) {
                 ((NestedStringToken) token).parentNode = this;
@@ -155,7 +240,7 @@ public class NestedStringToken {
      */
     public void mergeAndSplitTokens() {
         if (isClosed) {
-            LinkedList<Object> newTokens = new LinkedList<>();
+            List<Object> newTokens = new ArrayList<>();
             int indexOfDefaultValue = -1;
             Iterator<Object> iter = this.tokens.iterator();
             StringBuilder sb = new StringBuilder();
@@ -186,7 +271,7 @@ public class NestedStringToken {
         }
     }
 
-    private static int getIndexOfDefaultValue(LinkedList<Object> newTokens, int indexOfDefaultValue, StringBuilder sb) {
+    private static int getIndexOfDefaultValue(List<Object> newTokens, int indexOfDefaultValue, StringBuilder sb) {
         String word = sb.toString();
         int i = word.indexOf(DEFAULT_VALUE_DELIMITER);
         if (indexOfDefaultValue == -1 && i > -1) {  // 之前没有找到默认值，且当前找到默认值
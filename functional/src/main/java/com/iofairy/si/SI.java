@@ -22,33 +22,62 @@ import com.iofairy.top.G;
 import com.iofairy.top.S;
 import com.iofairy.tuple.Tuple;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.logging.Logger;
 
 import static com.iofairy.si.SIBase.*;
 
 /**
- * String Interpolator. <b>It's not thread-safe</b>.<br>
- * 字符串插值器<b>（非线程安全）</b>
+ * String Interpolator. <b>It's not thread-safe</b> for writes: by default, many threads may interpolate ({@code $}, {@code renderTo})
+ * with one SI at the same time, but a write ({@code add}, {@code fill}, {@code set}, {@code del}, {@code setEnableXxx})
+ * must not run concurrently with any other call, unless copy-on-write mode is enabled by {@link #setEnableCopyOnWrite(boolean)}.<br>
+ * 字符串插值器<b>（写操作非线程安全）</b>：默认模式下，多个线程可以同时使用同一个SI插值（{@code $}、{@code renderTo}），
+ * 但写操作（{@code add}、{@code fill}、{@code set}、{@code del}、{@code setEnableXxx}）不能与其他调用并发执行；
+ * 通过 {@link #setEnableCopyOnWrite(boolean)} 开启写时复制模式后，读写都可在多个线程间共享。
  *
  * @since 0.0.1
  */
 public class SI {
 
+    private final static Logger log = Logger.getLogger(SI.class.getName());
+
     private final static int CACHE_SIZE = 1000;
     private final static int NESTED_CACHE_SIZE = 500;
     private final static int KEY_CACHE_SIZE = 2000;
-    private final static Map<String, List<StringToken>> TEMPLATE_CACHE = Collections.synchronizedMap(new LRUCache<>(CACHE_SIZE));
-    private final static Map<String, List<Object>> NESTED_TEMPLATE_CACHE = Collections.synchronizedMap(new LRUCache<>(NESTED_CACHE_SIZE));
-    private final static Map<String, String> KEY_CACHE = Collections.synchronizedMap(new LRUCache<>(KEY_CACHE_SIZE));
+    private final static StripedLRUCache<String, List<StringToken>> TEMPLATE_CACHE =
+            new StripedLRUCache<>("TEMPLATE_CACHE", cacheSize("iofairy.si.templateCacheSize", CACHE_SIZE));
+    private final static StripedLRUCache<String, List<Object>> NESTED_TEMPLATE_CACHE =
+            new StripedLRUCache<>("NESTED_TEMPLATE_CACHE", cacheSize("iofairy.si.nestedTemplateCacheSize", NESTED_CACHE_SIZE));
+    private final static StripedLRUCache<String, String> KEY_CACHE =
+            new StripedLRUCache<>("KEY_CACHE", cacheSize("iofairy.si.keyCacheSize", KEY_CACHE_SIZE));
+    private final static Function<String, List<StringToken>> TOKENS_LOADER =
+            source -> SIMetrics.parse(TEMPLATE_CACHE.getName(), source, StringExtractor::split);
+    private final static Function<String, List<Object>> NESTED_TOKENS_LOADER =
+            source -> SIMetrics.parse(NESTED_TEMPLATE_CACHE.getName(), source, StringExtractor::nestedParse);
 
-    private final Map<String, Object> valueMap = new HashMap<>();   // 读多写少，未加同步机制
+    /**
+     * 变量的值及其解析结果。默认模式下直接修改（读多写少，写操作未加同步机制，不能与插值并发执行，但多个线程可以同时插值）；
+     * 写时复制模式下，每次修改都会创建新的快照并发布，已发布的快照不会再被修改
+     */
+    private volatile Values values = new Values(new HashMap<>(), false);
 
     /**是否开启嵌套插值*/
     private boolean enableSIInVariables = false;
-    /**是否在 {@link #valueMap} 的值中开启嵌套插值（{@link #enableSIInVariables} 为 {@code true} 时才有效）*/
+    /**是否在 {@link #getValueMap()} 的值中开启嵌套插值（{@link #enableSIInVariables} 为 {@code true} 时才有效）*/
     private boolean enableSIInValues = false;
-    /**是否抛出异常，当 {@link #valueMap} 中不存在指定的变量*/
+    /**是否抛出异常，当 {@link #getValueMap()} 中不存在指定的变量*/
     private boolean enableUndefinedVariableException = false;
+    /**是否开启写时复制模式*/
+    private boolean enableCopyOnWrite = false;
 
 
     private final static String MSG_UNEXPECTED_PARAM = "This parameter is a key, the key must be end with \" ->\" or \" >>>\" or \" >>\". ";
@@ -62,7 +91,7 @@ public class SI {
     }
 
     public SI(final Map<String, ?> valueMap) {
-        if (valueMap != null) this.valueMap.putAll(valueMap);
+        if (valueMap != null) this.values.valueMap.putAll(valueMap);
     }
 
     public static SI of(final Tuple... tuples) {
@@ -152,7 +181,7 @@ public class SI {
     }
 
     public SI add(Map<String, ?> valueMap) {
-        if (valueMap != null) this.valueMap.putAll(valueMap);
+        putAll(valueMap);
         return this;
     }
 
@@ -202,13 +231,23 @@ public class SI {
     }
 
     public SI set(Tuple... tuples) {
-        valueMap.clear();
-        return this.add(tuples);
+        update(map -> {
+            map.clear();
+            if (tuples != null) {
+                Arrays.stream(tuples)
+                        .filter(e -> e != null && e.arity() != 0)
+                        .forEach(t -> map.putAll(t.toMap()));
+            }
+        }, null);
+        return this;
     }
 
     public SI set(Map<String, ?> valueMap) {
-        this.valueMap.clear();
-        return this.add(valueMap);
+        update(map -> {
+            map.clear();
+            if (valueMap != null) map.putAll(valueMap);
+        }, null);
+        return this;
     }
 
     /**
@@ -222,24 +261,81 @@ public class SI {
      * @since 0.0.1
      */
     public SI set(Object... kvs) {
-        valueMap.clear();
         Map<String, Object> kvMap = toMap(false, false, kvs);
-        return this.add(kvMap);
+        return this.set(kvMap);
     }
 
     public SI del(String... keys) {
         if (keys != null) {
-            Arrays.stream(keys).forEach(valueMap::remove);
+            List<String> keyList = Arrays.asList(keys);
+            update(map -> keyList.forEach(map::remove), keyList);
         }
         return this;
     }
 
     private void tuplesPutToMap(Tuple... tuples) {
         if (tuples != null) {
+            Map<String, Object> tuplesMap = new HashMap<>();
             Arrays.stream(tuples)
                     .filter(e -> e != null && e.arity() != 0)
-                    .forEach(t -> valueMap.putAll(t.toMap()));
+                    .forEach(t -> tuplesMap.putAll(t.toMap()));
+            putAll(tuplesMap);
+        }
+    }
+
+    private void putAll(Map<String, ?> values) {
+        if (values != null && !values.isEmpty()) {
+            update(map -> map.putAll(values), values.keySet());
+        }
+    }
+
+    /**
+     * 修改变量的值。默认模式下直接修改，并使相关的已解析值失效；
+     * 写时复制模式下，在副本上修改，并将副本作为新的快照发布，读线程不会看到修改了一半的值
+     *
+     * @param mutation    修改操作
+     * @param changedKeys 被修改的变量，为 {@code null} 时表示所有变量都可能被修改
+     * @since 0.5.0
+     */
+    private void update(Consumer<Map<String, Object>> mutation, Collection<String> changedKeys) {
+        if (enableCopyOnWrite) {
+            synchronized (this) {
+                Map<String, Object> map = new HashMap<>(values.valueMap);
+                mutation.accept(map);
+                values = new Values(map, true);
+            }
+        } else {
+            Values current = values;
+            mutation.accept(current.valueMap);
+            if (changedKeys == null) {
+                current.clearResolvedValues();
+            } else {
+                changedKeys.forEach(current::invalidate);
+                // 没有已解析的值时，依赖关系已无用处（如解析失败时记录的依赖），全部清除，避免依赖关系不断累积
+                if (current.resolvedValues.isEmpty()) current.clearResolvedValues();
+            }
+        }
+    }
+
+    /**
+     * Clear all resolved values of nested interpolation. The resolved values are invalidated automatically when
+     * calling {@code add}, {@code fill}, {@code set} or {@code del}, call this method only when a value object in this SI is
+     * mutated in place. <br>
+     * 清除所有已解析的嵌套插值的值。调用 {@code add}、{@code fill}、{@code set}、{@code del} 时会自动使相关的已解析值失效，
+     * 只有当值对象本身被修改时才需要调用该方法。
+     *
+     * @return this SI object
+     * @since 0.5.0
+     */
+    public SI clearResolvedValues() {
+        if (enableCopyOnWrite) {
+            synchronized (this) {
+                values = new Values(values.valueMap, true);
+            }
+        } else {
+            values.clearResolvedValues();
         }
+        return this;
     }
 
     /**
@@ -256,55 +352,277 @@ public class SI {
         if (source == null) return null;
         if (S.isBlank(source)) return source.toString();
 
-        String sourceString = source.toString();
-
         StringBuilder interpolated = new StringBuilder();
+        try {
+            render(values, source.toString(), interpolated);
+        } catch (IOException e) {   // StringBuilder 不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+        return interpolated.toString();
+    }
 
-        if (enableSIInVariables) {
-            List<Object> nestedTokens = getNestedTokens(sourceString);
+    /**
+     * Interpolating for a precompiled template. <br>
+     * 使用预编译的模板执行插值
+     *
+     * @param template precompiled template, see {@link #compile(String)}
+     * @return string that has been processed
+     * @throws NullPointerException        if {@code template} is null
+     * @throws CircularReferencesException when the circular reference occurs
+     * @throws UndefinedVariableException  No variable was found during string interpolation when {@link #enableUndefinedVariableException} is {@code true}.
+     * @since 0.5.0
+     */
+    public String $(CompiledTemplate template) {
+        if (template == null) throw new NullPointerException("Parameter `template` must be non-null!");
 
-            for (Object token : nestedTokens) {
-                if (token instanceof NestedStringToken) {
-                    List<String> variablesStack = new ArrayList<>();
-                    Object afterInterpolated = interpolate(sourceString, (NestedStringToken) token, variablesStack);
-                    interpolated.append(afterInterpolated);
-                } else {
-                    interpolated.append(token);
-                }
+        Values current = values;
+        long start = SIMetrics.isActive() ? System.nanoTime() : 0L;
+        String interpolated;
+        if (enableSIInVariables) {
+            StringBuilder sb = new StringBuilder(template.estimatedLength());
+            try {
+                interpolateNested(current, template.template, template.nestedTokens, sb);
+            } catch (IOException e) {   // StringBuilder 不会抛出 IOException
+                throw new UncheckedIOException(e);
             }
+            interpolated = sb.toString();
         } else {
-            List<StringToken> tokens = getTokens(sourceString);
+            interpolated = template.render(current.valueMap, enableUndefinedVariableException);
+        }
+        if (start != 0L) SIMetrics.recordRender(template.template, start);
+        return interpolated;
+    }
+
+    /**
+     * Interpolating for strings, and write the result to {@code out} directly without building an intermediate string.
+     * Literal segments and variable values are appended to {@code out} one by one,
+     * so {@code out} may contain partial result when an exception is thrown. <br>
+     * 执行插值程序，并将结果直接写入 {@code out}，不会创建中间的字符串。字面量片段与变量值会逐个写入 {@code out}，
+     * 所以抛出异常时，{@code out} 中可能已写入部分结果。
+     * <p>
+     * <b>Examples:</b>
+     * <pre>
+     * try (Writer writer = Files.newBufferedWriter(path)) {
+     *     si.renderTo(reportTemplate, writer);
+     * }
+     * </pre>
+     *
+     * @param source source string, nothing is written if it is {@code null}
+     * @param out    the sink, such as {@link StringBuilder}, {@link java.io.Writer}, {@link java.io.PrintStream}
+     * @param <A>    the type of sink
+     * @return {@code out}
+     * @throws IOException                 if an I/O error occurs in {@code out}
+     * @throws NullPointerException        if {@code out} is null
+     * @throws CircularReferencesException when the circular reference occurs
+     * @throws UndefinedVariableException  No variable was found during string interpolation when {@link #enableUndefinedVariableException} is {@code true}.
+     * @since 0.5.0
+     */
+    public <A extends Appendable> A renderTo(CharSequence source, A out) throws IOException {
+        if (out == null) throw new NullPointerException("Parameter `out` must be non-null!");
+        if (source == null) return out;     // 与 $(null) 返回 null 一致，不写入 "null"
+        if (S.isBlank(source)) {
+            out.append(source);
+        } else {
+            render(values, source.toString(), out);
+        }
+        return out;
+    }
+
+    /**
+     * Interpolating for a precompiled template, and write the result to {@code out} directly. <br>
+     * 使用预编译的模板执行插值，并将结果直接写入 {@code out}
+     *
+     * @param template precompiled template, see {@link #compile(String)}
+     * @param out      the sink, such as {@link StringBuilder}, {@link java.io.Writer}, {@link java.io.PrintStream}
+     * @param <A>      the type of sink
+     * @return {@code out}
+     * @throws IOException                 if an I/O error occurs in {@code out}
+     * @throws NullPointerException        if {@code template} or {@code out} is null
+     * @throws CircularReferencesException when the circular reference occurs
+     * @throws UndefinedVariableException  No variable was found during string interpolation when {@link #enableUndefinedVariableException} is {@code true}.
+     * @see #renderTo(CharSequence, Appendable)
+     * @since 0.5.0
+     */
+    public <A extends Appendable> A renderTo(CompiledTemplate template, A out) throws IOException {
+        if (template == null) throw new NullPointerException("Parameter `template` must be non-null!");
+        if (out == null) throw new NullPointerException("Parameter `out` must be non-null!");
+
+        Values current = values;
+        long start = SIMetrics.isActive() ? System.nanoTime() : 0L;
+        if (enableSIInVariables) {
+            interpolateNested(current, template.template, template.nestedTokens, out);
+        } else {
+            template.renderTo(current.valueMap, enableUndefinedVariableException, out);
+        }
+        if (start != 0L) SIMetrics.recordRender(template.template, start);
+        return out;
+    }
+
+    /**
+     * Interpolating for strings, and encode the result into {@code buffer} directly by {@code charset}. <br>
+     * 执行插值程序，并将结果按 {@code charset} 编码后直接写入 {@code buffer}
+     *
+     * @param source  source string
+     * @param buffer  byte buffer
+     * @param charset charset
+     * @return {@code buffer}
+     * @throws BufferOverflowException     if there is insufficient space in {@code buffer}
+     * @throws NullPointerException        if {@code buffer} or {@code charset} is null
+     * @throws CircularReferencesException when the circular reference occurs
+     * @throws UndefinedVariableException  No variable was found during string interpolation when {@link #enableUndefinedVariableException} is {@code true}.
+     * @see #renderTo(CharSequence, Appendable)
+     * @since 0.5.0
+     */
+    public ByteBuffer renderTo(CharSequence source, ByteBuffer buffer, Charset charset) {
+        if (buffer == null || charset == null) throw new NullPointerException("Parameters `buffer`, `charset` must be non-null!");
+
+        ByteBufferAppendable out = new ByteBufferAppendable(buffer, charset);
+        try {
+            renderTo(source, out);
+        } catch (IOException e) {   // ByteBufferAppendable 不会抛出 IOException
+            throw new UncheckedIOException(e);
+        }
+        out.finish();
+        return buffer;
+    }
+
+    /**
+     * 执行插值程序，并将结果写入 {@code out}
+     *
+     * @param current 变量的值，一次插值只读取一次 {@link #values}，保证写时复制模式下使用的是同一个快照
+     * @param source  原始字符串
+     * @param out     结果写入的目标
+     * @throws IOException if an I/O error occurs in {@code out}
+     * @since 0.5.0
+     */
+    private void render(Values current, String source, Appendable out) throws IOException {
+        long start = SIMetrics.isActive() ? System.nanoTime() : 0L;
+        if (enableSIInVariables) {
+            interpolateNested(current, source, getNestedTokens(source), out);
+        } else {
+            Map<String, Object> valueMap = current.valueMap;
+            List<StringToken> tokens = getTokens(source);
 
             for (StringToken token : tokens) {
                 String value = token.value;
-                if (enableUndefinedVariableException && token.type == StringType.VARIABLE && !valueMap.containsKey(value)) {
-                    throw new UndefinedVariableException("Cannot resolve variable `" + value + "` in \"" + sourceString + "\". ");
+                if (token.type == StringType.STRING) {
+                    out.append(value);
+                } else {
+                    if (enableUndefinedVariableException && !valueMap.containsKey(value)) {
+                        throw new UndefinedVariableException("Cannot resolve variable `" + value + "` in \"" + source + "\". ");
+                    }
+                    out.append(String.valueOf(valueMap.getOrDefault(value, token.originValue)));
                 }
-                interpolated.append(token.type == StringType.STRING ? value : valueMap.getOrDefault(value, token.originValue));
             }
         }
+        if (start != 0L) SIMetrics.recordRender(source, start);
+    }
 
-        return interpolated.toString();
+    /**
+     * Compile a template, the returned {@link CompiledTemplate} is immutable and can be reused. <br>
+     * 预编译模板，返回的 {@link CompiledTemplate} 为不可变对象，可重复使用。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * CompiledTemplate template = SI.compile("ip: ${ip}---port: ${port: 3306}");
+     *
+     * String info1 = si1.$(template);
+     * String info2 = si2.$(template);
+     * String info3 = template.$("127.0.0.1", 3306);
+     * </pre>
+     *
+     * @param template template
+     * @return CompiledTemplate
+     * @throws NullPointerException if {@code template} is null
+     * @since 0.5.0
+     */
+    public static CompiledTemplate compile(String template) {
+        return CompiledTemplate.compile(template);
+    }
+
+    /**
+     * Render a template against each value map in {@code rows}, the template is parsed only once. <br>
+     * 使用 {@code rows} 中的每个 Map 渲染模板，模板只解析一次。<br>
+     * <b>Examples:</b>
+     * <pre>
+     * List&lt;String&gt; lines = SI.renderAll("${id},${name},${price: 0}", rows);
+     * </pre>
+     *
+     * @param template template
+     * @param rows     value maps
+     * @return rendered strings, in the order of {@code rows}
+     * @throws NullPointerException if {@code template} or {@code rows} is null
+     * @see CompiledTemplate#renderAll(Iterable)
+     * @see CompiledTemplate#renderAll(List, boolean)
+     * @since 0.5.0
+     */
+    public static List<String> renderAll(String template, Iterable<? extends Map<String, ?>> rows) {
+        return compile(template).renderAll(rows);
+    }
+
+    /**
+     * Render a template against each tuple in {@code rows}, the template is parsed only once. <br>
+     * 使用 {@code rows} 中的每个元组渲染模板，模板只解析一次。
+     *
+     * @param template template
+     * @param rows     tuples
+     * @return rendered strings, in the order of {@code rows}
+     * @throws NullPointerException if {@code template} or {@code rows} is null
+     * @see CompiledTemplate#renderAllTuples(Iterable)
+     * @see CompiledTemplate#renderAllTuples(List, boolean)
+     * @since 0.5.0
+     */
+    public static List<String> renderAllTuples(String template, Iterable<? extends Tuple> rows) {
+        return compile(template).renderAllTuples(rows);
+    }
+
+    /**
+     * 嵌套结构的tokens插值
+     *
+     * @param current      变量的值
+     * @param source       原始字符串
+     * @param nestedTokens 嵌套结构的tokens
+     * @param interpolated 插值后的字符串写入的目标
+     * @throws IOException if an I/O error occurs in {@code interpolated}
+     * @since 0.5.0
+     */
+    private void interpolateNested(Values current, String source, List<Object> nestedTokens, Appendable interpolated) throws IOException {
+        List<String> variablesStack = new ArrayList<>();      // 每个token解析完成后，变量栈都会恢复为空，所以可以复用
+        for (Object token : nestedTokens) {
+            if (token instanceof NestedStringToken) {
+                Object afterInterpolated = interpolate(current, source, (NestedStringToken) token, variablesStack);
+                interpolated.append(String.valueOf(afterInterpolated));
+            } else {
+                interpolated.append((String) token);
+            }
+        }
     }
 
     /**
      * 字符串插值处理
      *
+     * @param current        变量的值
      * @param source         原始字符串
      * @param nestedToken    nestedToken
      * @param variablesStack 变量栈
      * @return 插值后的字符串
      * @since 0.4.0
      */
-    private Object interpolate(String source, NestedStringToken nestedToken, List<String> variablesStack) {
-        String key = traverseInterpolation(source, variablesStack, nestedToken.key);
+    private Object interpolate(Values current, String source, NestedStringToken nestedToken, List<String> variablesStack) {
+        String key = traverseInterpolation(current, source, variablesStack, nestedToken.key);
 
         int lengthOfCacheThreshold = 30;        // valueMap中的值需要缓存的临界长度
 
+        // 记录依赖关系：当前正在解析的变量（栈顶）引用了 key
+        if (!variablesStack.isEmpty()) current.addDependent(key, variablesStack.get(variablesStack.size() - 1));
+
+        Map<String, Object> valueMap = current.valueMap;
         if (valueMap.containsKey(key)) {
             Object obj = valueMap.get(key);
             if (!enableSIInValues || obj == null) return obj;
 
+            String resolvedValue = current.resolvedValues.get(key);
+            if (resolvedValue != null) return resolvedValue;
+
             String value = obj.toString();
             if (!value.contains(PREFIX)) {          // valueMap的值中不包含 ${
                 return value;
@@ -313,9 +631,10 @@ public class SI {
                 variablesStack.add(key);
 
                 List<Object> tokens = value.length() <= lengthOfCacheThreshold ? StringExtractor.nestedParse(value) : getNestedTokens(value);
-                value = traverseInterpolation(source, variablesStack, tokens);
+                value = traverseInterpolation(current, source, variablesStack, tokens);
 
                 variablesStack.remove(variablesStack.size() - 1);
+                current.resolvedValues.put(key, value);
                 return value;
             }
         } else {
@@ -323,24 +642,25 @@ public class SI {
                 throw new UndefinedVariableException("Cannot resolve variable `" + key + "` in \"" + source + "\". ");
             }
 
-            return nestedToken.defaultValue.isEmpty() ? PREFIX + key + SUFFIX : traverseInterpolation(source, variablesStack, nestedToken.defaultValue);
+            return nestedToken.defaultValue.isEmpty() ? PREFIX + key + SUFFIX : traverseInterpolation(current, source, variablesStack, nestedToken.defaultValue);
         }
     }
 
     /**
      * 遍历token进行字符串插值
      *
+     * @param current        变量的值
      * @param source         原始字符串
      * @param variablesStack 变量栈
      * @param tokens         tokens
      * @return 插值后的字符串
      * @since 0.4.0
      */
-    private String traverseInterpolation(String source, List<String> variablesStack, List<Object> tokens) {
+    private String traverseInterpolation(Values current, String source, List<String> variablesStack, List<Object> tokens) {
         StringBuilder sb = new StringBuilder();
         for (Object token : tokens) {
             if (token instanceof NestedStringToken) {
-                sb.append(interpolate(source, (NestedStringToken) token, variablesStack));
+                sb.append(interpolate(current, source, (NestedStringToken) token, variablesStack));
             } else {
                 sb.append(token);
             }
@@ -367,14 +687,7 @@ public class SI {
     }
 
     private static List<Object> getNestedTokens(String source) {
-        List<Object> tokens;
-        if (NESTED_TEMPLATE_CACHE.containsKey(source)) {
-            tokens = NESTED_TEMPLATE_CACHE.get(source);
-        } else {
-            tokens = StringExtractor.nestedParse(source);
-            NESTED_TEMPLATE_CACHE.put(source, tokens);
-        }
-        return tokens;
+        return NESTED_TEMPLATE_CACHE.get(source, NESTED_TOKENS_LOADER);
     }
 
     /**
@@ -390,6 +703,7 @@ public class SI {
         if (source == null) return null;
         if (S.isBlank(source)) return source.toString();
         int length = G.isEmpty(arguments) ? 0 : arguments.length;
+        long start = SIMetrics.isActive() ? System.nanoTime() : 0L;
 
         int placeholderCount = 0;
         List<StringToken> tokens = getTokens(source.toString());
@@ -408,22 +722,16 @@ public class SI {
             }
         }
 
+        if (start != 0L) SIMetrics.recordRender(source.toString(), start);
         return parsed.toString();
     }
 
     private static List<StringToken> getTokens(String source) {
-        List<StringToken> tokens;
-        if (TEMPLATE_CACHE.containsKey(source)) {
-            tokens = TEMPLATE_CACHE.get(source);
-        } else {
-            tokens = StringExtractor.split(source);
-            TEMPLATE_CACHE.put(source, tokens);
-        }
-        return tokens;
+        return TEMPLATE_CACHE.get(source, TOKENS_LOADER);
     }
 
     public Map<String, Object> getValueMap() {
-        return Collections.unmodifiableMap(valueMap);
+        return Collections.unmodifiableMap(values.valueMap);
     }
 
     private static Map<String, Object> toMap(boolean withSuffix, boolean needTrim, Object... kvs) {
@@ -436,8 +744,9 @@ public class SI {
                 if (withSuffix) {
                     String cacheKey = (needTrim ? "init -> " : "load -> ") + k;
 
-                    if (KEY_CACHE.containsKey(cacheKey)) {
-                        kvMap.put(KEY_CACHE.get(cacheKey), kvs[i + 1]);
+                    String cachedKey = KEY_CACHE.get(cacheKey);
+                    if (cachedKey != null) {
+                        kvMap.put(cachedKey, kvs[i + 1]);
                     } else {
                         String tempKey = k;
                         if (needTrim) tempKey = k.replaceAll("[\\s　]+$", "");  // 删除尾部的空白字符，包括中文空格
@@ -486,30 +795,237 @@ public class SI {
     }
 
     /**
-     * Simple LRU Cache, <b>this implementation is not synchronized and not thread-safe.</b>
+     * 变量的值，及嵌套插值时已解析的值与变量之间的依赖关系
+     *
+     * @since 0.5.0
+     */
+    static final class Values {
+        final Map<String, Object> valueMap;
+        /**
+         * 已解析的 {@link #valueMap} 中的值（值中包含 ${ 且 {@link #enableSIInValues} 为 {@code true} 时才会缓存）。
+         * 插值（读操作）时会写入，所以两种模式下都使用 {@link ConcurrentHashMap}，多个线程可以同时插值
+         */
+        final Map<String, String> resolvedValues;
+        /**
+         * 变量之间的依赖关系：key 为变量，value 为在解析时引用了该变量的变量集合。
+         * 写时复制模式下为 {@code null}，因为快照发布后不会再被修改，每次修改都会创建新的快照（已解析的值也随之清空）
+         */
+        final Map<String, Set<String>> dependents;
+        /**
+         * {@link #dependents} 的反向索引：key 为变量，value 为该变量在解析时引用的变量集合，
+         * 用于在变量的已解析值失效时删除它的依赖关系。写时复制模式下为 {@code null}
+         */
+        final Map<String, Set<String>> dependencies;
+
+        Values(Map<String, Object> valueMap, boolean copyOnWrite) {
+            this.valueMap = valueMap;
+            this.resolvedValues = new ConcurrentHashMap<>();
+            this.dependents = copyOnWrite ? null : new ConcurrentHashMap<>();
+            this.dependencies = copyOnWrite ? null : new ConcurrentHashMap<>();
+        }
+
+        void addDependent(String key, String dependent) {
+            if (dependents != null) {
+                dependents.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(dependent);
+                dependencies.computeIfAbsent(dependent, k -> ConcurrentHashMap.newKeySet()).add(key);
+            }
+        }
+
+        /**
+         * 使变量及所有直接或间接引用了该变量的变量的已解析值失效，并删除这些变量的依赖关系
+         *
+         * @param key 变量
+         */
+        void invalidate(String key) {
+            resolvedValues.remove(key);
+            // 该变量的已解析值已失效，它引用其他变量的依赖关系也随之删除，下次解析时重新记录
+            Set<String> referencedKeys = dependencies.remove(key);
+            if (referencedKeys != null) {
+                referencedKeys.forEach(k -> dependents.computeIfPresent(k, (referencedKey, keys) -> {
+                    keys.remove(key);
+                    return keys.isEmpty() ? null : keys;
+                }));
+            }
+            Set<String> keys = dependents.remove(key);
+            if (keys != null) keys.forEach(this::invalidate);
+        }
+
+        void clearResolvedValues() {
+            resolvedValues.clear();
+            if (dependents != null) {
+                dependents.clear();
+                dependencies.clear();
+            }
+        }
+    }
+
+    /**
+     * Appendable that encodes chars into a {@link ByteBuffer}, <b>this implementation is not thread-safe.</b>
      *
-     * @param <K> key type
-     * @param <V> value type
+     * @since 0.5.0
      */
-    static class LRUCache<K, V> extends LinkedHashMap<K, V> {
-        private final int maxEntries;
+    static class ByteBufferAppendable implements Appendable {
+        private final ByteBuffer buffer;
+        private final CharsetEncoder encoder;
+        /**
+         * 上一次写入时末尾未编码的高代理项（high surrogate），需要与下一次写入的字符一起编码
+         */
+        private char pendingHighSurrogate;
+
+        ByteBufferAppendable(ByteBuffer buffer, Charset charset) {
+            this.buffer = buffer;
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+        }
+
+        @Override
+        public Appendable append(CharSequence csq) {
+            if (csq == null) csq = "null";
+            if (csq.length() == 0) return this;
 
-        public LRUCache(final int maxEntries) {
-            super(maxEntries + 1, 1.0f, true);
-            this.maxEntries = maxEntries;
+            CharBuffer in;
+            if (pendingHighSurrogate == 0) {
+                in = CharBuffer.wrap(csq);
+            } else {
+                in = CharBuffer.wrap(pendingHighSurrogate + csq.toString());
+                pendingHighSurrogate = 0;
+            }
+            encode(in, false);
+            if (in.hasRemaining()) pendingHighSurrogate = in.get();
+            return this;
         }
 
-        public LRUCache(final int maxEntries, float loadFactor) {
-            super(maxEntries + 1, loadFactor, true);
-            this.maxEntries = maxEntries;
+        @Override
+        public Appendable append(CharSequence csq, int start, int end) {
+            if (csq == null) csq = "null";
+            return append(csq.subSequence(start, end));
         }
 
         @Override
-        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
-            return size() > maxEntries;
+        public Appendable append(char c) {
+            return append(String.valueOf(c));
+        }
+
+        /**
+         * 完成编码，写入剩余的字节
+         */
+        void finish() {
+            CharBuffer in = pendingHighSurrogate == 0 ? CharBuffer.allocate(0) : CharBuffer.wrap(String.valueOf(pendingHighSurrogate));
+            pendingHighSurrogate = 0;
+            encode(in, true);
+            CoderResult result = encoder.flush(buffer);
+            if (result.isOverflow()) throw new BufferOverflowException();
+        }
+
+        private void encode(CharBuffer in, boolean endOfInput) {
+            CoderResult result = encoder.encode(in, buffer, endOfInput);
+            if (result.isOverflow()) throw new BufferOverflowException();
         }
     }
 
+    /**
+     * Statistics of the template cache used by {@link #$(CharSequence)} and {@link #$(CharSequence, Object...)}. <br>
+     * 模板缓存的统计信息
+     *
+     * @return CacheStats
+     * @since 0.5.0
+     */
+    public static CacheStats templateCacheStats() {
+        return TEMPLATE_CACHE.stats();
+    }
+
+    /**
+     * Statistics of the nested template cache used when {@link #enableSIInVariables} is {@code true}. <br>
+     * 嵌套模板缓存的统计信息
+     *
+     * @return CacheStats
+     * @since 0.5.0
+     */
+    public static CacheStats nestedTemplateCacheStats() {
+        return NESTED_TEMPLATE_CACHE.stats();
+    }
+
+    /**
+     * Statistics of the key cache used by {@link #init(Object...)}, {@link #load(Object...)} and {@link #fill(Object...)}. <br>
+     * key缓存的统计信息
+     *
+     * @return CacheStats
+     * @since 0.5.0
+     */
+    public static CacheStats keyCacheStats() {
+        return KEY_CACHE.stats();
+    }
+
+    /**
+     * Set max size of the template cache, default is {@value #CACHE_SIZE}, and can be configured at startup
+     * by the system property {@code iofairy.si.templateCacheSize}. <br>
+     * 设置模板缓存的容量
+     *
+     * @param maxSize max size
+     * @throws IllegalArgumentException if {@code maxSize} less than 1
+     * @since 0.5.0
+     */
+    public static void setTemplateCacheSize(int maxSize) {
+        TEMPLATE_CACHE.setMaxSize(maxSize);
+    }
+
+    /**
+     * Set max size of the nested template cache, default is {@value #NESTED_CACHE_SIZE}, and can be configured at startup
+     * by the system property {@code iofairy.si.nestedTemplateCacheSize}. <br>
+     * 设置嵌套模板缓存的容量
+     *
+     * @param maxSize max size
+     * @throws IllegalArgumentException if {@code maxSize} less than 1
+     * @since 0.5.0
+     */
+    public static void setNestedTemplateCacheSize(int maxSize) {
+        NESTED_TEMPLATE_CACHE.setMaxSize(maxSize);
+    }
+
+    /**
+     * Set max size of the key cache, default is {@value #KEY_CACHE_SIZE}, and can be configured at startup
+     * by the system property {@code iofairy.si.keyCacheSize}. <br>
+     * 设置key缓存的容量
+     *
+     * @param maxSize max size
+     * @throws IllegalArgumentException if {@code maxSize} less than 1
+     * @since 0.5.0
+     */
+    public static void setKeyCacheSize(int maxSize) {
+        KEY_CACHE.setMaxSize(maxSize);
+    }
+
+    /**
+     * 所有的缓存，用于 {@link SIMetrics}
+     *
+     * @return list of caches
+     * @since 0.5.0
+     */
+    static List<StripedLRUCache<String, ?>> caches() {
+        return Arrays.asList(TEMPLATE_CACHE, NESTED_TEMPLATE_CACHE, KEY_CACHE);
+    }
+
+    /**
+     * 从系统属性中读取缓存的容量，未配置或配置的值无效时，使用默认值
+     *
+     * @param property    系统属性的名称
+     * @param defaultSize 默认容量
+     * @return 缓存的容量
+     * @since 0.5.0
+     */
+    private static int cacheSize(String property, int defaultSize) {
+        String value = System.getProperty(property);
+        if (value == null) return defaultSize;
+        try {
+            int size = Integer.parseInt(value.trim());
+            if (size > 0) return size;
+        } catch (NumberFormatException ignored) {
+        }
+        log.warning("Invalid value of system property `" + property + "`: " + value + ", use the default value " + defaultSize + ". ");
+        return defaultSize;
+    }
+
 
     public boolean isEnableSIInVariables() {
         return enableSIInVariables;
@@ -517,6 +1033,7 @@ public class SI {
 
     public SI setEnableSIInVariables(boolean enableSIInVariables) {
         this.enableSIInVariables = enableSIInVariables;
+        clearResolvedValues();
         return this;
     }
 
@@ -526,12 +1043,14 @@ public class SI {
 
     public SI setEnableSIInValues(boolean enableSIInValues) {
         this.enableSIInValues = enableSIInValues;
+        clearResolvedValues();
         return this;
     }
 
     public SI setEnableNestedSI(boolean enableNestedSI) {
         this.enableSIInVariables = enableNestedSI;
         this.enableSIInValues = enableNestedSI;
+        clearResolvedValues();
         return this;
     }
 
@@ -541,6 +1060,33 @@ public class SI {
 
     public SI setEnableUndefinedVariableException(boolean enableUndefinedVariableException) {
         this.enableUndefinedVariableException = enableUndefinedVariableException;
+        clearResolvedValues();
+        return this;
+    }
+
+    public boolean isEnableCopyOnWrite() {
+        return enableCopyOnWrite;
+    }
+
+    /**
+     * Enable or disable copy-on-write mode. In copy-on-write mode, every write ({@code add}, {@code fill}, {@code set}, {@code del})
+     * copies the values, applies the change to the copy and publishes the copy atomically, and every interpolation reads
+     * one published snapshot without locking, so an SI can be shared by many reader threads while being updated occasionally.
+     * Writes are serialized and cost O(n) in the number of variables, so this mode suits read-mostly configurations.
+     * The {@code enableXxx} flags are not part of the snapshot, set them before sharing the SI. <br>
+     * 开启或关闭写时复制模式。该模式下，每次写入（{@code add}、{@code fill}、{@code set}、{@code del}）都会复制一份变量的值，
+     * 在副本上修改后原子地发布；每次插值只读取一个已发布的快照，无需加锁。所以SI可以在多个读线程间共享，并偶尔更新。
+     * 写操作串行执行，且复制的开销与变量的数量成正比，适用于读多写少的场景。{@code enableXxx} 等开关不属于快照，请在共享SI之前设置。
+     *
+     * @param enableCopyOnWrite enable copy-on-write mode or not
+     * @return this SI object
+     * @since 0.5.0
+     */
+    public SI setEnableCopyOnWrite(boolean enableCopyOnWrite) {
+        synchronized (this) {
+            this.enableCopyOnWrite = enableCopyOnWrite;
+            values = new Values(new HashMap<>(values.valueMap), enableCopyOnWrite);
+        }
         return this;
     }
 
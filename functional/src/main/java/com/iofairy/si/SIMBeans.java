@@ -0,0 +1,74 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link SIMetrics} 的MBean注册。所有引用 {@code java.management} 模块的代码都放在这里，
+ * 该模块不存在时，只有调用 {@link SIMetrics#registerMBeans()} 才会加载失败，不影响 {@link SIMetrics} 及 {@link SI}
+ *
+ * @since 0.5.0
+ */
+final class SIMBeans {
+    private final static String DOMAIN = "com.iofairy.si";
+
+    private SIMBeans() {
+    }
+
+    static void register() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            for (StripedLRUCache<String, ?> cache : SI.caches()) {
+                ObjectName name = cacheObjectName(cache);
+                if (!server.isRegistered(name)) server.registerMBean(new SIMetrics.CacheMXBeanImpl(cache), name);
+            }
+            ObjectName name = metricsObjectName();
+            if (!server.isRegistered(name)) server.registerMBean(new SIMetrics.SIMetricsMXBeanImpl(), name);
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to register MBeans of SI. ", e);
+        }
+    }
+
+    static void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            List<ObjectName> names = new ArrayList<>();
+            for (StripedLRUCache<String, ?> cache : SI.caches()) {
+                names.add(cacheObjectName(cache));
+            }
+            names.add(metricsObjectName());
+            for (ObjectName name : names) {
+                if (server.isRegistered(name)) server.unregisterMBean(name);
+            }
+        } catch (JMException e) {
+            throw new IllegalStateException("Failed to unregister MBeans of SI. ", e);
+        }
+    }
+
+    private static ObjectName cacheObjectName(StripedLRUCache<String, ?> cache) throws JMException {
+        return new ObjectName(DOMAIN + ":type=Cache,name=" + cache.getName());
+    }
+
+    private static ObjectName metricsObjectName() throws JMException {
+        return new ObjectName(DOMAIN + ":type=SIMetrics");
+    }
+}
@@ -0,0 +1,360 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+import com.iofairy.top.G;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+/**
+ * Runtime metrics of {@link SI}: statistics of the caches, histograms of parse and render times, listeners, and JMX MBeans. <br>
+ * {@link SI} 的运行时指标：缓存的统计信息、解析与渲染耗时的直方图、监听器及JMX MBean。<br>
+ * The cache statistics are always collected. The times are measured only when recording is enabled
+ * (by {@link #setEnabled(boolean)} or the system property {@value #ENABLED_PROPERTY}) or a listener is registered,
+ * otherwise there is no overhead.
+ * The cache capacities can be configured at startup by system properties
+ * {@code iofairy.si.templateCacheSize}, {@code iofairy.si.nestedTemplateCacheSize} and {@code iofairy.si.keyCacheSize},
+ * or at runtime by {@link SI#setTemplateCacheSize(int)} and so on. <br>
+ * 缓存的统计信息总是会收集；只有开启记录（通过 {@link #setEnabled(boolean)} 或系统属性 {@value #ENABLED_PROPERTY}）
+ * 或注册了监听器时，才会统计耗时，否则没有额外开销。
+ * 缓存的容量可以在启动时通过以上系统属性配置，也可以在运行时通过 {@link SI#setTemplateCacheSize(int)} 等方法调整。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * SIMetrics.setEnabled(true);
+ * SIMetrics.registerMBeans();      // com.iofairy.si:type=Cache,name=TEMPLATE_CACHE ...
+ * SIMetrics.addListener(new SIMetricsListener() {
+ *     &#64;Override
+ *     public void onParse(String cacheName, String source, long elapsedNanos) {
+ *         parseTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+ *     }
+ * });
+ * ...
+ * System.out.println(SIMetrics.cacheStats());
+ * System.out.println(SIMetrics.renderTimeHistogram());
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+public final class SIMetrics {
+    /**
+     * System property to enable recording of parse and render times at startup
+     */
+    public final static String ENABLED_PROPERTY = "iofairy.si.metrics.enabled";
+    private final static Logger log = Logger.getLogger(SIMetrics.class.getName());
+    private final static String MSG_NO_JMX = "JMX (module `java.management`) is not available in this runtime. 当前运行时不支持JMX（缺少java.management模块）。";
+
+    private final static List<SIMetricsListener> LISTENERS = new CopyOnWriteArrayList<>();
+    private final static TimeHistogram PARSE_TIME = new TimeHistogram();
+    private final static TimeHistogram RENDER_TIME = new TimeHistogram();
+
+    private static volatile boolean enabled = Boolean.getBoolean(ENABLED_PROPERTY);
+    /**
+     * {@link #enabled} 为 {@code true} 或者存在监听器
+     */
+    private static volatile boolean active = enabled;
+
+    private SIMetrics() {
+    }
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable recording parse and render times into the histograms. <br>
+     * 开启或关闭解析与渲染耗时的记录
+     *
+     * @param enabled enabled or not
+     */
+    public static void setEnabled(boolean enabled) {
+        SIMetrics.enabled = enabled;
+        updateActive();
+    }
+
+    /**
+     * Register a listener, times are measured while any listener is registered even if recording is disabled.
+     * A {@link RuntimeException} thrown by a listener is logged and ignored, it neither fails the interpolation
+     * nor stops the other listeners. <br>
+     * 注册监听器，只要存在监听器，即使关闭了记录也会统计耗时。监听器抛出的 {@link RuntimeException} 会被记录到日志并忽略，
+     * 既不会导致插值失败，也不会影响其他监听器
+     *
+     * @param listener listener
+     * @throws NullPointerException if {@code listener} is null
+     */
+    public static void addListener(SIMetricsListener listener) {
+        if (listener == null) throw new NullPointerException("Parameter `listener` must be non-null!");
+        LISTENERS.add(listener);
+        updateActive();
+    }
+
+    public static boolean removeListener(SIMetricsListener listener) {
+        boolean removed = LISTENERS.remove(listener);
+        updateActive();
+        return removed;
+    }
+
+    private static void updateActive() {
+        active = enabled || !LISTENERS.isEmpty();
+    }
+
+    /**
+     * Histogram of parse times of templates on cache misses. <br>
+     * 缓存未命中时，模板解析耗时的直方图
+     *
+     * @return TimeHistogram
+     */
+    public static TimeHistogram parseTimeHistogram() {
+        return PARSE_TIME;
+    }
+
+    /**
+     * Histogram of render times of {@link SI}. <br>
+     * {@link SI} 渲染耗时的直方图
+     *
+     * @return TimeHistogram
+     */
+    public static TimeHistogram renderTimeHistogram() {
+        return RENDER_TIME;
+    }
+
+    /**
+     * Statistics of all caches of {@link SI}. <br>
+     * {@link SI} 所有缓存的统计信息
+     *
+     * @return list of CacheStats
+     */
+    public static List<CacheStats> cacheStats() {
+        List<CacheStats> stats = new ArrayList<>();
+        for (StripedLRUCache<String, ?> cache : SI.caches()) {
+            stats.add(cache.stats());
+        }
+        return stats;
+    }
+
+    /**
+     * Reset the statistics of all caches and the histograms. <br>
+     * 重置所有缓存的统计信息及耗时直方图
+     */
+    public static void reset() {
+        SI.caches().forEach(StripedLRUCache::resetStats);
+        PARSE_TIME.reset();
+        RENDER_TIME.reset();
+    }
+
+    /**
+     * Register MBeans of the caches ({@code com.iofairy.si:type=Cache,name=xxx}) and the times ({@code com.iofairy.si:type=SIMetrics})
+     * to the platform MBean server, the registered MBeans are skipped. This library only has an optional dependency on
+     * {@code java.management}, so a modular application must resolve it (e.g. {@code --add-modules java.management}). <br>
+     * 将缓存及耗时的MBean注册到平台MBeanServer，已注册的MBean会被跳过。本库对 {@code java.management} 是可选依赖，
+     * 模块化的应用需要自行引入该模块（如 {@code --add-modules java.management}）。
+     *
+     * @throws IllegalStateException if failed to register MBeans, or the module {@code java.management} is not available
+     */
+    public static synchronized void registerMBeans() {
+        try {
+            SIMBeans.register();
+        } catch (LinkageError e) {      // java.management 是可选依赖（requires static），运行时可能不存在
+            throw new IllegalStateException(MSG_NO_JMX, e);
+        }
+    }
+
+    /**
+     * Unregister MBeans registered by {@link #registerMBeans()}. <br>
+     * 注销通过 {@link #registerMBeans()} 注册的MBean
+     *
+     * @throws IllegalStateException if failed to unregister MBeans, or the module {@code java.management} is not available
+     */
+    public static synchronized void unregisterMBeans() {
+        try {
+            SIMBeans.unregister();
+        } catch (LinkageError e) {
+            throw new IllegalStateException(MSG_NO_JMX, e);
+        }
+    }
+
+    static boolean isActive() {
+        return active;
+    }
+
+    /**
+     * 解析模板，需要统计耗时时，记录解析耗时并通知监听器
+     *
+     * @param cacheName 缓存名称
+     * @param source    模板
+     * @param parser    解析函数
+     * @param <T>       解析结果的类型
+     * @return 解析结果
+     */
+    static <T> T parse(String cacheName, String source, Function<String, T> parser) {
+        if (!active) return parser.apply(source);
+
+        long start = System.nanoTime();
+        T result = parser.apply(source);
+        long elapsedNanos = System.nanoTime() - start;
+        if (enabled) PARSE_TIME.record(elapsedNanos);
+        for (SIMetricsListener listener : LISTENERS) {
+            try {
+                listener.onParse(cacheName, source, elapsedNanos);
+            } catch (RuntimeException e) {
+                log.warning("Exception in `onParse()` method of listener " + listener + ":\n" + G.stackTrace(e));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 记录渲染耗时并通知监听器
+     *
+     * @param source     模板
+     * @param startNanos 开始渲染的时间，{@link System#nanoTime()}
+     */
+    static void recordRender(String source, long startNanos) {
+        long elapsedNanos = System.nanoTime() - startNanos;
+        if (enabled) RENDER_TIME.record(elapsedNanos);
+        for (SIMetricsListener listener : LISTENERS) {
+            try {
+                listener.onRender(source, elapsedNanos);
+            } catch (RuntimeException e) {
+                log.warning("Exception in `onRender()` method of listener " + listener + ":\n" + G.stackTrace(e));
+            }
+        }
+    }
+
+    static final class CacheMXBeanImpl implements CacheMXBean {
+        private final StripedLRUCache<String, ?> cache;
+
+        CacheMXBeanImpl(StripedLRUCache<String, ?> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public String getName() {
+            return cache.getName();
+        }
+
+        @Override
+        public long getHitCount() {
+            return cache.stats().getHitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return cache.stats().getMissCount();
+        }
+
+        @Override
+        public long getEvictionCount() {
+            return cache.stats().getEvictionCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return cache.stats().hitRate();
+        }
+
+        @Override
+        public int getSize() {
+            return cache.size();
+        }
+
+        @Override
+        public int getMaxSize() {
+            return cache.getMaxSize();
+        }
+
+        @Override
+        public void setMaxSize(int maxSize) {
+            cache.setMaxSize(maxSize);
+        }
+
+        @Override
+        public void resetStats() {
+            cache.resetStats();
+        }
+    }
+
+    static final class SIMetricsMXBeanImpl implements SIMetricsMXBean {
+
+        @Override
+        public boolean isEnabled() {
+            return SIMetrics.isEnabled();
+        }
+
+        @Override
+        public void setEnabled(boolean enabled) {
+            SIMetrics.setEnabled(enabled);
+        }
+
+        @Override
+        public long getParseCount() {
+            return PARSE_TIME.getCount();
+        }
+
+        @Override
+        public double getParseTimeMeanNanos() {
+            return PARSE_TIME.getMeanNanos();
+        }
+
+        @Override
+        public long getParseTimeP50Nanos() {
+            return PARSE_TIME.percentileNanos(50);
+        }
+
+        @Override
+        public long getParseTimeP99Nanos() {
+            return PARSE_TIME.percentileNanos(99);
+        }
+
+        @Override
+        public long getParseTimeMaxNanos() {
+            return PARSE_TIME.getMaxNanos();
+        }
+
+        @Override
+        public long getRenderCount() {
+            return RENDER_TIME.getCount();
+        }
+
+        @Override
+        public double getRenderTimeMeanNanos() {
+            return RENDER_TIME.getMeanNanos();
+        }
+
+        @Override
+        public long getRenderTimeP50Nanos() {
+            return RENDER_TIME.percentileNanos(50);
+        }
+
+        @Override
+        public long getRenderTimeP99Nanos() {
+            return RENDER_TIME.percentileNanos(99);
+        }
+
+        @Override
+        public long getRenderTimeMaxNanos() {
+            return RENDER_TIME.getMaxNanos();
+        }
+
+        @Override
+        public void reset() {
+            SIMetrics.reset();
+        }
+    }
+}
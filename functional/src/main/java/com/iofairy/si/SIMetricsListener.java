@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+/**
+ * Listener of parse and render events of {@link SI}, register it by {@link SIMetrics#addListener(SIMetricsListener)}.
+ * The callbacks run synchronously in the parsing or rendering thread, so they must be thread-safe and cheap.
+ * A {@link RuntimeException} thrown by a callback is logged and ignored. <br>
+ * {@link SI} 解析与渲染事件的监听器，通过 {@link SIMetrics#addListener(SIMetricsListener)} 注册。
+ * 回调方法在解析或渲染的线程中同步执行，所以必须是线程安全的，且开销要小。回调方法抛出的 {@link RuntimeException} 会被记录到日志并忽略。
+ *
+ * @since 0.5.0
+ */
+public interface SIMetricsListener {
+    /**
+     * Called after a template is parsed because of a cache miss. <br>
+     * 缓存未命中，解析模板之后调用
+     *
+     * @param cacheName    name of the cache, such as {@code TEMPLATE_CACHE}, {@code NESTED_TEMPLATE_CACHE}
+     * @param source       the template
+     * @param elapsedNanos parse time in nanoseconds
+     */
+    default void onParse(String cacheName, String source, long elapsedNanos) {
+    }
+
+    /**
+     * Called after a template is rendered. <br>
+     * 模板渲染完成之后调用
+     *
+     * @param source       the template
+     * @param elapsedNanos render time in nanoseconds, including the parse time when the template cache is missed
+     */
+    default void onRender(String source, long elapsedNanos) {
+    }
+}
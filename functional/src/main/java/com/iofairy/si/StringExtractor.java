@@ -37,12 +37,31 @@ public class StringExtractor {
     private final static Pattern PATTERN = Pattern.compile("\\$\\{((?![{}]).)*}", Pattern.MULTILINE);
 
     /**
-     * Get String Tokens by ${}
+     * 是否使用正则表达式切分字符串，默认使用 {@link #splitByScanner(String)}
+     */
+    private static volatile boolean useRegex = false;
+
+    /**
+     * Get String Tokens by ${}. Use {@link #splitByScanner(String)} by default,
+     * or {@link #splitByRegex(String)} when {@link #setUseRegex(boolean)} is set to {@code true}. <br>
+     * 通过 ${} 切分字符串。默认使用 {@link #splitByScanner(String)}，
+     * 当 {@link #setUseRegex(boolean)} 设置为 {@code true} 时使用 {@link #splitByRegex(String)}。
      *
      * @param source 待插值的字符串
      * @return StringToken列表
      */
     public static List<StringToken> split(String source) {
+        return useRegex ? splitByRegex(source) : splitByScanner(source);
+    }
+
+    /**
+     * Get String Tokens by ${}, it's implemented by regex {@link #PATTERN}.
+     *
+     * @param source 待插值的字符串
+     * @return StringToken列表
+     * @since 0.5.0
+     */
+    public static List<StringToken> splitByRegex(String source) {
         List<StringToken> sts = new ArrayList<>();
         final Matcher matcher = PATTERN.matcher(source);
 
@@ -77,151 +96,301 @@ public class StringExtractor {
     }
 
     /**
-     * 嵌套字符串插值分词器
+     * Get String Tokens by ${}, it's a single pass scanner without regex, and produces the same tokens as {@link #splitByRegex(String)}. <br>
+     * 通过 ${} 切分字符串，不使用正则表达式，只需遍历一次字符串，结果与 {@link #splitByRegex(String)} 相同。
+     * <code>${</code> 与 <code>}</code> 之间不能包含 <code>{</code>、<code>}</code> 及换行符（与正则表达式中的 <code>.</code> 一致）。
      *
-     * @param source 原字符串
-     * @return 分词后的列表
-     * @since 0.4.0
+     * @param source 待插值的字符串
+     * @return StringToken列表
+     * @since 0.5.0
      */
-    public static List<Object> nestedParse(String source) {
-        LinkedList<Object> tokens = new LinkedList<>();
-        nestedParse(source, tokens);
-        return tokens;
+    public static List<StringToken> splitByScanner(String source) {
+        List<StringToken> sts = new ArrayList<>();
+        int length = source.length();
+
+        int startIndex = 0;
+        int start = source.indexOf(PREFIX);
+        while (start != -1) {
+            int end = -1;                   // } 所在的位置
+            int delimiterIndex = -1;        // 第一个默认值分隔符所在的位置
+            for (int i = start + PREFIX.length(); i < length; i++) {
+                char c = source.charAt(i);
+                if (c == '}') {
+                    end = i;
+                    break;
+                }
+                if (c == '{' || isLineTerminator(c)) break;
+                if (delimiterIndex == -1 && c == ':' && i + 1 < length && source.charAt(i + 1) == ' ') delimiterIndex = i;
+            }
+
+            if (end == -1) {                // 不是 ${} 表达式，从下一个字符开始继续查找
+                start = source.indexOf(PREFIX, start + 1);
+                continue;
+            }
+
+            if (end == start + PREFIX.length()) {
+                String strBefore$ = source.substring(startIndex, start);  // ${} 前面还未加入列表的字符串，如： abc${}，则 strBefore$ == "abc"
+                sts.add(new StringToken(StringType.STRING, strBefore$ + $, strBefore$ + $__));
+            } else {
+                if (start != startIndex) {  // 不相等说明${}前面有一段字符串常量还未添加进列表
+                    String value = source.substring(startIndex, start);
+                    sts.add(new StringToken(StringType.STRING, value, value));
+                }
+
+                if (delimiterIndex == -1) {
+                    sts.add(new StringToken(StringType.VARIABLE, source.substring(start + PREFIX.length(), end), source.substring(start, end + 1)));
+                } else {
+                    sts.add(new StringToken(StringType.VARIABLE, source.substring(start + PREFIX.length(), delimiterIndex),
+                            source.substring(delimiterIndex + DVD_LENGTH, end)));
+                }
+            }
+            startIndex = end + 1;
+            start = source.indexOf(PREFIX, startIndex);
+        }
+
+        if (startIndex < length) {
+            String value = source.substring(startIndex);
+            sts.add(new StringToken(StringType.STRING, value, value));
+        }
+
+        return sts;
     }
 
     /**
-     * 嵌套字符串插值分词器
+     * Whether the char is a line terminator, which can't be matched by <code>.</code> in regex.
+     *
+     * @param c char
+     * @return whether the char is a line terminator
+     */
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+    }
+
+    /**
+     * Whether use {@link #splitByRegex(String)} in {@link #split(String)}. <br>
+     * {@link #split(String)} 是否使用 {@link #splitByRegex(String)}
+     *
+     * @return use regex or not
+     * @since 0.5.0
+     */
+    public static boolean isUseRegex() {
+        return useRegex;
+    }
+
+    /**
+     * Switch {@link #split(String)} between {@link #splitByRegex(String)} and {@link #splitByScanner(String)}. <br>
+     * 切换 {@link #split(String)} 的实现：{@link #splitByRegex(String)} 或 {@link #splitByScanner(String)}。
+     * 注：已缓存的模板不受影响。
+     *
+     * @param useRegex use regex or not
+     * @since 0.5.0
+     */
+    public static void setUseRegex(boolean useRegex) {
+        StringExtractor.useRegex = useRegex;
+    }
+
+    /**
+     * 嵌套字符串插值分词器<br>
+     * 只记录字符在原字符串中的区间 [start, end)，在区间需要输出为token时才创建字符串，
+     * 不会为每个字符创建字符串对象，也不需要在解析完成后再合并token。
      *
      * @param source 原字符串
-     * @param tokens 分词后的列表
      * @return 分词后的列表
      * @since 0.4.0
      */
-    private static int nestedParse(String source, LinkedList<Object> tokens) {
-        NestedStringToken currentNst = null;
+    public static List<Object> nestedParse(String source) {
+        int length = source.length();
+        Frame top = new Frame(null, 0);
+        List<Frame> stack = new ArrayList<>();
+        stack.add(top);
+        Frame current = top;
 
         int pos = 0;
-        int length = source.length();
         while (pos < length) {
-            int matchLen = match(source, pos, $__);
-
-            if (matchLen == 0) {                // 当前不是 ${} 字符串
-                matchLen = match(source, pos, PREFIX);
-                if (matchLen == 0) {            // 当前不是 ${ 字符串
-                    if (currentNst == null) {
-                        addToken(tokens, source.charAt(pos) + "");
-                        pos++;
-                    } else {
-                        matchLen = match(source, pos, SUFFIX);
-                        if (matchLen == 0) {    // 当前不是 } 字符串
-                            currentNst.addToken(source.charAt(pos) + "");
-                            pos++;
-                        } else {                // 匹配到 } 字符串
-                            currentNst.isClosed = true;
-                            currentNst.endIndex = pos;
-                            currentNst.mergeAndSplitTokens();
-
-                            currentNst = currentNst.parentNode;
-                            pos += matchLen;
-                        }
-                    }
-                } else {        // 匹配到 ${ 字符串
-                    NestedStringToken nst = new NestedStringToken(pos);
-                    pos += matchLen;
-                    if (currentNst == null) {
-                        tokens.add(nst);
-                    } else {
-                        currentNst.addToken(nst);
-                    }
-                    currentNst = nst;
+            char c = source.charAt(pos);
+            if (c == '$' && pos + 1 < length && source.charAt(pos + 1) == '{') {
+                if (pos + 2 < length && source.charAt(pos + 2) == '}') {    // 匹配到 ${} 字符串，解析为 $
+                    current.appendRange(source, pos, pos + 1);
+                    pos += $__.length();
+                } else {                                                    // 匹配到 ${ 字符串
+                    current.flushBeforeToken(source);
+                    current = new Frame(current, pos);
+                    stack.add(current);
+                    pos += PREFIX.length();
                 }
-
-            } else {            // 匹配到 ${} 字符串
-                pos += matchLen;
-                if (currentNst == null) {
-                    addToken(tokens, $);
-                } else {
-                    currentNst.addToken($);
+            } else if (c == '}' && current != top) {                       // 匹配到 } 字符串
+                NestedStringToken nst = current.close(source, pos);
+                stack.remove(stack.size() - 1);
+                current = current.parent;
+                current.children.add(nst);
+                pos += SUFFIX.length();
+            } else {
+                int end = pos + 1;
+                while (end < length) {
+                    char ch = source.charAt(end);
+                    if (ch == '$' || ch == '}') break;
+                    end++;
                 }
+                current.appendRange(source, pos, end);
+                pos = end;
             }
         }
 
-        // 检查最后一个 NestedStringToken 是否未封闭
-        while (currentNst != null) {
-            currentNst.tokens.addFirst(PREFIX);
-            NestedStringToken parentNode = currentNst.parentNode;
-            if (parentNode == null) {
-                tokens.remove(currentNst);
-                addTokens(tokens, currentNst.tokens);
-                currentNst = parentNode;
-                break;
-            } else {
-                parentNode.removeToken(currentNst);
-                parentNode.addTokens(currentNst.tokens);
-            }
-            currentNst = parentNode;
+        if (current == top) {
+            if (top.hasPending()) top.children.add(top.takePending(source));
+            return top.children;
         }
 
-        mergeTokens(tokens);
+        // 存在未封闭的 ${，将未封闭的 ${ 及其内容作为字符串合并到顶层
+        List<Object> tokens = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean hasToken = false;
+        for (int i = 0; i < stack.size(); i++) {
+            Frame frame = stack.get(i);
+            if (i != 0) {
+                sb.append(PREFIX);
+                hasToken = true;
+            }
+            for (Object child : frame.children) {
+                if (child instanceof NestedStringToken) {
+                    ((NestedStringToken) child).parentNode = null;
+                    if (hasToken) tokens.add(sb.toString());
+                    tokens.add(child);
+                    sb.setLength(0);
+                    hasToken = true;
+                } else {
+                    String str = (String) child;
+                    if (!str.isEmpty()) {
+                        sb.append(str);
+                        hasToken = true;
+                    }
+                }
+            }
+            if (frame.hasPending()) {
+                sb.append(frame.takePending(source));
+                hasToken = true;
+            }
+        }
+        if (sb.length() > 0) tokens.add(sb.toString());
 
-        return pos;
+        return tokens;
     }
 
     /**
-     * 合并Token<br>
-     * 注：会改变传入的List
+     * 嵌套字符串插值分词器中每一层 <code>${</code> 的解析状态
      *
-     * @param tokens tokens
+     * @since 0.5.0
      */
-    private static void mergeTokens(LinkedList<Object> tokens) {
-        LinkedList<Object> newTokens = new LinkedList<>();
-        Iterator<Object> iter = tokens.iterator();
-        StringBuilder sb = new StringBuilder();
-        int count = 0;
-        while (iter.hasNext()) {
-            Object next = iter.next();
-            if (next instanceof String) {
-                sb.append(next);
-            } else {
-                if (count != 0) newTokens.add(sb.toString());
+    private static final class Frame {
+        /**
+         * 上一层
+         */
+        final Frame parent;
+        /**
+         * <code>${</code> 在原始字符串中的开始位置
+         */
+        final int startIndex;
+        /**
+         * 已解析的token
+         */
+        final List<Object> children = new ArrayList<>(4);
+        /**
+         * 还未输出为token的字符区间 [runStart, runEnd)，-1 表示不存在
+         */
+        int runStart = -1;
+        int runEnd = -1;
+        /**
+         * 还未输出为token的字符区间不连续时（如：<code>a${}b</code>），用于拼接之前的区间
+         */
+        StringBuilder spill;
 
-                newTokens.add(next);
-                sb = new StringBuilder();
-            }
-            count++;
+        Frame(Frame parent, int startIndex) {
+            this.parent = parent;
+            this.startIndex = startIndex;
         }
 
-        if (sb.length() > 0) newTokens.add(sb.toString());
+        void appendRange(String source, int start, int end) {
+            if (runStart == -1) {
+                runStart = start;
+            } else if (start != runEnd) {
+                if (spill == null) spill = new StringBuilder();
+                spill.append(source, runStart, runEnd);
+                runStart = start;
+            }
+            runEnd = end;
+        }
 
-        tokens.clear();
-        tokens.addAll(newTokens);
-    }
+        boolean hasPending() {
+            return runStart != -1;
+        }
 
-    private static void addTokens(LinkedList<Object> tokens, LinkedList<Object> subTokens) {
-        for (Object subToken : subTokens) {
-            if (subToken instanceof NestedStringToken) {
-                ((NestedStringToken) subToken).parentNode = null;
+        String takePending(String source) {
+            if (runStart == -1) return "";
+            String pending;
+            if (spill == null || spill.length() == 0) {
+                pending = source.substring(runStart, runEnd);
+            } else {
+                pending = spill.append(source, runStart, runEnd).toString();
+                spill.setLength(0);
             }
-            tokens.add(subToken);
+            runStart = -1;
+            runEnd = -1;
+            return pending;
         }
-    }
 
-    private static void addToken(LinkedList<Object> tokens, String token) {
-        tokens.add(token);
-    }
-
-    private static int match(String source, int start, String subStr) {
-        int length = subStr.length();
-        if (start + length > source.length()) {
-            return 0;
+        /**
+         * 遇到 <code>${</code> 时，将之前的字符串输出为token。
+         * 与合并token时的规则保持一致：只要 <code>${</code> 前面存在token，就输出字符串（可能是空字符串）
+         *
+         * @param source 原字符串
+         */
+        void flushBeforeToken(String source) {
+            if (hasPending() || !children.isEmpty()) children.add(takePending(source));
         }
-        for (int i = 0; i < length; i++) {
-            if (source.charAt(start + i) != subStr.charAt(i)) {
-                return 0;
+
+        /**
+         * 遇到 <code>}</code>，封闭当前层，并将token分别存储在 key 与 defaultValue 中
+         *
+         * @param source   原字符串
+         * @param endIndex <code>}</code> 的位置
+         * @return NestedStringToken
+         */
+        NestedStringToken close(String source, int endIndex) {
+            List<Object> tokens = children;
+            if (hasPending()) tokens.add(takePending(source));
+
+            int indexOfDefaultValue = -1;
+            for (int i = 0; i < tokens.size(); i++) {
+                Object token = tokens.get(i);
+                if (token instanceof String) {
+                    String word = (String) token;
+                    int index = word.indexOf(DEFAULT_VALUE_DELIMITER);
+                    if (index > -1) {
+                        tokens.set(i, word.substring(0, index));
+                        tokens.add(i + 1, DEFAULT_VALUE_DELIMITER);
+                        tokens.add(i + 2, word.substring(index + DVD_LENGTH));
+                        indexOfDefaultValue = i + 1;
+                        break;
+                    }
+                }
             }
+
+            List<Object> key;
+            List<Object> defaultValue;
+            if (indexOfDefaultValue == -1) {
+                key = new ArrayList<>(tokens);
+                defaultValue = new ArrayList<>(0);
+            } else {
+                key = new ArrayList<>(tokens.subList(0, indexOfDefaultValue));
+                defaultValue = new ArrayList<>(tokens.subList(indexOfDefaultValue + 1, tokens.size()));
+            }
+
+            NestedStringToken nst = new NestedStringToken(startIndex, endIndex, tokens, key, defaultValue, true);
+            for (Object token : tokens) {
+                if (token instanceof NestedStringToken) ((NestedStringToken) token).parentNode = nst;
+            }
+            return nst;
         }
-        return length;
     }
 
-
 }
@@ -0,0 +1,247 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Bounded LRU cache split into independent stripes. <b>It's thread-safe</b>. <br>
+ * 分段（striped）的有界LRU缓存<b>（线程安全）</b>。
+ * 每个key根据hash值落到其中一个分段，每个分段是一个独立加锁的LRU，不同分段之间互不竞争。
+ * 淘汰策略为分段内的LRU，所以整体容量与淘汰顺序都是近似值。
+ *
+ * @param <K> key type
+ * @param <V> value type
+ * @since 0.5.0
+ */
+public final class StripedLRUCache<K, V> {
+    /**
+     * 分段数量，必须为2的幂
+     */
+    private final static int STRIPES = 16;
+
+    private final Stripe<K, V>[] stripes;
+    private final String name;
+    private volatile int maxSize;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public StripedLRUCache(String name, int maxSize) {
+        checkMaxSize(maxSize);
+        this.name = name;
+        this.maxSize = maxSize;
+        this.stripes = new Stripe[STRIPES];
+        int stripeSize = stripeSize(maxSize);
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe<>(stripeSize, evictions);
+        }
+    }
+
+    /**
+     * Returns the value to which the specified key is mapped, or {@code null} if this cache contains no mapping for the key. <br>
+     * 获取缓存的值，不存在则返回 {@code null}
+     *
+     * @param key key
+     * @return value
+     */
+    public V get(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        if (value == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the cached value, or computes it by {@code loader} and caches it if absent.
+     * The {@code loader} runs outside the lock, so it may run more than once for the same key under contention,
+     * but only the first value will be cached and returned. <br>
+     * 获取缓存的值，不存在则通过 {@code loader} 计算并缓存。{@code loader} 在锁外执行，
+     * 并发时同一个key可能会被计算多次，但只有第一个值会被缓存并返回。
+     *
+     * @param key    key
+     * @param loader function to compute a value
+     * @return value
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Stripe<K, V> stripe = stripeFor(key);
+        V value;
+        synchronized (stripe) {
+            value = stripe.get(key);
+        }
+        if (value != null) {
+            hits.increment();
+            return value;
+        }
+
+        misses.increment();
+        V newValue = loader.apply(key);
+        if (newValue == null) return null;
+        synchronized (stripe) {
+            value = stripe.putIfAbsent(key, newValue);
+        }
+        return value == null ? newValue : value;
+    }
+
+    public void put(K key, V value) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            stripe.put(key, value);
+        }
+    }
+
+    public V remove(K key) {
+        Stripe<K, V> stripe = stripeFor(key);
+        synchronized (stripe) {
+            return stripe.remove(key);
+        }
+    }
+
+    public void clear() {
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.clear();
+            }
+        }
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                size += stripe.size();
+            }
+        }
+        return size;
+    }
+
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Resize this cache, and evict the least recently used entries if the new size is smaller. <br>
+     * 调整缓存的容量，如果新容量更小，则淘汰最近最少使用的元素
+     *
+     * @param maxSize max size
+     * @throws IllegalArgumentException if {@code maxSize} less than 1
+     */
+    public void setMaxSize(int maxSize) {
+        checkMaxSize(maxSize);
+        this.maxSize = maxSize;
+        int stripeSize = stripeSize(maxSize);
+        for (Stripe<K, V> stripe : stripes) {
+            synchronized (stripe) {
+                stripe.maxEntries = stripeSize;
+                stripe.trim();
+            }
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Snapshot of statistics of this cache. <br>
+     * 缓存统计信息的快照
+     *
+     * @return CacheStats
+     */
+    public CacheStats stats() {
+        return new CacheStats(name, hits.sum(), misses.sum(), evictions.sum(), size(), maxSize);
+    }
+
+    /**
+     * Reset hit, miss and eviction counters. <br>
+     * 重置命中、未命中及淘汰计数器
+     */
+    public void resetStats() {
+        hits.reset();
+        misses.reset();
+        evictions.reset();
+    }
+
+    private Stripe<K, V> stripeFor(Object key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return stripes[h & (STRIPES - 1)];
+    }
+
+    private static int stripeSize(int maxSize) {
+        return Math.max(1, (maxSize + STRIPES - 1) / STRIPES);
+    }
+
+    private static void checkMaxSize(int maxSize) {
+        if (maxSize < 1) throw new IllegalArgumentException("Parameter `maxSize` must be greater than 0. ");
+    }
+
+    @Override
+    public String toString() {
+        return "StripedLRUCache{" +
+                "name='" + name + '\'' +
+                ", maxSize=" + maxSize +
+                '}';
+    }
+
+    /**
+     * LRU stripe, <b>this implementation is not synchronized and not thread-safe.</b>
+     *
+     * @param <K> key type
+     * @param <V> value type
+     */
+    static class Stripe<K, V> extends LinkedHashMap<K, V> {
+        private static final long serialVersionUID = 10065918050L;
+
+        private int maxEntries;
+        private final LongAdder evictions;
+
+        Stripe(final int maxEntries, final LongAdder evictions) {
+            super(maxEntries + 1, 1.0f, true);
+            this.maxEntries = maxEntries;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            boolean evict = size() > maxEntries;
+            if (evict) evictions.increment();
+            return evict;
+        }
+
+        void trim() {
+            Iterator<K> iter = keySet().iterator();
+            while (size() > maxEntries && iter.hasNext()) {
+                iter.next();
+                iter.remove();
+                evictions.increment();
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.si;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Histogram of elapsed times with power-of-two buckets. <b>It's thread-safe</b>. <br>
+ * 耗时直方图<b>（线程安全）</b>。第 {@code i} 个桶统计耗时在 {@code [2^(i-1), 2^i)} 纳秒之间的次数（第 0 个桶统计耗时为 0 的次数），
+ * 所以百分位数是对应桶的上界，误差在2倍以内。
+ *
+ * @since 0.5.0
+ */
+public final class TimeHistogram {
+    /**
+     * 桶的数量，可以覆盖所有非负的 {@code long} 值
+     */
+    public final static int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Long::max, 0L);
+
+    /**
+     * 只由 {@link SIMetrics} 创建
+     */
+    TimeHistogram() {
+    }
+
+    /**
+     * Record an elapsed time, negative values are recorded as {@code 0}. <br>
+     * 记录一次耗时，负数按 {@code 0} 记录
+     *
+     * @param nanos elapsed time in nanoseconds
+     */
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        buckets.incrementAndGet(BUCKETS - Long.numberOfLeadingZeros(nanos));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public long getTotalNanos() {
+        return totalNanos.sum();
+    }
+
+    public long getMaxNanos() {
+        return maxNanos.get();
+    }
+
+    public double getMeanNanos() {
+        long count = getCount();
+        return count == 0 ? 0.0 : (double) getTotalNanos() / count;
+    }
+
+    /**
+     * Upper bound of the bucket that contains the given percentile, returns {@code 0} when nothing is recorded. <br>
+     * 返回指定百分位数所在桶的上界（不超过最大值），没有任何记录时返回 {@code 0}
+     *
+     * @param percentile percentile, between {@code 0} and {@code 100}
+     * @return elapsed time in nanoseconds
+     * @throws IllegalArgumentException if {@code percentile} is not between {@code 0} and {@code 100}
+     */
+    public long percentileNanos(double percentile) {
+        if (!(percentile >= 0 && percentile <= 100)) throw new IllegalArgumentException("Parameter `percentile` must be between 0 and 100. ");
+
+        long[] counts = getBucketCounts();
+        long total = 0;
+        for (long c : counts) {
+            total += c;
+        }
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(total * percentile / 100));
+        long cumulative = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                long upperBound = i == 0 ? 0 : (i == BUCKETS - 1 ? Long.MAX_VALUE : (1L << i) - 1);
+                return Math.min(upperBound, getMaxNanos());
+            }
+        }
+        return getMaxNanos();
+    }
+
+    /**
+     * Snapshot of the count of each bucket. <br>
+     * 每个桶的计数的快照
+     *
+     * @return counts of buckets, the length is {@value #BUCKETS}
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKETS];
+        for (int i = 0; i < BUCKETS; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKETS; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    @Override
+    public String toString() {
+        return "TimeHistogram{" +
+                "count=" + getCount() +
+                ", meanNanos=" + getMeanNanos() +
+                ", p50Nanos=" + percentileNanos(50) +
+                ", p99Nanos=" + percentileNanos(99) +
+                ", maxNanos=" + getMaxNanos() +
+                '}';
+    }
+}
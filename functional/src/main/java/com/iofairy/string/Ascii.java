@@ -43,6 +43,21 @@ public final class Ascii {
         return c <= 127;
     }
 
+    /**
+     * Whether all characters in the string are ASCII characters
+     *
+     * @param str input string
+     * @return {@code true} if all characters are ASCII (or the string is empty), otherwise, return {@code false}
+     * @throws NullPointerException if {@code str} is null
+     * @since 0.5.0
+     */
+    public static boolean isAscii(CharSequence str) {
+        for (int i = 0; i < str.length(); i++) {
+            if (str.charAt(i) > 127) return false;
+        }
+        return true;
+    }
+
     /**
      * Whether the character is a Printable ASCII character
      *
@@ -193,6 +208,125 @@ public final class Ascii {
         return toLower(str.charAt(0)) + str.substring(1);
     }
 
+    /**
+     * Compares two characters ignoring case. ASCII characters are compared by folding letters,
+     * other characters fall back to {@link Character#toUpperCase(char)} and {@link Character#toLowerCase(char)}
+     * like {@link String#equalsIgnoreCase(String)}.
+     *
+     * @param c1 character
+     * @param c2 another character
+     * @return {@code true} if the characters are equal ignoring case
+     * @since 0.5.0
+     */
+    public static boolean equalsIgnoreCase(char c1, char c2) {
+        if (c1 == c2) return true;
+        if ((c1 | c2) < 128) {
+            // 都是ASCII字符：只有字母才可能忽略大小写相等，且两者只相差 0x20
+            return (c1 ^ c2) == 0x20 && isLetter(c1);
+        }
+        char u1 = Character.toUpperCase(c1);
+        char u2 = Character.toUpperCase(c2);
+        return u1 == u2 || Character.toLowerCase(u1) == Character.toLowerCase(u2);
+    }
+
+    /**
+     * Tests if two regions are equal ignoring case, without creating any new string.
+     *
+     * @param str         string
+     * @param offset      start offset of the region in {@code str}
+     * @param other       another string
+     * @param otherOffset start offset of the region in {@code other}
+     * @param length      number of characters to compare
+     * @return {@code true} if the regions are equal ignoring case, {@code false} if any region is out of bounds
+     * @throws NullPointerException if {@code str} or {@code other} is null
+     * @since 0.5.0
+     */
+    public static boolean regionMatchesIgnoreCase(CharSequence str, int offset, CharSequence other, int otherOffset, int length) {
+        if (offset < 0 || otherOffset < 0 || length < 0
+                || offset > str.length() - length || otherOffset > other.length() - length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (!equalsIgnoreCase(str.charAt(offset + i), other.charAt(otherOffset + i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Whether two strings are equal ignoring case, {@code null} only equals {@code null}.
+     *
+     * @param str   string
+     * @param other another string
+     * @return {@code true} if the strings are equal ignoring case
+     * @since 0.5.0
+     */
+    public static boolean equalsIgnoreCase(CharSequence str, CharSequence other) {
+        if (str == null || other == null) return str == other;
+        return str.length() == other.length() && regionMatchesIgnoreCase(str, 0, other, 0, str.length());
+    }
+
+    /**
+     * Whether the string starts with the prefix ignoring case.
+     *
+     * @param str    string
+     * @param prefix prefix
+     * @return {@code true} if the string starts with the prefix ignoring case
+     * @throws NullPointerException if {@code str} or {@code prefix} is null
+     * @since 0.5.0
+     */
+    public static boolean startsWithIgnoreCase(CharSequence str, CharSequence prefix) {
+        return regionMatchesIgnoreCase(str, 0, prefix, 0, prefix.length());
+    }
+
+    /**
+     * Whether the string ends with the suffix ignoring case.
+     *
+     * @param str    string
+     * @param suffix suffix
+     * @return {@code true} if the string ends with the suffix ignoring case
+     * @throws NullPointerException if {@code str} or {@code suffix} is null
+     * @since 0.5.0
+     */
+    public static boolean endsWithIgnoreCase(CharSequence str, CharSequence suffix) {
+        return regionMatchesIgnoreCase(str, str.length() - suffix.length(), suffix, 0, suffix.length());
+    }
+
+    /**
+     * Returns the index of the first occurrence of {@code search} in the string ignoring case,
+     * or {@code -1} if there is no such occurrence.
+     *
+     * @param str    string
+     * @param search the string to search for
+     * @return index of the first occurrence, or {@code -1}
+     * @throws NullPointerException if {@code str} or {@code search} is null
+     * @since 0.5.0
+     */
+    public static int indexOfIgnoreCase(CharSequence str, CharSequence search) {
+        int searchLength = search.length();
+        int max = str.length() - searchLength;
+        if (searchLength == 0) return 0;
+        char first = search.charAt(0);
+        for (int i = 0; i <= max; i++) {
+            if (equalsIgnoreCase(str.charAt(i), first) && regionMatchesIgnoreCase(str, i + 1, search, 1, searchLength - 1)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Whether the string contains {@code search} ignoring case.
+     *
+     * @param str    string
+     * @param search the string to search for
+     * @return {@code true} if the string contains {@code search} ignoring case
+     * @throws NullPointerException if {@code str} or {@code search} is null
+     * @since 0.5.0
+     */
+    public static boolean containsIgnoreCase(CharSequence str, CharSequence search) {
+        return indexOfIgnoreCase(str, search) >= 0;
+    }
+
     /**
      * Counts how many times the <b>upper letter</b> and <b>lower letter</b> and <b>not letter</b> occurrences in the given string.<br>
      * <p>Examples:
@@ -0,0 +1,181 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import com.iofairy.except.AliasDuplicateException;
+
+import java.io.Serializable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable aliases of a tuple, shared by all tuples with the same aliases.
+ * Shapes are interned up to {@code SHAPE_CACHE_SIZE} per kind, so tuples aliased with the same names usually refer to the same instance.
+ * {@link TupleAlias} shapes are interned per alias class (by {@link ClassValue}), so they don't pin the class loaders of user enums. <br>
+ * 元组的别名结构（不可变），所有别名相同的元组共享同一个实例。每类别名结构最多缓存 {@code SHAPE_CACHE_SIZE} 个，
+ * 所以使用相同别名的元组通常引用同一个实例，未设置别名的元组不持有任何别名对象。
+ * {@link TupleAlias} 别名结构按别名的类（通过 {@link ClassValue}）分别缓存，不会导致用户枚举类的类加载器无法卸载。
+ *
+ * @since 0.5.0
+ */
+final class AliasShape implements Serializable {
+    private static final long serialVersionUID = 10065917091L;
+
+    private final static int SHAPE_CACHE_SIZE = 1024;
+    private final static ConcurrentMap<List<String>, AliasShape> STRING_SHAPES = new ConcurrentHashMap<>();
+    /**
+     * 缓存保存在别名的类中，类加载器不可达时随之回收
+     */
+    private final static ClassValue<ConcurrentMap<List<TupleAlias>, AliasShape>> TUPLE_SHAPES = new ClassValue<ConcurrentMap<List<TupleAlias>, AliasShape>>() {
+        @Override
+        protected ConcurrentMap<List<TupleAlias>, AliasShape> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * 字符串别名，{@link TupleAlias} 别名会转成字符串存储在这里
+     */
+    private final String[] aliases;
+    /**
+     * {@link TupleAlias} 别名，使用字符串别名时为 {@code null}
+     */
+    private final TupleAlias[] tupleAliases;
+    private final transient List<String> aliasList;
+    private final transient List<TupleAlias> tupleAliasList;
+
+    private AliasShape(String[] aliases, TupleAlias[] tupleAliases) {
+        if (new HashSet<>(Arrays.asList(aliases)).size() != aliases.length) {
+            throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
+        }
+        this.aliases = aliases;
+        this.tupleAliases = tupleAliases;
+        this.aliasList = Collections.unmodifiableList(Arrays.asList(aliases));
+        this.tupleAliasList = tupleAliases == null ? Collections.emptyList() : Collections.unmodifiableList(Arrays.asList(tupleAliases));
+    }
+
+    /**
+     * Get the shared shape of the string aliases. <br>
+     * 获取字符串别名对应的共享别名结构
+     *
+     * @param aliases aliases
+     * @return shape
+     * @throws AliasDuplicateException if the aliases repeat
+     */
+    static AliasShape of(String[] aliases) {
+        AliasShape shape = STRING_SHAPES.get(Arrays.asList(aliases));
+        if (shape != null) return shape;
+
+        AliasShape newShape = new AliasShape(aliases.clone(), null);
+        return intern(STRING_SHAPES, newShape.aliasList, newShape);
+    }
+
+    /**
+     * Get the shared shape of the {@link TupleAlias} aliases. <br>
+     * 获取 {@link TupleAlias} 别名对应的共享别名结构
+     *
+     * @param tupleAliases aliases
+     * @return shape
+     * @throws AliasDuplicateException if the aliases repeat
+     */
+    static AliasShape of(TupleAlias[] tupleAliases) {
+        ConcurrentMap<List<TupleAlias>, AliasShape> shapes = tupleShapes(tupleAliases);
+        AliasShape shape = shapes == null ? null : shapes.get(Arrays.asList(tupleAliases));
+        if (shape != null) return shape;
+
+        TupleAlias[] localTupleAliases = tupleAliases.clone();
+        if (new HashSet<>(Arrays.asList(localTupleAliases)).size() != localTupleAliases.length) {
+            throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
+        }
+        String[] strAliases = Arrays.stream(localTupleAliases).map(e -> e == null ? null : e.toString()).toArray(String[]::new);
+        AliasShape newShape = new AliasShape(strAliases, localTupleAliases);
+        return shapes == null ? newShape : intern(shapes, newShape.tupleAliasList, newShape);
+    }
+
+    /**
+     * 别名所属的类的缓存，别名不全属于同一个类时返回 {@code null}（不缓存），避免一个类的缓存引用其他类的别名
+     */
+    private static ConcurrentMap<List<TupleAlias>, AliasShape> tupleShapes(TupleAlias[] tupleAliases) {
+        Class<?> aliasClass = null;
+        for (TupleAlias alias : tupleAliases) {
+            if (alias == null) continue;
+            Class<?> c = alias instanceof Enum ? ((Enum<?>) alias).getDeclaringClass() : alias.getClass();
+            if (aliasClass == null) {
+                aliasClass = c;
+            } else if (aliasClass != c) {
+                return null;
+            }
+        }
+        return aliasClass == null ? null : TUPLE_SHAPES.get(aliasClass);
+    }
+
+    /**
+     * 缓存已满时不再缓存，直接返回新的别名结构
+     */
+    private static <K> AliasShape intern(ConcurrentMap<K, AliasShape> shapes, K key, AliasShape newShape) {
+        if (shapes.size() >= SHAPE_CACHE_SIZE) return newShape;
+        AliasShape shape = shapes.putIfAbsent(key, newShape);
+        return shape == null ? newShape : shape;
+    }
+
+    int size() {
+        return aliases.length;
+    }
+
+    boolean isTupleAlias() {
+        return tupleAliases != null;
+    }
+
+    /**
+     * 别名的序号，不存在则返回 {@code -1}。元组最多只有 9 个元素，顺序查找比哈希查找更快
+     */
+    int indexOf(String alias) {
+        String[] aliases = this.aliases;
+        for (int i = 0; i < aliases.length; i++) {
+            if (Objects.equals(aliases[i], alias)) return i;
+        }
+        return -1;
+    }
+
+    String alias(int index) {
+        return aliases[index];
+    }
+
+    TupleAlias tupleAlias(int index) {
+        return tupleAliases[index];
+    }
+
+    List<String> aliasList() {
+        return aliasList;
+    }
+
+    List<TupleAlias> tupleAliasList() {
+        return tupleAliasList;
+    }
+
+    /**
+     * 反序列化时使用共享的别名结构
+     */
+    private Object readResolve() {
+        return tupleAliases == null ? of(aliases) : of(tupleAliases);
+    }
+
+    @Override
+    public String toString() {
+        return "AliasShape" + aliasList;
+    }
+}
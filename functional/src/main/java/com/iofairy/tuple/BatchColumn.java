@@ -0,0 +1,284 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+/**
+ * 列式元组批量容器的一列。{@code int}、{@code long}、{@code double} 类型的列使用基本类型数组存储，
+ * 其他类型（包括 {@link Integer} 等包装类型）使用 {@code Object[]} 存储
+ *
+ * @since 0.5.0
+ */
+abstract class BatchColumn implements Serializable {
+    private static final long serialVersionUID = 10065918030L;
+
+    static BatchColumn of(Class<?> type, int capacity) {
+        if (type == int.class) return new IntColumn(new int[capacity]);
+        if (type == long.class) return new LongColumn(new long[capacity]);
+        if (type == double.class) return new DoubleColumn(new double[capacity]);
+        return new ObjectColumn(new Object[capacity]);
+    }
+
+    abstract Object get(int row);
+
+    /**
+     * {@code value} 的类型及null值已经由 {@link TupleBatch3} 检查过，基本类型的列只接收对应的包装类型
+     */
+    abstract void set(int row, Object value);
+
+    /**
+     * 列的类型已经由 {@link TupleBatch3} 检查过，只有对应的基本类型或包装类型的列会被读取，不会转换数值类型
+     */
+    int getInt(int row) {
+        return (Integer) get(row);
+    }
+
+    long getLong(int row) {
+        return (Long) get(row);
+    }
+
+    double getDouble(int row) {
+        return (Double) get(row);
+    }
+
+    void setInt(int row, int value) {
+        set(row, value);
+    }
+
+    void setLong(int row, long value) {
+        set(row, value);
+    }
+
+    void setDouble(int row, double value) {
+        set(row, value);
+    }
+
+    abstract void grow(int capacity);
+
+    /**
+     * 列中的值的类型，基本类型转为对应的包装类型
+     */
+    static Class<?> valueType(Class<?> type) {
+        if (!type.isPrimitive()) return type;
+        if (type == int.class) return Integer.class;
+        if (type == long.class) return Long.class;
+        if (type == double.class) return Double.class;
+        if (type == boolean.class) return Boolean.class;
+        if (type == char.class) return Character.class;
+        if (type == byte.class) return Byte.class;
+        if (type == short.class) return Short.class;
+        if (type == float.class) return Float.class;
+        return Void.class;
+    }
+
+    /**
+     * 按自然顺序比较两行，{@code null} 排在最前面
+     */
+    abstract int compare(int row1, int row2);
+
+    /**
+     * 按 {@code rows} 的顺序取出前 {@code size} 行，组成新的列
+     */
+    abstract BatchColumn select(int[] rows, int size);
+
+    private static final class IntColumn extends BatchColumn {
+        private static final long serialVersionUID = 10065918031L;
+        private int[] values;
+
+        IntColumn(int[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Integer) value;
+        }
+
+        @Override
+        int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setInt(int row, int value) {
+            values[row] = value;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return Integer.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        BatchColumn select(int[] rows, int size) {
+            int[] selected = new int[Math.max(size, 1)];
+            for (int i = 0; i < size; i++) {
+                selected[i] = values[rows[i]];
+            }
+            return new IntColumn(selected);
+        }
+    }
+
+    private static final class LongColumn extends BatchColumn {
+        private static final long serialVersionUID = 10065918032L;
+        private long[] values;
+
+        LongColumn(long[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Long) value;
+        }
+
+        @Override
+        long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setLong(int row, long value) {
+            values[row] = value;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return Long.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        BatchColumn select(int[] rows, int size) {
+            long[] selected = new long[Math.max(size, 1)];
+            for (int i = 0; i < size; i++) {
+                selected[i] = values[rows[i]];
+            }
+            return new LongColumn(selected);
+        }
+    }
+
+    private static final class DoubleColumn extends BatchColumn {
+        private static final long serialVersionUID = 10065918033L;
+        private double[] values;
+
+        DoubleColumn(double[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = (Double) value;
+        }
+
+        @Override
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        void setDouble(int row, double value) {
+            values[row] = value;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        int compare(int row1, int row2) {
+            return Double.compare(values[row1], values[row2]);
+        }
+
+        @Override
+        BatchColumn select(int[] rows, int size) {
+            double[] selected = new double[Math.max(size, 1)];
+            for (int i = 0; i < size; i++) {
+                selected[i] = values[rows[i]];
+            }
+            return new DoubleColumn(selected);
+        }
+    }
+
+    private static final class ObjectColumn extends BatchColumn {
+        private static final long serialVersionUID = 10065918034L;
+        private Object[] values;
+
+        ObjectColumn(Object[] values) {
+            this.values = values;
+        }
+
+        @Override
+        Object get(int row) {
+            return values[row];
+        }
+
+        @Override
+        void set(int row, Object value) {
+            values[row] = value;
+        }
+
+        @Override
+        void grow(int capacity) {
+            values = Arrays.copyOf(values, capacity);
+        }
+
+        @Override
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        int compare(int row1, int row2) {
+            Object v1 = values[row1];
+            Object v2 = values[row2];
+            if (v1 == null || v2 == null) return v1 == null ? (v2 == null ? 0 : -1) : 1;
+            return ((Comparable) v1).compareTo(v2);
+        }
+
+        @Override
+        BatchColumn select(int[] rows, int size) {
+            Object[] selected = new Object[Math.max(size, 1)];
+            for (int i = 0; i < size; i++) {
+                selected[i] = values[rows[i]];
+            }
+            return new ObjectColumn(selected);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A tuple of 3 elements, all are {@code double}, the elements are stored unboxed.
+ * The {@link Tuple} methods such as {@link #element(int)} and {@link #toMap()} return boxed values,
+ * and it equals a {@link Tuple3} of the same elements, but {@code equals} and {@code hashCode} between the same type never box. <br>
+ * 3个元素的元组，三个元素都是 {@code double}，元素不会装箱存储。
+ * {@link #element(int)}、{@link #toMap()} 等 {@link Tuple} 接口的方法返回装箱后的值，
+ * 与相同元素的 {@link Tuple3} 相等（{@link #equals(Object)}），但同类型之间的 {@code equals} 及 {@code hashCode} 不会装箱。
+ * 适用于在循环中返回 (sum, min, max) 等结果。
+ *
+ * @since 0.5.0
+ */
+public class DoubleTuple3 extends TupleBase {
+    private static final long serialVersionUID = 10065918022L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final double _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final double _2;
+    /**
+     * The 3rd element of this tuple.
+     */
+    public final double _3;
+
+    /**
+     * Constructs a {@code DoubleTuple3}.　DoubleTuple3构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     */
+    public DoubleTuple3(double _1, double _2, double _3) {
+        this._1 = _1;
+        this._2 = _2;
+        this._3 = _3;
+    }
+
+    /**
+     * Creates a {@code DoubleTuple3}.　创建DoubleTuple3。
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param _3 The value of 3rd element
+     * @return DoubleTuple3
+     */
+    public static DoubleTuple3 of(double _1, double _2, double _3) {
+        return new DoubleTuple3(_1, _2, _3);
+    }
+
+    @Override
+    public int arity() {
+        return 3;
+    }
+
+    @Override
+    public DoubleTuple3 alias(TupleAlias... aliases) {
+        return (DoubleTuple3) super.alias(aliases);
+    }
+
+    @Override
+    public DoubleTuple3 alias(String... aliases) {
+        return (DoubleTuple3) super.alias(aliases);
+    }
+
+    @Override
+    public DoubleTuple3 copyAliases(Tuple tuple) {
+        return (DoubleTuple3) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Double.valueOf(_1);
+            case 1:
+                return (R) Double.valueOf(_2);
+            case 2:
+                return (R) Double.valueOf(_3);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public DoubleTuple3 cacheHash() {
+        return (DoubleTuple3) super.cacheHash();
+    }
+
+    @Override
+    public DoubleTuple3 copy() {
+        return new DoubleTuple3(_1, _2, _3).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof DoubleTuple3) {
+            DoubleTuple3 other = (DoubleTuple3) obj;
+            return !hashMismatch(other)
+                    && Double.doubleToLongBits(_1) == Double.doubleToLongBits(other._1)
+                    && Double.doubleToLongBits(_2) == Double.doubleToLongBits(other._2)
+                    && Double.doubleToLongBits(_3) == Double.doubleToLongBits(other._3)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Double.hashCode(_1);
+        h = 31 * h + Double.hashCode(_2);
+        h = 31 * h + Double.hashCode(_3);
+        return h;
+    }
+
+}
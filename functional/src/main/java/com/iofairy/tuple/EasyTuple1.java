@@ -93,6 +93,11 @@ public class EasyTuple1<T> extends Tuple1<T> implements EasyTuple {
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple1<T> cacheHash() {
+        return (EasyTuple1<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple1<T> copy() {
         return EasyTuple.of(_1).copyAliases(this);
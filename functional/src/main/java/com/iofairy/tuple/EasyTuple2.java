@@ -89,6 +89,11 @@ public class EasyTuple2<T> extends Tuple2<T, T> implements EasyTuple {
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple2<T> cacheHash() {
+        return (EasyTuple2<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple2<T> copy() {
         return EasyTuple.of(_1, _2).copyAliases(this);
@@ -89,6 +89,11 @@ public class EasyTuple3<T> extends Tuple3<T, T, T> implements EasyTuple {
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple3<T> cacheHash() {
+        return (EasyTuple3<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple3<T> copy() {
         return EasyTuple.of(_1, _2, _3).copyAliases(this);
@@ -89,6 +89,11 @@ public class EasyTuple4<T> extends Tuple4<T, T, T, T> implements EasyTuple {
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple4<T> cacheHash() {
+        return (EasyTuple4<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple4<T> copy() {
         return EasyTuple.of(_1, _2, _3, _4).copyAliases(this);
@@ -89,6 +89,11 @@ public class EasyTuple5<T> extends Tuple5<T, T, T, T, T> implements EasyTuple {
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple5<T> cacheHash() {
+        return (EasyTuple5<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple5<T> copy() {
         return EasyTuple.of(_1, _2, _3, _4, _5).copyAliases(this);
@@ -89,6 +89,11 @@ public class EasyTuple6<T> extends Tuple6<T, T, T, T, T, T> implements EasyTuple
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple6<T> cacheHash() {
+        return (EasyTuple6<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple6<T> copy() {
         return EasyTuple.of(_1, _2, _3, _4, _5, _6).copyAliases(this);
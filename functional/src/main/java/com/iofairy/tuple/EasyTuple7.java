@@ -89,6 +89,11 @@ public class EasyTuple7<T> extends Tuple7<T, T, T, T, T, T, T> implements EasyTu
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple7<T> cacheHash() {
+        return (EasyTuple7<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple7<T> copy() {
         return EasyTuple.of(_1, _2, _3, _4, _5, _6, _7).copyAliases(this);
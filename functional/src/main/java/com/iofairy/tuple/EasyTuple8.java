@@ -89,6 +89,11 @@ public class EasyTuple8<T> extends Tuple8<T, T, T, T, T, T, T, T> implements Eas
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple8<T> cacheHash() {
+        return (EasyTuple8<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple8<T> copy() {
         return EasyTuple.of(_1, _2, _3, _4, _5, _6, _7, _8).copyAliases(this);
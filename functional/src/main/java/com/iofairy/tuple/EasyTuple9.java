@@ -89,6 +89,11 @@ public class EasyTuple9<T> extends Tuple9<T, T, T, T, T, T, T, T, T> implements
         return EasyTuple.super.<T>toList();
     }
 
+    @Override
+    public EasyTuple9<T> cacheHash() {
+        return (EasyTuple9<T>) super.cacheHash();
+    }
+
     @Override
     public EasyTuple9<T> copy() {
         return EasyTuple.of(_1, _2, _3, _4, _5, _6, _7, _8, _9).copyAliases(this);
@@ -0,0 +1,125 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+/**
+ * A tuple of 2 elements, both are {@code int}, the elements are stored unboxed.
+ * The {@link Tuple} methods such as {@link #element(int)} and {@link #toMap()} return boxed values,
+ * and it equals a {@link Tuple2} of the same elements, but {@code equals} and {@code hashCode} between the same type never box. <br>
+ * 2个元素的元组，两个元素都是 {@code int}，元素不会装箱存储。
+ * {@link #element(int)}、{@link #toMap()} 等 {@link Tuple} 接口的方法返回装箱后的值，
+ * 与相同元素的 {@link Tuple2} 相等（{@link #equals(Object)}），但同类型之间的 {@code equals} 及 {@code hashCode} 不会装箱。
+ *
+ * @since 0.5.0
+ */
+public class IntTuple2 extends TupleBase {
+    private static final long serialVersionUID = 10065918020L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final int _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final int _2;
+
+    /**
+     * Constructs a {@code IntTuple2}.　IntTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public IntTuple2(int _1, int _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    /**
+     * Creates a {@code IntTuple2}.　创建IntTuple2。
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @return IntTuple2
+     */
+    public static IntTuple2 of(int _1, int _2) {
+        return new IntTuple2(_1, _2);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    public IntTuple2 alias(TupleAlias... aliases) {
+        return (IntTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public IntTuple2 alias(String... aliases) {
+        return (IntTuple2) super.alias(aliases);
+    }
+
+    @Override
+    public IntTuple2 copyAliases(Tuple tuple) {
+        return (IntTuple2) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) Integer.valueOf(_1);
+            case 1:
+                return (R) Integer.valueOf(_2);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    public IntTuple2 cacheHash() {
+        return (IntTuple2) super.cacheHash();
+    }
+
+    @Override
+    public IntTuple2 copy() {
+        return new IntTuple2(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof IntTuple2) {
+            IntTuple2 other = (IntTuple2) obj;
+            return !hashMismatch(other)
+                    && _1 == other._1
+                    && _2 == other._2
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Integer.hashCode(_1);
+        h = 31 * h + Integer.hashCode(_2);
+        return h;
+    }
+
+}
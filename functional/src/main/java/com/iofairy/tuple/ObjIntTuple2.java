@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.util.Objects;
+
+/**
+ * A tuple of 2 elements, the 1st is an object and the 2nd is an {@code int}, the elements are stored unboxed.
+ * The {@link Tuple} methods such as {@link #element(int)} and {@link #toMap()} return boxed values,
+ * and it equals a {@link Tuple2} of the same elements, but {@code equals} and {@code hashCode} between the same type never box. <br>
+ * 2个元素的元组，第1个元素是对象，第2个元素是 {@code int}，元素不会装箱存储。
+ * {@link #element(int)}、{@link #toMap()} 等 {@link Tuple} 接口的方法返回装箱后的值，
+ * 与相同元素的 {@link Tuple2} 相等（{@link #equals(Object)}），但同类型之间的 {@code equals} 及 {@code hashCode} 不会装箱。
+ * 适用于返回 (key, count) 等结果。
+ *
+ * @param <T> type of the 1st element.　第1个元素的类型
+ * @since 0.5.0
+ */
+public class ObjIntTuple2<T> extends TupleBase {
+    private static final long serialVersionUID = 10065918023L;
+
+    /**
+     * The 1st element of this tuple.
+     */
+    public final T _1;
+    /**
+     * The 2nd element of this tuple.
+     */
+    public final int _2;
+
+    /**
+     * Constructs a {@code ObjIntTuple2}.　ObjIntTuple2构造器。
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     */
+    public ObjIntTuple2(T _1, int _2) {
+        this._1 = _1;
+        this._2 = _2;
+    }
+
+    /**
+     * Creates a {@code ObjIntTuple2}.　创建ObjIntTuple2。
+     *
+     * @param _1 The value of 1st element
+     * @param _2 The value of 2nd element
+     * @param <T> type of the 1st element
+     * @return ObjIntTuple2
+     */
+    public static <T> ObjIntTuple2<T> of(T _1, int _2) {
+        return new ObjIntTuple2<>(_1, _2);
+    }
+
+    @Override
+    public int arity() {
+        return 2;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ObjIntTuple2<T> alias(TupleAlias... aliases) {
+        return (ObjIntTuple2<T>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ObjIntTuple2<T> alias(String... aliases) {
+        return (ObjIntTuple2<T>) super.alias(aliases);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ObjIntTuple2<T> copyAliases(Tuple tuple) {
+        return (ObjIntTuple2<T>) super.copyAliases(tuple);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <R> R element(int n) {
+        switch (n) {
+            case 0:
+                return (R) _1;
+            case 1:
+                return (R) Integer.valueOf(_2);
+            default:
+                throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ObjIntTuple2<T> cacheHash() {
+        return (ObjIntTuple2<T>) super.cacheHash();
+    }
+
+    @Override
+    public ObjIntTuple2<T> copy() {
+        return new ObjIntTuple2<>(_1, _2).copyAliases(this);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof ObjIntTuple2) {
+            ObjIntTuple2<?> other = (ObjIntTuple2<?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && _2 == other._2
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Integer.hashCode(_2);
+        return h;
+    }
+
+}
@@ -0,0 +1,48 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.*;
+
+/**
+ * 元组的序列化代理，通过 {@link TupleBase#writeReplace()} 替换元素不会引用其他对象的元组，使用 {@link TupleCodec#defaultCodec()}
+ * 的紧凑格式写入，{@code byte[]}、{@link java.util.Date} 等可变元素由外层的对象流写入，反序列化时通过 {@link #readResolve()} 还原为元组
+ *
+ * @since 0.5.0
+ */
+final class SerializedTuple implements Serializable {
+    private static final long serialVersionUID = 10065918040L;
+
+    private transient Tuple tuple;
+
+    SerializedTuple(Tuple tuple) {
+        this.tuple = tuple;
+    }
+
+    private void writeObject(ObjectOutputStream out) throws IOException {
+        out.defaultWriteObject();
+        TupleCodec.defaultCodec().encode(tuple, out);
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        tuple = TupleCodec.defaultCodec().decode(in);
+    }
+
+    private Object readResolve() {
+        return tuple;
+    }
+}
@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 1 element<br>
  * 1个元素的元组
@@ -72,6 +74,31 @@ public class Tuple1<T> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple1<T> cacheHash() {
+        return (Tuple1<T>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple1) {
+            Tuple1<?> other = (Tuple1<?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        return h;
+    }
+
     @Override
     public Tuple1<T> copy() {
         return Tuple.of(_1).copyAliases(this);
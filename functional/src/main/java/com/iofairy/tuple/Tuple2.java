@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 2 elements<br>
  * 2个元素的元组
@@ -81,6 +83,33 @@ public class Tuple2<T1, T2> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple2<T1, T2> cacheHash() {
+        return (Tuple2<T1, T2>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple2) {
+            Tuple2<?, ?> other = (Tuple2<?, ?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && Objects.equals(_2, other._2)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Objects.hashCode(_2);
+        return h;
+    }
+
     @Override
     public Tuple2<T1, T2> copy() {
         return Tuple.of(_1, _2).copyAliases(this);
@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 3 elements<br>
  * 3个元素的元组
@@ -90,6 +92,35 @@ public class Tuple3<T1, T2, T3> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple3<T1, T2, T3> cacheHash() {
+        return (Tuple3<T1, T2, T3>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple3) {
+            Tuple3<?, ?, ?> other = (Tuple3<?, ?, ?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && Objects.equals(_2, other._2)
+                    && Objects.equals(_3, other._3)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Objects.hashCode(_2);
+        h = 31 * h + Objects.hashCode(_3);
+        return h;
+    }
+
     @Override
     public Tuple3<T1, T2, T3> copy() {
         return Tuple.of(_1, _2, _3).copyAliases(this);
@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 4 elements<br>
  * 4个元素的元组
@@ -99,6 +101,37 @@ public class Tuple4<T1, T2, T3, T4> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple4<T1, T2, T3, T4> cacheHash() {
+        return (Tuple4<T1, T2, T3, T4>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple4) {
+            Tuple4<?, ?, ?, ?> other = (Tuple4<?, ?, ?, ?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && Objects.equals(_2, other._2)
+                    && Objects.equals(_3, other._3)
+                    && Objects.equals(_4, other._4)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Objects.hashCode(_2);
+        h = 31 * h + Objects.hashCode(_3);
+        h = 31 * h + Objects.hashCode(_4);
+        return h;
+    }
+
     @Override
     public Tuple4<T1, T2, T3, T4> copy() {
         return Tuple.of(_1, _2, _3, _4).copyAliases(this);
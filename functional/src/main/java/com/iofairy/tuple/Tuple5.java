@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 5 elements<br>
  * 5个元素的元组
@@ -108,6 +110,39 @@ public class Tuple5<T1, T2, T3, T4, T5> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple5<T1, T2, T3, T4, T5> cacheHash() {
+        return (Tuple5<T1, T2, T3, T4, T5>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple5) {
+            Tuple5<?, ?, ?, ?, ?> other = (Tuple5<?, ?, ?, ?, ?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && Objects.equals(_2, other._2)
+                    && Objects.equals(_3, other._3)
+                    && Objects.equals(_4, other._4)
+                    && Objects.equals(_5, other._5)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Objects.hashCode(_2);
+        h = 31 * h + Objects.hashCode(_3);
+        h = 31 * h + Objects.hashCode(_4);
+        h = 31 * h + Objects.hashCode(_5);
+        return h;
+    }
+
     @Override
     public Tuple5<T1, T2, T3, T4, T5> copy() {
         return Tuple.of(_1, _2, _3, _4, _5).copyAliases(this);
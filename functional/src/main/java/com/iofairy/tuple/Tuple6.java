@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 6 elements<br>
  * 6个元素的元组
@@ -117,6 +119,41 @@ public class Tuple6<T1, T2, T3, T4, T5, T6> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple6<T1, T2, T3, T4, T5, T6> cacheHash() {
+        return (Tuple6<T1, T2, T3, T4, T5, T6>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple6) {
+            Tuple6<?, ?, ?, ?, ?, ?> other = (Tuple6<?, ?, ?, ?, ?, ?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && Objects.equals(_2, other._2)
+                    && Objects.equals(_3, other._3)
+                    && Objects.equals(_4, other._4)
+                    && Objects.equals(_5, other._5)
+                    && Objects.equals(_6, other._6)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Objects.hashCode(_2);
+        h = 31 * h + Objects.hashCode(_3);
+        h = 31 * h + Objects.hashCode(_4);
+        h = 31 * h + Objects.hashCode(_5);
+        h = 31 * h + Objects.hashCode(_6);
+        return h;
+    }
+
     @Override
     public Tuple6<T1, T2, T3, T4, T5, T6> copy() {
         return Tuple.of(_1, _2, _3, _4, _5, _6).copyAliases(this);
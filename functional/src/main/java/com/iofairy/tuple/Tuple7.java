@@ -15,6 +15,8 @@
  */
 package com.iofairy.tuple;
 
+import java.util.Objects;
+
 /**
  * A tuple of 7 elements<br>
  * 7个元素的元组
@@ -126,6 +128,43 @@ public class Tuple7<T1, T2, T3, T4, T5, T6, T7> extends TupleBase {
         }
     }
 
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple7<T1, T2, T3, T4, T5, T6, T7> cacheHash() {
+        return (Tuple7<T1, T2, T3, T4, T5, T6, T7>) super.cacheHash();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (obj instanceof Tuple7) {
+            Tuple7<?, ?, ?, ?, ?, ?, ?> other = (Tuple7<?, ?, ?, ?, ?, ?, ?>) obj;
+            return !hashMismatch(other)
+                    && Objects.equals(_1, other._1)
+                    && Objects.equals(_2, other._2)
+                    && Objects.equals(_3, other._3)
+                    && Objects.equals(_4, other._4)
+                    && Objects.equals(_5, other._5)
+                    && Objects.equals(_6, other._6)
+                    && Objects.equals(_7, other._7)
+                    && aliasesEquals(other);
+        }
+        return super.equals(obj);
+    }
+
+    @Override
+    protected int elementsHashCode() {
+        int h = 1;
+        h = 31 * h + Objects.hashCode(_1);
+        h = 31 * h + Objects.hashCode(_2);
+        h = 31 * h + Objects.hashCode(_3);
+        h = 31 * h + Objects.hashCode(_4);
+        h = 31 * h + Objects.hashCode(_5);
+        h = 31 * h + Objects.hashCode(_6);
+        h = 31 * h + Objects.hashCode(_7);
+        return h;
+    }
+
     @Override
     public Tuple7<T1, T2, T3, T4, T5, T6, T7> copy() {
         return Tuple.of(_1, _2, _3, _4, _5, _6, _7).copyAliases(this);
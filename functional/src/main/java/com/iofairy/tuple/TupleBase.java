@@ -19,6 +19,10 @@ import com.iofairy.except.*;
 import com.iofairy.si.SI;
 import com.iofairy.top.G;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectStreamClass;
+import java.io.ObjectStreamException;
 import java.util.*;
 
 /**
@@ -31,17 +35,18 @@ public abstract class TupleBase implements Tuple {
     private static final long serialVersionUID = 10065917090L;
 
     /**
-     * List of aliases.　普通别名列表。
+     * Aliases shared by all tuples with the same aliases, {@code null} if the aliases are not set.　共享的别名结构，未设置别名时为 {@code null}。
      */
-    private final List<String> aliasList = new ArrayList<>();
+    private AliasShape aliasShape;
     /**
-     * List of tuple aliases.　TupleAlias别名列表。
+     * Cached hash code, see {@link #cacheHash()}: {@code 0} if not cached, otherwise {@code HASH_CACHED | (hash & 0xFFFFFFFFL)}.
+     * The flag and the hash code share one volatile field, so a reader never sees one without the other.
+     * Hash codes of some elements (e.g. enums) differ between JVMs, so it is not serialized.　缓存的哈希值：未缓存时为 {@code 0}，
+     * 否则为 {@code HASH_CACHED | (hash & 0xFFFFFFFFL)}。标记与哈希值存放在同一个 volatile 字段中，读取时不会只看到其中之一。
+     * 部分元素（如枚举）的哈希值在不同JVM中不同，所以不序列化。
      */
-    private final List<TupleAlias> tupleAliasList = new ArrayList<>();
-    /**
-     * Map of aliases.　别名与序号键值对
-     */
-    private final Map<String, Integer> alias_index = new HashMap<>();
+    private transient volatile long cachedHash;
+    private final static long HASH_CACHED = 1L << 32;
 
     private final static String MSG_FOR_TUPLE0_UNSUPPORTED =
                     "`alias` method is unsupported in Tuple0. Because Tuple0 is empty tuple. " +
@@ -62,21 +67,13 @@ public abstract class TupleBase implements Tuple {
         clearAlias();
         if (aliases == null) {
             if (arity() == 1) {
-                alias((String[]) null);
-                tupleAliasList.add(null);
+                aliasShape = AliasShape.of(new TupleAlias[]{null});
                 return this;
             }
             throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
         }
 
-        List<TupleAlias> localAliases = Arrays.asList(aliases);
-        Set<TupleAlias> aliasSet = new HashSet<>(localAliases);
-        if (localAliases.size() != aliasSet.size()) throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
-
-        String[] localStrAliases = localAliases.stream().map( e -> e == null ? null : e.toString()).toArray(String[]::new);
-        alias(localStrAliases);
-        tupleAliasList.addAll(localAliases);
-
+        setAliasShape(AliasShape.of(aliases));
         return this;
     }
 
@@ -87,36 +84,35 @@ public abstract class TupleBase implements Tuple {
         clearAlias();
         if (aliases == null) {
             if (arity() == 1) {
-                putToMapAndList(null, 0);
+                aliasShape = AliasShape.of(new String[]{null});
                 return this;
             }
             throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
         }
 
-        List<String> localAliases = Arrays.asList(aliases);
-        Set<String> aliasSet = new HashSet<>(localAliases);
-        if (localAliases.size() != aliasSet.size()) throw new AliasDuplicateException("The aliases can't repeat. 别名不能重复！");
-
-        if (arity() != aliases.length)
-            throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
-        for (int i = 0; i < aliases.length; i++) putToMapAndList(aliases[i], i);
-
+        setAliasShape(AliasShape.of(aliases));
         return this;
     }
 
-    private void putToMapAndList(String alias, int index) {
-        alias_index.put(alias, index);
-        aliasList.add(alias);
+    private void setAliasShape(AliasShape shape) {
+        if (arity() != shape.size())
+            throw new NumberOfAliasesException("aliases' length is not equals " + arity() + ". 参数aliases的长度不等于" + arity() + "。");
+        aliasShape = shape;
     }
 
     @Override
     public String aliasType() {
-        return !tupleAliasList.isEmpty() ? "tuple" : !aliasList.isEmpty() ? "string" : "null";
+        return aliasShape == null ? "null" : aliasShape.isTupleAlias() ? "tuple" : "string";
     }
 
     @Override
     public Tuple copyAliases(Tuple tuple) {
         if (tuple.arity() == arity()){
+            if (tuple instanceof TupleBase) {
+                aliasShape = ((TupleBase) tuple).aliasShape;
+                return this;
+            }
+
             List<TupleAlias> tempTupleAliases = tuple.getTupleAliases();
             List<String> tempAliases = tuple.getAliases();
             clearAlias();
@@ -137,24 +133,25 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public void clearAlias() {
-        aliasList.clear();
-        tupleAliasList.clear();
-        alias_index.clear();
+        aliasShape = null;
     }
 
     @Override
     public List<TupleAlias> getTupleAliases() {
-        return Collections.unmodifiableList(tupleAliasList);
+        return aliasShape == null ? Collections.emptyList() : aliasShape.tupleAliasList();
     }
 
     @Override
     public List<String> getAliases() {
-        return Collections.unmodifiableList(aliasList);
+        return aliasShape == null ? Collections.emptyList() : aliasShape.aliasList();
     }
 
     @Override
     public boolean aliasesEquals(Tuple tuple) {
-        if (tuple == null || tuple.arity() != arity() || !tuple.aliasType().equals(aliasType())) return false;
+        if (tuple == null || tuple.arity() != arity()) return false;
+        // 别名结构是共享的，相同的别名通常是同一个实例
+        if (tuple instanceof TupleBase && ((TupleBase) tuple).aliasShape == aliasShape) return true;
+        if (!tuple.aliasType().equals(aliasType())) return false;
         if (arity() == 0) return true;
 
         List<String> aliases1 = getAliases();
@@ -176,11 +173,12 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public <R> R __(String alias) {
-        if (aliasList.isEmpty()) {
+        if (aliasShape == null) {
             throw new AliasNotSetException(MSG_FOR_STRING_ALIASES);
         }
-        if (alias_index.containsKey(alias)) {
-            return element(alias_index.get(alias));
+        int index = aliasShape.indexOf(alias);
+        if (index >= 0) {
+            return element(index);
         }else {
             throw new AliasNotFoundException("the alias `" + alias + "` not found. "+" 别名`" + alias + "`没有找到。");
         }
@@ -188,12 +186,12 @@ public abstract class TupleBase implements Tuple {
 
     @Override
     public boolean containsAlias(TupleAlias alias) {
-        return !tupleAliasList.isEmpty() && containsAlias(alias.toString());
+        return aliasShape != null && aliasShape.isTupleAlias() && containsAlias(alias.toString());
     }
 
     @Override
     public boolean containsAlias(String alias) {
-        return arity() != 0 && aliasList.contains(alias);
+        return arity() != 0 && aliasShape != null && aliasShape.indexOf(alias) >= 0;
     }
 
     @Override
@@ -205,10 +203,10 @@ public abstract class TupleBase implements Tuple {
         Map<String, R> tupleMap = new HashMap<>();
         if (arity() == 0) return tupleMap;
         for (int i = 0; i < arity(); i++) {
-            if (aliasList.isEmpty()) {
+            if (aliasShape == null) {
                 tupleMap.put("_" + (i + 1), element(i));
             }else {
-                tupleMap.put(aliasList.get(i), element(i));
+                tupleMap.put(aliasShape.alias(i), element(i));
             }
         }
         return tupleMap;
@@ -223,10 +221,10 @@ public abstract class TupleBase implements Tuple {
     public <R> Tuple2<TupleAlias, R> elementWithTupleAlias(int n) {
         if (n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
 
-        if (tupleAliasList.isEmpty()) {
+        if (aliasShape == null || !aliasShape.isTupleAlias()) {
             throw new AliasNotSetException(MSG_FOR_TUPLE_ALIASES);
         }
-        TupleAlias alias = tupleAliasList.get(n);
+        TupleAlias alias = aliasShape.tupleAlias(n);
         R element = this.<R>element(n);
 
         return new Tuple2<>(alias, element);
@@ -236,10 +234,10 @@ public abstract class TupleBase implements Tuple {
     public <R> Tuple2<String, R> elementWithAlias(int n) {
         if (n >= arity()) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
 
-        if (aliasList.isEmpty()) {
+        if (aliasShape == null) {
             throw new AliasNotSetException(MSG_FOR_STRING_ALIASES);
         }
-        String alias = aliasList.get(n);
+        String alias = aliasShape.alias(n);
         R element = this.<R>element(n);
 
         return new Tuple2<>(alias, element);
@@ -254,22 +252,77 @@ public abstract class TupleBase implements Tuple {
             for (int i = 0; i < arity(); i++) {
                 strList.add(G.toString((Object) element(i)));
             }
-            return alias_index.isEmpty() ? "(" + String.join(", ", strList) + ")" : "(" + concatElement(strList) + ")";
+            return aliasShape == null ? "(" + String.join(", ", strList) + ")" : "(" + concatElement(strList) + ")";
         }
     }
 
     private String concatElement(List<String> strList) {
         ArrayList<String> tempStrList = new ArrayList<>();
         for (int i = 0; i < strList.size(); i++) {
-            String alias = aliasList.get(i);
+            String alias = aliasShape.alias(i);
             alias = (alias == null ? "`null`" : alias);
             tempStrList.add(alias + ": " + strList.get(i));
         }
         return String.join(", ", tempStrList);
     }
 
+    /**
+     * Compute the hash code of the elements once and cache it, then {@link #hashCode()} returns the cached value,
+     * and {@link #equals(Object)} fails fast when two tuples with cached hash codes differ.
+     * It makes tuples efficient composite keys of {@link HashMap}. <b>Call it only when the elements are immutable</b>,
+     * otherwise the cached hash code will be stale after an element changes. Aliases are not part of the hash code. <br>
+     * 计算元素的哈希值并缓存，之后 {@link #hashCode()} 直接返回缓存的值，两个缓存了哈希值的元组哈希值不同时，
+     * {@link #equals(Object)} 直接返回 {@code false}，适合将元组作为 {@link HashMap} 的组合key。
+     * <b>只有元素不可变时才能调用</b>，否则元素改变后缓存的哈希值将不正确。别名不参与哈希值的计算。
+     *
+     * @return this tuple
+     * @since 0.5.0
+     */
+    public Tuple cacheHash() {
+        cachedHash = HASH_CACHED | (elementsHashCode() & 0xFFFFFFFFL);
+        return this;
+    }
+
+    /**
+     * Same as the {@code hashCode} of a {@link List} of the elements, aliases are not included.
+     * Returns the cached value after {@link #cacheHash()}. <br>
+     * 与元素组成的 {@link List} 的 {@code hashCode} 相同，不包括别名。调用 {@link #cacheHash()} 后返回缓存的值。
+     *
+     * @return hash code
+     */
+    @Override
+    public int hashCode() {
+        long h = cachedHash;
+        return h != 0 ? (int) h : elementsHashCode();
+    }
+
+    /**
+     * Hash code of the elements, subclasses override it to compute field by field without boxing. <br>
+     * 元素的哈希值，子类可重写该方法，直接按字段计算，避免装箱
+     *
+     * @return hash code of the elements
+     * @since 0.5.0
+     */
+    protected int elementsHashCode() {
+        int h = 1;
+        for (int i = 0; i < arity(); i++) {
+            h = 31 * h + Objects.hashCode(element(i));
+        }
+        return h;
+    }
+
+    /**
+     * 两个元组都缓存了哈希值且哈希值不同时，一定不相等
+     */
+    final boolean hashMismatch(TupleBase tuple) {
+        long h1 = cachedHash;
+        long h2 = tuple.cachedHash;
+        return h1 != 0 && h2 != 0 && h1 != h2;
+    }
+
     @Override
     public boolean equals(Object obj) {
+        if (obj instanceof TupleBase && hashMismatch((TupleBase) obj)) return false;
         if (obj instanceof Tuple) {
             Tuple tuple = (Tuple) obj;
             if (aliasesEquals(tuple)) {
@@ -282,4 +335,45 @@ public abstract class TupleBase implements Tuple {
         return false;
     }
 
+    /**
+     * Read the aliases, the serialized form before 0.5.0 (fields {@code aliasList}, {@code tupleAliasList} and {@code alias_index})
+     * is mapped to the shared {@link AliasShape}.
+     * 读取别名，0.5.0 之前的序列化格式（{@code aliasList}、{@code tupleAliasList}、{@code alias_index} 字段）会转换为共享的别名结构
+     */
+    @SuppressWarnings("unchecked")
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        ObjectInputStream.GetField fields = in.readFields();
+        ObjectStreamClass desc = fields.getObjectStreamClass();
+        if (desc.getField("aliasShape") != null) {
+            aliasShape = (AliasShape) fields.get("aliasShape", null);
+            return;
+        }
+
+        // 0.5.0 之前的格式：tupleAliasList 不为空时为 TupleAlias 别名，否则 aliasList 不为空时为字符串别名
+        List<TupleAlias> tupleAliases = desc.getField("tupleAliasList") == null ? null : (List<TupleAlias>) fields.get("tupleAliasList", null);
+        List<String> aliases = desc.getField("aliasList") == null ? null : (List<String>) fields.get("aliasList", null);
+        if (tupleAliases != null && !tupleAliases.isEmpty()) {
+            aliasShape = AliasShape.of(tupleAliases.toArray(new TupleAlias[0]));
+        } else if (aliases != null && !aliases.isEmpty()) {
+            aliasShape = AliasShape.of(aliases.toArray(new String[0]));
+        }
+    }
+
+    /**
+     * Java serialization writes {@link Tuple0} ~ {@link Tuple9} and {@link EasyTuple0} ~ {@link EasyTuple9}
+     * in the compact format of {@link TupleCodec#defaultCodec()} if their elements can't reference other objects
+     * (built-in values other than containers and tuples), so shared references, cycles and the {@code ObjectInputFilter}
+     * of the stream still work for the other tuples and subclasses, which use the default serialization. <br>
+     * Java序列化时，如果元素不会引用其他对象（容器及元组以外的内置值），{@link Tuple0} ~ {@link Tuple9} 及
+     * {@link EasyTuple0} ~ {@link EasyTuple9} 使用 {@link TupleCodec#defaultCodec()} 的紧凑格式写入；
+     * 其他元组及子类使用默认的序列化方式，保留共享引用及循环引用，并应用该流的 {@code ObjectInputFilter}。
+     *
+     * @return the serialization proxy, or this tuple
+     * @throws ObjectStreamException never thrown
+     * @since 0.5.0
+     */
+    protected Object writeReplace() throws ObjectStreamException {
+        return TupleCodec.isCompact(this) ? new SerializedTuple(this) : this;
+    }
+
 }
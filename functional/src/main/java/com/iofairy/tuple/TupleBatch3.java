@@ -0,0 +1,692 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Columnar (struct-of-arrays) container of rows with 3 elements. Each position is stored in its own array:
+ * a column declared as {@code int.class}, {@code long.class} or {@code double.class} is a primitive array and can't hold {@code null},
+ * other columns (including {@code Integer.class} etc.) are {@code Object[]}.
+ * Rows are read by {@link #cursor()}, a flyweight {@link Tuple} that views one row at a time without allocating,
+ * or materialized to {@link Tuple3} by {@link #get(int)} and {@link #toList()}. <b>It's not thread-safe</b>. <br>
+ * 列式（数组结构体）的三元组批量容器，每个位置的元素存储在单独的数组中：
+ * 声明为 {@code int.class}、{@code long.class}、{@code double.class} 的列使用基本类型数组存储，不能存储 {@code null}；
+ * 其他类型的列（包括 {@code Integer.class} 等包装类型）使用 {@code Object[]} 存储。
+ * 通过 {@link #cursor()} 读取数据，游标是一个轻量的 {@link Tuple} 视图，每次指向一行，不会创建对象；
+ * 也可以通过 {@link #get(int)}、{@link #toList()} 转为 {@link Tuple3}<b>（非线程安全）</b>。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * TupleBatch3&lt;String, Long, Double&gt; batch = TupleBatch3.of(String.class, long.class, double.class);
+ * batch.append("a", 1L, 2.5);
+ * batch.append("b", 3L, 0.5);
+ *
+ * batch.sortBy(2);
+ * TupleBatch3.Cursor&lt;String, Long, Double&gt; row = batch.cursor();
+ * double sum = 0;
+ * while (row.next()) {
+ *     sum += row.getDouble(2);
+ * }
+ * </pre>
+ *
+ * @param <T1> type of the 1st element.　第1个元素的类型
+ * @param <T2> type of the 2nd element.　第2个元素的类型
+ * @param <T3> type of the 3rd element.　第3个元素的类型
+ * @since 0.5.0
+ */
+public final class TupleBatch3<T1, T2, T3> implements Serializable {
+    private static final long serialVersionUID = 10065918035L;
+
+    private final static int DEFAULT_CAPACITY = 16;
+
+    private final Class<T1> type1;
+    private final Class<T2> type2;
+    private final Class<T3> type3;
+    private final BatchColumn[] columns = new BatchColumn[3];
+    private int size;
+    private int capacity;
+
+    private TupleBatch3(Class<T1> type1, Class<T2> type2, Class<T3> type3, int capacity) {
+        Objects.requireNonNull(type1, "Parameter `type1` must be non-null!");
+        Objects.requireNonNull(type2, "Parameter `type2` must be non-null!");
+        Objects.requireNonNull(type3, "Parameter `type3` must be non-null!");
+        if (capacity < 0) throw new IllegalArgumentException("Parameter `capacity` must be >= 0. ");
+        this.type1 = type1;
+        this.type2 = type2;
+        this.type3 = type3;
+        this.capacity = Math.max(capacity, 1);
+        columns[0] = BatchColumn.of(type1, this.capacity);
+        columns[1] = BatchColumn.of(type2, this.capacity);
+        columns[2] = BatchColumn.of(type3, this.capacity);
+    }
+
+    private TupleBatch3(TupleBatch3<T1, T2, T3> batch, int[] rows, int size) {
+        this.type1 = batch.type1;
+        this.type2 = batch.type2;
+        this.type3 = batch.type3;
+        this.size = size;
+        this.capacity = Math.max(size, 1);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = batch.columns[i].select(rows, size);
+        }
+    }
+
+    /**
+     * Create an empty batch with the column types, use {@code int.class}, {@code long.class} or {@code double.class}
+     * for a primitive column. <br>
+     * 创建指定列类型的空容器，基本类型的列使用 {@code int.class}、{@code long.class}、{@code double.class}
+     *
+     * @param type1 type of the 1st column
+     * @param type2 type of the 2nd column
+     * @param type3 type of the 3rd column
+     * @param <T1>  type of the 1st element
+     * @param <T2>  type of the 2nd element
+     * @param <T3>  type of the 3rd element
+     * @return TupleBatch3
+     */
+    public static <T1, T2, T3> TupleBatch3<T1, T2, T3> of(Class<T1> type1, Class<T2> type2, Class<T3> type3) {
+        return new TupleBatch3<>(type1, type2, type3, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Same as {@link #of(Class, Class, Class)}, with the initial capacity. <br>
+     * 与 {@link #of(Class, Class, Class)} 相同，并指定初始容量
+     *
+     * @param type1    type of the 1st column
+     * @param type2    type of the 2nd column
+     * @param type3    type of the 3rd column
+     * @param capacity initial capacity
+     * @param <T1>     type of the 1st element
+     * @param <T2>     type of the 2nd element
+     * @param <T3>     type of the 3rd element
+     * @return TupleBatch3
+     * @throws IllegalArgumentException if {@code capacity} is negative
+     */
+    public static <T1, T2, T3> TupleBatch3<T1, T2, T3> of(Class<T1> type1, Class<T2> type2, Class<T3> type3, int capacity) {
+        return new TupleBatch3<>(type1, type2, type3, capacity);
+    }
+
+    /**
+     * Create a batch from the tuples, aliases are not kept. <br>
+     * 使用元组列表创建容器，不保留别名
+     *
+     * @param tuples tuples
+     * @param type1  type of the 1st column
+     * @param type2  type of the 2nd column
+     * @param type3  type of the 3rd column
+     * @param <T1>   type of the 1st element
+     * @param <T2>   type of the 2nd element
+     * @param <T3>   type of the 3rd element
+     * @return TupleBatch3
+     * @throws NullPointerException if {@code tuples} or any tuple is null, or a primitive column meets a {@code null} element
+     * @throws ClassCastException   if an element is not an instance of its column type
+     */
+    public static <T1, T2, T3> TupleBatch3<T1, T2, T3> fromList(List<? extends Tuple3<? extends T1, ? extends T2, ? extends T3>> tuples,
+                                                                Class<T1> type1, Class<T2> type2, Class<T3> type3) {
+        Objects.requireNonNull(tuples, "Parameter `tuples` must be non-null!");
+        TupleBatch3<T1, T2, T3> batch = new TupleBatch3<>(type1, type2, type3, tuples.size());
+        for (Tuple3<? extends T1, ? extends T2, ? extends T3> tuple : tuples) {
+            batch.append(tuple);
+        }
+        return batch;
+    }
+
+    /**
+     * Append a row. <br>
+     * 追加一行
+     *
+     * @param _1 the 1st element
+     * @param _2 the 2nd element
+     * @param _3 the 3rd element
+     * @return this batch
+     * @throws NullPointerException if a primitive column meets a {@code null} element
+     * @throws ClassCastException   if an element is not an instance of its column type
+     */
+    public TupleBatch3<T1, T2, T3> append(T1 _1, T2 _2, T3 _3) {
+        ensureCapacity(size + 1);
+        // 先检查再写入，失败时不会留下写了一半的行（泛型擦除后仍可能传入其他类型的值）
+        checkValue(0, _1);
+        checkValue(1, _2);
+        checkValue(2, _3);
+        columns[0].set(size, _1);
+        columns[1].set(size, _2);
+        columns[2].set(size, _3);
+        size++;
+        return this;
+    }
+
+    /**
+     * Append a row. <br>
+     * 追加一行
+     *
+     * @param tuple tuple
+     * @return this batch
+     * @throws NullPointerException if {@code tuple} is null, or a primitive column meets a {@code null} element
+     * @throws ClassCastException   if an element is not an instance of its column type
+     */
+    public TupleBatch3<T1, T2, T3> append(Tuple3<? extends T1, ? extends T2, ? extends T3> tuple) {
+        Objects.requireNonNull(tuple, "Parameter `tuple` must be non-null!");
+        return append(tuple._1, tuple._2, tuple._3);
+    }
+
+    /**
+     * Number of rows. <br>
+     * 行数
+     *
+     * @return size
+     */
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Remove all rows, the capacity is kept. <br>
+     * 清空所有行，保留容量
+     */
+    public void clear() {
+        for (int i = 0; i < columns.length; i++) {
+            // 重新创建列，释放对象列中的引用
+            columns[i] = BatchColumn.of(columnType(i), capacity);
+        }
+        size = 0;
+    }
+
+    /**
+     * Get the element of the {@code column} (0-based, same as {@link Tuple#element(int)}) in the {@code row},
+     * the value of a primitive column is boxed. <br>
+     * 获取第 {@code row} 行、第 {@code column} 列（从0开始，与 {@link Tuple#element(int)} 一致）的元素，基本类型的列会装箱
+     *
+     * @param column column index
+     * @param row    row index
+     * @param <R>    element type
+     * @return element
+     */
+    @SuppressWarnings("unchecked")
+    public <R> R get(int column, int row) {
+        return (R) columns[checkColumn(column)].get(checkRow(row));
+    }
+
+    /**
+     * Get the element of the {@code column} in the {@code row} as an {@code int}, without boxing if the column is declared as {@code int.class}.
+     * Only an {@code int.class} or {@link Integer} column can be read, numbers are never converted. <br>
+     * 获取第 {@code row} 行、第 {@code column} 列的 {@code int} 值，声明为 {@code int.class} 的列不会装箱。
+     * 只能读取 {@code int.class} 或 {@link Integer} 类型的列，不会转换数值类型
+     *
+     * @param column column index
+     * @param row    row index
+     * @return element
+     * @throws ClassCastException   if the column is neither {@code int.class} nor {@link Integer}
+     * @throws NullPointerException if the element of an {@link Integer} column is {@code null}
+     */
+    public int getInt(int column, int row) {
+        return columns[checkRead(column, int.class)].getInt(checkRow(row));
+    }
+
+    /**
+     * Same as {@link #getInt(int, int)}, for a {@code long.class} or {@link Long} column. <br>
+     * 与 {@link #getInt(int, int)} 相同，用于 {@code long.class} 或 {@link Long} 类型的列
+     *
+     * @param column column index
+     * @param row    row index
+     * @return element
+     * @throws ClassCastException   if the column is neither {@code long.class} nor {@link Long}
+     * @throws NullPointerException if the element of a {@link Long} column is {@code null}
+     */
+    public long getLong(int column, int row) {
+        return columns[checkRead(column, long.class)].getLong(checkRow(row));
+    }
+
+    /**
+     * Same as {@link #getInt(int, int)}, for a {@code double.class} or {@link Double} column. <br>
+     * 与 {@link #getInt(int, int)} 相同，用于 {@code double.class} 或 {@link Double} 类型的列
+     *
+     * @param column column index
+     * @param row    row index
+     * @return element
+     * @throws ClassCastException   if the column is neither {@code double.class} nor {@link Double}
+     * @throws NullPointerException if the element of a {@link Double} column is {@code null}
+     */
+    public double getDouble(int column, int row) {
+        return columns[checkRead(column, double.class)].getDouble(checkRow(row));
+    }
+
+    /**
+     * Replace the element of the {@code column} in the {@code row}. The value must be an instance of the column type,
+     * a primitive column only accepts its own wrapper type, numbers are never converted. <br>
+     * 替换第 {@code row} 行、第 {@code column} 列的元素。值必须是该列类型的实例，基本类型的列只接收对应的包装类型，不会转换数值类型
+     *
+     * @param column column index
+     * @param row    row index
+     * @param value  value
+     * @throws NullPointerException if a primitive column meets a {@code null} value
+     * @throws ClassCastException   if {@code value} is not an instance of the column type
+     */
+    public void set(int column, int row, Object value) {
+        checkValue(checkColumn(column), value);
+        columns[column].set(checkRow(row), value);
+    }
+
+    /**
+     * Same as {@link #set(int, int, Object)}, without boxing if the column is declared as {@code int.class}. <br>
+     * 与 {@link #set(int, int, Object)} 相同，声明为 {@code int.class} 的列不会装箱
+     *
+     * @param column column index
+     * @param row    row index
+     * @param value  value
+     * @throws ClassCastException if the column can't hold an {@link Integer}
+     */
+    public void setInt(int column, int row, int value) {
+        if (columnType(checkColumn(column)) == int.class) {
+            columns[column].setInt(checkRow(row), value);
+        } else {
+            set(column, row, value);
+        }
+    }
+
+    /**
+     * Same as {@link #set(int, int, Object)}, without boxing if the column is declared as {@code long.class}. <br>
+     * 与 {@link #set(int, int, Object)} 相同，声明为 {@code long.class} 的列不会装箱
+     *
+     * @param column column index
+     * @param row    row index
+     * @param value  value
+     * @throws ClassCastException if the column can't hold a {@link Long}
+     */
+    public void setLong(int column, int row, long value) {
+        if (columnType(checkColumn(column)) == long.class) {
+            columns[column].setLong(checkRow(row), value);
+        } else {
+            set(column, row, value);
+        }
+    }
+
+    /**
+     * Same as {@link #set(int, int, Object)}, without boxing if the column is declared as {@code double.class}. <br>
+     * 与 {@link #set(int, int, Object)} 相同，声明为 {@code double.class} 的列不会装箱
+     *
+     * @param column column index
+     * @param row    row index
+     * @param value  value
+     * @throws ClassCastException if the column can't hold a {@link Double}
+     */
+    public void setDouble(int column, int row, double value) {
+        if (columnType(checkColumn(column)) == double.class) {
+            columns[column].setDouble(checkRow(row), value);
+        } else {
+            set(column, row, value);
+        }
+    }
+
+    /**
+     * Materialize the {@code row} to a new {@link Tuple3}. <br>
+     * 将第 {@code row} 行转为新的 {@link Tuple3}
+     *
+     * @param row row index
+     * @return Tuple3
+     */
+    @SuppressWarnings("unchecked")
+    public Tuple3<T1, T2, T3> get(int row) {
+        checkRow(row);
+        return new Tuple3<>((T1) columns[0].get(row), (T2) columns[1].get(row), (T3) columns[2].get(row));
+    }
+
+    /**
+     * A new cursor before the first row, see {@link Cursor}. <br>
+     * 创建一个指向第一行之前的游标，见 {@link Cursor}
+     *
+     * @return cursor
+     */
+    public Cursor<T1, T2, T3> cursor() {
+        return new Cursor<>(this);
+    }
+
+    /**
+     * Visit each row in order by a single {@link Cursor}, do not keep the cursor. <br>
+     * 使用同一个 {@link Cursor} 按顺序访问每一行，不要保存该游标的引用
+     *
+     * @param action action
+     */
+    public void forEach(Consumer<? super Cursor<T1, T2, T3>> action) {
+        Objects.requireNonNull(action);
+        Cursor<T1, T2, T3> cursor = cursor();
+        while (cursor.next()) {
+            action.accept(cursor);
+        }
+    }
+
+    /**
+     * Sort the rows by the natural order of the {@code column} in ascending order, {@code null} first.
+     * The sort is stable, so sorting by several columns one by one from the last key to the first key gives a multi-key order. <br>
+     * 按第 {@code column} 列的自然顺序升序排序，{@code null} 排在最前面。
+     * 排序是稳定的，所以从最后一个排序列到第一个排序列依次排序，即可实现多列排序。
+     *
+     * @param column column index
+     * @return this batch
+     * @throws ClassCastException if the elements of an object column are not {@link Comparable}
+     */
+    public TupleBatch3<T1, T2, T3> sortBy(int column) {
+        return sortBy(column, false);
+    }
+
+    /**
+     * Same as {@link #sortBy(int)}, in descending order if {@code reversed} is {@code true}. <br>
+     * 与 {@link #sortBy(int)} 相同，{@code reversed} 为 {@code true} 时降序排序
+     *
+     * @param column   column index
+     * @param reversed descending or not
+     * @return this batch
+     */
+    public TupleBatch3<T1, T2, T3> sortBy(int column, boolean reversed) {
+        BatchColumn key = columns[checkColumn(column)];
+        int[] rows = new int[size];
+        for (int i = 0; i < size; i++) {
+            rows[i] = i;
+        }
+        mergeSort(rows, new int[size], 0, size, key, reversed);
+        for (int i = 0; i < columns.length; i++) {
+            columns[i] = columns[i].select(rows, size);
+        }
+        capacity = Math.max(size, 1);
+        return this;
+    }
+
+    /**
+     * A new batch of the rows that match the {@code predicate}, the rows are passed by a single {@link Cursor}. <br>
+     * 返回满足 {@code predicate} 的行组成的新容器，所有行通过同一个 {@link Cursor} 传入
+     *
+     * @param predicate predicate
+     * @return new batch
+     */
+    public TupleBatch3<T1, T2, T3> filter(Predicate<? super Cursor<T1, T2, T3>> predicate) {
+        Objects.requireNonNull(predicate);
+        int[] rows = new int[size];
+        int count = 0;
+        Cursor<T1, T2, T3> cursor = cursor();
+        while (cursor.next()) {
+            if (predicate.test(cursor)) rows[count++] = cursor.row;
+        }
+        return new TupleBatch3<>(this, rows, count);
+    }
+
+    /**
+     * Materialize all rows to {@link Tuple3}. <br>
+     * 将所有行转为 {@link Tuple3}
+     *
+     * @return list of Tuple3
+     */
+    public List<Tuple3<T1, T2, T3>> toList() {
+        List<Tuple3<T1, T2, T3>> tuples = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            tuples.add(get(i));
+        }
+        return tuples;
+    }
+
+    private Class<?> columnType(int column) {
+        return column == 0 ? type1 : column == 1 ? type2 : type3;
+    }
+
+    private void checkValue(int column, Object value) {
+        Class<?> type = columnType(column);
+        if (value == null) {
+            if (type.isPrimitive()) {
+                throw new NullPointerException("The " + (column + 1) + "th column is `" + type + "`, it can't hold `null`. "
+                        + "第" + (column + 1) + "列是基本类型，不能存储null值！");
+            }
+        } else if (!BatchColumn.valueType(type).isInstance(value)) {
+            throw new ClassCastException("The " + (column + 1) + "th column is `" + type.getName() + "`, it can't hold `" + value.getClass().getName() + "`. "
+                    + "第" + (column + 1) + "列的类型是 " + type.getName() + "，不能存储 " + value.getClass().getName() + " 类型的值！");
+        }
+    }
+
+    private int checkRead(int column, Class<?> primitiveType) {
+        Class<?> type = columnType(checkColumn(column));
+        if (type != primitiveType && type != BatchColumn.valueType(primitiveType)) {
+            throw new ClassCastException("The " + (column + 1) + "th column is `" + type.getName() + "`, it can't be read as `" + primitiveType + "`. "
+                    + "第" + (column + 1) + "列的类型是 " + type.getName() + "，不能读取为 " + primitiveType + " 类型的值！");
+        }
+        return column;
+    }
+
+    private void ensureCapacity(int minCapacity) {
+        if (minCapacity <= capacity) return;
+        int newCapacity = Math.max(minCapacity, capacity + (capacity >> 1));
+        for (BatchColumn column : columns) {
+            column.grow(newCapacity);
+        }
+        capacity = newCapacity;
+    }
+
+    private int checkColumn(int column) {
+        if (column < 0 || column >= columns.length) throw new IndexOutOfBoundsException("Column index out of range: " + column + ", Size: " + columns.length);
+        return column;
+    }
+
+    private int checkRow(int row) {
+        if (row < 0 || row >= size) throw new IndexOutOfBoundsException("Row index out of range: " + row + ", Size: " + size);
+        return row;
+    }
+
+    /**
+     * 稳定的归并排序，对行号排序，只比较 {@code key} 列
+     */
+    private static void mergeSort(int[] rows, int[] aux, int from, int to, BatchColumn key, boolean reversed) {
+        if (to - from < 2) return;
+        if (to - from <= 16) {
+            // 小区间使用插入排序
+            for (int i = from + 1; i < to; i++) {
+                int row = rows[i];
+                int j = i - 1;
+                while (j >= from && compare(key, rows[j], row, reversed) > 0) {
+                    rows[j + 1] = rows[j];
+                    j--;
+                }
+                rows[j + 1] = row;
+            }
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        mergeSort(rows, aux, from, mid, key, reversed);
+        mergeSort(rows, aux, mid, to, key, reversed);
+        if (compare(key, rows[mid - 1], rows[mid], reversed) <= 0) return;
+
+        System.arraycopy(rows, from, aux, from, to - from);
+        int i = from, j = mid;
+        for (int k = from; k < to; k++) {
+            if (i >= mid) {
+                rows[k] = aux[j++];
+            } else if (j >= to || compare(key, aux[i], aux[j], reversed) <= 0) {
+                rows[k] = aux[i++];
+            } else {
+                rows[k] = aux[j++];
+            }
+        }
+    }
+
+    private static int compare(BatchColumn key, int row1, int row2, boolean reversed) {
+        return reversed ? key.compare(row2, row1) : key.compare(row1, row2);
+    }
+
+    @Override
+    public String toString() {
+        return "TupleBatch3{" +
+                "types=(" + type1.getSimpleName() + ", " + type2.getSimpleName() + ", " + type3.getSimpleName() + ")" +
+                ", size=" + size +
+                '}';
+    }
+
+    /**
+     * Flyweight view of one row of a {@link TupleBatch3}, it implements {@link Tuple}, so {@link #element(int)},
+     * {@link #toMap()}, aliases, etc. all work on the current row. {@link #next()} and {@link #moveTo(int)} move it without allocating,
+     * the {@code getInt}/{@code getLong}/{@code getDouble} methods read a primitive column without boxing,
+     * they are as strict as {@link TupleBatch3#getInt(int, int)}: numbers are never converted.
+     * The cursor is only valid until the batch is sorted or cleared, use {@link #toTuple()} to keep a row.
+     * {@link #equals(Object)} and {@link #hashCode()} compare the current row like {@link Tuple3}, so they change when the cursor moves:
+     * <b>copy the row by {@link #toTuple()} before using it as a key of a {@link java.util.HashMap} or an element of a {@link java.util.HashSet}</b>.
+     * Unlike {@link Tuple3}, the elements are read by {@link #_1()}, {@link #_2()}, {@link #_3()}
+     * because the current row changes. <br>
+     * {@link TupleBatch3} 某一行的轻量视图。它实现了 {@link Tuple}，所以 {@link #element(int)}、{@link #toMap()}、别名等方法都作用于当前行。
+     * {@link #next()}、{@link #moveTo(int)} 移动游标不会创建对象，{@code getInt}/{@code getLong}/{@code getDouble} 读取基本类型的列不会装箱，
+     * 与 {@link TupleBatch3#getInt(int, int)} 一样不会转换数值类型。
+     * 容器排序或清空后游标失效，需要保存某一行时使用 {@link #toTuple()}。
+     * {@link #equals(Object)} 和 {@link #hashCode()} 与 {@link Tuple3} 一样比较当前行，游标移动后结果会改变，
+     * <b>作为 {@link java.util.HashMap} 的key或 {@link java.util.HashSet} 的元素前，需要先通过 {@link #toTuple()} 复制该行</b>。
+     * 由于当前行会变化，与 {@link Tuple3} 不同，元素通过 {@link #_1()}、{@link #_2()}、{@link #_3()} 读取。
+     *
+     * @param <T1> type of the 1st element.　第1个元素的类型
+     * @param <T2> type of the 2nd element.　第2个元素的类型
+     * @param <T3> type of the 3rd element.　第3个元素的类型
+     * @since 0.5.0
+     */
+    public static final class Cursor<T1, T2, T3> extends TupleBase {
+        private static final long serialVersionUID = 10065918036L;
+
+        private final TupleBatch3<T1, T2, T3> batch;
+        private int row = -1;
+
+        Cursor(TupleBatch3<T1, T2, T3> batch) {
+            this.batch = batch;
+        }
+
+        /**
+         * Move to the next row. <br>
+         * 移动到下一行
+         *
+         * @return {@code false} if there is no more row
+         */
+        public boolean next() {
+            if (row + 1 >= batch.size) return false;
+            row++;
+            return true;
+        }
+
+        /**
+         * Move to the {@code row}. <br>
+         * 移动到第 {@code row} 行
+         *
+         * @param row row index
+         * @return this cursor
+         */
+        public Cursor<T1, T2, T3> moveTo(int row) {
+            this.row = batch.checkRow(row);
+            return this;
+        }
+
+        /**
+         * Index of the current row. <br>
+         * 当前行的序号
+         *
+         * @return row index
+         */
+        public int row() {
+            return row;
+        }
+
+        public T1 _1() {
+            return element(0);
+        }
+
+        public T2 _2() {
+            return element(1);
+        }
+
+        public T3 _3() {
+            return element(2);
+        }
+
+        public int getInt(int n) {
+            return batch.getInt(n, row);
+        }
+
+        public long getLong(int n) {
+            return batch.getLong(n, row);
+        }
+
+        public double getDouble(int n) {
+            return batch.getDouble(n, row);
+        }
+
+        /**
+         * Materialize the current row to a new {@link Tuple3} with the aliases of this cursor. <br>
+         * 将当前行转为新的 {@link Tuple3}，并复制该游标的别名
+         *
+         * @return Tuple3
+         */
+        public Tuple3<T1, T2, T3> toTuple() {
+            return batch.get(row).copyAliases(this);
+        }
+
+        @Override
+        public int arity() {
+            return 3;
+        }
+
+        @Override
+        public <R> R element(int n) {
+            if (n < 0 || n >= 3) throw new IndexOutOfBoundsException("Index out of range: " + n + ", Size: " + arity());
+            return batch.get(n, row);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Cursor<T1, T2, T3> alias(TupleAlias... aliases) {
+            return (Cursor<T1, T2, T3>) super.alias(aliases);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Cursor<T1, T2, T3> alias(String... aliases) {
+            return (Cursor<T1, T2, T3>) super.alias(aliases);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Cursor<T1, T2, T3> copyAliases(Tuple tuple) {
+            return (Cursor<T1, T2, T3>) super.copyAliases(tuple);
+        }
+
+        /**
+         * A copy of the current row, same as {@link #toTuple()}. <br>
+         * 当前行的副本，与 {@link #toTuple()} 相同
+         *
+         * @return Tuple3
+         */
+        @Override
+        public Tuple3<T1, T2, T3> copy() {
+            return toTuple();
+        }
+
+        /**
+         * Does nothing, the hash code of a cursor is always computed from the current row, because the row changes when the cursor moves. <br>
+         * 不做任何操作。游标移动后当前行会变化，所以游标的哈希值总是根据当前行计算，不会缓存。
+         *
+         * @return this cursor
+         */
+        @Override
+        public Tuple cacheHash() {
+            return this;
+        }
+    }
+}
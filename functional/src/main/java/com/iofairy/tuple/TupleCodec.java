@@ -0,0 +1,1053 @@
+/*
+ * Copyright (C) 2021 iofairy, <https://github.com/io-fairy/functional>
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.iofairy.tuple;
+
+import java.io.*;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * Compact, versioned binary codec of {@link Tuple0} ~ {@link Tuple9} and {@link EasyTuple0} ~ {@link EasyTuple9}.
+ * A tuple is written as a version byte, a header byte (kind and arity), its aliases if set, and its elements.
+ * Each element is written as a one-byte tag followed by a compact payload: variable-length integers,
+ * UTF-8 strings, and built-in formats for common JDK types ({@code Boolean}, {@code Number}s, {@code Character}, {@code String},
+ * {@code byte[]}, {@link BigInteger}, {@link BigDecimal}, enums, {@link UUID}, {@link Date}, {@link LocalDate}, {@link LocalTime},
+ * {@link LocalDateTime}, {@link Instant}, {@link ArrayList}, {@link HashMap}, {@link LinkedHashMap} and the tuples above).
+ * Other element types can be plugged in by {@link Builder#register(int, Class, ElementCodec)}, the remaining {@link Serializable}
+ * elements fall back to Java serialization only if it is enabled by {@link Builder#allowSerializable(SerializableFilter)},
+ * which restricts the classes that can be read back. <br>
+ * If {@code out} is an {@link ObjectOutput} (and {@code in} an {@link ObjectInput}), elements other than immutable built-in values
+ * are written by the stream's own {@link ObjectOutput#writeObject(Object)}, so shared references, cycles and the
+ * {@code ObjectInputFilter} of the stream apply to them, and nested Java serialization is never read from such an {@code in}.
+ * Otherwise shared references are not preserved (equal elements are written once per occurrence), the remaining {@link Serializable}
+ * elements are written by a nested {@link ObjectOutputStream} (if enabled), and elements nested deeper than 256 levels
+ * (e.g. a list containing itself) are rejected by {@link InvalidObjectException}.
+ * Length prefixes are not trusted: truncated data fails with {@link EOFException} before a large array is allocated.
+ * Java serialization (by {@code writeReplace}) uses {@link #defaultCodec()} only for the tuples whose elements can't reference
+ * other objects (built-in values other than containers and tuples), so {@link Tuple0#instance()} and {@link EasyTuple0#instance()}
+ * stay singletons after deserialization, other tuples use the default serialization. The codec is <b>immutable and thread-safe</b>. <br>
+ * 紧凑的、带版本号的元组二进制编解码器，支持 {@link Tuple0} ~ {@link Tuple9} 和 {@link EasyTuple0} ~ {@link EasyTuple9}。
+ * 元组的格式为：版本号（1字节）、头部（1字节，元组类型及元素数量）、别名（如果已设置）、元素。
+ * 每个元素写入1字节的类型标记及紧凑的数据：变长整数、UTF-8字符串，常见的JDK类型（见上）使用内置的格式。
+ * 其他类型可以通过 {@link Builder#register(int, Class, ElementCodec)} 注册编解码器，剩余的 {@link Serializable} 元素只有通过
+ * {@link Builder#allowSerializable(SerializableFilter)} 启用后才使用Java序列化，并且只能读取该过滤器允许的类。<br>
+ * 如果 {@code out} 是 {@link ObjectOutput}（{@code in} 是 {@link ObjectInput}），除不可变的内置值以外的元素通过该流自身的
+ * {@link ObjectOutput#writeObject(Object)} 写入，保留共享引用及循环引用，并应用该流的 {@code ObjectInputFilter}，且从不读取内部的Java序列化数据。
+ * 否则不保留共享引用（同一个元素出现几次就写入几次），剩余的 {@link Serializable} 元素通过内部的 {@link ObjectOutputStream} 写入（如果已启用），
+ * 嵌套超过 256 层的元素（如包含自身的列表）抛出 {@link InvalidObjectException}。
+ * 不信任数据中的长度：数据被截断时在分配大数组之前抛出 {@link EOFException}。
+ * 元组的Java序列化（通过 {@code writeReplace}）只对元素不会引用其他对象（容器及元组以外的内置值）的元组使用 {@link #defaultCodec()}，
+ * 所以反序列化后 {@link Tuple0#instance()} 和 {@link EasyTuple0#instance()} 仍然是单例，其他元组使用默认的序列化方式。
+ * 该编解码器是<b>不可变且线程安全</b>的。<br>
+ * <b>Examples:</b>
+ * <pre>
+ * TupleCodec codec = TupleCodec.builder()
+ *         .register(1, Money.class, new MoneyCodec())
+ *         .build();
+ *
+ * byte[] bytes = codec.toBytes(Tuple.of("order-1", 3, money));
+ * Tuple3&lt;String, Integer, Money&gt; order = codec.fromBytes(bytes);
+ * </pre>
+ *
+ * @since 0.5.0
+ */
+public final class TupleCodec {
+    /**
+     * 当前的格式版本号
+     */
+    private final static byte VERSION = 1;
+    /**
+     * 容器及元组的最大嵌套层数
+     */
+    private final static int MAX_DEPTH = 256;
+    /**
+     * 字节数组的分块大小，超过该长度的数据分块读取，避免按照（可能被篡改的）长度直接分配数组
+     */
+    private final static int CHUNK_SIZE = 8192;
+
+    private final static TupleCodec DEFAULT = new TupleCodec(new Builder());
+
+    private final static List<Class<?>> TUPLE_CLASSES = Collections.unmodifiableList(Arrays.asList(
+            Tuple0.class, Tuple1.class, Tuple2.class, Tuple3.class, Tuple4.class,
+            Tuple5.class, Tuple6.class, Tuple7.class, Tuple8.class, Tuple9.class,
+            EasyTuple0.class, EasyTuple1.class, EasyTuple2.class, EasyTuple3.class, EasyTuple4.class,
+            EasyTuple5.class, EasyTuple6.class, EasyTuple7.class, EasyTuple8.class, EasyTuple9.class));
+
+    /*
+     * 头部：高4位是元组类型，低4位是元素数量
+     */
+    private final static int KIND_TUPLE = 0x00;
+    private final static int KIND_EASY_TUPLE = 0x10;
+
+    /*
+     * 别名类型
+     */
+    private final static int ALIASES_NONE = 0;
+    private final static int ALIASES_STRING = 1;
+    private final static int ALIASES_TUPLE = 2;
+
+    /*
+     * 元素的类型标记，新增标记只能追加，不能修改已有的值
+     */
+    private final static int TAG_NULL = 0;
+    private final static int TAG_TRUE = 1;
+    private final static int TAG_FALSE = 2;
+    private final static int TAG_BYTE = 3;
+    private final static int TAG_SHORT = 4;
+    private final static int TAG_CHAR = 5;
+    private final static int TAG_INT = 6;
+    private final static int TAG_LONG = 7;
+    private final static int TAG_FLOAT = 8;
+    private final static int TAG_DOUBLE = 9;
+    private final static int TAG_STRING = 10;
+    private final static int TAG_BYTES = 11;
+    private final static int TAG_BIG_INTEGER = 12;
+    private final static int TAG_BIG_DECIMAL = 13;
+    private final static int TAG_ENUM = 14;
+    private final static int TAG_UUID = 15;
+    private final static int TAG_DATE = 16;
+    private final static int TAG_LOCAL_DATE = 17;
+    private final static int TAG_LOCAL_TIME = 18;
+    private final static int TAG_LOCAL_DATE_TIME = 19;
+    private final static int TAG_INSTANT = 20;
+    private final static int TAG_ARRAY_LIST = 21;
+    private final static int TAG_HASH_MAP = 22;
+    private final static int TAG_LINKED_HASH_MAP = 23;
+    private final static int TAG_TUPLE = 24;
+    private final static int TAG_CUSTOM = 100;
+    private final static int TAG_SERIALIZABLE = 101;
+    /**
+     * 通过外层的 {@link ObjectOutput} 写入的元素
+     */
+    private final static int TAG_OBJECT = 102;
+
+    private final static Map<Class<?>, Integer> BUILT_IN_TAGS = new HashMap<>();
+
+    static {
+        BUILT_IN_TAGS.put(Byte.class, TAG_BYTE);
+        BUILT_IN_TAGS.put(Short.class, TAG_SHORT);
+        BUILT_IN_TAGS.put(Character.class, TAG_CHAR);
+        BUILT_IN_TAGS.put(Integer.class, TAG_INT);
+        BUILT_IN_TAGS.put(Long.class, TAG_LONG);
+        BUILT_IN_TAGS.put(Float.class, TAG_FLOAT);
+        BUILT_IN_TAGS.put(Double.class, TAG_DOUBLE);
+        BUILT_IN_TAGS.put(String.class, TAG_STRING);
+        BUILT_IN_TAGS.put(byte[].class, TAG_BYTES);
+        BUILT_IN_TAGS.put(BigInteger.class, TAG_BIG_INTEGER);
+        BUILT_IN_TAGS.put(BigDecimal.class, TAG_BIG_DECIMAL);
+        BUILT_IN_TAGS.put(UUID.class, TAG_UUID);
+        BUILT_IN_TAGS.put(Date.class, TAG_DATE);
+        BUILT_IN_TAGS.put(LocalDate.class, TAG_LOCAL_DATE);
+        BUILT_IN_TAGS.put(LocalTime.class, TAG_LOCAL_TIME);
+        BUILT_IN_TAGS.put(LocalDateTime.class, TAG_LOCAL_DATE_TIME);
+        BUILT_IN_TAGS.put(Instant.class, TAG_INSTANT);
+        BUILT_IN_TAGS.put(ArrayList.class, TAG_ARRAY_LIST);
+        BUILT_IN_TAGS.put(HashMap.class, TAG_HASH_MAP);
+        BUILT_IN_TAGS.put(LinkedHashMap.class, TAG_LINKED_HASH_MAP);
+        for (Class<?> tupleClass : TUPLE_CLASSES) {
+            BUILT_IN_TAGS.put(tupleClass, TAG_TUPLE);
+        }
+    }
+
+    /**
+     * 自定义编解码器，按类型（精确匹配）及编号查找
+     */
+    private final Map<Class<?>, Custom<?>> customsByType;
+    private final Map<Integer, Custom<?>> customsById;
+    /**
+     * 读取Java序列化元素时使用的过滤器，{@code null} 表示未启用Java序列化
+     */
+    private final SerializableFilter serializableFilter;
+
+    private TupleCodec(Builder builder) {
+        this.customsByType = new HashMap<>(builder.customsByType);
+        this.customsById = new HashMap<>(builder.customsById);
+        this.serializableFilter = builder.serializableFilter;
+    }
+
+    /**
+     * The codec with built-in element formats only, used by Java serialization of tuples. <br>
+     * 只使用内置元素格式的编解码器，元组的Java序列化使用该编解码器
+     *
+     * @return default codec
+     */
+    public static TupleCodec defaultCodec() {
+        return DEFAULT;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    /**
+     * Whether the tuple can be written by this codec, subclasses of the tuples (except EasyTuples) are not supported. <br>
+     * 该元组是否可以使用此编解码器写入，不支持元组（EasyTuple除外）的子类
+     *
+     * @param tuple tuple
+     * @return {@code true} if supported
+     */
+    public static boolean isSupported(Tuple tuple) {
+        return tuple != null && TUPLE_CLASSES.contains(tuple.getClass());
+    }
+
+    /**
+     * Write the tuple into {@code out}. <br>
+     * 将元组写入 {@code out}
+     *
+     * @param tuple tuple
+     * @param out   output
+     * @throws IOException              if an I/O error occurs in {@code out}
+     * @throws NotSerializableException if an element is neither built-in, registered nor {@link Serializable},
+     *                                  or Java serialization is not enabled and {@code out} is not an {@link ObjectOutput}
+     * @throws NullPointerException     if {@code tuple} or {@code out} is null
+     * @throws IllegalArgumentException if {@code tuple} is not supported, see {@link #isSupported(Tuple)}
+     */
+    public void encode(Tuple tuple, DataOutput out) throws IOException {
+        if (tuple == null || out == null) throw new NullPointerException("Parameters `tuple`, `out` must be non-null!");
+        checkSupported(tuple);
+        out.writeByte(VERSION);
+        writeTuple(tuple, out, 0);
+    }
+
+    /**
+     * Read a tuple written by {@link #encode(Tuple, DataOutput)}. <br>
+     * 读取 {@link #encode(Tuple, DataOutput)} 写入的元组
+     *
+     * @param in  input
+     * @param <T> tuple type
+     * @return tuple
+     * @throws IOException             if an I/O error occurs in {@code in}
+     * @throws StreamCorruptedException if the data is malformed, or written by a newer version,
+     *                                  or contains Java serialization that is not enabled (never enabled if {@code in} is an {@link ObjectInput})
+     * @throws InvalidClassException    if an element class is rejected by the filter of {@link Builder#allowSerializable(SerializableFilter)}
+     * @throws EOFException             if the data is truncated
+     * @throws NullPointerException    if {@code in} is null
+     */
+    @SuppressWarnings("unchecked")
+    public <T extends Tuple> T decode(DataInput in) throws IOException {
+        Objects.requireNonNull(in, "Parameter `in` must be non-null!");
+        int version = in.readUnsignedByte();
+        if (version == 0 || version > VERSION) {
+            throw new StreamCorruptedException("Unsupported tuple codec version: " + version + ". 不支持的元组编码版本：" + version + "。");
+        }
+        return (T) readTuple(in, 0);
+    }
+
+    /**
+     * Write the tuple into the {@code buffer} from its current position. If the {@code buffer} has not enough space,
+     * its position is restored and {@link BufferOverflowException} is thrown. <br>
+     * 从 {@code buffer} 的当前位置写入元组，空间不足时恢复 {@code buffer} 的位置，并抛出 {@link BufferOverflowException}
+     *
+     * @param tuple  tuple
+     * @param buffer buffer
+     * @return {@code buffer}
+     * @throws BufferOverflowException  if the {@code buffer} has not enough space
+     * @throws UncheckedIOException     if an element can't be written
+     * @throws NullPointerException     if {@code tuple} or {@code buffer} is null
+     * @throws IllegalArgumentException if {@code tuple} is not supported, see {@link #isSupported(Tuple)}
+     */
+    public ByteBuffer encode(Tuple tuple, ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "Parameter `buffer` must be non-null!");
+        int position = buffer.position();
+        try {
+            encode(tuple, new DataOutputStream(new ByteBufferOutputStream(buffer)));
+        } catch (BufferOverflowException e) {
+            buffer.position(position);
+            throw e;
+        } catch (IOException e) {
+            buffer.position(position);
+            throw new UncheckedIOException(e);
+        }
+        return buffer;
+    }
+
+    /**
+     * Read a tuple from the {@code buffer} at its current position, the position is moved to the end of the tuple. <br>
+     * 从 {@code buffer} 的当前位置读取元组，读取后位置移动到该元组的末尾
+     *
+     * @param buffer buffer
+     * @param <T>    tuple type
+     * @return tuple
+     * @throws BufferUnderflowException if the tuple is truncated
+     * @throws UncheckedIOException     if the data is malformed
+     * @throws NullPointerException     if {@code buffer} is null
+     */
+    public <T extends Tuple> T decode(ByteBuffer buffer) {
+        Objects.requireNonNull(buffer, "Parameter `buffer` must be non-null!");
+        try {
+            return decode(new DataInputStream(new ByteBufferInputStream(buffer)));
+        } catch (EOFException e) {
+            BufferUnderflowException ex = new BufferUnderflowException();
+            ex.initCause(e);
+            throw ex;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the tuple into a new byte array. <br>
+     * 将元组写入新的字节数组
+     *
+     * @param tuple tuple
+     * @return bytes
+     * @throws UncheckedIOException     if an element can't be written
+     * @throws NullPointerException     if {@code tuple} is null
+     * @throws IllegalArgumentException if {@code tuple} is not supported, see {@link #isSupported(Tuple)}
+     */
+    public byte[] toBytes(Tuple tuple) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+        try {
+            encode(tuple, new DataOutputStream(bytes));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Read a tuple from the byte array written by {@link #toBytes(Tuple)}. <br>
+     * 从 {@link #toBytes(Tuple)} 写入的字节数组读取元组
+     *
+     * @param bytes bytes
+     * @param <T>   tuple type
+     * @return tuple
+     * @throws UncheckedIOException if the data is malformed or truncated
+     * @throws NullPointerException if {@code bytes} is null
+     */
+    public <T extends Tuple> T fromBytes(byte[] bytes) {
+        Objects.requireNonNull(bytes, "Parameter `bytes` must be non-null!");
+        try {
+            return decode(new DataInputStream(new ByteArrayInputStream(bytes)));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Whether Java serialization can write the tuple by {@link #defaultCodec()}: its elements and aliases must not reference
+     * other objects, otherwise a shared or cyclic reference to the tuple would be resolved to the serialization proxy. <br>
+     * Java序列化是否可以通过 {@link #defaultCodec()} 写入该元组：元素及别名不能引用其他对象，否则指向该元组的共享引用或循环引用
+     * 会被还原为序列化代理。
+     */
+    static boolean isCompact(Tuple tuple) {
+        if (!isSupported(tuple)) return false;
+        for (TupleAlias alias : tuple.getTupleAliases()) {
+            if (alias != null && !(alias instanceof Enum)) return false;
+        }
+        for (int i = 0; i < tuple.arity(); i++) {
+            Object value = tuple.element(i);
+            if (value == null || value instanceof Boolean || value instanceof Enum) continue;
+            Integer tag = BUILT_IN_TAGS.get(value.getClass());
+            if (tag == null || tag >= TAG_ARRAY_LIST) return false;
+        }
+        return true;
+    }
+
+    private static void checkSupported(Tuple tuple) {
+        if (!isSupported(tuple)) {
+            throw new IllegalArgumentException("Unsupported tuple type: " + tuple.getClass().getName() + ". 不支持的元组类型：" + tuple.getClass().getName() + "。");
+        }
+    }
+
+    private void writeTuple(Tuple tuple, DataOutput out, int depth) throws IOException {
+        int arity = tuple.arity();
+        out.writeByte((tuple instanceof EasyTuple ? KIND_EASY_TUPLE : KIND_TUPLE) | arity);
+
+        List<TupleAlias> tupleAliases = tuple.getTupleAliases();
+        List<String> aliases = tuple.getAliases();
+        if (!tupleAliases.isEmpty()) {
+            out.writeByte(ALIASES_TUPLE);
+            for (TupleAlias alias : tupleAliases) {
+                writeElement(alias, out, depth);
+            }
+        } else if (!aliases.isEmpty()) {
+            out.writeByte(ALIASES_STRING);
+            for (String alias : aliases) {
+                writeNullableString(alias, out);
+            }
+        } else {
+            out.writeByte(ALIASES_NONE);
+        }
+
+        for (int i = 0; i < arity; i++) {
+            writeElement(tuple.element(i), out, depth);
+        }
+    }
+
+    private Tuple readTuple(DataInput in, int depth) throws IOException {
+        int header = in.readUnsignedByte();
+        int kind = header & 0xF0;
+        int arity = header & 0x0F;
+        if ((kind != KIND_TUPLE && kind != KIND_EASY_TUPLE) || arity > 9) throw corrupted("tuple header " + header);
+
+        int aliasType = in.readUnsignedByte();
+        String[] aliases = null;
+        TupleAlias[] tupleAliases = null;
+        if (aliasType == ALIASES_STRING) {
+            aliases = new String[arity];
+            for (int i = 0; i < arity; i++) {
+                aliases[i] = readNullableString(in);
+            }
+        } else if (aliasType == ALIASES_TUPLE) {
+            tupleAliases = new TupleAlias[arity];
+            for (int i = 0; i < arity; i++) {
+                Object alias = readElement(in, depth);
+                if (alias != null && !(alias instanceof TupleAlias)) throw corrupted("tuple alias " + alias.getClass().getName());
+                tupleAliases[i] = (TupleAlias) alias;
+            }
+        } else if (aliasType != ALIASES_NONE) {
+            throw corrupted("alias type " + aliasType);
+        }
+
+        Object[] elements = new Object[arity];
+        for (int i = 0; i < arity; i++) {
+            elements[i] = readElement(in, depth);
+        }
+
+        Tuple tuple = kind == KIND_EASY_TUPLE ? newEasyTuple(elements) : newTuple(elements);
+        if (aliases != null) tuple.alias(aliases);
+        if (tupleAliases != null) tuple.alias(tupleAliases);
+        return tuple;
+    }
+
+    private static Tuple newTuple(Object[] e) {
+        switch (e.length) {
+            case 0: return Tuple0.instance();
+            case 1: return new Tuple1<>(e[0]);
+            case 2: return new Tuple2<>(e[0], e[1]);
+            case 3: return new Tuple3<>(e[0], e[1], e[2]);
+            case 4: return new Tuple4<>(e[0], e[1], e[2], e[3]);
+            case 5: return new Tuple5<>(e[0], e[1], e[2], e[3], e[4]);
+            case 6: return new Tuple6<>(e[0], e[1], e[2], e[3], e[4], e[5]);
+            case 7: return new Tuple7<>(e[0], e[1], e[2], e[3], e[4], e[5], e[6]);
+            case 8: return new Tuple8<>(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7]);
+            default: return new Tuple9<>(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7], e[8]);
+        }
+    }
+
+    private static Tuple newEasyTuple(Object[] e) {
+        switch (e.length) {
+            case 0: return EasyTuple0.instance();
+            case 1: return new EasyTuple1<>(e[0]);
+            case 2: return new EasyTuple2<>(e[0], e[1]);
+            case 3: return new EasyTuple3<>(e[0], e[1], e[2]);
+            case 4: return new EasyTuple4<>(e[0], e[1], e[2], e[3]);
+            case 5: return new EasyTuple5<>(e[0], e[1], e[2], e[3], e[4]);
+            case 6: return new EasyTuple6<>(e[0], e[1], e[2], e[3], e[4], e[5]);
+            case 7: return new EasyTuple7<>(e[0], e[1], e[2], e[3], e[4], e[5], e[6]);
+            case 8: return new EasyTuple8<>(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7]);
+            default: return new EasyTuple9<>(e[0], e[1], e[2], e[3], e[4], e[5], e[6], e[7], e[8]);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void writeElement(Object value, DataOutput out, int depth) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+        Class<?> type = value.getClass();
+        // 自定义编解码器优先，可以覆盖内置的格式
+        Custom<Object> custom = (Custom<Object>) customsByType.get(type);
+        if (custom != null) {
+            out.writeByte(TAG_CUSTOM);
+            writeVarInt(custom.id, out);
+            custom.codec.write(value, out);
+            return;
+        }
+        if (value instanceof Boolean) {
+            out.writeByte((Boolean) value ? TAG_TRUE : TAG_FALSE);
+            return;
+        }
+        if (value instanceof Enum) {
+            out.writeByte(TAG_ENUM);
+            writeString(((Enum<?>) value).getDeclaringClass().getName(), out);
+            writeString(((Enum<?>) value).name(), out);
+            return;
+        }
+
+        Integer tag = BUILT_IN_TAGS.get(type);
+        if (out instanceof ObjectOutput && !isValueTag(tag)) {
+            // 由外层的对象流写入，保留共享引用及循环引用
+            out.writeByte(TAG_OBJECT);
+            ((ObjectOutput) out).writeObject(value);
+            return;
+        }
+        if (tag == null) {
+            if (serializableFilter == null) {
+                throw new NotSerializableException(type.getName() + " (Java serialization of elements is not enabled, see TupleCodec.Builder#allowSerializable)");
+            }
+            writeSerializable(value, out);
+            return;
+        }
+        out.writeByte(tag);
+        switch (tag) {
+            case TAG_BYTE:
+                out.writeByte((Byte) value);
+                break;
+            case TAG_SHORT:
+                out.writeShort((Short) value);
+                break;
+            case TAG_CHAR:
+                out.writeChar((Character) value);
+                break;
+            case TAG_INT:
+                writeVarInt(zigZag((Integer) value), out);
+                break;
+            case TAG_LONG:
+                writeVarLong(zigZag((Long) value), out);
+                break;
+            case TAG_FLOAT:
+                out.writeFloat((Float) value);
+                break;
+            case TAG_DOUBLE:
+                out.writeDouble((Double) value);
+                break;
+            case TAG_STRING:
+                writeString((String) value, out);
+                break;
+            case TAG_BYTES:
+                writeBytes((byte[]) value, out);
+                break;
+            case TAG_BIG_INTEGER:
+                writeBytes(((BigInteger) value).toByteArray(), out);
+                break;
+            case TAG_BIG_DECIMAL:
+                writeVarInt(zigZag(((BigDecimal) value).scale()), out);
+                writeBytes(((BigDecimal) value).unscaledValue().toByteArray(), out);
+                break;
+            case TAG_UUID:
+                out.writeLong(((UUID) value).getMostSignificantBits());
+                out.writeLong(((UUID) value).getLeastSignificantBits());
+                break;
+            case TAG_DATE:
+                writeVarLong(zigZag(((Date) value).getTime()), out);
+                break;
+            case TAG_LOCAL_DATE:
+                writeVarLong(zigZag(((LocalDate) value).toEpochDay()), out);
+                break;
+            case TAG_LOCAL_TIME:
+                writeVarLong(((LocalTime) value).toNanoOfDay(), out);
+                break;
+            case TAG_LOCAL_DATE_TIME:
+                writeVarLong(zigZag(((LocalDateTime) value).toLocalDate().toEpochDay()), out);
+                writeVarLong(((LocalDateTime) value).toLocalTime().toNanoOfDay(), out);
+                break;
+            case TAG_INSTANT:
+                writeVarLong(zigZag(((Instant) value).getEpochSecond()), out);
+                writeVarInt(((Instant) value).getNano(), out);
+                break;
+            case TAG_ARRAY_LIST:
+                List<?> list = (List<?>) value;
+                int listDepth = nested(depth);
+                writeVarInt(list.size(), out);
+                for (Object e : list) {
+                    writeElement(e, out, listDepth);
+                }
+                break;
+            case TAG_HASH_MAP:
+            case TAG_LINKED_HASH_MAP:
+                Map<?, ?> map = (Map<?, ?>) value;
+                int mapDepth = nested(depth);
+                writeVarInt(map.size(), out);
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeElement(entry.getKey(), out, mapDepth);
+                    writeElement(entry.getValue(), out, mapDepth);
+                }
+                break;
+            default:    // TAG_TUPLE
+                writeTuple((Tuple) value, out, nested(depth));
+        }
+    }
+
+    private Object readElement(DataInput in, int depth) throws IOException {
+        int tag = in.readUnsignedByte();
+        switch (tag) {
+            case TAG_NULL:
+                return null;
+            case TAG_TRUE:
+                return Boolean.TRUE;
+            case TAG_FALSE:
+                return Boolean.FALSE;
+            case TAG_BYTE:
+                return in.readByte();
+            case TAG_SHORT:
+                return in.readShort();
+            case TAG_CHAR:
+                return in.readChar();
+            case TAG_INT:
+                return unZigZag(readVarInt(in));
+            case TAG_LONG:
+                return unZigZag(readVarLong(in));
+            case TAG_FLOAT:
+                return in.readFloat();
+            case TAG_DOUBLE:
+                return in.readDouble();
+            case TAG_STRING:
+                return readString(in);
+            case TAG_BYTES:
+                return readBytes(in);
+            case TAG_BIG_INTEGER:
+                return new BigInteger(readBytes(in));
+            case TAG_BIG_DECIMAL:
+                int scale = unZigZag(readVarInt(in));
+                return new BigDecimal(new BigInteger(readBytes(in)), scale);
+            case TAG_ENUM:
+                return readEnum(in);
+            case TAG_UUID:
+                return new UUID(in.readLong(), in.readLong());
+            case TAG_DATE:
+                return new Date(unZigZag(readVarLong(in)));
+            case TAG_LOCAL_DATE:
+                return LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+            case TAG_LOCAL_TIME:
+                return LocalTime.ofNanoOfDay(readVarLong(in));
+            case TAG_LOCAL_DATE_TIME:
+                LocalDate date = LocalDate.ofEpochDay(unZigZag(readVarLong(in)));
+                return LocalDateTime.of(date, LocalTime.ofNanoOfDay(readVarLong(in)));
+            case TAG_INSTANT:
+                long seconds = unZigZag(readVarLong(in));
+                return Instant.ofEpochSecond(seconds, readVarInt(in));
+            case TAG_ARRAY_LIST:
+                int listSize = readVarInt(in);
+                int listDepth = nested(depth);
+                List<Object> list = new ArrayList<>(Math.min(listSize, 1024));
+                for (int i = 0; i < listSize; i++) {
+                    list.add(readElement(in, listDepth));
+                }
+                return list;
+            case TAG_HASH_MAP:
+            case TAG_LINKED_HASH_MAP:
+                int mapSize = readVarInt(in);
+                int mapDepth = nested(depth);
+                Map<Object, Object> map = tag == TAG_HASH_MAP ? new HashMap<>() : new LinkedHashMap<>();
+                for (int i = 0; i < mapSize; i++) {
+                    map.put(readElement(in, mapDepth), readElement(in, mapDepth));
+                }
+                return map;
+            case TAG_TUPLE:
+                return readTuple(in, nested(depth));
+            case TAG_CUSTOM:
+                int id = readVarInt(in);
+                Custom<?> custom = customsById.get(id);
+                if (custom == null) throw corrupted("custom element codec id " + id + " (not registered)");
+                return custom.codec.read(in);
+            case TAG_SERIALIZABLE:
+                // 对象流的元素总是写为 TAG_OBJECT，内部的对象流会绕过外层流的过滤器（ObjectInputFilter）
+                if (in instanceof ObjectInput) throw corrupted("element tag " + tag + " (not allowed in an ObjectInput)");
+                if (serializableFilter == null) throw corrupted("element tag " + tag + " (Java serialization is not enabled)");
+                return readSerializable(in, serializableFilter);
+            case TAG_OBJECT:
+                if (!(in instanceof ObjectInput)) throw corrupted("element tag " + tag + " (requires an ObjectInput)");
+                return readObject((ObjectInput) in);
+            default:
+                throw corrupted("element tag " + tag);
+        }
+    }
+
+    /**
+     * 不可变、不引用其他对象的内置值，总是使用紧凑格式写入
+     */
+    private static boolean isValueTag(Integer tag) {
+        return tag != null && tag < TAG_ARRAY_LIST && tag != TAG_BYTES && tag != TAG_DATE;
+    }
+
+    private static int nested(int depth) throws InvalidObjectException {
+        if (depth >= MAX_DEPTH) {
+            throw new InvalidObjectException("Elements are nested deeper than " + MAX_DEPTH + " levels, maybe a cyclic reference. 元素嵌套超过 " + MAX_DEPTH + " 层，可能存在循环引用。");
+        }
+        return depth + 1;
+    }
+
+    private static Object readObject(ObjectInput in) throws IOException {
+        try {
+            return in.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    private static void writeSerializable(Object value, DataOutput out) throws IOException {
+        if (!(value instanceof Serializable)) throw new NotSerializableException(value.getClass().getName());
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bytes)) {
+            oos.writeObject(value);
+        }
+        out.writeByte(TAG_SERIALIZABLE);
+        writeBytes(bytes.toByteArray(), out);
+    }
+
+    private static Object readSerializable(DataInput in, SerializableFilter filter) throws IOException {
+        try (ObjectInputStream ois = new FilteredObjectInputStream(new ByteArrayInputStream(readBytes(in)), filter)) {
+            return ois.readObject();
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(e.getMessage());
+        }
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static Object readEnum(DataInput in) throws IOException {
+        String className = readString(in);
+        String name = readString(in);
+        Class<?> enumClass;
+        try {
+            enumClass = Class.forName(className, false, classLoader());
+        } catch (ClassNotFoundException e) {
+            throw new InvalidClassException(className, "enum class not found");
+        }
+        if (!enumClass.isEnum()) throw new InvalidClassException(className, "not an enum class");
+        try {
+            return Enum.valueOf((Class) enumClass, name);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidObjectException("No enum constant " + className + "." + name);
+        }
+    }
+
+    private static ClassLoader classLoader() {
+        ClassLoader loader = Thread.currentThread().getContextClassLoader();
+        return loader == null ? TupleCodec.class.getClassLoader() : loader;
+    }
+
+    private static StreamCorruptedException corrupted(String what) {
+        return new StreamCorruptedException("Invalid " + what + " in tuple data. 元组数据格式错误。");
+    }
+
+    /*
+     * 基础格式：变长整数（每字节7位，最高位表示后面还有字节）、zigzag（使绝对值小的负数也只占很少的字节）、
+     * 带长度的UTF-8字符串及字节数组
+     */
+
+    private static int zigZag(int value) {
+        return (value << 1) ^ (value >> 31);
+    }
+
+    private static int unZigZag(int value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static void writeVarInt(int value, DataOutput out) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw corrupted("variable-length int");
+    }
+
+    private static void writeVarLong(long value, DataOutput out) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 70; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw corrupted("variable-length long");
+    }
+
+    private static void writeBytes(byte[] bytes, DataOutput out) throws IOException {
+        writeVarInt(bytes.length, out);
+        out.write(bytes);
+    }
+
+    private static byte[] readBytes(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length < 0) throw corrupted("length " + length);
+        return readBytes(in, length);
+    }
+
+    /**
+     * 长度不可信，超过 {@link #CHUNK_SIZE} 时分块读取，数据不足时在分配整个数组之前抛出 {@link EOFException}
+     */
+    private static byte[] readBytes(DataInput in, int length) throws IOException {
+        if (length <= CHUNK_SIZE) {
+            byte[] bytes = new byte[length];
+            in.readFully(bytes);
+            return bytes;
+        }
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHUNK_SIZE);
+        byte[] chunk = new byte[CHUNK_SIZE];
+        for (int remaining = length; remaining > 0; ) {
+            int n = Math.min(remaining, CHUNK_SIZE);
+            in.readFully(chunk, 0, n);
+            bytes.write(chunk, 0, n);
+            remaining -= n;
+        }
+        return bytes.toByteArray();
+    }
+
+    private static void writeString(String value, DataOutput out) throws IOException {
+        writeBytes(value.getBytes(StandardCharsets.UTF_8), out);
+    }
+
+    private static String readString(DataInput in) throws IOException {
+        return new String(readBytes(in), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 可为 {@code null} 的字符串，长度加1写入，0 表示 {@code null}
+     */
+    private static void writeNullableString(String value, DataOutput out) throws IOException {
+        if (value == null) {
+            out.writeByte(0);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(bytes.length + 1, out);
+        out.write(bytes);
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        int length = readVarInt(in);
+        if (length == 0) return null;
+        if (length < 0) throw corrupted("length " + length);
+        return new String(readBytes(in, length - 1), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public String toString() {
+        return "TupleCodec{" +
+                "version=" + VERSION +
+                ", customCodecs=" + customsById.size() +
+                ", serializable=" + (serializableFilter != null) +
+                '}';
+    }
+
+    /**
+     * Codec of an element type, the value written by {@link #write(Object, DataOutput)} must be read back completely
+     * by {@link #read(DataInput)}. <br>
+     * 元素类型的编解码器，{@link #write(Object, DataOutput)} 写入的数据必须由 {@link #read(DataInput)} 完整地读取。
+     *
+     * @param <T> element type
+     * @since 0.5.0
+     */
+    public interface ElementCodec<T> {
+        void write(T value, DataOutput out) throws IOException;
+
+        T read(DataInput in) throws IOException;
+    }
+
+    /**
+     * Allowlist of the classes that can be read by the Java serialization fallback, see {@link Builder#allowSerializable(SerializableFilter)}. <br>
+     * Java序列化可以读取的类的白名单，见 {@link Builder#allowSerializable(SerializableFilter)}。
+     *
+     * @since 0.5.0
+     */
+    @FunctionalInterface
+    public interface SerializableFilter {
+        /**
+         * Whether the class can be read. Every class in the serialized data is checked before it's loaded, including superclasses,
+         * the interfaces of proxies, and the component type of arrays (arrays of primitives are always allowed). <br>
+         * 是否允许读取该类。序列化数据中的每个类（包括父类、代理类的接口、数组的元素类型，基本类型的数组总是允许）在加载前都会被检查。
+         *
+         * @param className binary name of the class, such as {@code java.lang.Integer} or {@code java.util.Arrays$ArrayList}
+         * @return {@code true} to allow, {@code false} to reject
+         */
+        boolean accept(String className);
+    }
+
+    private static final class Custom<T> {
+        final int id;
+        final ElementCodec<T> codec;
+
+        Custom(int id, ElementCodec<T> codec) {
+            this.id = id;
+            this.codec = codec;
+        }
+    }
+
+    /**
+     * Builder of {@link TupleCodec}. <b>It's not thread-safe</b>. <br>
+     * {@link TupleCodec} 的构建器<b>（非线程安全）</b>。
+     *
+     * @since 0.5.0
+     */
+    public static final class Builder {
+        private final Map<Class<?>, Custom<?>> customsByType = new HashMap<>();
+        private final Map<Integer, Custom<?>> customsById = new HashMap<>();
+        private SerializableFilter serializableFilter;
+
+        Builder() {
+        }
+
+        /**
+         * Register the codec of the {@code type}. Elements whose class is exactly {@code type} are written by the {@code codec}
+         * with the {@code id}, it overrides the built-in format of the {@code type}.
+         * The reader must register the same {@code id} for the same type. <br>
+         * 注册 {@code type} 类型的编解码器，类型恰好是 {@code type} 的元素使用 {@code codec} 写入，并记录编号 {@code id}，
+         * 会覆盖该类型的内置格式。读取时必须使用相同的编号注册相同的类型。
+         *
+         * @param id    id of the codec, non-negative and unique in this codec
+         * @param type  element type
+         * @param codec codec
+         * @param <T>   element type
+         * @return this builder
+         * @throws IllegalArgumentException if {@code id} is negative or already registered, or {@code type} is already registered
+         */
+        public <T> Builder register(int id, Class<T> type, ElementCodec<T> codec) {
+            Objects.requireNonNull(type, "Parameter `type` must be non-null!");
+            Objects.requireNonNull(codec, "Parameter `codec` must be non-null!");
+            if (id < 0) throw new IllegalArgumentException("Parameter `id` must be >= 0. ");
+            if (customsById.containsKey(id)) throw new IllegalArgumentException("The id `" + id + "` is already registered. ");
+            if (customsByType.containsKey(type)) throw new IllegalArgumentException("The type `" + type.getName() + "` is already registered. ");
+            Custom<T> custom = new Custom<>(id, codec);
+            customsById.put(id, custom);
+            customsByType.put(type, custom);
+            return this;
+        }
+
+        /**
+         * Enable Java serialization of the {@link Serializable} elements that are neither built-in nor registered,
+         * for {@link #toBytes(Tuple)}, {@link #encode(Tuple, ByteBuffer)} and other outputs that are not an {@link ObjectOutput}.
+         * Every class read back must be accepted by the {@code filter} before it's loaded, otherwise {@link InvalidClassException} is thrown,
+         * e.g. {@code name -> name.startsWith("com.example.model.")}. The process-wide filter of the JDK ({@code jdk.serialFilter}),
+         * if configured, still applies. <br>
+         * 启用Java序列化，用于既不是内置类型也没有注册的 {@link Serializable} 元素（输出不是 {@link ObjectOutput} 时）。
+         * 读取的每个类在加载前都必须被 {@code filter} 接受，否则抛出 {@link InvalidClassException}，即 {@code filter} 作为白名单使用。
+         * 如果配置了JDK的全局过滤器（{@code jdk.serialFilter}），该过滤器仍然有效。
+         *
+         * @param filter allowlist of the classes that can be read by Java serialization
+         * @return this builder
+         */
+        public Builder allowSerializable(SerializableFilter filter) {
+            Objects.requireNonNull(filter, "Parameter `filter` must be non-null!");
+            this.serializableFilter = filter;
+            return this;
+        }
+
+        public TupleCodec build() {
+            return new TupleCodec(this);
+        }
+    }
+
+    /**
+     * 加载类之前通过 {@link SerializableFilter} 检查的对象输入流，兼容 Java 8（不依赖 {@code ObjectInputFilter}）
+     */
+    private static final class FilteredObjectInputStream extends ObjectInputStream {
+        private final SerializableFilter filter;
+
+        FilteredObjectInputStream(InputStream in, SerializableFilter filter) throws IOException {
+            super(in);
+            this.filter = filter;
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            check(desc.getName());
+            return super.resolveClass(desc);
+        }
+
+        @Override
+        protected Class<?> resolveProxyClass(String[] interfaces) throws IOException, ClassNotFoundException {
+            for (String name : interfaces) {
+                check(name);
+            }
+            return super.resolveProxyClass(interfaces);
+        }
+
+        private void check(String className) throws InvalidClassException {
+            String name = className;
+            int dims = 0;
+            while (dims < name.length() && name.charAt(dims) == '[') dims++;
+            if (dims > 0) {
+                // 数组：检查元素类型，基本类型的数组总是允许
+                if (name.charAt(dims) != 'L') return;
+                name = name.substring(dims + 1, name.length() - 1);
+            }
+            if (!filter.accept(name)) throw new InvalidClassException(className, "rejected by the SerializableFilter of TupleCodec");
+        }
+    }
+
+    /**
+     * 写入 {@link ByteBuffer} 的输出流，空间不足时抛出 {@link BufferOverflowException}
+     */
+    private static final class ByteBufferOutputStream extends OutputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferOutputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void write(int b) {
+            buffer.put((byte) b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            buffer.put(b, off, len);
+        }
+    }
+
+    /**
+     * 读取 {@link ByteBuffer} 的输入流，只读取需要的字节，读取后 {@link ByteBuffer} 的位置即为数据的末尾
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) return 0;
+            if (!buffer.hasRemaining()) return -1;
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            return n;
+        }
+    }
+}
@@ -16,6 +16,7 @@
 
 module iofairy.functional {
     requires java.logging;
+    requires static java.management;
 
     exports com.iofairy.lambda;
     exports com.iofairy.base;